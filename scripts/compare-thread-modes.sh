@@ -0,0 +1,81 @@
+#!/usr/bin/env bash
+# 플랫폼 스레드 모드와 가상 스레드 모드의 부하 비교
+#
+# 두 모드 각각에 대해 블로킹이 있는 두 경로를 같은 부하로 측정합니다.
+#   1. new-order: jar를 띄우고 src/loadtest 부하 생성기로 실제 서명한 JWS 흐름
+#      (directory → new-nonce → new-account → new-order)을 겁니다.
+#   2. finalize: FinalizeLoadRun이 같은 JVM에서 주문을 ready로 만든 뒤 최종화를 제출하며,
+#      CAA 캐시를 꺼서 작업마다 실제 DNS 조회가 일어납니다 (네트워크 필요).
+# 두 경로 모두 virtual 모드는 virtual 프로필로 띄우므로 그 프로필의 Tomcat 연결 수, 최종화 워커 수와
+# CAA 조회 풀 크기가 함께 적용되며, 표에 적용된 풀 크기를 같이 남깁니다.
+# 결과는 build/reports/thread-modes/summary.md 표로 모읍니다.
+# 필요: Java 21, curl, jq
+#
+# 사용법: scripts/compare-thread-modes.sh [new-order 초당 클라이언트 수] [finalize 초당 제출 수] [측정 시간(초)]
+#   예) scripts/compare-thread-modes.sh 200 50 60
+set -euo pipefail
+
+ORDER_RATE=${1:-200}
+FINALIZE_RATE=${2:-50}
+DURATION=${3:-60}
+PORT=8443
+BASE_URL="https://localhost:${PORT}/acme"
+REPORT_DIR=build/reports/thread-modes
+
+cd "$(dirname "$0")/.."
+./gradlew -q bootJar loadtestClasses
+JAR=$(ls build/libs/*.jar | grep -v plain | head -1)
+mkdir -p "$REPORT_DIR"
+
+run_new_order() {
+  local label=$1
+  shift
+  echo "=== new-order (${label}) ==="
+  java "$@" -jar "$JAR" --acme.fast-path.enabled=false --acme.rate-limit.enabled=false --acme.warmup.enabled=false \
+    >"build/${label}.log" 2>&1 &
+  local pid=$!
+  trap 'kill $pid 2>/dev/null || true' RETURN
+
+  until curl -ksf -o /dev/null "${BASE_URL}/directory"; do sleep 1; done
+
+  # 워밍업 후 측정
+  ./gradlew -q loadTest -Ploadtest.directory="${BASE_URL}/directory" -Ploadtest.rate="$ORDER_RATE" -Ploadtest.duration=10 >/dev/null
+  ./gradlew -q loadTest -Ploadtest.directory="${BASE_URL}/directory" -Ploadtest.rate="$ORDER_RATE" -Ploadtest.duration="$DURATION"
+  cp build/reports/loadtest/summary.json "${REPORT_DIR}/new-order-${label}.json"
+}
+
+run_finalize() {
+  local label=$1 virtual=$2
+  echo "=== finalize (${label}) ==="
+  ./gradlew -q finalizeLoad -Pfinalize.virtual="$virtual" -Pfinalize.rate="$FINALIZE_RATE" -Pfinalize.duration="$DURATION" \
+    -Pfinalize.reportDir="$REPORT_DIR"
+}
+
+run_new_order platform -Dspring.profiles.active=default
+run_new_order virtual -Dspring.profiles.active=virtual
+run_finalize platform false
+run_finalize virtual true
+
+{
+  echo "# Thread mode comparison"
+  echo
+  echo "- JDK: $(java -version 2>&1 | head -1)"
+  echo "- CPU: $(nproc) x $( (grep -m1 'model name' /proc/cpuinfo 2>/dev/null || sysctl -n machdep.cpu.brand_string 2>/dev/null || echo unknown) | sed 's/.*: //')"
+  echo "- new-order: ${ORDER_RATE} clients/s, finalize: ${FINALIZE_RATE} submissions/s, ${DURATION}s each"
+  echo
+  echo "| path | threads | pools | throughput (/s) | p50 ms | p99 ms | errors |"
+  echo "| --- | --- | --- | ---: | ---: | ---: | ---: |"
+  # new-order 풀 크기: Tomcat 기본값(threads.max 200, max-connections 8192)과 application-virtual.yml
+  for label in platform virtual; do
+    if [[ $label == platform ]]; then pools="tomcat 200 threads, 8192 connections"; else pools="per-request virtual, 20000 connections"; fi
+    jq -r --arg mode "$label" --arg pools "$pools" \
+      '"| new-order | \($mode) | \($pools) | \(.flowsPerSecond * 10 | round / 10) | \(.steps["new-order"].p50Ms) | \(.steps["new-order"].p99Ms) | \([.steps[].errors] | add) |"' \
+      "${REPORT_DIR}/new-order-${label}.json"
+  done
+  for label in platform virtual; do
+    jq -r --arg mode "$label" \
+      '"| finalize (CAA) | \($mode) | \(.finalizeWorkers) workers, \(.caaLookupThreads) CAA lookups | \(.finalizationsPerSecond * 10 | round / 10) | \(.p50Ms) | \(.p99Ms) | \(.invalid + .rejected + .unfinished) |"' \
+      "${REPORT_DIR}/finalize-${label}.json"
+  done
+} >"${REPORT_DIR}/summary.md"
+cat "${REPORT_DIR}/summary.md"
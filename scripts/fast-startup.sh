@@ -0,0 +1,114 @@
+#!/usr/bin/env bash
+# 빠른 기동 모드: Spring AOT + AppCDS
+#
+# train   : bootJar(AOT 처리 포함)를 풀어 놓고, ACME 흐름 부하를 건 학습 실행으로 AppCDS 아카이브를 만듭니다.
+# run     : 학습한 아카이브와 AOT 초기화 코드로 서버를 띄웁니다. 추가 인자는 애플리케이션 인자로 전달됩니다.
+# measure : "프로세스 시작 → 첫 요청 성공" 시간을 세 가지 실행 방식으로 비교하고,
+#           JDK와 장비 정보를 붙인 결과 표를 build/fast-startup/measure.md에 남깁니다.
+#             nested    : bootJar를 그대로 실행 (중첩 jar)
+#             extracted : 풀어 놓은 jar, CDS 아카이브와 AOT 없이 (빠른 기동과 같은 클래스패스의 기준값)
+#             fast      : 풀어 놓은 jar + AppCDS + AOT
+# train과 measure는 기동 워밍업(acme.warmup, 최대 60초 블로킹)을 끄고 실행합니다.
+# 필요: Java 21, curl
+#
+# 사용법: scripts/fast-startup.sh train | run [args...] | measure [반복 횟수]
+set -euo pipefail
+
+PORT=8443
+BASE_URL="https://localhost:${PORT}/acme"
+OUT=build/fast-startup
+APP_JAR="${OUT}/acme.jar"
+ARCHIVE="${OUT}/acme.jsa"
+AOT_FLAGS=(-Dspring.aot.enabled=true)
+NO_WARMUP=(--acme.warmup.enabled=false)
+
+cd "$(dirname "$0")/.."
+
+boot_jar() {
+  ls build/libs/*.jar | grep -v plain | head -1
+}
+
+# 서버 프로세스를 띄운 뒤 첫 요청이 성공할 때까지 걸린 시간(ms)을 ELAPSED_MS에 기록
+start_and_wait() {
+  local log=$1
+  shift
+  local started
+  started=$(date +%s%N)
+  java "$@" >"$log" 2>&1 &
+  SERVER_PID=$!
+  until curl -ksf -o /dev/null -I "${BASE_URL}/new-nonce"; do
+    if ! kill -0 "$SERVER_PID" 2>/dev/null; then
+      echo "server exited, see $log" >&2
+      exit 1
+    fi
+    sleep 0.01
+  done
+  ELAPSED_MS=$(( ($(date +%s%N) - started) / 1000000 ))
+}
+
+stop_server() {
+  # SIGTERM으로 정상 종료해야 -XX:ArchiveClassesAtExit 아카이브가 기록됨
+  kill -TERM "$SERVER_PID"
+  wait "$SERVER_PID" || true
+}
+
+train() {
+  ./gradlew -q bootJar
+  rm -rf "$OUT"
+  # 중첩 jar 대신 풀어 놓은 클래스패스여야 CDS 아카이브를 사용할 수 있음
+  java -Djarmode=tools -jar "$(boot_jar)" extract --destination "$OUT"
+  mv "${OUT}/$(basename "$(boot_jar)")" "$APP_JAR"
+
+  echo "=== training run ==="
+  # 루프백 한 주소에서 수천 흐름을 보내므로 IP별 요청 한도는 끔, 같은 흐름을 loadTest가 걸므로 워밍업도 끔
+  start_and_wait "${OUT}/training.log" -XX:ArchiveClassesAtExit="$ARCHIVE" "${AOT_FLAGS[@]}" -jar "$APP_JAR" \
+    --acme.rate-limit.enabled=false "${NO_WARMUP[@]}"
+  # directory → new-nonce → new-account → new-order 경로의 클래스를 모두 로드시킴
+  ./gradlew -q loadTest -Ploadtest.rate=50 -Ploadtest.duration=20 -Ploadtest.keys=100
+  stop_server
+  echo "AppCDS archive: ${ARCHIVE} ($(du -h "$ARCHIVE" | cut -f1))"
+}
+
+run() {
+  [[ -f "$ARCHIVE" ]] || { echo "no archive, run '$0 train' first" >&2; exit 1; }
+  exec java -XX:SharedArchiveFile="$ARCHIVE" "${AOT_FLAGS[@]}" -jar "$APP_JAR" "$@"
+}
+
+measure() {
+  local runs=${1:-5}
+  [[ -f "$ARCHIVE" ]] || { echo "no archive, run '$0 train' first" >&2; exit 1; }
+  local jar
+  jar=$(boot_jar)
+  local report="${OUT}/measure.md"
+  {
+    echo "- JDK: $(java -version 2>&1 | head -1)"
+    echo "- CPU: $(nproc) x $( (grep -m1 'model name' /proc/cpuinfo 2>/dev/null || sysctl -n machdep.cpu.brand_string 2>/dev/null || echo unknown) | sed 's/.*: //')"
+    echo "- runs: ${runs}"
+    echo
+    echo "| mode | average startup-to-first-request (ms) |"
+    echo "| --- | ---: |"
+  } >"$report"
+  for mode in nested extracted fast; do
+    local total=0
+    for ((i = 1; i <= runs; i++)); do
+      case $mode in
+        nested) start_and_wait "build/startup-${mode}.log" -jar "$jar" "${NO_WARMUP[@]}" ;;
+        extracted) start_and_wait "build/startup-${mode}.log" -jar "$APP_JAR" "${NO_WARMUP[@]}" ;;
+        fast) start_and_wait "build/startup-${mode}.log" -XX:SharedArchiveFile="$ARCHIVE" "${AOT_FLAGS[@]}" -jar "$APP_JAR" "${NO_WARMUP[@]}" ;;
+      esac
+      stop_server
+      total=$((total + ELAPSED_MS))
+      echo "${mode} run ${i}: ${ELAPSED_MS} ms"
+    done
+    echo "${mode} average startup-to-first-request: $((total / runs)) ms"
+    echo "| ${mode} | $((total / runs)) |" >>"$report"
+  done
+  cat "$report"
+}
+
+case "${1:-}" in
+  train) train ;;
+  run) shift; run "$@" ;;
+  measure) shift; measure "$@" ;;
+  *) echo "usage: $0 train | run [args...] | measure [runs]" >&2; exit 1 ;;
+esac
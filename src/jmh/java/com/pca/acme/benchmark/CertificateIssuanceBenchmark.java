@@ -0,0 +1,92 @@
+package com.pca.acme.benchmark;
+
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.cert.X509Certificate;
+import java.security.spec.ECGenParameterSpec;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+import com.pca.acme.util.CertificateSigner;
+
+/**
+ * 인증서 발급 처리량 벤치마크
+ * 단일 스레드로 실행하므로 결과(ops/s)가 곧 코어당 초당 발급 수입니다.
+ *
+ * 실행: ./gradlew jmh
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Threads(1)
+public class CertificateIssuanceBenchmark {
+
+    private static final int BATCH_SIZE = 16;
+
+    @Param({ "RSA", "ECDSA" })
+    private String issuerKeyType;
+
+    private CertificateSigner signer;
+    private byte[] subjectPublicKeyInfo;
+    private List<String> dnsNames;
+    private List<byte[]> batchKeys;
+    private List<List<String>> batchNames;
+    private Instant notBefore;
+    private Instant notAfter;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        KeyPairGenerator generator;
+        if ("RSA".equals(issuerKeyType)) {
+            generator = KeyPairGenerator.getInstance("RSA");
+            generator.initialize(2048);
+        } else {
+            generator = KeyPairGenerator.getInstance("EC");
+            generator.initialize(new ECGenParameterSpec("secp256r1"));
+        }
+        KeyPair issuerKeys = generator.generateKeyPair();
+
+        notBefore = Instant.now();
+        notAfter = notBefore.plus(90, ChronoUnit.DAYS);
+        X509Certificate issuer = CertificateSigner.selfSignedIssuer(
+            issuerKeys, "Benchmark Issuing CA", notBefore, notAfter.plus(365, ChronoUnit.DAYS));
+        signer = new CertificateSigner(issuerKeys.getPrivate(), issuer);
+
+        // 가입자 키는 발급자와 같은 종류를 사용
+        subjectPublicKeyInfo = generator.generateKeyPair().getPublic().getEncoded();
+        dnsNames = List.of("www.example.com", "example.com");
+
+        batchKeys = new ArrayList<>(BATCH_SIZE);
+        batchNames = new ArrayList<>(BATCH_SIZE);
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            batchKeys.add(subjectPublicKeyInfo);
+            batchNames.add(dnsNames);
+        }
+    }
+
+    @Benchmark
+    public CertificateSigner.SignedCertificate sign() {
+        return signer.sign(subjectPublicKeyInfo, dnsNames, notBefore, notAfter);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public List<CertificateSigner.SignedCertificate> signBatch() {
+        return signer.signBatch(batchKeys, batchNames, notBefore, notAfter);
+    }
+}
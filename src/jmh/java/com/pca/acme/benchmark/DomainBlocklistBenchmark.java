@@ -0,0 +1,89 @@
+package com.pca.acme.benchmark;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import com.pca.acme.util.DomainBlocklistFile;
+
+/**
+ * 매핑된 도메인 차단 목록 조회 비용 (식별자 하나당)
+ * entries개의 무작위 이름(10%는 "*." 하위 도메인 항목)으로 만든 파일에 대해
+ * exact: 목록에 있는 이름, subdomain: 차단된 상위 도메인 아래의 이름, miss: 목록에 없는 이름을 조회합니다.
+ *
+ * 실행: ./gradlew jmh -Pjmh.includes=DomainBlocklistBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class DomainBlocklistBenchmark {
+
+    private static final String[] TLDS = { "com", "net", "org", "co.uk", "io" };
+    private static final int QUERIES = 1024;
+
+    @Param({ "2000000" })
+    public int entries;
+
+    @Param({ "exact", "subdomain", "miss" })
+    public String input;
+
+    private Path path;
+    private DomainBlocklistFile blocklist;
+    private String[] names;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        Random random = new Random(42);
+        List<String> lines = new ArrayList<>(entries);
+        List<String> exact = new ArrayList<>();
+        List<String> subdomains = new ArrayList<>();
+        for (int i = 0; i < entries; i++) {
+            String name = "d" + Long.toString(random.nextLong() >>> 1, 36) + "." + TLDS[random.nextInt(TLDS.length)];
+            if (i % 10 == 0) {
+                lines.add("*." + name);
+                subdomains.add(name);
+            } else {
+                lines.add(name);
+                exact.add(name);
+            }
+        }
+        path = Files.createTempFile("acme-blocklist", ".bin");
+        DomainBlocklistFile.write(lines, path);
+        blocklist = DomainBlocklistFile.open(path);
+
+        names = new String[QUERIES];
+        for (int i = 0; i < QUERIES; i++) {
+            names[i] = switch (input) {
+                case "exact" -> exact.get(random.nextInt(exact.size()));
+                case "subdomain" -> "www." + subdomains.get(random.nextInt(subdomains.size()));
+                case "miss" -> "www.m" + Long.toString(random.nextLong() >>> 1, 36) + ".com";
+                default -> throw new IllegalArgumentException(input);
+            };
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        Files.deleteIfExists(path);
+    }
+
+    @Benchmark
+    public boolean matches() {
+        return blocklist.matches(names[next++ & (QUERIES - 1)]);
+    }
+}
@@ -0,0 +1,55 @@
+package com.pca.acme.benchmark;
+
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.pca.acme.service.OrderService;
+
+/**
+ * OrderService.DOMAIN_PATTERN 정규식 매칭 비용 (식별자 하나당)
+ * ascii: 일반 DNS 이름, wildcard: *. 접두사, unicode: 국제화 도메인 분기,
+ * longLabel: 63자 레이블 여러 개 (백트래킹이 가장 많은 입력), invalid: 어느 분기에도 맞지 않는 이름
+ *
+ * 실행: ./gradlew jmh -Pjmh.includes=DomainValidationBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class DomainValidationBenchmark {
+
+    @Param({ "ascii", "wildcard", "unicode", "longLabel", "invalid" })
+    public String input;
+
+    private Pattern domainPattern;
+    private String domain;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        domainPattern = (Pattern) ReflectionTestUtils.getField(OrderService.class, "DOMAIN_PATTERN");
+        String label = "a".repeat(63);
+        domain = switch (input) {
+            case "ascii" -> "www.example.com";
+            case "wildcard" -> "*.api.example.com";
+            case "unicode" -> "bücher.beispiel.de";
+            case "longLabel" -> label + "." + label + "." + label + ".example.com";
+            case "invalid" -> "-bad-.example..com";
+            default -> throw new IllegalArgumentException(input);
+        };
+    }
+
+    @Benchmark
+    public boolean matches() {
+        return domainPattern.matcher(domain).matches();
+    }
+}
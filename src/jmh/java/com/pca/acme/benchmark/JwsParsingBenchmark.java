@@ -0,0 +1,73 @@
+package com.pca.acme.benchmark;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pca.acme.metrics.AcmeMetrics;
+import com.pca.acme.util.JwsValidator;
+
+/**
+ * JWS 파싱 및 구조 검증 비용
+ * compact(header.payload.signature)와 flattened JSON 직렬화를 문자열 입력(서블릿 인터셉터)과
+ * 바이트 입력(WebFlux 필터) 두 경로로 측정합니다.
+ *
+ * 실행: ./gradlew jmh -Pjmh.includes=JwsParsingBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class JwsParsingBenchmark {
+
+    private static final Base64.Encoder B64 = Base64.getUrlEncoder().withoutPadding();
+
+    @Param({ "compact", "flattened" })
+    public String serialization;
+
+    private JwsValidator jwsValidator;
+    private String token;
+    private byte[] tokenBytes;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        jwsValidator = new JwsValidator(new ObjectMapper(), AcmeMetrics.NOOP);
+
+        String header = encode("{\"alg\":\"ES256\","
+            + "\"kid\":\"https://localhost:8443/acme/acct/1\","
+            + "\"nonce\":\"oFvnlFP1wIhRlYS2jTaXbA\","
+            + "\"url\":\"https://localhost:8443/acme/new-order\"}");
+        String payload = encode("{\"identifiers\":[{\"type\":\"dns\",\"value\":\"www.example.com\"},"
+            + "{\"type\":\"dns\",\"value\":\"example.com\"}]}");
+        String signature = B64.encodeToString(new byte[64]);
+
+        token = "compact".equals(serialization)
+            ? header + "." + payload + "." + signature
+            : "{\"protected\":\"" + header + "\",\"payload\":\"" + payload + "\",\"signature\":\"" + signature + "\"}";
+        tokenBytes = token.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public JwsValidator.JwsValidationResult fromString() {
+        return jwsValidator.validateJws(token);
+    }
+
+    @Benchmark
+    public JwsValidator.JwsValidationResult fromBytes() {
+        return jwsValidator.validateJws(tokenBytes);
+    }
+
+    private static String encode(String json) {
+        return B64.encodeToString(json.getBytes(StandardCharsets.UTF_8));
+    }
+}
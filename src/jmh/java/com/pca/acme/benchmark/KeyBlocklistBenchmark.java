@@ -0,0 +1,103 @@
+package com.pca.acme.benchmark;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.KeyPairGenerator;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import com.pca.acme.util.KeyBlocklistFile;
+
+/**
+ * 매핑된 공개키 차단 목록 조회 비용
+ * entries개의 무작위 SPKI 해시로 만든 파일에 대해 hit: 목록에 있는 지문, miss: 없는 지문을 조회하고,
+ * spki는 RSA 2048 SubjectPublicKeyInfo의 지문 계산(SHA-256)까지 포함합니다. 모두 연산당 할당이 0이어야 합니다.
+ *
+ * 실행: ./gradlew jmh -Pjmh.includes=KeyBlocklistBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class KeyBlocklistBenchmark {
+
+    private static final int QUERIES = 1024;
+
+    @Param({ "2000000" })
+    public int entries;
+
+    private Path path;
+    private KeyBlocklistFile blocklist;
+    private long[] hits;
+    private long[] misses;
+    private byte[] subjectPublicKeyInfo;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        Random random = new Random(42);
+        List<String> lines = new ArrayList<>(entries);
+        hits = new long[QUERIES];
+        byte[] hash = new byte[32];
+        for (int i = 0; i < entries; i++) {
+            random.nextBytes(hash);
+            lines.add(HexFormat.of().formatHex(hash));
+            if (i < QUERIES) {
+                hits[i] = fingerprint(hash);
+            }
+        }
+        subjectPublicKeyInfo = KeyPairGenerator.getInstance("RSA").generateKeyPair().getPublic().getEncoded();
+        lines.add(HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(subjectPublicKeyInfo)));
+
+        path = Files.createTempFile("acme-key-blocklist", ".bin");
+        KeyBlocklistFile.write(lines, path);
+        blocklist = KeyBlocklistFile.open(path);
+
+        misses = new long[QUERIES];
+        for (int i = 0; i < QUERIES; i++) {
+            misses[i] = random.nextLong();
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        Files.deleteIfExists(path);
+    }
+
+    @Benchmark
+    public boolean hit() {
+        return blocklist.contains(hits[next++ & (QUERIES - 1)]);
+    }
+
+    @Benchmark
+    public boolean miss() {
+        return blocklist.contains(misses[next++ & (QUERIES - 1)]);
+    }
+
+    @Benchmark
+    public boolean spki() {
+        return blocklist.contains(subjectPublicKeyInfo);
+    }
+
+    private static long fingerprint(byte[] hash) {
+        long value = 0;
+        for (int i = 0; i < Long.BYTES; i++) {
+            value = (value << 8) | (hash[i] & 0xFF);
+        }
+        return value;
+    }
+}
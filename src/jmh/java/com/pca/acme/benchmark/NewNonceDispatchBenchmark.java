@@ -0,0 +1,111 @@
+package com.pca.acme.benchmark;
+
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pca.acme.controller.ACMEController;
+import com.pca.acme.filter.AcmeFastPathFilter;
+import com.pca.acme.interceptor.JwsValidationInterceptor;
+import com.pca.acme.interceptor.NonceValidationInterceptor;
+import com.pca.acme.metrics.AcmeMetrics;
+import com.pca.acme.service.DirectoryService;
+import com.pca.acme.service.NonceService;
+import com.pca.acme.service.NonceStore;
+import com.pca.acme.tracing.AcmeTracing;
+import com.pca.acme.util.JwsValidator;
+
+/**
+ * HEAD /acme/new-nonce 요청당 처리 비용 비교
+ * mvc: DispatcherServlet, 핸들러 매핑, 두 인터셉터, ResponseEntity를 거치는 기존 경로
+ * fastPath: AcmeFastPathFilter가 바로 응답하는 경로
+ *
+ * 두 경로 모두 같은 no-op NonceStore를 사용하므로 차이는 디스패치 비용입니다.
+ * 실행: ./gradlew jmh -Pjmh.includes=NewNonceDispatchBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class NewNonceDispatchBenchmark {
+
+    private MockMvc mockMvc;
+    private AcmeFastPathFilter filter;
+    private MockFilterChain unusedChain;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        ObjectMapper objectMapper = new ObjectMapper();
+        NonceService nonceService = new NonceService(new DiscardingNonceStore(), AcmeMetrics.NOOP);
+        ReflectionTestUtils.setField(nonceService, "baseUrl", "https://localhost:8443/acme");
+        DirectoryService directoryService = new DirectoryService(objectMapper);
+        ReflectionTestUtils.setField(directoryService, "baseUrl", "https://localhost:8443/acme");
+
+        ACMEController controller = new ACMEController(
+            directoryService, nonceService, null, null, null, null, objectMapper, AcmeTracing.NOOP);
+        mockMvc = MockMvcBuilders.standaloneSetup(controller)
+            .addMappedInterceptors(new String[] { "/acme/**" },
+                new JwsValidationInterceptor(new JwsValidator(objectMapper, AcmeMetrics.NOOP), AcmeMetrics.NOOP, AcmeTracing.NOOP),
+                new NonceValidationInterceptor(nonceService, AcmeMetrics.NOOP, AcmeTracing.NOOP))
+            .build();
+
+        filter = new AcmeFastPathFilter(nonceService, directoryService);
+        unusedChain = new MockFilterChain();
+    }
+
+    @Benchmark
+    public MvcResult mvc() throws Exception {
+        return mockMvc.perform(MockMvcRequestBuilders.head("/acme/new-nonce")).andReturn();
+    }
+
+    @Benchmark
+    public MockHttpServletResponse fastPath() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(new MockHttpServletRequest("HEAD", "/acme/new-nonce"), response, unusedChain);
+        return response;
+    }
+
+    /**
+     * 저장 비용을 제외하기 위한 NonceStore
+     */
+    private static final class DiscardingNonceStore implements NonceStore {
+        @Override
+        public void storeNonce(String nonce, Instant issuedAt) {
+        }
+
+        @Override
+        public boolean validateAndConsumeNonce(String nonce) {
+            return false;
+        }
+
+        @Override
+        public boolean containsNonce(String nonce) {
+            return false;
+        }
+
+        @Override
+        public void cleanupExpiredNonces(long maxAge) {
+        }
+
+        @Override
+        public int getNonceCount() {
+            return 0;
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package com.pca.acme.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.pca.acme.metrics.AcmeMetrics;
+import com.pca.acme.service.InMemoryNonceStore;
+import com.pca.acme.service.NonceService;
+
+/**
+ * 여러 스레드가 하나의 InMemoryNonceStore를 공유할 때의 nonce 발급/소비 비용
+ * createConsume: 발급한 nonce를 바로 소비 (저장소 크기가 작게 유지되는 정상 흐름)
+ * createAtCapacity: 저장소가 max-count에 도달한 상태에서 발급만 반복 (만료 정리와 가장 오래된 항목 제거 경로)
+ *
+ * 빌드 설정의 threads = 1이 @Threads보다 우선하므로, 스레드 4개가 한 저장소를 공유하도록 @GroupThreads로 묶습니다.
+ *
+ * 실행: ./gradlew jmh -Pjmh.includes=NonceStoreBenchmark
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class NonceStoreBenchmark {
+
+    @State(Scope.Group)
+    public static class Flow {
+
+        NonceService nonceService;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            nonceService = newNonceService(1000);
+        }
+    }
+
+    @State(Scope.Group)
+    public static class Full {
+
+        @Param({ "1000" })
+        public int maxCount;
+
+        NonceService nonceService;
+
+        @Setup(Level.Iteration)
+        public void setUp() {
+            nonceService = newNonceService(maxCount);
+            for (int i = 0; i < maxCount; i++) {
+                nonceService.createNonce();
+            }
+        }
+    }
+
+    @Benchmark
+    @Group("createConsume")
+    @GroupThreads(4)
+    public boolean createConsume(Flow flow) {
+        String nonce = flow.nonceService.createNonce();
+        return flow.nonceService.validateAndConsumeNonce(nonce);
+    }
+
+    @Benchmark
+    @Group("createAtCapacity")
+    @GroupThreads(4)
+    public String createAtCapacity(Full full) {
+        return full.nonceService.createNonce();
+    }
+
+    private static NonceService newNonceService(int maxCount) {
+        InMemoryNonceStore store = new InMemoryNonceStore();
+        ReflectionTestUtils.setField(store, "maxAgeSeconds", 300L);
+        ReflectionTestUtils.setField(store, "maxNonceCount", maxCount);
+        return new NonceService(store, AcmeMetrics.NOOP);
+    }
+}
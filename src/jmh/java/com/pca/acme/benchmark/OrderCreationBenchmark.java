@@ -0,0 +1,76 @@
+package com.pca.acme.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.pca.acme.dto.order.OrderRequest;
+import com.pca.acme.metrics.AcmeMetrics;
+import com.pca.acme.model.Order;
+import com.pca.acme.service.AuthorizationService;
+import com.pca.acme.service.DomainBlocklist;
+import com.pca.acme.service.OrderService;
+import com.pca.acme.service.RateLimiter;
+
+/**
+ * 식별자 수별 OrderService.createOrder 비용 (요청 검증, 인증 생성, 역색인 등록 포함)
+ * 저장소가 커지지 않도록 만든 주문을 같은 호출 안에서 removeOrder로 지우므로, 측정값에는 삭제 비용도 들어갑니다.
+ * (호출마다 @TearDown(Level.Invocation)으로 비우면 타이머 호출이 측정에 섞여 작은 식별자 수에서 값이 왜곡됩니다.)
+ *
+ * 실행: ./gradlew jmh -Pjmh.includes=OrderCreationBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class OrderCreationBenchmark {
+
+    @Param({ "1", "10", "100" })
+    public int identifiers;
+
+    private OrderService orderService;
+    private OrderRequest request;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        AuthorizationService authorizationService = new AuthorizationService(event -> { });
+        ReflectionTestUtils.setField(authorizationService, "baseUrl", "https://localhost:8443/acme");
+        ReflectionTestUtils.setField(authorizationService, "authorizationExpirationHours", 24);
+        orderService = new OrderService(authorizationService, AcmeMetrics.NOOP, RateLimiter.UNLIMITED, DomainBlocklist.NONE);
+        ReflectionTestUtils.setField(orderService, "baseUrl", "https://localhost:8443/acme");
+        ReflectionTestUtils.setField(orderService, "orderExpirationHours", 24);
+        ReflectionTestUtils.setField(orderService, "maxIdentifiers", 100);
+
+        request = newOrderRequest(identifiers);
+    }
+
+    @Benchmark
+    public Order createOrder() {
+        Order order = orderService.createOrder("acct-1", request);
+        orderService.removeOrder(order.getOrderId());
+        return order;
+    }
+
+    static OrderRequest newOrderRequest(int count) {
+        List<OrderRequest.Identifier> list = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            OrderRequest.Identifier identifier = new OrderRequest.Identifier();
+            identifier.setType("dns");
+            identifier.setValue("san" + i + ".example.com");
+            list.add(identifier);
+        }
+        OrderRequest request = new OrderRequest();
+        request.setIdentifiers(list);
+        return request;
+    }
+}
@@ -0,0 +1,161 @@
+package com.pca.acme.benchmark;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.pca.acme.dto.order.OrderRequest;
+import com.pca.acme.event.AcmeEventType;
+import com.pca.acme.event.AcmeEvents;
+import com.pca.acme.metrics.AcmeMetrics;
+import com.pca.acme.model.Order;
+import com.pca.acme.service.AuthorizationService;
+import com.pca.acme.service.DomainBlocklist;
+import com.pca.acme.service.OrderService;
+import com.pca.acme.service.RateLimiter;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.encoder.PatternLayoutEncoder;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.FileAppender;
+
+/**
+ * 100개 SAN 주문 생성 처리량과 로깅 방식 비교
+ * perItemSync: 이전 코드가 주문마다 5줄, 식별자마다 4줄 남기던 info 로그를 동기 파일 appender로 기록
+ * sampledAsync: AcmeEvents 구조화 이벤트(기본 샘플링/속도 제한)를 비동기 appender로 기록
+ *
+ * 두 모드 모두 같은 OrderService.createOrder를 호출하므로 차이는 로깅 비용입니다.
+ * 저장소가 커지지 않도록 만든 주문은 같은 호출 안에서 removeOrder로 지웁니다.
+ * 실행: ./gradlew jmh -Pjmh.includes=OrderLoggingBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class OrderLoggingBenchmark {
+
+    private static final int IDENTIFIERS = 100;
+
+    // 이전 코드의 서비스 로그를 흉내 내는 로거
+    private static final Logger LEGACY = LoggerFactory.getLogger("com.pca.acme.service.OrderService");
+
+    @Param({ "perItemSync", "sampledAsync" })
+    public String mode;
+
+    private OrderService orderService;
+    private OrderRequest request;
+    private Appender<ILoggingEvent> appender;
+    private File logFile;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        AuthorizationService authorizationService = new AuthorizationService(event -> { });
+        ReflectionTestUtils.setField(authorizationService, "baseUrl", "https://localhost:8443/acme");
+        ReflectionTestUtils.setField(authorizationService, "authorizationExpirationHours", 24);
+        orderService = new OrderService(authorizationService, AcmeMetrics.NOOP, RateLimiter.UNLIMITED, DomainBlocklist.NONE);
+        ReflectionTestUtils.setField(orderService, "baseUrl", "https://localhost:8443/acme");
+        ReflectionTestUtils.setField(orderService, "orderExpirationHours", 24);
+        ReflectionTestUtils.setField(orderService, "maxIdentifiers", IDENTIFIERS);
+
+        List<OrderRequest.Identifier> identifiers = new ArrayList<>(IDENTIFIERS);
+        for (int i = 0; i < IDENTIFIERS; i++) {
+            OrderRequest.Identifier identifier = new OrderRequest.Identifier();
+            identifier.setType("dns");
+            identifier.setValue("san" + i + ".example.com");
+            identifiers.add(identifier);
+        }
+        request = new OrderRequest();
+        request.setIdentifiers(identifiers);
+
+        logFile = File.createTempFile("acme-logging-benchmark", ".log");
+        appender = configureLogging(logFile, "sampledAsync".equals(mode));
+        if ("perItemSync".equals(mode)) {
+            for (AcmeEventType type : AcmeEventType.values()) {
+                AcmeEvents.configure(type, 1, Integer.MAX_VALUE);
+            }
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        appender.stop();
+        logFile.delete();
+    }
+
+    @Benchmark
+    public Order createOrder() {
+        Order order = "perItemSync".equals(mode)
+            ? createOrderWithPerItemLogging()
+            : orderService.createOrder("acct-1", request);
+        orderService.removeOrder(order.getOrderId());
+        return order;
+    }
+
+    private Order createOrderWithPerItemLogging() {
+        LEGACY.info("Creating new order for account: {}", "acct-1");
+        LEGACY.info("Request identifiers: {}", request.getIdentifiers());
+        LEGACY.info("Order request validation passed");
+        for (OrderRequest.Identifier identifier : request.getIdentifiers()) {
+            LEGACY.info("Creating authorization with baseUrl: {}, expirationHours: {}", "https://localhost:8443/acme", 24);
+            LEGACY.info("Generated authorizationId: {}", identifier.getValue());
+            LEGACY.info("Created authorization {} for identifier {}:{}", identifier.getValue(), "dns", identifier.getValue());
+            LEGACY.info("Processing authorization: {}", identifier.getValue());
+        }
+        Order order = orderService.createOrder("acct-1", request);
+        LEGACY.info("Created order {} with {} identifiers", order.getOrderId(), IDENTIFIERS);
+        return order;
+    }
+
+    /**
+     * 루트와 acme.events 로거를 임시 파일 appender 하나로 보냅니다 (async면 AsyncAppender로 감쌈).
+     */
+    private static Appender<ILoggingEvent> configureLogging(File file, boolean async) {
+        LoggerContext context = (LoggerContext) LoggerFactory.getILoggerFactory();
+        context.reset();
+
+        PatternLayoutEncoder encoder = new PatternLayoutEncoder();
+        encoder.setContext(context);
+        encoder.setPattern("%d %-5level [%thread] %logger - %msg %kvp{NONE}%n");
+        encoder.start();
+
+        FileAppender<ILoggingEvent> fileAppender = new FileAppender<>();
+        fileAppender.setContext(context);
+        fileAppender.setFile(file.getAbsolutePath());
+        fileAppender.setEncoder(encoder);
+        fileAppender.start();
+
+        Appender<ILoggingEvent> appender = fileAppender;
+        if (async) {
+            AsyncAppender asyncAppender = new AsyncAppender();
+            asyncAppender.setContext(context);
+            asyncAppender.setQueueSize(8192);
+            asyncAppender.setDiscardingThreshold(0);
+            asyncAppender.setNeverBlock(true);
+            asyncAppender.addAppender(fileAppender);
+            asyncAppender.start();
+            appender = asyncAppender;
+        }
+
+        ch.qos.logback.classic.Logger root = context.getLogger(org.slf4j.Logger.ROOT_LOGGER_NAME);
+        root.setLevel(ch.qos.logback.classic.Level.INFO);
+        root.addAppender(appender);
+        return appender;
+    }
+}
@@ -0,0 +1,63 @@
+package com.pca.acme.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pca.acme.dto.order.OrderResponse;
+import com.pca.acme.metrics.AcmeMetrics;
+import com.pca.acme.model.Order;
+import com.pca.acme.service.AuthorizationService;
+import com.pca.acme.service.DomainBlocklist;
+import com.pca.acme.service.OrderService;
+import com.pca.acme.service.RateLimiter;
+
+/**
+ * 식별자 수별 OrderResponse Jackson 직렬화 비용
+ * Spring Boot와 같은 기본 설정(Jackson2ObjectMapperBuilder, JavaTimeModule 포함)의 ObjectMapper를 사용합니다.
+ *
+ * 실행: ./gradlew jmh -Pjmh.includes=OrderSerializationBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class OrderSerializationBenchmark {
+
+    @Param({ "1", "10", "100" })
+    public int identifiers;
+
+    private ObjectMapper objectMapper;
+    private OrderResponse response;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+        AuthorizationService authorizationService = new AuthorizationService(event -> { });
+        ReflectionTestUtils.setField(authorizationService, "baseUrl", "https://localhost:8443/acme");
+        ReflectionTestUtils.setField(authorizationService, "authorizationExpirationHours", 24);
+        OrderService orderService = new OrderService(authorizationService, AcmeMetrics.NOOP, RateLimiter.UNLIMITED, DomainBlocklist.NONE);
+        ReflectionTestUtils.setField(orderService, "baseUrl", "https://localhost:8443/acme");
+        ReflectionTestUtils.setField(orderService, "orderExpirationHours", 24);
+        ReflectionTestUtils.setField(orderService, "maxIdentifiers", 100);
+
+        Order order = orderService.createOrder("acct-1", OrderCreationBenchmark.newOrderRequest(identifiers));
+        response = orderService.toOrderResponse(order);
+    }
+
+    @Benchmark
+    public byte[] writeValueAsBytes() throws Exception {
+        return objectMapper.writeValueAsBytes(response);
+    }
+}
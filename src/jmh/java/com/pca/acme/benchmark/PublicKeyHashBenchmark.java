@@ -0,0 +1,58 @@
+package com.pca.acme.benchmark;
+
+import java.security.KeyPairGenerator;
+import java.security.interfaces.RSAPublicKey;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.pca.acme.metrics.AcmeMetrics;
+import com.pca.acme.service.AccountService;
+import com.pca.acme.service.KeyBlocklist;
+
+/**
+ * new-account 요청마다 수행하는 JWK 정규화와 SHA-256 해시 비용 (RSA 2048 키)
+ *
+ * 실행: ./gradlew jmh -Pjmh.includes=PublicKeyHashBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class PublicKeyHashBenchmark {
+
+    private AccountService accountService;
+    private Map<String, Object> jwk;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        accountService = new AccountService(AcmeMetrics.NOOP, KeyBlocklist.NONE);
+
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+        generator.initialize(2048);
+        RSAPublicKey publicKey = (RSAPublicKey) generator.generateKeyPair().getPublic();
+        Base64.Encoder b64 = Base64.getUrlEncoder().withoutPadding();
+        jwk = Map.of(
+            "kty", "RSA",
+            "n", b64.encodeToString(unsigned(publicKey.getModulus().toByteArray())),
+            "e", b64.encodeToString(unsigned(publicKey.getPublicExponent().toByteArray())));
+    }
+
+    @Benchmark
+    public String generatePublicKeyHash() {
+        return accountService.generatePublicKeyHash(jwk);
+    }
+
+    private static byte[] unsigned(byte[] bytes) {
+        return bytes.length > 1 && bytes[0] == 0 ? Arrays.copyOfRange(bytes, 1, bytes.length) : bytes;
+    }
+}
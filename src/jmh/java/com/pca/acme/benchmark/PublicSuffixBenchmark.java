@@ -0,0 +1,57 @@
+package com.pca.acme.benchmark;
+
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.pca.acme.util.PublicSuffixTrie;
+
+/**
+ * PublicSuffixTrie 등록 도메인 계산 비용 (식별자 하나당)
+ * registered: 이미 등록 도메인인 이름 (할당 없음), subdomain: 하위 도메인 (결과 문자열만 할당),
+ * wildcard: *.kobe.jp 규칙, exception: !city.kobe.jp 예외 규칙, deep: 레이블이 많은 이름
+ *
+ * 실행: ./gradlew jmh -Pjmh.includes=PublicSuffixBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class PublicSuffixBenchmark {
+
+    @Param({ "registered", "subdomain", "wildcard", "exception", "deep" })
+    public String input;
+
+    private PublicSuffixTrie trie;
+    private String name;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        try (InputStream in = PublicSuffixTrie.class.getResourceAsStream("/publicsuffix/public_suffix_list.dat")) {
+            trie = PublicSuffixTrie.parse(new InputStreamReader(in, StandardCharsets.UTF_8));
+        }
+        name = switch (input) {
+            case "registered" -> "example.com";
+            case "subdomain" -> "www.example.co.uk";
+            case "wildcard" -> "www.shop.c.kobe.jp";
+            case "exception" -> "www.city.kobe.jp";
+            case "deep" -> "a.b.c.d.e.f.g.h.example.com";
+            default -> throw new IllegalArgumentException(input);
+        };
+    }
+
+    @Benchmark
+    public String registeredDomain() {
+        return trie.registeredDomain(name);
+    }
+}
@@ -0,0 +1,183 @@
+package com.pca.acme.loadtest;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pca.acme.loadtest.LoadStatistics.Step;
+
+/**
+ * 시뮬레이션 ACME 클라이언트 하나의 흐름
+ * directory → new-nonce → new-account → new-order 순서로 실제 서명한 JWS를 보냅니다.
+ * badNonce 응답을 받으면 응답의 Replay-Nonce(없으면 new-nonce로 새로 받은 값)로 재시도합니다.
+ */
+final class AcmeClientFlow {
+
+    private static final String JOSE_JSON = "application/jose+json";
+    private static final String PROBLEM_JSON = "application/problem+json";
+    private static final String BAD_NONCE = "urn:ietf:params:acme:error:badNonce";
+
+    private final HttpClient http;
+    private final ObjectMapper objectMapper;
+    private final LoadTestConfig config;
+    private final LoadStatistics stats;
+    private final JwsSigner signer;
+    private final long clientNumber;
+
+    private String nonce;
+
+    AcmeClientFlow(HttpClient http, ObjectMapper objectMapper, LoadTestConfig config,
+                   LoadStatistics stats, JwsSigner signer, long clientNumber) {
+        this.http = http;
+        this.objectMapper = objectMapper;
+        this.config = config;
+        this.stats = stats;
+        this.signer = signer;
+        this.clientNumber = clientNumber;
+    }
+
+    /**
+     * 흐름을 실행합니다.
+     * 첫 단계와 전체 흐름 시간은 예정 시작 시각부터 측정하여, 서버가 느려 스케줄이 밀린 시간도
+     * 지연으로 집계되도록 합니다 (coordinated omission 보정).
+     *
+     * @param intendedStartNanos 도착률로 정해진 시작 시각 (System.nanoTime 기준)
+     */
+    void run(long intendedStartNanos) {
+        stats.flowStarted();
+        try {
+            // 1. directory
+            HttpResponse<String> response = send(Step.DIRECTORY, intendedStartNanos,
+                request(config.directoryUrl()).GET().build());
+            JsonNode directory = objectMapper.readTree(response.body());
+            String newNonceUrl = directory.path("newNonce").asText();
+            String newAccountUrl = directory.path("newAccount").asText();
+            String newOrderUrl = directory.path("newOrder").asText();
+
+            // 2. new-nonce
+            fetchNonce(newNonceUrl);
+
+            // 3. new-account (jwk)
+            Map<String, Object> account = Map.of(
+                "termsOfServiceAgreed", true,
+                "contact", List.of("mailto:load-" + clientNumber + "@example.com"));
+            response = post(Step.NEW_ACCOUNT, newAccountUrl, newNonceUrl,
+                currentNonce -> signer.signWithJwk(newAccountUrl, currentNonce, account));
+            String kid = response.headers().firstValue("Location")
+                .orElseThrow(() -> new FlowFailure(Step.NEW_ACCOUNT, "missingLocation"));
+
+            // 4. new-order (kid)
+            Map<String, Object> order = Map.of("identifiers", List.of(
+                Map.of("type", "dns", "value", "client-" + clientNumber + ".loadtest.example.com")));
+            post(Step.NEW_ORDER, newOrderUrl, newNonceUrl,
+                currentNonce -> signer.signWithKid(newOrderUrl, currentNonce, kid, order));
+
+            stats.recordLatency(Step.FLOW, intendedStartNanos);
+            stats.flowCompleted();
+        } catch (FlowFailure e) {
+            stats.recordError(e.step, e.type);
+        } catch (IOException e) {
+            stats.recordError(Step.FLOW, e.getClass().getSimpleName());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void fetchNonce(String newNonceUrl) throws IOException, InterruptedException {
+        HttpResponse<String> response = send(Step.NEW_NONCE, System.nanoTime(),
+            request(URI.create(newNonceUrl)).method("HEAD", HttpRequest.BodyPublishers.noBody()).build());
+        nonce = response.headers().firstValue("Replay-Nonce")
+            .orElseThrow(() -> new FlowFailure(Step.NEW_NONCE, "missingReplayNonce"));
+    }
+
+    /**
+     * JWS POST 요청을 보내고 badNonce이면 새 nonce로 다시 서명해 재시도합니다.
+     * 단계 지연에는 재시도 시간이 포함됩니다.
+     */
+    private HttpResponse<String> post(Step step, String url, String newNonceUrl,
+                                      Function<String, String> signedBody) throws IOException, InterruptedException {
+        long start = System.nanoTime();
+        for (int attempt = 0; ; attempt++) {
+            HttpRequest request = request(URI.create(url))
+                .header("Content-Type", JOSE_JSON)
+                .POST(HttpRequest.BodyPublishers.ofString(signedBody.apply(nonce)))
+                .build();
+            HttpResponse<String> response = exchange(step, request);
+            String replayNonce = response.headers().firstValue("Replay-Nonce").orElse(null);
+
+            if (attempt < config.badNonceRetries() && BAD_NONCE.equals(problemType(response))) {
+                stats.badNonceRetry();
+                if (replayNonce != null) {
+                    nonce = replayNonce;
+                } else {
+                    fetchNonce(newNonceUrl);
+                }
+                continue;
+            }
+
+            nonce = replayNonce;
+            return complete(step, start, response);
+        }
+    }
+
+    private HttpResponse<String> send(Step step, long startNanos, HttpRequest request)
+            throws IOException, InterruptedException {
+        return complete(step, startNanos, exchange(step, request));
+    }
+
+    private HttpResponse<String> exchange(Step step, HttpRequest request) throws InterruptedException {
+        try {
+            return http.send(request, HttpResponse.BodyHandlers.ofString());
+        } catch (IOException e) {
+            throw new FlowFailure(step, e.getClass().getSimpleName());
+        }
+    }
+
+    private HttpResponse<String> complete(Step step, long startNanos, HttpResponse<String> response) {
+        if (response.statusCode() >= 400) {
+            String type = problemType(response);
+            throw new FlowFailure(step, type != null ? type : "http-" + response.statusCode());
+        }
+        stats.recordLatency(step, startNanos);
+        return response;
+    }
+
+    private String problemType(HttpResponse<String> response) {
+        boolean problem = response.headers().firstValue("Content-Type")
+            .map(contentType -> contentType.startsWith(PROBLEM_JSON))
+            .orElse(false);
+        if (!problem || response.body() == null || response.body().isEmpty()) {
+            return null;
+        }
+        try {
+            return objectMapper.readTree(response.body()).path("type").asText(null);
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    private HttpRequest.Builder request(URI uri) {
+        return HttpRequest.newBuilder(uri).timeout(config.requestTimeout());
+    }
+
+    /**
+     * 단계 실패 (HTTP 에러 응답 또는 전송 실패)
+     */
+    private static final class FlowFailure extends RuntimeException {
+        private final Step step;
+        private final String type;
+
+        FlowFailure(Step step, String type) {
+            super(type, null, false, false);
+            this.step = step;
+            this.type = type;
+        }
+    }
+}
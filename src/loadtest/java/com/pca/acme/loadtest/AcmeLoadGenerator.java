@@ -0,0 +1,131 @@
+package com.pca.acme.loadtest;
+
+import java.net.http.HttpClient;
+import java.nio.file.Path;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.security.cert.X509Certificate;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.stream.IntStream;
+
+import javax.net.ssl.SSLContext;
+import javax.net.ssl.TrustManager;
+import javax.net.ssl.X509TrustManager;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * ACME 서버 부하 생성기
+ * 일정한 도착률(open-loop)로 시뮬레이션 클라이언트를 가상 스레드에서 시작합니다.
+ * 응답이 느려져도 다음 클라이언트의 시작 시각은 밀리지 않으므로 실제 트래픽 모양에 가까운 지연 분포를 얻습니다.
+ *
+ * 실행: ./gradlew loadTest -Ploadtest.rate=200 -Ploadtest.duration=60
+ */
+public final class AcmeLoadGenerator {
+
+    private final LoadTestConfig config;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    public AcmeLoadGenerator(LoadTestConfig config) {
+        this.config = config;
+    }
+
+    public static void main(String[] args) throws Exception {
+        // 로컬 자체 서명 인증서의 호스트 이름 검증 생략 (HttpClient 생성 전에 설정해야 적용됨)
+        System.setProperty("jdk.internal.httpclient.disableHostnameVerification", "true");
+
+        LoadTestConfig config = LoadTestConfig.parse(args);
+        AcmeLoadGenerator generator = new AcmeLoadGenerator(config);
+        LoadReport report = generator.run();
+        report.print(System.out);
+
+        Path reportDirectory = Path.of(System.getProperty("acme.loadtest.report-dir", "build/reports/loadtest"));
+        report.write(reportDirectory, generator.objectMapper);
+        System.out.println("Report written to " + reportDirectory.toAbsolutePath());
+    }
+
+    /**
+     * 부하를 생성하고 모든 클라이언트가 끝나면 결과를 반환합니다.
+     */
+    public LoadReport run() throws InterruptedException {
+        List<JwsSigner> signers = generateSigners();
+        LoadStatistics stats = new LoadStatistics();
+        HttpClient http = httpClient();
+
+        long intervalNanos = TimeUnit.SECONDS.toNanos(1) / config.arrivalRate();
+        long plannedClients = config.plannedClients();
+        long startNanos = System.nanoTime();
+
+        try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (long i = 0; i < plannedClients; i++) {
+                long intendedStart = startNanos + i * intervalNanos;
+                long wait = intendedStart - System.nanoTime();
+                if (wait > 0) {
+                    LockSupport.parkNanos(wait);
+                }
+                long clientNumber = i;
+                JwsSigner signer = signers.get((int) (i % signers.size()));
+                clients.execute(() ->
+                    new AcmeClientFlow(http, objectMapper, config, stats, signer, clientNumber).run(intendedStart));
+            }
+            // try-with-resources close()가 진행 중인 흐름이 끝날 때까지 대기
+        }
+
+        double elapsedSeconds = (System.nanoTime() - startNanos) / 1_000_000_000.0;
+        return new LoadReport(config, stats, elapsedSeconds);
+    }
+
+    /**
+     * RSA 계정 키를 미리 병렬로 생성합니다.
+     * 키 생성 비용이 측정 구간에 섞이지 않도록 부하 시작 전에 모두 만듭니다.
+     */
+    private List<JwsSigner> generateSigners() {
+        long started = System.nanoTime();
+        List<JwsSigner> signers = IntStream.range(0, config.keyPoolSize())
+            .parallel()
+            .mapToObj(i -> new JwsSigner(JwsSigner.generateKeyPair(), objectMapper))
+            .toList();
+        System.out.printf("Generated %d RSA keys in %d ms%n",
+            signers.size(), Duration.ofNanos(System.nanoTime() - started).toMillis());
+        return signers;
+    }
+
+    private HttpClient httpClient() {
+        HttpClient.Builder builder = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(config.requestTimeout());
+        if (config.insecure()) {
+            builder.sslContext(trustAllContext());
+        }
+        return builder.build();
+    }
+
+    private static SSLContext trustAllContext() {
+        TrustManager trustAll = new X509TrustManager() {
+            @Override
+            public void checkClientTrusted(X509Certificate[] chain, String authType) {
+            }
+
+            @Override
+            public void checkServerTrusted(X509Certificate[] chain, String authType) {
+            }
+
+            @Override
+            public X509Certificate[] getAcceptedIssuers() {
+                return new X509Certificate[0];
+            }
+        };
+        try {
+            SSLContext context = SSLContext.getInstance("TLS");
+            context.init(null, new TrustManager[] {trustAll}, new SecureRandom());
+            return context;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Failed to initialize TLS context", e);
+        }
+    }
+}
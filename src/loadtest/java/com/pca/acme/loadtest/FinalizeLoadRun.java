@@ -0,0 +1,239 @@
+package com.pca.acme.loadtest;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.KeyStore;
+import java.security.cert.X509Certificate;
+import java.security.spec.ECGenParameterSpec;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+import org.HdrHistogram.Histogram;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pca.acme.AcmeApplication;
+import com.pca.acme.dto.order.OrderRequest;
+import com.pca.acme.exception.AcmeProblem;
+import com.pca.acme.model.Order;
+import com.pca.acme.service.FinalizeService;
+import com.pca.acme.service.OrderService;
+import com.pca.acme.util.CertificateSigner;
+
+/**
+ * 최종화(finalize) 부하 실행기 (스레드 모드 비교용)
+ * 챌린지 응답 엔드포인트가 없어 HTTP로는 주문이 ready가 되지 않으므로, 같은 JVM에 서버를 띄우고
+ * 주문을 만들어 ready로 바꾼 뒤 FinalizeService.submit을 일정한 도착률로 호출합니다(open-loop).
+ *
+ * CAA 캐시를 끄므로(acme.caa.cache-ttl-seconds=0) 작업마다 실제 DNS 조회가 일어나며,
+ * 지연은 예정 제출 시각부터 주문이 valid 또는 invalid가 될 때까지입니다.
+ * 발급 키는 실행할 때 만든 임시 CA를 씁니다.
+ *
+ * --virtual=true이면 virtual 프로필로 띄우므로, 가상 스레드와 함께 그 프로필의 워커 수와 CAA 조회 풀 크기가 적용됩니다.
+ * 결과에는 실제로 적용된 풀 크기를 함께 남깁니다.
+ *
+ * 인자: --rate=초당 제출 수(기본 50), --duration=초(기본 30), --warmup=초(기본 10), --virtual=true|false(기본 false)
+ */
+public final class FinalizeLoadRun {
+
+    // keytool로 생성한 EC P-256 CSR (CN=www.example.com, SAN=www.example.com, example.com)
+    private static final byte[] CSR = Base64.getUrlDecoder().decode(
+        "MIIBLzCB1QIBADAaMRgwFgYDVQQDEw93d3cuZXhhbXBsZS5jb20wWTATBgcqhkjOPQIBBggqhkjOPQMBBwNCAAQoZxskfQRPSISpDYrV"
+        + "UFhOvau0crXXIDJb956PuV6P_VfRCFu9c4uWawkSzUe_QXK1E5iQi-RwGU2FmC_kQI4PoFkwVwYJKoZIhvcNAQkOMUowSDAdBgNVHQ4E"
+        + "FgQUjbp2DWrmVJ3gAdDJ5hg7doCSF9wwJwYDVR0RBCAwHoIPd3d3LmV4YW1wbGUuY29tggtleGFtcGxlLmNvbTAKBggqhkjOPQQDAgNJ"
+        + "ADBGAiEAs_YCbm_hwsJFCD9qVW1N4gFIIhdC7mf0w5pw2yKNcpsCIQD0hrUmVA_mj9rM9qbAYqAOybwoIr1OWGI6tBY9Z-6bJw");
+    private static final List<String> NAMES = List.of("www.example.com", "example.com");
+    private static final String ACCOUNT_ID = "finalize-load";
+    private static final String PASSWORD = "finalize-load";
+
+    private final OrderService orderService;
+    private final FinalizeService finalizeService;
+    private final Map<String, Long> pending = new ConcurrentHashMap<>();
+    private final Histogram latency = new Histogram(3);
+    private final LongAdder valid = new LongAdder();
+    private final LongAdder invalid = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+
+    private FinalizeLoadRun(OrderService orderService, FinalizeService finalizeService) {
+        this.orderService = orderService;
+        this.finalizeService = finalizeService;
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = new LinkedHashMap<>();
+        for (String arg : args) {
+            int separator = arg.indexOf('=');
+            if (!arg.startsWith("--") || separator < 0) {
+                throw new IllegalArgumentException("Expected --key=value but got: " + arg);
+            }
+            options.put(arg.substring(2, separator), arg.substring(separator + 1));
+        }
+        int rate = Integer.parseInt(options.getOrDefault("rate", "50"));
+        long duration = Long.parseLong(options.getOrDefault("duration", "30"));
+        long warmup = Long.parseLong(options.getOrDefault("warmup", "10"));
+        boolean virtual = Boolean.parseBoolean(options.getOrDefault("virtual", "false"));
+
+        Path keyStore = issuerKeyStore();
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(AcmeApplication.class)
+            .profiles(virtual ? "virtual" : "default")
+            // 기본 속성(SpringApplicationBuilder.properties)은 application.yml보다 우선순위가 낮으므로 명령행 인자로 넘김
+            .run(
+                "--server.port=0",
+                "--server.ssl.enabled=false",
+                "--acme.rate-limit.enabled=false",
+                "--acme.warmup.enabled=false",
+                "--acme.caa.cache-ttl-seconds=0",
+                "--acme.issuer.key-store=" + keyStore.toUri(),
+                "--acme.issuer.key-store-password=" + PASSWORD,
+                "--logging.level.root=WARN");
+        try {
+            OrderService orderService = context.getBean(OrderService.class);
+            FinalizeService finalizeService = context.getBean(FinalizeService.class);
+            if (warmup > 0) {
+                new FinalizeLoadRun(orderService, finalizeService).run(rate, warmup);
+            }
+            Map<String, Object> pools = new LinkedHashMap<>();
+            pools.put("finalizeWorkers", context.getEnvironment().getProperty("acme.finalize.workers", Integer.class, 4));
+            pools.put("caaLookupThreads", context.getEnvironment().getProperty("acme.caa.lookup-threads", Integer.class, 16));
+
+            FinalizeLoadRun measured = new FinalizeLoadRun(orderService, finalizeService);
+            long elapsedNanos = measured.run(rate, duration);
+            measured.print(System.out, virtual ? "virtual" : "platform", pools, elapsedNanos);
+            Path reportDirectory = Path.of(System.getProperty("acme.loadtest.report-dir", "build/reports/finalize-load"));
+            measured.write(reportDirectory, virtual ? "virtual" : "platform", pools, elapsedNanos);
+        } finally {
+            context.close();
+            Files.deleteIfExists(keyStore);
+        }
+    }
+
+    /**
+     * 도착률대로 최종화를 제출하고 남은 주문이 끝날 때까지 기다립니다.
+     *
+     * @return 첫 제출부터 마지막 완료까지의 시간 (나노초)
+     */
+    private long run(int rate, long durationSeconds) throws InterruptedException {
+        Thread poller = Thread.ofPlatform().daemon(true).name("finalize-load-poller").start(this::pollLoop);
+        long intervalNanos = TimeUnit.SECONDS.toNanos(1) / rate;
+        long total = rate * durationSeconds;
+        long start = System.nanoTime();
+        for (long i = 0; i < total; i++) {
+            long intended = start + i * intervalNanos;
+            long wait = intended - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            submit(intended);
+        }
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(60);
+        while (!pending.isEmpty() && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        long elapsed = System.nanoTime() - start;
+        poller.interrupt();
+        poller.join();
+        return elapsed;
+    }
+
+    private void submit(long intendedNanos) {
+        OrderRequest request = new OrderRequest();
+        request.setIdentifiers(NAMES.stream().map(name -> {
+            OrderRequest.Identifier identifier = new OrderRequest.Identifier();
+            identifier.setType("dns");
+            identifier.setValue(name);
+            return identifier;
+        }).toList());
+        String orderId = orderService.createOrder(ACCOUNT_ID, request).getOrderId();
+        orderService.transitionStatus(orderId, Order.OrderStatus.PENDING, Order.OrderStatus.READY);
+
+        pending.put(orderId, intendedNanos);
+        try {
+            finalizeService.submit(ACCOUNT_ID, orderId, CSR);
+        } catch (AcmeProblem e) {
+            pending.remove(orderId);
+            rejected.increment();
+        }
+    }
+
+    private void pollLoop() {
+        while (!Thread.currentThread().isInterrupted()) {
+            pending.forEach((orderId, intended) -> {
+                Order.OrderStatus status = orderService.getOrder(orderId).getStatus();
+                if (status == Order.OrderStatus.VALID || status == Order.OrderStatus.INVALID) {
+                    pending.remove(orderId);
+                    latency.recordValue(Math.max(0, TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - intended)));
+                    (status == Order.OrderStatus.VALID ? valid : invalid).increment();
+                }
+            });
+            LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(1));
+        }
+    }
+
+    private void print(PrintStream out, String mode, Map<String, Object> pools, long elapsedNanos) {
+        out.printf(Locale.ROOT, "finalize (%s threads, %s): %.1f/s, valid %d, invalid %d, rejected %d, unfinished %d%n",
+            mode, pools, completedPerSecond(elapsedNanos), valid.sum(), invalid.sum(), rejected.sum(), pending.size());
+        out.printf(Locale.ROOT, "  latency ms: p50 %.1f, p90 %.1f, p99 %.1f, max %.1f%n",
+            percentileMs(50), percentileMs(90), percentileMs(99), latency.getMaxValue() / 1000.0);
+    }
+
+    private void write(Path directory, String mode, Map<String, Object> pools, long elapsedNanos) throws Exception {
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("threads", mode);
+        summary.putAll(pools);
+        summary.put("finalizationsPerSecond", completedPerSecond(elapsedNanos));
+        summary.put("valid", valid.sum());
+        summary.put("invalid", invalid.sum());
+        summary.put("rejected", rejected.sum());
+        summary.put("unfinished", pending.size());
+        summary.put("p50Ms", percentileMs(50));
+        summary.put("p90Ms", percentileMs(90));
+        summary.put("p99Ms", percentileMs(99));
+        summary.put("maxMs", latency.getMaxValue() / 1000.0);
+        Files.createDirectories(directory);
+        new ObjectMapper().writerWithDefaultPrettyPrinter()
+            .writeValue(directory.resolve("finalize-" + mode + ".json").toFile(), summary);
+    }
+
+    private double completedPerSecond(long elapsedNanos) {
+        return (valid.sum() + invalid.sum()) * 1e9 / elapsedNanos;
+    }
+
+    private double percentileMs(double percentile) {
+        return latency.getValueAtPercentile(percentile) / 1000.0;
+    }
+
+    /**
+     * 실행 동안만 쓰는 자체 서명 CA를 PKCS#12 파일로 만듭니다.
+     */
+    private static Path issuerKeyStore() throws Exception {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("EC");
+        generator.initialize(new ECGenParameterSpec("secp256r1"));
+        KeyPair keys = generator.generateKeyPair();
+        Instant now = Instant.now().truncatedTo(ChronoUnit.SECONDS);
+        X509Certificate issuer = CertificateSigner.selfSignedIssuer(keys, "Finalize Load Issuing CA",
+            now, now.plus(1, ChronoUnit.DAYS));
+
+        KeyStore store = KeyStore.getInstance("PKCS12");
+        store.load(null, null);
+        store.setKeyEntry("issuer", keys.getPrivate(), PASSWORD.toCharArray(), new X509Certificate[] { issuer });
+        Path path = Files.createTempFile("acme-finalize-load", ".p12");
+        try (OutputStream out = Files.newOutputStream(path)) {
+            store.store(out, PASSWORD.toCharArray());
+        }
+        return path;
+    }
+}
@@ -0,0 +1,75 @@
+package com.pca.acme.loadtest;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pca.acme.AcmeApplication;
+
+/**
+ * 같은 JVM에서 서버를 띄우고 짧은 부하를 거는 실행기 (성능 회귀 게이트용)
+ * 평문 HTTP와 빈 포트로 서버를 띄우고(한 주소에서 부하를 걸므로 요청 한도는 끔), 워밍업 부하 뒤 측정 부하의 결과만 기록합니다.
+ * 서버 자체의 기동 워밍업(acme.warmup)은 끕니다. 켜 두면 합성 요청이 측정 부하와 겹치고 readiness가 늦어집니다.
+ *
+ * 인자는 {@link LoadTestConfig}와 같고, --warmup=초 로 워밍업 시간을 지정합니다 (기본 5초).
+ */
+public final class InProcessLoadRun {
+
+    private InProcessLoadRun() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        List<String> loadArgs = new ArrayList<>(Arrays.asList(args));
+        long warmupSeconds = 5;
+        for (String arg : args) {
+            if (arg.startsWith("--warmup=")) {
+                warmupSeconds = Long.parseLong(arg.substring("--warmup=".length()));
+                loadArgs.remove(arg);
+            }
+        }
+
+        int port = freePort();
+        String baseUrl = "http://localhost:" + port + "/acme";
+        loadArgs.add("--directory=" + baseUrl + "/directory");
+        LoadTestConfig config = LoadTestConfig.parse(loadArgs.toArray(String[]::new));
+
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(AcmeApplication.class)
+            // 기본 속성(SpringApplicationBuilder.properties)은 application.yml보다 우선순위가 낮으므로 명령행 인자로 넘김
+            .run(
+                "--server.port=" + port,
+                "--server.ssl.enabled=false",
+                "--acme.base-url=" + baseUrl,
+                "--acme.rate-limit.enabled=false",
+                "--acme.warmup.enabled=false",
+                "--logging.level.root=WARN");
+        try {
+            if (warmupSeconds > 0) {
+                LoadTestConfig warmup = new LoadTestConfig(config.directoryUrl(), config.arrivalRate(),
+                    Duration.ofSeconds(warmupSeconds), config.keyPoolSize(), config.badNonceRetries(),
+                    config.requestTimeout(), config.insecure());
+                new AcmeLoadGenerator(warmup).run();
+            }
+
+            LoadReport report = new AcmeLoadGenerator(config).run();
+            report.print(System.out);
+            Path reportDirectory = Path.of(System.getProperty("acme.loadtest.report-dir", "build/reports/loadtest"));
+            report.write(reportDirectory, new ObjectMapper());
+        } finally {
+            context.close();
+        }
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
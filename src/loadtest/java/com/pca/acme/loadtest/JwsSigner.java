@@ -0,0 +1,99 @@
+package com.pca.acme.loadtest;
+
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.Signature;
+import java.security.interfaces.RSAPublicKey;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * RS256으로 서명한 Flattened JSON JWS를 만드는 클라이언트 측 서명기 (RFC 8555 §6.2, RFC 7515)
+ * new-account 요청은 protected 헤더에 jwk를, 이후 요청은 kid(계정 URL)를 넣습니다.
+ */
+final class JwsSigner {
+
+    private static final Base64.Encoder B64 = Base64.getUrlEncoder().withoutPadding();
+
+    private final KeyPair keyPair;
+    private final Map<String, Object> jwk;
+    private final ObjectMapper objectMapper;
+
+    JwsSigner(KeyPair keyPair, ObjectMapper objectMapper) {
+        this.keyPair = keyPair;
+        this.objectMapper = objectMapper;
+        RSAPublicKey publicKey = (RSAPublicKey) keyPair.getPublic();
+        Map<String, Object> key = new LinkedHashMap<>();
+        key.put("e", B64.encodeToString(unsigned(publicKey.getPublicExponent())));
+        key.put("kty", "RSA");
+        key.put("n", B64.encodeToString(unsigned(publicKey.getModulus())));
+        this.jwk = key;
+    }
+
+    static KeyPair generateKeyPair() {
+        try {
+            KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+            generator.initialize(2048);
+            return generator.generateKeyPair();
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("RSA key generation failed", e);
+        }
+    }
+
+    /**
+     * jwk를 포함한 new-account 요청 JWS
+     */
+    String signWithJwk(String url, String nonce, Object payload) {
+        Map<String, Object> header = new LinkedHashMap<>();
+        header.put("alg", "RS256");
+        header.put("jwk", jwk);
+        header.put("nonce", nonce);
+        header.put("url", url);
+        return sign(header, payload);
+    }
+
+    /**
+     * 계정 URL(kid)을 포함한 요청 JWS
+     */
+    String signWithKid(String url, String nonce, String kid, Object payload) {
+        Map<String, Object> header = new LinkedHashMap<>();
+        header.put("alg", "RS256");
+        header.put("kid", kid);
+        header.put("nonce", nonce);
+        header.put("url", url);
+        return sign(header, payload);
+    }
+
+    private String sign(Map<String, Object> header, Object payload) {
+        try {
+            String protectedB64 = B64.encodeToString(objectMapper.writeValueAsBytes(header));
+            String payloadB64 = B64.encodeToString(objectMapper.writeValueAsBytes(payload));
+
+            Signature signature = Signature.getInstance("SHA256withRSA");
+            signature.initSign(keyPair.getPrivate());
+            signature.update((protectedB64 + "." + payloadB64).getBytes(StandardCharsets.US_ASCII));
+            String signatureB64 = B64.encodeToString(signature.sign());
+
+            Map<String, String> jws = new LinkedHashMap<>();
+            jws.put("protected", protectedB64);
+            jws.put("payload", payloadB64);
+            jws.put("signature", signatureB64);
+            return objectMapper.writeValueAsString(jws);
+        } catch (JsonProcessingException | GeneralSecurityException e) {
+            throw new IllegalStateException("JWS signing failed", e);
+        }
+    }
+
+    private static byte[] unsigned(BigInteger value) {
+        byte[] bytes = value.toByteArray();
+        return bytes.length > 1 && bytes[0] == 0 ? Arrays.copyOfRange(bytes, 1, bytes.length) : bytes;
+    }
+}
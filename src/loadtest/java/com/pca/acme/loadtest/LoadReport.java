@@ -0,0 +1,115 @@
+package com.pca.acme.loadtest;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.HdrHistogram.Histogram;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pca.acme.loadtest.LoadStatistics.Step;
+
+/**
+ * 부하 테스트 결과
+ * 단계별 백분위 지연(ms), 에러 수, badNonce 재시도 수를 텍스트와 JSON으로 출력합니다.
+ */
+public final class LoadReport {
+
+    private static final double[] PERCENTILES = {50.0, 90.0, 99.0, 99.9};
+
+    private final LoadTestConfig config;
+    private final LoadStatistics stats;
+    private final double elapsedSeconds;
+
+    LoadReport(LoadTestConfig config, LoadStatistics stats, double elapsedSeconds) {
+        this.config = config;
+        this.stats = stats;
+        this.elapsedSeconds = elapsedSeconds;
+    }
+
+    public long badNonceRetries() {
+        return stats.badNonceRetries();
+    }
+
+    public long flowsCompleted() {
+        return stats.flowsCompleted();
+    }
+
+    /**
+     * 단계의 백분위 지연 (ms)
+     */
+    public double percentileMillis(String step, double percentile) {
+        return stats.latency(Step.valueOf(step.toUpperCase().replace('-', '_')))
+            .getValueAtPercentile(percentile) / 1000.0;
+    }
+
+    /**
+     * JSON 요약 (성능 비교 도구가 읽는 형식)
+     */
+    public Map<String, Object> toMap() {
+        Map<String, Object> steps = new LinkedHashMap<>();
+        for (Step step : Step.values()) {
+            Histogram histogram = stats.latency(step);
+            Map<String, Object> summary = new LinkedHashMap<>();
+            summary.put("count", histogram.getTotalCount());
+            summary.put("errors", stats.errors(step));
+            summary.put("p50Ms", millis(histogram.getValueAtPercentile(50.0)));
+            summary.put("p90Ms", millis(histogram.getValueAtPercentile(90.0)));
+            summary.put("p99Ms", millis(histogram.getValueAtPercentile(99.0)));
+            summary.put("p999Ms", millis(histogram.getValueAtPercentile(99.9)));
+            summary.put("maxMs", millis(histogram.getMaxValue()));
+            steps.put(step.label(), summary);
+        }
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("arrivalRate", config.arrivalRate());
+        report.put("durationSeconds", config.duration().toSeconds());
+        report.put("elapsedSeconds", elapsedSeconds);
+        report.put("flowsStarted", stats.flowsStarted());
+        report.put("flowsCompleted", stats.flowsCompleted());
+        report.put("flowsPerSecond", elapsedSeconds > 0 ? stats.flowsCompleted() / elapsedSeconds : 0.0);
+        report.put("badNonceRetries", stats.badNonceRetries());
+        report.put("errorsByType", stats.errorsByType());
+        report.put("steps", steps);
+        return report;
+    }
+
+    public void print(PrintStream out) {
+        out.printf("ACME load test: %d clients/s for %ds, %d started, %d completed (%.1f flows/s)%n",
+            config.arrivalRate(), config.duration().toSeconds(), stats.flowsStarted(), stats.flowsCompleted(),
+            elapsedSeconds > 0 ? stats.flowsCompleted() / elapsedSeconds : 0.0);
+        out.printf("%-12s %9s %7s %9s %9s %9s %9s %9s%n",
+            "step", "count", "errors", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms");
+        for (Step step : Step.values()) {
+            Histogram histogram = stats.latency(step);
+            out.printf("%-12s %9d %7d", step.label(), histogram.getTotalCount(), stats.errors(step));
+            for (double percentile : PERCENTILES) {
+                out.printf(" %9.2f", millis(histogram.getValueAtPercentile(percentile)));
+            }
+            out.printf(" %9.2f%n", millis(histogram.getMaxValue()));
+        }
+        out.printf("badNonce retries: %d%n", stats.badNonceRetries());
+        stats.errorsByType().forEach((type, count) -> out.printf("error %s: %d%n", type, count));
+    }
+
+    /**
+     * summary.json과 단계별 HdrHistogram 백분위 분포(.hgrm)를 기록합니다.
+     */
+    public void write(Path directory, ObjectMapper objectMapper) throws IOException {
+        Files.createDirectories(directory);
+        objectMapper.writerWithDefaultPrettyPrinter().writeValue(directory.resolve("summary.json").toFile(), toMap());
+        for (Step step : Step.values()) {
+            try (PrintStream out = new PrintStream(Files.newOutputStream(directory.resolve(step.label() + ".hgrm")))) {
+                // 마이크로초로 기록했으므로 1000으로 나누어 ms 단위로 출력
+                stats.latency(step).outputPercentileDistribution(out, 1000.0);
+            }
+        }
+    }
+
+    private static double millis(long micros) {
+        return micros / 1000.0;
+    }
+}
@@ -0,0 +1,103 @@
+package com.pca.acme.loadtest;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+/**
+ * 단계별 지연 시간 히스토그램과 카운터
+ * 모든 시뮬레이션 클라이언트가 공유하며, 값은 마이크로초 단위로 기록합니다.
+ */
+final class LoadStatistics {
+
+    /**
+     * 클라이언트 흐름의 단계
+     * FLOW는 예정 시작 시각부터 마지막 단계 완료까지의 전체 시간입니다.
+     */
+    enum Step {
+        DIRECTORY("directory"),
+        NEW_NONCE("new-nonce"),
+        NEW_ACCOUNT("new-account"),
+        NEW_ORDER("new-order"),
+        FLOW("flow");
+
+        private final String label;
+
+        Step(String label) {
+            this.label = label;
+        }
+
+        String label() {
+            return label;
+        }
+    }
+
+    private final Map<Step, ConcurrentHistogram> latencies = new EnumMap<>(Step.class);
+    private final Map<Step, LongAdder> errors = new EnumMap<>(Step.class);
+    private final Map<String, LongAdder> errorsByType = new ConcurrentHashMap<>();
+    private final LongAdder badNonceRetries = new LongAdder();
+    private final LongAdder flowsStarted = new LongAdder();
+    private final LongAdder flowsCompleted = new LongAdder();
+
+    LoadStatistics() {
+        for (Step step : Step.values()) {
+            // 유효 숫자 3자리, 최댓값은 자동 확장
+            latencies.put(step, new ConcurrentHistogram(3));
+            errors.put(step, new LongAdder());
+        }
+    }
+
+    void recordLatency(Step step, long startNanos) {
+        long micros = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - startNanos);
+        latencies.get(step).recordValue(Math.max(micros, 0));
+    }
+
+    void recordError(Step step, String type) {
+        errors.get(step).increment();
+        errorsByType.computeIfAbsent(type, k -> new LongAdder()).increment();
+    }
+
+    void badNonceRetry() {
+        badNonceRetries.increment();
+    }
+
+    void flowStarted() {
+        flowsStarted.increment();
+    }
+
+    void flowCompleted() {
+        flowsCompleted.increment();
+    }
+
+    Histogram latency(Step step) {
+        return latencies.get(step).copy();
+    }
+
+    long errors(Step step) {
+        return errors.get(step).sum();
+    }
+
+    Map<String, Long> errorsByType() {
+        Map<String, Long> snapshot = new TreeMap<>();
+        errorsByType.forEach((type, count) -> snapshot.put(type, count.sum()));
+        return snapshot;
+    }
+
+    long badNonceRetries() {
+        return badNonceRetries.sum();
+    }
+
+    long flowsStarted() {
+        return flowsStarted.sum();
+    }
+
+    long flowsCompleted() {
+        return flowsCompleted.sum();
+    }
+}
@@ -0,0 +1,65 @@
+package com.pca.acme.loadtest;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 부하 생성 설정
+ * 명령행 인자는 --key=value 형식이며 지정하지 않은 값은 기본값을 사용합니다.
+ *
+ * @param directoryUrl   ACME directory URL (클라이언트는 여기서 다른 엔드포인트 URL을 얻음)
+ * @param arrivalRate    초당 새로 시작하는 클라이언트 수 (open-loop, 응답 속도와 무관하게 일정)
+ * @param duration       클라이언트를 새로 시작하는 기간
+ * @param keyPoolSize    미리 생성할 RSA 계정 키 수 (클라이언트 수보다 작으면 기존 계정 조회 경로가 섞임)
+ * @param badNonceRetries badNonce 응답 시 새 nonce로 재시도하는 최대 횟수
+ * @param requestTimeout 요청 하나의 응답 대기 제한
+ * @param insecure       자체 서명 인증서를 신뢰할지 여부 (로컬 8443 서버용)
+ */
+public record LoadTestConfig(
+        URI directoryUrl,
+        int arrivalRate,
+        Duration duration,
+        int keyPoolSize,
+        int badNonceRetries,
+        Duration requestTimeout,
+        boolean insecure) {
+
+    public static LoadTestConfig defaults() {
+        return new LoadTestConfig(URI.create("https://localhost:8443/acme/directory"),
+            100, Duration.ofSeconds(30), 1000, 3, Duration.ofSeconds(10), true);
+    }
+
+    public static LoadTestConfig parse(String[] args) {
+        Map<String, String> options = new LinkedHashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("Expected --key=value but got: " + arg);
+            }
+            int separator = arg.indexOf('=');
+            options.put(arg.substring(2, separator), arg.substring(separator + 1));
+        }
+
+        LoadTestConfig defaults = defaults();
+        LoadTestConfig config = new LoadTestConfig(
+            URI.create(options.getOrDefault("directory", defaults.directoryUrl().toString())),
+            Integer.parseInt(options.getOrDefault("rate", String.valueOf(defaults.arrivalRate()))),
+            Duration.ofSeconds(Long.parseLong(options.getOrDefault("duration", String.valueOf(defaults.duration().toSeconds())))),
+            Integer.parseInt(options.getOrDefault("keys", String.valueOf(defaults.keyPoolSize()))),
+            Integer.parseInt(options.getOrDefault("bad-nonce-retries", String.valueOf(defaults.badNonceRetries()))),
+            Duration.ofMillis(Long.parseLong(options.getOrDefault("timeout-ms", String.valueOf(defaults.requestTimeout().toMillis())))),
+            Boolean.parseBoolean(options.getOrDefault("insecure", String.valueOf(defaults.insecure()))));
+        if (config.arrivalRate() <= 0 || config.keyPoolSize() <= 0) {
+            throw new IllegalArgumentException("rate and keys must be positive");
+        }
+        return config;
+    }
+
+    /**
+     * 예정된 총 클라이언트 수
+     */
+    public long plannedClients() {
+        return arrivalRate * duration.toSeconds();
+    }
+}
@@ -0,0 +1,306 @@
+package com.pca.acme.loadtest;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * 성능 회귀 게이트
+ * JMH 결과(JSON)와 프로세스 내 부하 결과(summary.json)를 커밋된 기준선과 비교하여,
+ * 허용 범위를 넘게 나빠진 지표가 있으면 0이 아닌 코드로 종료합니다.
+ * 기준선에 있는데 이번 실행에 없는 지표(MISSING)와, 기준선이 기록된 뒤 새로 생긴 지표(NEW)도 실패로 봅니다.
+ * 기준선이 비어 있으면 비교할 대상이 없으므로 기록하라는 안내와 함께 실패합니다.
+ * 기준선을 기록할 때 JDK와 CPU 정보(environment)를 함께 남기고, 비교 보고서에는 기준선과 이번 실행의 장비 정보를 나란히 적습니다.
+ *
+ * 비교하는 지표:
+ * - 처리량: JMH 점수(thrpt는 클수록, avgt는 작을수록 좋음), 부하 flowsPerSecond
+ * - p99: 부하 단계별 p99 지연
+ * - 할당: JMH gc.alloc.rate.norm (B/op)
+ *
+ * 인자: --baseline, --jmh, --load, --report (경로), --update-baseline=true,
+ *       --throughput-tolerance, --p99-tolerance, --allocation-tolerance (%, 기준선 값보다 우선)
+ */
+public final class PerfGate {
+
+    /**
+     * 할당 비교의 최소 허용 차이 (B/op), 할당이 거의 없는 벤치마크의 측정 잡음을 흡수
+     */
+    private static final double ALLOCATION_SLACK_BYTES = 8.0;
+
+    /**
+     * 게이트를 실패시키는 판정. NEW는 벤치마크를 추가하거나 이름을 바꾼 뒤 기준선을 다시 기록하지 않은 경우입니다.
+     */
+    private static final Set<String> FAILING_VERDICTS = Set.of("REGRESSION", "MISSING", "NEW");
+
+    private enum Kind {
+        THROUGHPUT("throughputPercent"),
+        P99("p99Percent"),
+        ALLOCATION("allocationPercent");
+
+        private final String toleranceKey;
+
+        Kind(String toleranceKey) {
+            this.toleranceKey = toleranceKey;
+        }
+    }
+
+    private record Metric(Kind kind, double value, String unit, boolean higherIsBetter) {
+    }
+
+    private record Comparison(String name, Metric current, Double baseline, Double changePercent, String verdict) {
+    }
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private PerfGate() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        Map<String, String> options = new LinkedHashMap<>();
+        for (String arg : args) {
+            int separator = arg.indexOf('=');
+            if (!arg.startsWith("--") || separator < 0) {
+                throw new IllegalArgumentException("Expected --key=value but got: " + arg);
+            }
+            options.put(arg.substring(2, separator), arg.substring(separator + 1));
+        }
+        int exitCode = new PerfGate().run(options);
+        if (exitCode != 0) {
+            System.exit(exitCode);
+        }
+    }
+
+    private int run(Map<String, String> options) throws IOException {
+        Path baselinePath = Path.of(options.getOrDefault("baseline", "perf/baseline.json"));
+        Path reportDirectory = Path.of(options.getOrDefault("report", "build/reports/perf-gate"));
+        ObjectNode baseline = (ObjectNode) objectMapper.readTree(baselinePath.toFile());
+
+        Map<String, Metric> current = new LinkedHashMap<>();
+        readJmh(Path.of(options.getOrDefault("jmh", reportDirectory.resolve("jmh.json").toString())), current);
+        long loadErrors = readLoad(Path.of(options.getOrDefault("load",
+            reportDirectory.resolve("load/summary.json").toString())), current);
+
+        if (Boolean.parseBoolean(options.getOrDefault("update-baseline", "false"))) {
+            writeBaseline(baselinePath, baseline, current);
+            System.out.println("Baseline updated: " + baselinePath.toAbsolutePath() + " (" + current.size() + " metrics, "
+                + describe(environment()) + ")");
+            return 0;
+        }
+
+        Map<Kind, Double> tolerances = new LinkedHashMap<>();
+        for (Kind kind : Kind.values()) {
+            String override = options.get(kind.name().toLowerCase(Locale.ROOT) + "-tolerance");
+            tolerances.put(kind, override != null
+                ? Double.parseDouble(override)
+                : baseline.path("tolerances").path(kind.toleranceKey).asDouble(10.0));
+        }
+
+        JsonNode baselineMetrics = baseline.path("metrics");
+        if (baselineMetrics.size() == 0) {
+            System.err.println("Performance gate failed: " + baselinePath.toAbsolutePath() + " has no metrics. "
+                + "Record one on the reference machine with -PperfGate.updateBaseline=true and commit it.");
+            return 1;
+        }
+
+        List<Comparison> comparisons = compare(current, baselineMetrics, tolerances);
+        long regressions = comparisons.stream().filter(c -> FAILING_VERDICTS.contains(c.verdict())).count();
+        String report = render(comparisons, tolerances, loadErrors, baseline.path("environment"), environment());
+
+        Files.createDirectories(reportDirectory);
+        Files.writeString(reportDirectory.resolve("report.md"), report);
+        objectMapper.writerWithDefaultPrettyPrinter()
+            .writeValue(reportDirectory.resolve("report.json").toFile(), comparisons);
+        System.out.println(report);
+
+        if (regressions > 0 || loadErrors > 0) {
+            System.err.printf("Performance gate failed: %d regressed, missing or new metric(s), %d load error(s). See %s%n",
+                regressions, loadErrors, reportDirectory.resolve("report.md").toAbsolutePath());
+            return 1;
+        }
+        return 0;
+    }
+
+    /**
+     * JMH 결과에서 점수와 연산당 할당량을 읽습니다.
+     * 이름은 패키지를 뺀 벤치마크 이름에 파라미터를 붙인 형태입니다 (예: OrderCreationBenchmark.createOrder[identifiers=10]).
+     */
+    private void readJmh(Path path, Map<String, Metric> metrics) throws IOException {
+        if (!Files.exists(path)) {
+            System.out.println("No JMH results at " + path + ", skipping benchmark comparison");
+            return;
+        }
+        for (JsonNode result : objectMapper.readTree(path.toFile())) {
+            String name = benchmarkName(result);
+            JsonNode primary = result.path("primaryMetric");
+            boolean throughputMode = "thrpt".equals(result.path("mode").asText());
+            metrics.put(name, new Metric(Kind.THROUGHPUT, primary.path("score").asDouble(),
+                primary.path("scoreUnit").asText(), throughputMode));
+
+            Iterator<Map.Entry<String, JsonNode>> secondaries = result.path("secondaryMetrics").fields();
+            while (secondaries.hasNext()) {
+                Map.Entry<String, JsonNode> secondary = secondaries.next();
+                // JMH 버전에 따라 gc 프로파일러 지표 이름 앞에 '·'가 붙음
+                if (secondary.getKey().replace("·", "").equals("gc.alloc.rate.norm")) {
+                    metrics.put(name + " alloc", new Metric(Kind.ALLOCATION,
+                        secondary.getValue().path("score").asDouble(), "B/op", false));
+                }
+            }
+        }
+    }
+
+    private static String benchmarkName(JsonNode result) {
+        String name = result.path("benchmark").asText();
+        name = name.substring(name.lastIndexOf('.', name.lastIndexOf('.') - 1) + 1);
+        JsonNode params = result.path("params");
+        if (params.isObject() && params.size() > 0) {
+            List<String> pairs = new ArrayList<>();
+            params.fields().forEachRemaining(param -> pairs.add(param.getKey() + "=" + param.getValue().asText()));
+            name += "[" + String.join(",", pairs) + "]";
+        }
+        return name;
+    }
+
+    /**
+     * 부하 결과에서 처리량과 단계별 p99를 읽고 에러 수를 반환합니다.
+     */
+    private long readLoad(Path path, Map<String, Metric> metrics) throws IOException {
+        if (!Files.exists(path)) {
+            System.out.println("No load results at " + path + ", skipping load comparison");
+            return 0;
+        }
+        JsonNode summary = objectMapper.readTree(path.toFile());
+        metrics.put("load flowsPerSecond", new Metric(Kind.THROUGHPUT,
+            summary.path("flowsPerSecond").asDouble(), "flows/s", true));
+
+        long errors = 0;
+        Iterator<Map.Entry<String, JsonNode>> steps = summary.path("steps").fields();
+        while (steps.hasNext()) {
+            Map.Entry<String, JsonNode> step = steps.next();
+            errors += step.getValue().path("errors").asLong();
+            metrics.put("load " + step.getKey() + " p99", new Metric(Kind.P99,
+                step.getValue().path("p99Ms").asDouble(), "ms", false));
+        }
+        return errors;
+    }
+
+    private static List<Comparison> compare(Map<String, Metric> current, JsonNode baseline, Map<Kind, Double> tolerances) {
+        List<Comparison> comparisons = new ArrayList<>();
+        current.forEach((name, metric) -> {
+            JsonNode stored = baseline.path(name);
+            if (!stored.has("value")) {
+                comparisons.add(new Comparison(name, metric, null, null, "NEW"));
+                return;
+            }
+            double base = stored.path("value").asDouble();
+            double delta = metric.value() - base;
+            Double changePercent = base != 0 ? delta / base * 100.0 : null;
+            // 나빠지는 방향의 변화량
+            double worse = metric.higherIsBetter() ? -delta : delta;
+            double allowed = Math.abs(base) * tolerances.get(metric.kind()) / 100.0;
+            if (metric.kind() == Kind.ALLOCATION) {
+                allowed = Math.max(allowed, ALLOCATION_SLACK_BYTES);
+            }
+            String verdict = worse > allowed ? "REGRESSION" : (-worse > allowed ? "IMPROVED" : "OK");
+            comparisons.add(new Comparison(name, metric, base, changePercent, verdict));
+        });
+        baseline.fieldNames().forEachRemaining(name -> {
+            if (!current.containsKey(name)) {
+                comparisons.add(new Comparison(name, null, baseline.path(name).path("value").asDouble(), null, "MISSING"));
+            }
+        });
+        return comparisons;
+    }
+
+    private static String render(List<Comparison> comparisons, Map<Kind, Double> tolerances, long loadErrors,
+                                 JsonNode baselineEnvironment, JsonNode currentEnvironment) {
+        StringBuilder report = new StringBuilder();
+        report.append("# Performance gate\n\n");
+        report.append("- Baseline: ").append(describe(baselineEnvironment)).append('\n');
+        report.append("- This run: ").append(describe(currentEnvironment)).append("\n\n");
+        report.append(String.format(Locale.ROOT, "Tolerances: throughput %.1f%%, p99 %.1f%%, allocation %.1f%% (min %.0f B/op)%n%n",
+            tolerances.get(Kind.THROUGHPUT), tolerances.get(Kind.P99), tolerances.get(Kind.ALLOCATION), ALLOCATION_SLACK_BYTES));
+        report.append("| metric | baseline | current | change | verdict |\n");
+        report.append("| --- | ---: | ---: | ---: | --- |\n");
+        for (Comparison comparison : comparisons) {
+            Metric metric = comparison.current();
+            String unit = metric != null ? " " + metric.unit() : "";
+            report.append(String.format(Locale.ROOT, "| %s | %s | %s | %s | %s |%n",
+                comparison.name(),
+                comparison.baseline() != null ? String.format(Locale.ROOT, "%.3f%s", comparison.baseline(), unit) : "-",
+                metric != null ? String.format(Locale.ROOT, "%.3f%s", metric.value(), unit) : "-",
+                comparison.changePercent() != null ? String.format(Locale.ROOT, "%+.1f%%", comparison.changePercent()) : "-",
+                comparison.verdict()));
+        }
+        if (loadErrors > 0) {
+            report.append(String.format(Locale.ROOT, "%nLoad run had %d failed request(s).%n", loadErrors));
+        }
+        if (comparisons.stream().anyMatch(c -> c.verdict().equals("NEW"))) {
+            report.append("\nMetrics marked NEW have no baseline; record one with -PperfGate.updateBaseline=true.\n");
+        }
+        if (comparisons.stream().anyMatch(c -> c.verdict().equals("MISSING"))) {
+            report.append("\nMetrics marked MISSING were not produced by this run; check the benchmark and load results.\n");
+        }
+        return report.toString();
+    }
+
+    /**
+     * 현재 결과로 기준선의 metrics를 교체합니다. 허용 범위 설정은 유지합니다.
+     */
+    private void writeBaseline(Path path, ObjectNode baseline, Map<String, Metric> current) throws IOException {
+        ObjectNode metrics = objectMapper.createObjectNode();
+        current.forEach((name, metric) -> {
+            ObjectNode node = metrics.putObject(name);
+            node.put("kind", metric.kind().name().toLowerCase(Locale.ROOT));
+            node.put("value", metric.value());
+            node.put("unit", metric.unit());
+            node.put("higherIsBetter", metric.higherIsBetter());
+        });
+        baseline.remove("metrics");
+        baseline.set("environment", environment());
+        baseline.set("metrics", metrics);
+        objectMapper.writerWithDefaultPrettyPrinter().writeValue(path.toFile(), baseline);
+    }
+
+    /**
+     * 이번 실행의 JDK와 CPU 정보. 기준선은 같은 장비에서 비교해야 의미가 있으므로 함께 기록합니다.
+     */
+    private static ObjectNode environment() {
+        ObjectNode environment = new ObjectMapper().createObjectNode();
+        environment.put("jdk", System.getProperty("java.vm.name") + " " + System.getProperty("java.runtime.version"));
+        environment.put("os", System.getProperty("os.name") + " " + System.getProperty("os.arch"));
+        environment.put("cpus", Runtime.getRuntime().availableProcessors());
+        environment.put("cpuModel", cpuModel());
+        return environment;
+    }
+
+    private static String cpuModel() {
+        try (Stream<String> lines = Files.lines(Path.of("/proc/cpuinfo"))) {
+            return lines.filter(line -> line.startsWith("model name"))
+                .map(line -> line.substring(line.indexOf(':') + 1).trim())
+                .findFirst()
+                .orElse("unknown");
+        } catch (IOException | RuntimeException e) {
+            return "unknown";
+        }
+    }
+
+    private static String describe(JsonNode environment) {
+        if (environment.isMissingNode() || environment.isEmpty()) {
+            return "not recorded";
+        }
+        return String.format(Locale.ROOT, "%s, %s, %d x %s", environment.path("jdk").asText(),
+            environment.path("os").asText(), environment.path("cpus").asInt(), environment.path("cpuModel").asText());
+    }
+}
@@ -0,0 +1,322 @@
+package com.pca.acme.config;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.management.CompilationMXBean;
+import java.lang.management.ManagementFactory;
+import java.math.BigInteger;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.KeyStore;
+import java.security.Signature;
+import java.security.interfaces.RSAPublicKey;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.net.ssl.SSLContext;
+import javax.net.ssl.TrustManagerFactory;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.availability.AvailabilityChangeEvent;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.env.Environment;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pca.acme.service.AccountService;
+import com.pca.acme.service.NonceService;
+import com.pca.acme.service.OrderService;
+import com.pca.acme.service.RateLimiter;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 기동 직후 JIT 워밍업
+ * 서버가 포트를 연 뒤 readiness를 내린 상태로, 서명한 합성 요청(directory → new-nonce → new-account → new-order)을
+ * 루프백으로 보내 필터, 인터셉터, 컨트롤러 전체 경로를 실행합니다.
+ * 라운드마다 JIT 컴파일 시간 증가분을 보고 컴파일이 잦아들면(또는 최대 시간이 지나면) 종료합니다.
+ * Spring Boot는 ApplicationReadyEvent 리스너가 끝난 뒤 ACCEPTING_TRAFFIC을 발행하므로 그 전까지 readiness는 내려가 있습니다.
+ * 합성 요청이 만든 계정, 주문, 인증, nonce는 흐름마다 바로 제거합니다.
+ * 합성 요청은 RateLimiter의 면제 토큰을 헤더로 보내고 만든 계정을 면제 계정으로 등록하므로 요청 한도에서 빠지며,
+ * 같은 시각 실제 클라이언트의 요청은 평소대로 제한됩니다.
+ *
+ * 리스너는 메인 스레드에서 최대 max-duration-seconds 동안 블로킹합니다. 포트는 이미 열려 있어 요청은 받지만
+ * readiness는 그동안 내려가 있습니다. 빈 등록 조건 대신 실행 시 acme.warmup.enabled를 확인하므로
+ * AOT로 빈 구성이 고정된 빠른 기동 모드에서도 --acme.warmup.enabled=false로 끌 수 있습니다.
+ */
+@Slf4j
+@Component
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@RequiredArgsConstructor
+public class AcmeWarmup {
+
+    private static final Base64.Encoder B64 = Base64.getUrlEncoder().withoutPadding();
+    private static final String JOSE_JSON = "application/jose+json";
+
+    private final AccountService accountService;
+    private final OrderService orderService;
+    private final NonceService nonceService;
+    private final RateLimiter rateLimiter;
+    private final ObjectMapper objectMapper;
+    private final Environment environment;
+    private final ResourceLoader resourceLoader;
+
+    @Value("${acme.warmup.enabled:false}")
+    private boolean enabled;
+
+    @Value("${acme.warmup.max-duration-seconds:60}")
+    private long maxDurationSeconds;
+
+    @Value("${acme.warmup.concurrency:4}")
+    private int concurrency;
+
+    @Value("${acme.warmup.round-size:200}")
+    private int roundSize;
+
+    @Value("${acme.warmup.settle-compile-millis:50}")
+    private long settleCompileMillis;
+
+    @Value("${acme.warmup.settled-rounds:2}")
+    private int settledRounds;
+
+    private final AtomicLong flowCounter = new AtomicLong();
+
+    private volatile String exemptToken;
+
+    @EventListener
+    public void onApplicationReady(ApplicationReadyEvent event) {
+        if (!enabled) {
+            return;
+        }
+        ApplicationContext context = event.getApplicationContext();
+        if (!(context instanceof WebServerApplicationContext webContext) || webContext.getWebServer() == null
+                || webContext.getWebServer().getPort() <= 0) {
+            // MockMvc 테스트처럼 실제 서버가 없으면 워밍업하지 않음
+            return;
+        }
+
+        AvailabilityChangeEvent.publish(context, ReadinessState.REFUSING_TRAFFIC);
+        exemptToken = rateLimiter.beginExemption();
+        try {
+            warmUp(webContext.getWebServer().getPort());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            // 워밍업 실패가 기동을 막지는 않음
+            log.warn("ACME warm-up aborted: {}", e.toString());
+        } finally {
+            rateLimiter.endExemption();
+        }
+    }
+
+    private void warmUp(int port) throws Exception {
+        boolean https = environment.containsProperty("server.ssl.key-store")
+            && environment.getProperty("server.ssl.enabled", Boolean.class, true);
+        String baseUrl = (https ? "https" : "http") + "://localhost:" + port + "/acme";
+
+        HttpClient.Builder builder = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(5));
+        if (https) {
+            builder.sslContext(serverTrustContext());
+        }
+        HttpClient http = builder.build();
+
+        // 워커 스레드마다 키 하나를 씀. 계정은 흐름마다 지우므로 같은 키로도 항상 새 계정 생성 경로를 탐
+        ThreadLocal<KeyPair> keys = ThreadLocal.withInitial(AcmeWarmup::generateKeyPair);
+
+        CompilationMXBean compilation = ManagementFactory.getCompilationMXBean();
+        boolean compileTimeSupported = compilation != null && compilation.isCompilationTimeMonitoringSupported();
+        long deadline = System.nanoTime() + Duration.ofSeconds(maxDurationSeconds).toNanos();
+        long started = System.nanoTime();
+        int rounds = 0;
+        int quietRounds = 0;
+
+        try (ExecutorService workers = Executors.newFixedThreadPool(concurrency)) {
+            while (System.nanoTime() < deadline) {
+                long compileBefore = compileTimeSupported ? compilation.getTotalCompilationTime() : 0;
+
+                List<Future<?>> flows = new ArrayList<>(roundSize);
+                for (int i = 0; i < roundSize; i++) {
+                    flows.add(workers.submit(() -> {
+                        runFlow(http, baseUrl, keys.get());
+                        return null;
+                    }));
+                }
+                for (Future<?> flow : flows) {
+                    flow.get();
+                }
+                rounds++;
+
+                if (!compileTimeSupported) {
+                    continue;
+                }
+                long compileMillis = compilation.getTotalCompilationTime() - compileBefore;
+                log.debug("ACME warm-up round {}: {} ms JIT compilation", rounds, compileMillis);
+                quietRounds = compileMillis < settleCompileMillis ? quietRounds + 1 : 0;
+                if (quietRounds >= settledRounds) {
+                    break;
+                }
+            }
+        }
+
+        log.info("ACME warm-up finished: {} rounds, {} flows in {} ms (compilation {})",
+            rounds, flowCounter.get(), Duration.ofNanos(System.nanoTime() - started).toMillis(),
+            quietRounds >= settledRounds ? "settled" : "still active at time limit");
+    }
+
+    /**
+     * 합성 클라이언트 흐름 하나를 실행하고 남은 레코드를 정리합니다.
+     */
+    private void runFlow(HttpClient http, String baseUrl, KeyPair key) throws IOException, InterruptedException {
+        long flow = flowCounter.incrementAndGet();
+        String nonce = null;
+        String accountId = null;
+        String orderId = null;
+        try {
+            send(http, HttpRequest.newBuilder(URI.create(baseUrl + "/directory")).GET());
+
+            HttpResponse<String> response = send(http, HttpRequest.newBuilder(URI.create(baseUrl + "/new-nonce"))
+                .method("HEAD", HttpRequest.BodyPublishers.noBody()));
+            nonce = response.headers().firstValue("Replay-Nonce").orElse(nonce);
+
+            String newAccountUrl = baseUrl + "/new-account";
+            Map<String, Object> accountHeader = header(newAccountUrl, nonce);
+            accountHeader.put("jwk", jwk(key));
+            response = post(http, newAccountUrl, sign(key, accountHeader, Map.of(
+                "termsOfServiceAgreed", true,
+                "contact", List.of("mailto:warmup-" + flow + "@example.com"))));
+            nonce = response.headers().firstValue("Replay-Nonce").orElse(nonce);
+            String kid = response.headers().firstValue("Location").orElse(null);
+            if (response.statusCode() >= 400 || kid == null) {
+                return;
+            }
+            accountId = lastSegment(kid);
+            rateLimiter.exemptAccount(accountId);
+
+            String newOrderUrl = baseUrl + "/new-order";
+            Map<String, Object> orderHeader = header(newOrderUrl, nonce);
+            orderHeader.put("kid", kid);
+            response = post(http, newOrderUrl, sign(key, orderHeader, Map.of("identifiers", List.of(
+                Map.of("type", "dns", "value", "warmup-" + flow + ".example.com"),
+                Map.of("type", "dns", "value", "www.warmup-" + flow + ".example.com")))));
+            nonce = response.headers().firstValue("Replay-Nonce").orElse(nonce);
+            orderId = response.headers().firstValue("Location").map(AcmeWarmup::lastSegment).orElse(null);
+        } finally {
+            if (orderId != null) {
+                orderService.removeOrder(orderId);
+            }
+            if (accountId != null) {
+                rateLimiter.releaseAccount(accountId);
+                accountService.removeAccount(accountId);
+            }
+            // 소비되지 않은 마지막 nonce 정리 (이미 소비된 값이면 아무 일도 없음)
+            if (nonce != null) {
+                nonceService.validateAndConsumeNonce(nonce);
+            }
+        }
+    }
+
+    private HttpResponse<String> send(HttpClient http, HttpRequest.Builder request) throws IOException, InterruptedException {
+        return http.send(request.header(RateLimiter.EXEMPT_HEADER, exemptToken).build(), HttpResponse.BodyHandlers.ofString());
+    }
+
+    private HttpResponse<String> post(HttpClient http, String url, String jws) throws IOException, InterruptedException {
+        return send(http, HttpRequest.newBuilder(URI.create(url))
+            .header("Content-Type", JOSE_JSON)
+            .POST(HttpRequest.BodyPublishers.ofString(jws)));
+    }
+
+    private static Map<String, Object> header(String url, String nonce) {
+        Map<String, Object> header = new LinkedHashMap<>();
+        header.put("alg", "RS256");
+        header.put("nonce", nonce);
+        header.put("url", url);
+        return header;
+    }
+
+    private static Map<String, Object> jwk(KeyPair key) {
+        RSAPublicKey publicKey = (RSAPublicKey) key.getPublic();
+        Map<String, Object> jwk = new LinkedHashMap<>();
+        jwk.put("e", B64.encodeToString(unsigned(publicKey.getPublicExponent())));
+        jwk.put("kty", "RSA");
+        jwk.put("n", B64.encodeToString(unsigned(publicKey.getModulus())));
+        return jwk;
+    }
+
+    /**
+     * RS256으로 서명한 Flattened JSON JWS를 만듭니다.
+     */
+    private String sign(KeyPair key, Map<String, Object> header, Object payload) throws IOException {
+        String protectedB64 = B64.encodeToString(objectMapper.writeValueAsBytes(header));
+        String payloadB64 = B64.encodeToString(objectMapper.writeValueAsBytes(payload));
+        try {
+            Signature signature = Signature.getInstance("SHA256withRSA");
+            signature.initSign(key.getPrivate());
+            signature.update((protectedB64 + "." + payloadB64).getBytes(StandardCharsets.US_ASCII));
+            return objectMapper.writeValueAsString(Map.of(
+                "protected", protectedB64,
+                "payload", payloadB64,
+                "signature", B64.encodeToString(signature.sign())));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Warm-up JWS signing failed", e);
+        }
+    }
+
+    private static KeyPair generateKeyPair() {
+        try {
+            KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+            generator.initialize(2048);
+            return generator.generateKeyPair();
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Warm-up key generation failed", e);
+        }
+    }
+
+    /**
+     * 서버 자신의 키 스토어 인증서만 신뢰하는 TLS 컨텍스트 (루프백 전용)
+     */
+    private SSLContext serverTrustContext() throws IOException, GeneralSecurityException {
+        String password = environment.getProperty("server.ssl.key-store-password", "");
+        KeyStore keyStore = KeyStore.getInstance(environment.getProperty("server.ssl.key-store-type", "PKCS12"));
+        try (InputStream in = resourceLoader.getResource(environment.getProperty("server.ssl.key-store")).getInputStream()) {
+            keyStore.load(in, password.toCharArray());
+        }
+        TrustManagerFactory trustManagers = TrustManagerFactory.getInstance(TrustManagerFactory.getDefaultAlgorithm());
+        trustManagers.init(keyStore);
+        SSLContext context = SSLContext.getInstance("TLS");
+        context.init(null, trustManagers.getTrustManagers(), null);
+        return context;
+    }
+
+    private static String lastSegment(String url) {
+        return url.substring(url.lastIndexOf('/') + 1);
+    }
+
+    private static byte[] unsigned(BigInteger value) {
+        byte[] bytes = value.toByteArray();
+        return bytes.length > 1 && bytes[0] == 0 ? Arrays.copyOfRange(bytes, 1, bytes.length) : bytes;
+    }
+}
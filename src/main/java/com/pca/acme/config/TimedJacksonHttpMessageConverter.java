@@ -0,0 +1,32 @@
+package com.pca.acme.config;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pca.acme.metrics.AcmeMetrics;
+
+/**
+ * 응답 본문 JSON 직렬화 시간을 acme.stage{stage=serialize} 타이머로 기록하는 Jackson 컨버터
+ */
+public class TimedJacksonHttpMessageConverter extends MappingJackson2HttpMessageConverter {
+
+    private final AcmeMetrics metrics;
+
+    public TimedJacksonHttpMessageConverter(ObjectMapper objectMapper, AcmeMetrics metrics) {
+        super(objectMapper);
+        this.metrics = metrics;
+    }
+
+    @Override
+    protected void writeInternal(Object object, Type type, HttpOutputMessage outputMessage)
+            throws IOException, HttpMessageNotWritableException {
+        long start = metrics.start();
+        super.writeInternal(object, type, outputMessage);
+        metrics.stop(AcmeMetrics.Stage.SERIALIZE, start);
+    }
+}
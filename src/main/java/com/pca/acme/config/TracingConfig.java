@@ -0,0 +1,28 @@
+package com.pca.acme.config;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.pca.acme.tracing.FileSpanExporter;
+
+/**
+ * 추적 설정
+ * acme.tracing.file.enabled=true이면 완료된 span을 JSON Lines 파일로 내보냅니다.
+ * SpanExporter 빈은 Spring Boot의 OpenTelemetry 자동 설정이 BatchSpanProcessor에 등록합니다.
+ */
+@Configuration
+public class TracingConfig {
+
+    @Bean(destroyMethod = "")
+    @ConditionalOnProperty(name = "acme.tracing.file.enabled", havingValue = "true")
+    public FileSpanExporter fileSpanExporter(
+            @Value("${acme.tracing.file.path:build/traces/acme-spans.jsonl}") String path) throws IOException {
+        // 종료 시 BatchSpanProcessor가 남은 span을 내보낸 뒤 shutdown을 호출하므로 빈 소멸 콜백은 쓰지 않음
+        return new FileSpanExporter(Path.of(path));
+    }
+}
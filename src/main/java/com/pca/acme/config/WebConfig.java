@@ -1,22 +1,49 @@
 package com.pca.acme.config;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pca.acme.filter.AcmeFastPathFilter;
+import com.pca.acme.filter.AdmissionControlFilter;
+import com.pca.acme.filter.RateLimitFilter;
 import com.pca.acme.interceptor.JwsValidationInterceptor;
 import com.pca.acme.interceptor.NonceValidationInterceptor;
+import com.pca.acme.metrics.AcmeMetrics;
+import com.pca.acme.service.AdmissionController;
+import com.pca.acme.service.DirectoryService;
+import com.pca.acme.service.NonceService;
+import com.pca.acme.service.RateLimiter;
 import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
 import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
 /**
  * 웹 설정 클래스
  * JWS 검증 및 Nonce 검증 인터셉터 등록
+ * new-nonce, new-account IP별 요청 한도 필터 등록
+ * new-nonce, directory 고속 경로 필터 등록
+ * new-account, new-order 부하 차단 필터 등록
+ * JSON 직렬화 시간 측정 컨버터 등록
  */
 @Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 @RequiredArgsConstructor
 public class WebConfig implements WebMvcConfigurer {
 
     private final JwsValidationInterceptor jwsValidationInterceptor;
     private final NonceValidationInterceptor nonceValidationInterceptor;
+    private final ObjectMapper objectMapper;
+    private final AcmeMetrics metrics;
 
     @Override
     public void addInterceptors(InterceptorRegistry registry) {
@@ -34,4 +61,61 @@ public class WebConfig implements WebMvcConfigurer {
                 .addPathPatterns("/acme/**")  // ACME 경로에만 적용
                 .order(2);
     }
-} 
\ No newline at end of file
+
+    /**
+     * 기본 Jackson 컨버터를 직렬화 시간을 기록하는 컨버터로 바꿉니다.
+     */
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        for (int i = 0; i < converters.size(); i++) {
+            if (converters.get(i) instanceof MappingJackson2HttpMessageConverter) {
+                converters.set(i, new TimedJacksonHttpMessageConverter(objectMapper, metrics));
+            }
+        }
+    }
+
+    /**
+     * new-nonce, new-account를 클라이언트 IP별로 제한하는 필터
+     * 고속 경로 필터보다 앞, 관측 필터(HIGHEST_PRECEDENCE + 1) 바로 뒤에 두어 거절도 http.server.requests에 집계됩니다.
+     */
+    @Bean
+    @ConditionalOnProperty(name = "acme.rate-limit.enabled", havingValue = "true", matchIfMissing = true)
+    public FilterRegistrationBean<RateLimitFilter> rateLimitFilter(RateLimiter rateLimiter,
+            @Value("${acme.rate-limit.ipv6-prefix-length:64}") int ipv6PrefixLength) {
+        FilterRegistrationBean<RateLimitFilter> registration =
+            new FilterRegistrationBean<>(new RateLimitFilter(rateLimiter, metrics, ipv6PrefixLength));
+        registration.addUrlPatterns("/acme/new-nonce", "/acme/new-account");
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 2);
+        return registration;
+    }
+
+    /**
+     * new-nonce와 directory를 DispatcherServlet 앞에서 바로 응답하는 필터
+     * acme.fast-path.enabled=false이면 기존 컨트롤러 경로로 처리됩니다.
+     * http.server.requests 타이머에 포함되도록 관측 필터(HIGHEST_PRECEDENCE + 1)와 요청 한도 필터 뒤에 둡니다.
+     */
+    @Bean
+    @ConditionalOnProperty(name = "acme.fast-path.enabled", havingValue = "true", matchIfMissing = true)
+    public FilterRegistrationBean<AcmeFastPathFilter> acmeFastPathFilter(NonceService nonceService,
+                                                                         DirectoryService directoryService) {
+        FilterRegistrationBean<AcmeFastPathFilter> registration =
+            new FilterRegistrationBean<>(new AcmeFastPathFilter(nonceService, directoryService));
+        registration.addUrlPatterns("/acme/new-nonce", "/acme/directory");
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 3);
+        return registration;
+    }
+
+    /**
+     * new-account, new-order를 JWS 검증과 nonce 소비 전에 부하 차단하는 필터
+     * 고속 경로 필터 뒤에 두어 new-nonce, directory는 이 필터에 닿지 않습니다.
+     */
+    @Bean
+    @ConditionalOnProperty(name = "acme.admission.enabled", havingValue = "true", matchIfMissing = true)
+    public FilterRegistrationBean<AdmissionControlFilter> admissionControlFilter(AdmissionController admissionController) {
+        FilterRegistrationBean<AdmissionControlFilter> registration =
+            new FilterRegistrationBean<>(new AdmissionControlFilter(admissionController, metrics));
+        registration.addUrlPatterns("/acme/new-account", "/acme/new-order");
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 4);
+        return registration;
+    }
+}
@@ -1,13 +1,17 @@
 package com.pca.acme.controller;
 
+import java.io.IOException;
+import java.util.Base64;
 import java.util.Map;
 
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.CrossOrigin;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestMethod;
@@ -16,40 +20,60 @@ import org.springframework.web.bind.annotation.RestController;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.pca.acme.dto.account.AccountRequest;
 import com.pca.acme.dto.account.AccountResponse;
-import com.pca.acme.dto.directory.DirectoryResponse;
+import com.pca.acme.dto.order.FinalizeRequest;
 import com.pca.acme.dto.order.OrderRequest;
 import com.pca.acme.dto.order.OrderResponse;
+import com.pca.acme.exception.AcmeErrorType;
+import com.pca.acme.exception.AcmeProblem;
+import com.pca.acme.jfr.AcmeRequestEvent;
 import com.pca.acme.model.Order;
 import com.pca.acme.service.AccountService;
+import com.pca.acme.service.CertificateStore;
 import com.pca.acme.service.DirectoryService;
+import com.pca.acme.service.FinalizeService;
 import com.pca.acme.service.NonceService;
 import com.pca.acme.service.OrderService;
+import com.pca.acme.tracing.AcmeTracing;
 
+import io.micrometer.observation.annotation.Observed;
 import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 
 @RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 @RequiredArgsConstructor
 @RequestMapping("/acme")
 @CrossOrigin(origins = "*")
 public class ACMEController {
 
+    private static final String PEM_CERTIFICATE_CHAIN = "application/pem-certificate-chain";
+
     private final DirectoryService directoryService;
     private final NonceService nonceService;
     private final AccountService accountService;
     private final OrderService orderService;
+    private final FinalizeService finalizeService;
+    private final CertificateStore certificateStore;
     private final ObjectMapper objectMapper;
+    private final AcmeTracing tracing;
 
     /**
      * RFC 8555 §7.1 Directory 엔드포인트
      * ACME 클라이언트가 처음 호출해야 하는 엔드포인트
+     * 미리 직렬화된 문서를 그대로 반환하며, If-None-Match가 ETag와 일치하면 304를 반환합니다.
      */
     @GetMapping(
         value = "/directory",
         produces = MediaType.APPLICATION_JSON_VALUE
     )
-    public DirectoryResponse directory() {
-        return directoryService.getDirectory();
+    public ResponseEntity<byte[]> directory() {
+        DirectoryService.DirectoryDocument document = directoryService.getDocument();
+        return ResponseEntity.ok()
+            .contentType(MediaType.APPLICATION_JSON)
+            .eTag(document.getETag())
+            .header(HttpHeaders.CACHE_CONTROL, document.getCacheControl())
+            .body(document.getBody());
     }
 
     /**
@@ -86,11 +110,13 @@ public class ACMEController {
      * RFC 8555 §7.3 NewAccount 엔드포인트
      * 새 계정 생성 또는 기존 계정 조회
      */
+    @Observed(name = "acme.handler", contextualName = "new-account", lowCardinalityKeyValues = {"acme.endpoint", "new-account"})
     @PostMapping(
         value = "/new-account",
         produces = MediaType.APPLICATION_JSON_VALUE
     )
     public ResponseEntity<AccountResponse> newAccount(HttpServletRequest request) {
+        AcmeRequestEvent event = AcmeRequestEvent.begin("new-account");
         try {
             // 1. JWS 헤더에서 JWK 추출
             @SuppressWarnings("unchecked")
@@ -108,6 +134,8 @@ public class ACMEController {
 
             // 4. 계정 생성 또는 조회
             AccountResponse accountResponse = accountService.createOrGetAccount(accountRequest, jwk);
+            event.setAccountId(accountResponse.getAccountId());
+            tracing.tag(AcmeTracing.ACCOUNT_ID, accountResponse.getAccountId());
 
             // 5. 응답 헤더 설정
             HttpHeaders headers = new HttpHeaders();
@@ -116,13 +144,15 @@ public class ACMEController {
 
             // 6. 기존 계정이면 200 OK, 새 계정이면 201 Created
             HttpStatus status = isExistingAccount ? HttpStatus.OK : HttpStatus.CREATED;
-            return ResponseEntity.status(status).headers(headers).body(accountResponse);
+            return event.complete(ResponseEntity.status(status).headers(headers).body(accountResponse));
 
-        } catch (IllegalArgumentException e) {
-            // 비즈니스 로직 에러는 GlobalExceptionHandler에서 처리
+        } catch (RuntimeException e) {
+            // 비즈니스 로직 에러(AcmeProblem 등)는 GlobalExceptionHandler에서 처리
+            event.fail(e);
             throw e;
         } catch (Exception e) {
             // 기타 에러
+            event.fail(e);
             throw new RuntimeException("Account creation failed: " + e.getMessage(), e);
         }
     }
@@ -131,26 +161,18 @@ public class ACMEController {
      * ACME NewOrder API
      * RFC 8555 §7.4 Order Objects 구현
      */
+    @Observed(name = "acme.handler", contextualName = "new-order", lowCardinalityKeyValues = {"acme.endpoint", "new-order"})
     @PostMapping(
         value = "/new-order",
         produces = MediaType.APPLICATION_JSON_VALUE
     )
     public ResponseEntity<OrderResponse> newOrder(HttpServletRequest request) {
+        AcmeRequestEvent event = AcmeRequestEvent.begin("new-order");
         try {
-            // JWS 헤더에서 kid 추출
-            @SuppressWarnings("unchecked")
-            Map<String, Object> jwsHeader = (Map<String, Object>) request.getAttribute("jwsHeader");
-            String kidUrl = (String) jwsHeader.get("kid");
-
-            if (kidUrl == null) {
-                throw new IllegalArgumentException("Missing 'kid' field in JWS header for new order");
-            }
-
-            // 계정 존재 확인
-            String accountId = extractAccountIdFromKidUrl(kidUrl);
-            if (accountService.getAccountById(accountId) == null) {
-                throw new RuntimeException("Account not found: " + kidUrl);
-            }
+            // JWS 헤더의 kid로 계정 존재 확인
+            String accountId = resolveAccountId(request);
+            event.setAccountId(accountId);
+            tracing.tag(AcmeTracing.ACCOUNT_ID, accountId);
 
             // JWS 페이로드 파싱
             String jwsPayload = (String) request.getAttribute("jwsPayload");
@@ -158,6 +180,7 @@ public class ACMEController {
 
             // 주문 생성
             Order order = orderService.createOrder(accountId, orderRequest);
+            tracing.tag(AcmeTracing.ORDER_ID, order.getOrderId());
             OrderResponse response = orderService.toOrderResponse(order);
 
             // 응답 생성
@@ -167,17 +190,183 @@ public class ACMEController {
             headers.add("Location", orderUrl);
             headers.add("Replay-Nonce", nonceService.createNonce());
 
-            return ResponseEntity.status(HttpStatus.CREATED).headers(headers).body(response);
+            return event.complete(ResponseEntity.status(HttpStatus.CREATED).headers(headers).body(response));
 
-        } catch (IllegalArgumentException e) {
-            throw e;
-        } catch (UnsupportedOperationException e) {
+        } catch (RuntimeException e) {
+            event.fail(e);
             throw e;
         } catch (Exception e) {
+            event.fail(e);
             throw new RuntimeException("Order creation failed: " + e.getMessage(), e);
         }
     }
 
+    /**
+     * ACME Order 조회 API (POST-as-GET)
+     * RFC 8555 §7.1.3 Order Objects, §7.4 finalize 이후 상태 폴링
+     */
+    @Observed(name = "acme.handler", contextualName = "order", lowCardinalityKeyValues = {"acme.endpoint", "order"})
+    @PostMapping(
+        value = "/order/{orderId}",
+        produces = MediaType.APPLICATION_JSON_VALUE
+    )
+    public ResponseEntity<OrderResponse> getOrder(@PathVariable String orderId, HttpServletRequest request) {
+        AcmeRequestEvent event = AcmeRequestEvent.begin("order");
+        try {
+            String accountId = resolveAccountId(request);
+            event.setAccountId(accountId);
+            tracing.tag(AcmeTracing.ACCOUNT_ID, accountId);
+            tracing.tag(AcmeTracing.ORDER_ID, orderId);
+
+            Order order = orderService.getOrder(orderId);
+            if (order == null || !order.getAccountId().equals(accountId)) {
+                throw new AcmeProblem(AcmeErrorType.MALFORMED, HttpStatus.NOT_FOUND, "Order not found: " + orderId);
+            }
+
+            HttpHeaders headers = new HttpHeaders();
+            headers.add("Replay-Nonce", nonceService.createNonce());
+            if (order.getStatus() == Order.OrderStatus.PROCESSING) {
+                headers.add("Retry-After", String.valueOf(finalizeService.getRetryAfterSeconds()));
+            }
+
+            return event.complete(ResponseEntity.ok().headers(headers).body(orderService.toOrderResponse(order)));
+
+        } catch (RuntimeException e) {
+            event.fail(e);
+            throw e;
+        }
+    }
+
+    /**
+     * ACME Finalize API
+     * RFC 8555 §7.4 Applying for Certificate Issuance
+     * CSR 처리는 비동기로 진행되며, 응답의 Retry-After 이후 주문 URL을 폴링합니다.
+     */
+    @Observed(name = "acme.handler", contextualName = "finalize", lowCardinalityKeyValues = {"acme.endpoint", "finalize"})
+    @PostMapping(
+        value = "/order/{orderId}/finalize",
+        produces = MediaType.APPLICATION_JSON_VALUE
+    )
+    public ResponseEntity<OrderResponse> finalizeOrder(@PathVariable String orderId, HttpServletRequest request) {
+        AcmeRequestEvent event = AcmeRequestEvent.begin("finalize");
+        try {
+            String accountId = resolveAccountId(request);
+            event.setAccountId(accountId);
+            tracing.tag(AcmeTracing.ACCOUNT_ID, accountId);
+            tracing.tag(AcmeTracing.ORDER_ID, orderId);
+
+            // JWS 페이로드에서 CSR 추출
+            String jwsPayload = (String) request.getAttribute("jwsPayload");
+            FinalizeRequest finalizeRequest = objectMapper.readValue(jwsPayload, FinalizeRequest.class);
+            if (finalizeRequest.getCsr() == null || finalizeRequest.getCsr().isEmpty()) {
+                throw new AcmeProblem(AcmeErrorType.MALFORMED, "Missing 'csr' field");
+            }
+
+            byte[] csrDer;
+            try {
+                csrDer = Base64.getUrlDecoder().decode(finalizeRequest.getCsr());
+            } catch (IllegalArgumentException e) {
+                throw new AcmeProblem(AcmeErrorType.BAD_CSR, "Invalid CSR: not base64url encoded");
+            }
+
+            // 가벼운 검사 후 processing 전이 및 큐 등록
+            Order order = finalizeService.submit(accountId, orderId, csrDer);
+
+            HttpHeaders headers = new HttpHeaders();
+            headers.add("Location", orderService.getOrderUrl(orderId));
+            headers.add("Replay-Nonce", nonceService.createNonce());
+            headers.add("Retry-After", String.valueOf(finalizeService.getRetryAfterSeconds()));
+
+            return event.complete(ResponseEntity.ok().headers(headers).body(orderService.toOrderResponse(order)));
+
+        } catch (RuntimeException e) {
+            event.fail(e);
+            throw e;
+        } catch (Exception e) {
+            event.fail(e);
+            throw new RuntimeException("Order finalization failed: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * ACME Certificate 다운로드 API (POST-as-GET)
+     * RFC 8555 §7.4.2 Downloading the Certificate
+     */
+    @Observed(name = "acme.handler", contextualName = "cert", lowCardinalityKeyValues = {"acme.endpoint", "cert"})
+    @PostMapping("/cert/{certificateId}")
+    public void downloadCertificate(@PathVariable String certificateId, HttpServletRequest request,
+                                    HttpServletResponse response) throws IOException {
+        writeCertificate(certificateId, 0, request, response);
+    }
+
+    /**
+     * 대체 체인 다운로드 API (POST-as-GET)
+     * 기본 응답의 Link: rel="alternate" 헤더로 안내됩니다.
+     */
+    @Observed(name = "acme.handler", contextualName = "cert", lowCardinalityKeyValues = {"acme.endpoint", "cert"})
+    @PostMapping("/cert/{certificateId}/{chainIndex}")
+    public void downloadAlternateCertificate(@PathVariable String certificateId, @PathVariable int chainIndex,
+                                             HttpServletRequest request, HttpServletResponse response) throws IOException {
+        writeCertificate(certificateId, chainIndex, request, response);
+    }
+
+    /**
+     * 저장된 PEM 체인을 다시 인코딩하지 않고 응답 본문으로 그대로 전송합니다.
+     */
+    private void writeCertificate(String certificateId, int chainIndex, HttpServletRequest request,
+                                  HttpServletResponse response) throws IOException {
+        AcmeRequestEvent event = AcmeRequestEvent.begin("cert");
+        try {
+            String accountId = resolveAccountId(request);
+            event.setAccountId(accountId);
+            tracing.tag(AcmeTracing.ACCOUNT_ID, accountId);
+            tracing.tag(AcmeTracing.CERTIFICATE_ID, certificateId);
+
+            CertificateStore.StoredCertificate certificate = certificateStore.getCertificate(certificateId);
+            if (certificate == null || !certificate.getAccountId().equals(accountId)
+                || chainIndex < 0 || chainIndex >= certificate.getChainCount()) {
+                throw new AcmeProblem(AcmeErrorType.MALFORMED, HttpStatus.NOT_FOUND, "Certificate not found: " + certificateId);
+            }
+
+            response.setStatus(HttpServletResponse.SC_OK);
+            response.setContentType(PEM_CERTIFICATE_CHAIN);
+            response.setContentLengthLong(certificate.getContentLength(chainIndex));
+            response.setHeader("Replay-Nonce", nonceService.createNonce());
+            response.addHeader("Link", "<" + nonceService.getDirectoryUrl() + ">;rel=\"index\"");
+            for (int i = 0; i < certificate.getChainCount(); i++) {
+                if (i != chainIndex) {
+                    response.addHeader("Link",
+                        "<" + certificateStore.getCertificateUrl(certificateId, i) + ">;rel=\"alternate\"");
+                }
+            }
+
+            certificateStore.writeTo(certificate, chainIndex, response.getOutputStream());
+            event.complete(HttpServletResponse.SC_OK);
+
+        } catch (IOException | RuntimeException e) {
+            event.fail(e);
+            throw e;
+        }
+    }
+
+    /**
+     * JWS 헤더의 kid로 요청 계정을 확인하고 계정 ID를 반환합니다.
+     */
+    private String resolveAccountId(HttpServletRequest request) {
+        @SuppressWarnings("unchecked")
+        Map<String, Object> jwsHeader = (Map<String, Object>) request.getAttribute("jwsHeader");
+        String kidUrl = (String) jwsHeader.get("kid");
+        if (kidUrl == null) {
+            throw new AcmeProblem(AcmeErrorType.MALFORMED, "Missing 'kid' field in JWS header");
+        }
+
+        String accountId = extractAccountIdFromKidUrl(kidUrl);
+        if (accountId == null || accountService.getAccountById(accountId) == null) {
+            throw new AcmeProblem(AcmeErrorType.ACCOUNT_DOES_NOT_EXIST, "Account not found: " + kidUrl);
+        }
+        return accountId;
+    }
+
     /**
      * kid URL에서 계정 ID를 추출합니다.
      */
@@ -1,98 +1,56 @@
 package com.pca.acme.controller;
 
-import java.util.Map;
-
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.http.HttpHeaders;
-import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.HttpRequestMethodNotSupportedException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 
+import com.pca.acme.exception.AcmeProblem;
+import com.pca.acme.exception.RateLimitedProblem;
+import com.pca.acme.metrics.AcmeMetrics;
 import com.pca.acme.service.NonceService;
 
 import lombok.RequiredArgsConstructor;
 
 @RestControllerAdvice
 @RequiredArgsConstructor
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 public class GlobalExceptionHandler {
 
     private final NonceService nonceService;
+    private final AcmeMetrics metrics;
 
     @ExceptionHandler(HttpRequestMethodNotSupportedException.class)
     public ResponseEntity<String> handleMethodNotAllowed(HttpRequestMethodNotSupportedException ex) {
         return ResponseEntity.status(405).body("Method Not Allowed");
     }
 
-    @ExceptionHandler(IllegalArgumentException.class)
-    public ResponseEntity<Map<String, Object>> handleIllegalArgument(IllegalArgumentException ex) {
-        HttpHeaders headers = new HttpHeaders();
-        headers.add("Replay-Nonce", nonceService.createNonce());
-        headers.add("Content-Type", "application/problem+json;charset=UTF-8");
-
-        String message = ex.getMessage();
-        String errorType = "malformed";
-
-        // 에러 메시지에 따라 적절한 ACME 에러 타입 결정
-        if (message.contains("Terms of service")) {
-            errorType = "userActionRequired";
-        } else if (message.contains("Invalid contact")) {
-            errorType = "invalidContact";
-        }
-
-        Map<String, Object> errorResponse = Map.of(
-            "type", "urn:ietf:params:acme:error:" + errorType,
-            "detail", message,
-            "status", 400
-        );
-
-        return ResponseEntity.status(HttpStatus.BAD_REQUEST).headers(headers).body(errorResponse);
-    }
-
     /**
-     * UnsupportedOperationException 처리 (지원하지 않는 식별자 타입 등)
-     */
-    @ExceptionHandler(UnsupportedOperationException.class)
-    public ResponseEntity<Map<String, Object>> handleUnsupportedOperation(UnsupportedOperationException ex) {
-        HttpHeaders headers = new HttpHeaders();
-        headers.add("Replay-Nonce", nonceService.createNonce());
-        headers.add("Content-Type", "application/problem+json;charset=UTF-8");
-
-        Map<String, Object> errorResponse = Map.of(
-            "type", "urn:ietf:params:acme:error:unsupportedIdentifier",
-            "detail", ex.getMessage(),
-            "status", 400
-        );
-
-        return ResponseEntity.status(HttpStatus.BAD_REQUEST).headers(headers).body(errorResponse);
-    }
-
-    /**
-     * RuntimeException 처리 (계정 없음 등)
+     * AcmeProblem은 가지고 있는 타입과 상태 그대로, 그 밖의 RuntimeException은
+     * AcmeProblem.of 규칙(malformed, unsupportedIdentifier, serverInternal)으로 응답합니다.
+     * 본문은 미리 인코딩된 템플릿으로 만들어 Jackson 직렬화를 거치지 않습니다.
+     * 요청 한도 초과(RateLimitedProblem)에는 Retry-After를 붙입니다.
+     * 논스 발급 자체가 실패한 경우에는 Replay-Nonce 없이 응답합니다.
      */
     @ExceptionHandler(RuntimeException.class)
-    public ResponseEntity<Map<String, Object>> handleRuntimeException(RuntimeException ex) {
-        HttpHeaders headers = new HttpHeaders();
-        headers.add("Replay-Nonce", nonceService.createNonce());
-        headers.add("Content-Type", "application/problem+json;charset=UTF-8");
-
-        String message = ex.getMessage();
-        String errorType = "serverInternal";
-        HttpStatus status = HttpStatus.INTERNAL_SERVER_ERROR;
+    public ResponseEntity<byte[]> handleRuntimeException(RuntimeException ex) {
+        AcmeProblem problem = AcmeProblem.of(ex);
+        metrics.error(problem.getType());
 
-        // 계정 없음 에러 처리
-        if (message != null && message.contains("Account not found")) {
-            errorType = "accountDoesNotExist";
-            status = HttpStatus.NOT_FOUND;
+        HttpHeaders headers = new HttpHeaders();
+        try {
+            headers.add("Replay-Nonce", nonceService.createNonce());
+        } catch (RuntimeException nonceFailure) {
+            // 원래 에러를 그대로 응답하고, 클라이언트는 new-nonce로 다시 받습니다
+        }
+        headers.add("Content-Type", AcmeProblem.PROBLEM_JSON);
+        if (problem instanceof RateLimitedProblem rateLimited) {
+            headers.add("Retry-After", String.valueOf(rateLimited.getRetryAfterSeconds()));
         }
 
-        Map<String, Object> errorResponse = Map.of(
-            "type", "urn:ietf:params:acme:error:" + errorType,
-            "detail", message,
-            "status", status.value()
-        );
-
-        return ResponseEntity.status(status).headers(headers).body(errorResponse);
+        return ResponseEntity.status(problem.getStatus()).headers(headers).body(problem.toJson());
     }
 
     @ExceptionHandler(Exception.class)
@@ -0,0 +1,19 @@
+package com.pca.acme.dto.order;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import lombok.Data;
+
+/**
+ * ACME Finalize API 요청 DTO
+ * RFC 8555 §7.4 Applying for Certificate Issuance
+ */
+@Data
+public class FinalizeRequest {
+
+    /**
+     * base64url 인코딩된 DER 형식 PKCS#10 CSR
+     */
+    @JsonProperty("csr")
+    private String csr;
+}
@@ -4,6 +4,7 @@ import java.time.Instant;
 import java.util.List;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
 import lombok.AllArgsConstructor;
@@ -58,6 +59,40 @@ public class OrderResponse {
     @JsonProperty("certificate")
     private String certificate;
 
+    /**
+     * 주문 처리 중 발생한 에러 (문제 문서 형식, 최종화에 실패해 "invalid"가 된 경우만 포함)
+     */
+    @JsonProperty("error")
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Problem error;
+
+    /**
+     * 주문 에러 문제 문서 (RFC 8555 §6.7)
+     */
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Problem {
+        /**
+         * 에러 타입 URN (예: "urn:ietf:params:acme:error:badCSR")
+         */
+        @JsonProperty("type")
+        private String type;
+
+        /**
+         * 에러 설명
+         */
+        @JsonProperty("detail")
+        private String detail;
+
+        /**
+         * 같은 에러를 응답으로 보냈을 때의 HTTP 상태
+         */
+        @JsonProperty("status")
+        private int status;
+    }
+
     /**
      * 식별자 정보를 담는 내부 클래스
      */
@@ -0,0 +1,28 @@
+package com.pca.acme.event;
+
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * acme.events.<key>.sample-every / max-per-second 설정을 AcmeEvents에 적용합니다.
+ * 설정이 없으면 AcmeEventType의 기본값을 사용합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class AcmeEventSettings {
+
+    private final Environment environment;
+
+    @PostConstruct
+    public void apply() {
+        for (AcmeEventType type : AcmeEventType.values()) {
+            String prefix = "acme.events." + type.getKey() + ".";
+            AcmeEvents.configure(type,
+                environment.getProperty(prefix + "sample-every", Integer.class, type.getDefaultSampleEvery()),
+                environment.getProperty(prefix + "max-per-second", Integer.class, type.getDefaultMaxPerSecond()));
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.pca.acme.event;
+
+/**
+ * 구조화 로그로 기록하는 ACME 이벤트 종류와 기본 샘플링/속도 제한 값
+ * 설정 키: acme.events.<key>.sample-every, acme.events.<key>.max-per-second
+ */
+public enum AcmeEventType {
+
+    ACCOUNT_CREATED("account-created", 1, 100),
+    ORDER_CREATED("order-created", 1, 200),
+    AUTHORIZATION_CREATED("authorization-created", 16, 50),
+    JWS_VERIFIED("jws-verified", 64, 20),
+    ORDER_FINALIZED("order-finalized", 1, 200);
+
+    private final String key;
+    private final int defaultSampleEvery;
+    private final int defaultMaxPerSecond;
+
+    AcmeEventType(String key, int defaultSampleEvery, int defaultMaxPerSecond) {
+        this.key = key;
+        this.defaultSampleEvery = defaultSampleEvery;
+        this.defaultMaxPerSecond = defaultMaxPerSecond;
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    /**
+     * N건 중 1건만 기록 (1이면 모두 기록)
+     */
+    public int getDefaultSampleEvery() {
+        return defaultSampleEvery;
+    }
+
+    /**
+     * 초당 최대 기록 건수
+     */
+    public int getDefaultMaxPerSecond() {
+        return defaultMaxPerSecond;
+    }
+}
@@ -0,0 +1,131 @@
+package com.pca.acme.event;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.slf4j.spi.LoggingEventBuilder;
+
+/**
+ * 핫 패스용 구조화 이벤트 로그
+ * 요청·식별자마다 info 로그를 여러 줄 남기는 대신 이벤트 하나를 key=value 속성과 함께 기록합니다.
+ *
+ * 기록 전에 acme.events 로거 레벨을 먼저 확인하고, 이벤트 종류별로 N건 중 1건만 샘플링한 뒤
+ * 초당 최대 건수를 넘으면 버립니다. 버린 건수는 다음에 기록되는 이벤트의 suppressed 속성으로 남습니다.
+ * 실제 출력은 logback-spring.xml의 비동기 appender가 맡으므로 요청 스레드는 파일/콘솔 I/O를 기다리지 않습니다.
+ */
+public final class AcmeEvents {
+
+    static final String LOGGER_NAME = "acme.events";
+
+    private static final Logger EVENTS = LoggerFactory.getLogger(LOGGER_NAME);
+
+    private static final Limiter[] LIMITERS = new Limiter[AcmeEventType.values().length];
+
+    static {
+        for (AcmeEventType type : AcmeEventType.values()) {
+            LIMITERS[type.ordinal()] = new Limiter(type.getDefaultSampleEvery(), type.getDefaultMaxPerSecond());
+        }
+    }
+
+    private AcmeEvents() {
+    }
+
+    /**
+     * 이벤트 종류별 샘플링 주기와 초당 최대 건수를 바꿉니다.
+     * 샘플링 순번, 현재 윈도 건수와 버린 건수도 초기화하므로 새 설정은 빈 윈도에서 시작합니다.
+     */
+    public static void configure(AcmeEventType type, int sampleEvery, int maxPerSecond) {
+        Limiter limiter = LIMITERS[type.ordinal()];
+        limiter.sampleEvery = Math.max(1, sampleEvery);
+        limiter.maxPerSecond = Math.max(0, maxPerSecond);
+        limiter.reset();
+    }
+
+    public static void emit(AcmeEventType type, String key, Object value) {
+        LoggingEventBuilder event = begin(type);
+        if (event != null) {
+            event.addKeyValue(key, value).log();
+        }
+    }
+
+    public static void emit(AcmeEventType type, String key1, Object value1, String key2, Object value2) {
+        LoggingEventBuilder event = begin(type);
+        if (event != null) {
+            event.addKeyValue(key1, value1).addKeyValue(key2, value2).log();
+        }
+    }
+
+    public static void emit(AcmeEventType type, String key1, Object value1, String key2, Object value2,
+                            String key3, Object value3) {
+        LoggingEventBuilder event = begin(type);
+        if (event != null) {
+            event.addKeyValue(key1, value1).addKeyValue(key2, value2).addKeyValue(key3, value3).log();
+        }
+    }
+
+    /**
+     * 기록할 이벤트면 이벤트 이름과 suppressed 속성을 채운 빌더를, 아니면 null을 반환합니다.
+     * 호출부의 key/value 인자는 이 검사를 통과한 뒤에만 사용됩니다.
+     */
+    private static LoggingEventBuilder begin(AcmeEventType type) {
+        if (!EVENTS.isInfoEnabled()) {
+            return null;
+        }
+        Limiter limiter = LIMITERS[type.ordinal()];
+        if (!limiter.tryAcquire()) {
+            return null;
+        }
+
+        LoggingEventBuilder event = EVENTS.atInfo().setMessage(type.getKey());
+        long suppressed = limiter.suppressed.getAndSet(0);
+        if (suppressed > 0) {
+            event.addKeyValue("suppressed", suppressed);
+        }
+        return event;
+    }
+
+    /**
+     * 이벤트 종류별 샘플링 카운터와 1초 단위 고정 윈도 속도 제한 (락 없음)
+     */
+    private static final class Limiter {
+        private volatile int sampleEvery;
+        private volatile int maxPerSecond;
+
+        private final AtomicLong sequence = new AtomicLong();
+        private final AtomicLong windowSecond = new AtomicLong();
+        private final AtomicInteger windowCount = new AtomicInteger();
+        private final AtomicLong suppressed = new AtomicLong();
+
+        private Limiter(int sampleEvery, int maxPerSecond) {
+            this.sampleEvery = sampleEvery;
+            this.maxPerSecond = maxPerSecond;
+        }
+
+        private void reset() {
+            sequence.set(0);
+            windowSecond.set(0);
+            windowCount.set(0);
+            suppressed.set(0);
+        }
+
+        private boolean tryAcquire() {
+            int every = sampleEvery;
+            if (every > 1 && sequence.getAndIncrement() % every != 0) {
+                return false;
+            }
+
+            long second = System.currentTimeMillis() / 1000;
+            long window = windowSecond.get();
+            if (window != second && windowSecond.compareAndSet(window, second)) {
+                windowCount.set(0);
+            }
+            if (windowCount.incrementAndGet() > maxPerSecond) {
+                suppressed.incrementAndGet();
+                return false;
+            }
+            return true;
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.pca.acme.event;
+
+import com.pca.acme.model.Authorization;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 인증 상태 변경 이벤트
+ * AuthorizationService가 상태 전이 시 발행하며, 해당 인증을 포함한 주문들의 상태 갱신에 사용됩니다.
+ */
+@Getter
+@AllArgsConstructor
+public class AuthorizationStatusChangedEvent {
+
+    /**
+     * 상태가 변경된 인증 ID
+     */
+    private final String authorizationId;
+
+    /**
+     * 변경 전 상태
+     */
+    private final Authorization.AuthorizationStatus previousStatus;
+
+    /**
+     * 변경 후 상태
+     */
+    private final Authorization.AuthorizationStatus status;
+}
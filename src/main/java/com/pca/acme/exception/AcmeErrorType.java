@@ -0,0 +1,78 @@
+package com.pca.acme.exception;
+
+import java.nio.charset.StandardCharsets;
+
+import org.springframework.http.HttpStatus;
+
+/**
+ * ACME 에러 타입과 기본 HTTP 상태
+ * RFC 8555 §6.7 Errors (urn:ietf:params:acme:error:*)
+ *
+ * 각 타입은 응답 본문 중 바뀌지 않는 앞부분({"type":"...","detail":")과 끝부분을 미리 UTF-8로 인코딩해 둡니다.
+ */
+public enum AcmeErrorType {
+
+    MALFORMED("malformed", HttpStatus.BAD_REQUEST),
+    BAD_NONCE("badNonce", HttpStatus.BAD_REQUEST),
+    BAD_CSR("badCSR", HttpStatus.BAD_REQUEST),
+    BAD_SIGNATURE_ALGORITHM("badSignatureAlgorithm", HttpStatus.BAD_REQUEST),
+    BAD_PUBLIC_KEY("badPublicKey", HttpStatus.BAD_REQUEST),
+    INVALID_CONTACT("invalidContact", HttpStatus.BAD_REQUEST),
+    UNSUPPORTED_IDENTIFIER("unsupportedIdentifier", HttpStatus.BAD_REQUEST),
+    REJECTED_IDENTIFIER("rejectedIdentifier", HttpStatus.BAD_REQUEST),
+    USER_ACTION_REQUIRED("userActionRequired", HttpStatus.BAD_REQUEST),
+    ACCOUNT_DOES_NOT_EXIST("accountDoesNotExist", HttpStatus.NOT_FOUND),
+    ORDER_NOT_READY("orderNotReady", HttpStatus.FORBIDDEN),
+    CAA("caa", HttpStatus.FORBIDDEN),
+    /**
+     * 기본 503은 서버 전체 과부하로 거절할 때(부하 차단, finalize 큐 포화) 씁니다.
+     * 클라이언트별 한도 초과는 {@link RateLimitedProblem}이 429와 Retry-After로 응답합니다.
+     */
+    RATE_LIMITED("rateLimited", HttpStatus.SERVICE_UNAVAILABLE),
+    SERVER_INTERNAL("serverInternal", HttpStatus.INTERNAL_SERVER_ERROR),
+
+    // JWS 인터셉터가 사용해 온 비표준 타입 (기존 클라이언트 호환)
+    MISSING_JWS("missing-jws", HttpStatus.BAD_REQUEST),
+    MALFORMED_JWS("malformed-jws", HttpStatus.BAD_REQUEST);
+
+    private static final String ERROR_PREFIX = "urn:ietf:params:acme:error:";
+
+    private final String type;
+    private final HttpStatus defaultStatus;
+    private final byte[] bodyPrefix;
+    private final byte[] bodySuffix;
+
+    AcmeErrorType(String type, HttpStatus defaultStatus) {
+        this.type = type;
+        this.defaultStatus = defaultStatus;
+        this.bodyPrefix = ("{\"type\":\"" + ERROR_PREFIX + type + "\",\"detail\":\"").getBytes(StandardCharsets.UTF_8);
+        this.bodySuffix = suffix(defaultStatus);
+    }
+
+    public String getType() {
+        return type;
+    }
+
+    public String getUrn() {
+        return ERROR_PREFIX + type;
+    }
+
+    public HttpStatus getDefaultStatus() {
+        return defaultStatus;
+    }
+
+    byte[] getBodyPrefix() {
+        return bodyPrefix;
+    }
+
+    /**
+     * detail 뒤에 붙는 본문 끝부분 (","status":NNN})
+     */
+    byte[] getBodySuffix(HttpStatus status) {
+        return status == defaultStatus ? bodySuffix : suffix(status);
+    }
+
+    private static byte[] suffix(HttpStatus status) {
+        return ("\",\"status\":" + status.value() + "}").getBytes(StandardCharsets.US_ASCII);
+    }
+}
@@ -0,0 +1,132 @@
+package com.pca.acme.exception;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+
+import org.springframework.http.HttpStatus;
+
+/**
+ * ACME 에러(RFC 8555 §6.7 Problem Document)를 나타내는 예외
+ * 에러 타입과 HTTP 상태를 직접 가지고 있으므로 메시지 문자열로 타입을 추측하지 않습니다.
+ *
+ * 클라이언트 에러(4xx)는 예상된 결과이므로 스택 트레이스를 만들지 않으며,
+ * 응답 본문은 타입별로 미리 인코딩된 앞부분에 detail만 이어 붙여 만듭니다.
+ * 고정 메시지 에러는 인스턴스를 상수로 두고 재사용할 수 있습니다.
+ */
+public class AcmeProblem extends RuntimeException {
+
+    public static final String PROBLEM_JSON = "application/problem+json;charset=UTF-8";
+
+    private final AcmeErrorType type;
+    private final HttpStatus status;
+
+    // 처음 직렬화할 때 한 번 만들어 두는 응답 본문 (같은 값이 다시 계산되어도 무방)
+    private byte[] body;
+
+    public AcmeProblem(AcmeErrorType type, String detail) {
+        this(type, type.getDefaultStatus(), detail, null);
+    }
+
+    public AcmeProblem(AcmeErrorType type, HttpStatus status, String detail) {
+        this(type, status, detail, null);
+    }
+
+    public AcmeProblem(AcmeErrorType type, HttpStatus status, String detail, Throwable cause) {
+        super(detail != null ? detail : "", cause, false, status.is5xxServerError());
+        this.type = type;
+        this.status = status;
+    }
+
+    /**
+     * 임의의 런타임 예외를 ACME 에러로 변환합니다.
+     * AcmeProblem은 그대로, IllegalArgumentException은 malformed,
+     * UnsupportedOperationException은 unsupportedIdentifier, 그 밖의 예외는 serverInternal로 처리합니다.
+     */
+    public static AcmeProblem of(RuntimeException ex) {
+        if (ex instanceof AcmeProblem problem) {
+            return problem;
+        }
+        if (ex instanceof IllegalArgumentException) {
+            return new AcmeProblem(AcmeErrorType.MALFORMED, ex.getMessage());
+        }
+        if (ex instanceof UnsupportedOperationException) {
+            return new AcmeProblem(AcmeErrorType.UNSUPPORTED_IDENTIFIER, ex.getMessage());
+        }
+        return new AcmeProblem(AcmeErrorType.SERVER_INTERNAL, HttpStatus.INTERNAL_SERVER_ERROR, ex.getMessage(), ex);
+    }
+
+    public AcmeErrorType getType() {
+        return type;
+    }
+
+    public HttpStatus getStatus() {
+        return status;
+    }
+
+    public String getDetail() {
+        return getMessage();
+    }
+
+    /**
+     * 응답 본문 {"type":...,"detail":...,"status":...}을 UTF-8 바이트로 반환합니다.
+     */
+    public byte[] toJson() {
+        byte[] json = body;
+        if (json == null) {
+            json = render();
+            body = json;
+        }
+        return json;
+    }
+
+    private byte[] render() {
+        String detail = getMessage();
+        byte[] prefix = type.getBodyPrefix();
+        byte[] suffix = type.getBodySuffix(status);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream(prefix.length + detail.length() + suffix.length + 8);
+        out.writeBytes(prefix);
+        if (isPlain(detail)) {
+            out.writeBytes(detail.getBytes(StandardCharsets.UTF_8));
+        } else {
+            out.writeBytes(escape(detail).getBytes(StandardCharsets.UTF_8));
+        }
+        out.writeBytes(suffix);
+        return out.toByteArray();
+    }
+
+    /**
+     * JSON 문자열 이스케이프가 필요 없는지 확인합니다 (대부분의 메시지가 해당).
+     */
+    private static boolean isPlain(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c < 0x20 || c == '"' || c == '\\') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static String escape(String value) {
+        StringBuilder sb = new StringBuilder(value.length() + 16);
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"' -> sb.append("\\\"");
+                case '\\' -> sb.append("\\\\");
+                case '\n' -> sb.append("\\n");
+                case '\r' -> sb.append("\\r");
+                case '\t' -> sb.append("\\t");
+                default -> {
+                    if (c < 0x20) {
+                        sb.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        sb.append(c);
+                    }
+                }
+            }
+        }
+        return sb.toString();
+    }
+}
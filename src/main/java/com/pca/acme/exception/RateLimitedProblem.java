@@ -0,0 +1,22 @@
+package com.pca.acme.exception;
+
+import org.springframework.http.HttpStatus;
+
+/**
+ * 클라이언트별 요청 한도 초과 에러 (RFC 8555 §6.6 Rate Limits)
+ * 429 Too Many Requests와 함께 다시 시도할 수 있을 때까지의 시간을 Retry-After로 알립니다.
+ * 같은 rateLimited 타입이라도 서버 전체 과부하 거절은 {@link AcmeErrorType#RATE_LIMITED}의 기본 상태인 503을 씁니다.
+ */
+public class RateLimitedProblem extends AcmeProblem {
+
+    private final long retryAfterSeconds;
+
+    public RateLimitedProblem(String detail, long retryAfterSeconds) {
+        super(AcmeErrorType.RATE_LIMITED, HttpStatus.TOO_MANY_REQUESTS, detail);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
@@ -0,0 +1,129 @@
+package com.pca.acme.filter;
+
+import java.io.IOException;
+
+import com.pca.acme.service.DirectoryService;
+import com.pca.acme.service.NonceService;
+
+import jakarta.servlet.Filter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * new-nonce와 directory 요청을 Spring MVC 디스패치 없이 처리하는 서블릿 필터
+ * RFC 8555 §7.1 Directory, §7.2 Getting a Nonce
+ *
+ * 두 엔드포인트는 인증이 필요 없고 응답 형태가 고정되어 있으므로,
+ * DispatcherServlet, 핸들러 매핑, 인터셉터, ResponseEntity 생성을 거치지 않고
+ * 미리 계산한 헤더 값과 새 nonce만 응답에 직접 씁니다.
+ * 처리하지 않는 메서드(POST, OPTIONS 등)는 체인으로 넘겨 컨트롤러가 기존대로 응답합니다.
+ */
+public class AcmeFastPathFilter implements Filter {
+
+    static final String NEW_NONCE_PATH = "/acme/new-nonce";
+    static final String DIRECTORY_PATH = "/acme/directory";
+
+    private static final String REPLAY_NONCE = "Replay-Nonce";
+    private static final String CACHE_CONTROL = "Cache-Control";
+    private static final String NO_STORE = "no-store";
+    private static final String LINK = "Link";
+    private static final String ETAG = "ETag";
+    private static final String IF_NONE_MATCH = "If-None-Match";
+    private static final String ORIGIN = "Origin";
+    private static final String ALLOW_ORIGIN = "Access-Control-Allow-Origin";
+    private static final String JSON = "application/json";
+
+    private final NonceService nonceService;
+    private final DirectoryService directoryService;
+
+    // 요청마다 문자열을 이어 붙이지 않도록 미리 만든 Link 헤더 값
+    private final String indexLink;
+
+    public AcmeFastPathFilter(NonceService nonceService, DirectoryService directoryService) {
+        this.nonceService = nonceService;
+        this.directoryService = directoryService;
+        this.indexLink = "<" + nonceService.getDirectoryUrl() + ">;rel=\"index\"";
+    }
+
+    @Override
+    public void doFilter(ServletRequest req, ServletResponse res, FilterChain chain) throws IOException, ServletException {
+        HttpServletRequest request = (HttpServletRequest) req;
+        HttpServletResponse response = (HttpServletResponse) res;
+        String path = request.getRequestURI();
+        String method = request.getMethod();
+
+        if (NEW_NONCE_PATH.equals(path)) {
+            if ("HEAD".equals(method)) {
+                writeNonce(request, response, HttpServletResponse.SC_OK);
+                return;
+            }
+            if ("GET".equals(method)) {
+                writeNonce(request, response, HttpServletResponse.SC_NO_CONTENT);
+                return;
+            }
+        } else if (DIRECTORY_PATH.equals(path) && "GET".equals(method)) {
+            writeDirectory(request, response);
+            return;
+        }
+
+        chain.doFilter(req, res);
+    }
+
+    private void writeNonce(HttpServletRequest request, HttpServletResponse response, int status) {
+        response.setStatus(status);
+        response.setHeader(REPLAY_NONCE, nonceService.createNonce());
+        response.setHeader(CACHE_CONTROL, NO_STORE);
+        response.setHeader(LINK, indexLink);
+        allowOrigin(request, response);
+    }
+
+    private void writeDirectory(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        DirectoryService.DirectoryDocument document = directoryService.getDocument();
+        response.setHeader(ETAG, document.getETag());
+        response.setHeader(CACHE_CONTROL, document.getCacheControl());
+        allowOrigin(request, response);
+
+        if (matches(request.getHeader(IF_NONE_MATCH), document.getETag())) {
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return;
+        }
+
+        byte[] body = document.getBody();
+        response.setStatus(HttpServletResponse.SC_OK);
+        response.setContentType(JSON);
+        response.setContentLength(body.length);
+        response.getOutputStream().write(body);
+    }
+
+    /**
+     * 컨트롤러의 @CrossOrigin(origins = "*")과 같은 동작을 유지합니다.
+     */
+    private static void allowOrigin(HttpServletRequest request, HttpServletResponse response) {
+        if (request.getHeader(ORIGIN) != null) {
+            response.setHeader(ALLOW_ORIGIN, "*");
+        }
+    }
+
+    /**
+     * If-None-Match 값이 ETag와 일치하는지 확인합니다 (RFC 9110 §13.1.2, 약한 비교).
+     */
+    static boolean matches(String ifNoneMatch, String eTag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.startsWith("W/")) {
+                tag = tag.substring(2);
+            }
+            if (tag.equals("*") || tag.equals(eTag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,97 @@
+package com.pca.acme.filter;
+
+import java.io.IOException;
+
+import com.pca.acme.exception.AcmeErrorType;
+import com.pca.acme.exception.AcmeProblem;
+import com.pca.acme.metrics.AcmeMetrics;
+import com.pca.acme.service.AdmissionController;
+
+import jakarta.servlet.Filter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * new-account, new-order POST 요청의 부하 차단 필터
+ * JWS 검증과 nonce 소비보다 앞에서 거절하므로, 거절된 요청의 nonce는 소비되지 않고 그대로 다시 쓸 수 있습니다.
+ * 그래서 거절 응답에는 Replay-Nonce를 붙이지 않으며 nonce 저장소를 더 채우지 않습니다.
+ * 응답은 rateLimited 문제 문서와 계산된 Retry-After입니다 (RFC 8555 §6.6).
+ */
+@Slf4j
+public class AdmissionControlFilter implements Filter {
+
+    static final String NEW_ACCOUNT_PATH = "/acme/new-account";
+    static final String NEW_ORDER_PATH = "/acme/new-order";
+
+    private static final AcmeProblem[] PROBLEMS = new AcmeProblem[AdmissionController.Reason.values().length];
+
+    static {
+        for (AdmissionController.Reason reason : AdmissionController.Reason.values()) {
+            PROBLEMS[reason.ordinal()] = new AcmeProblem(AcmeErrorType.RATE_LIMITED,
+                "Server is overloaded (" + reason.getDetail() + "), retry later");
+        }
+    }
+
+    private final AdmissionController admissionController;
+    private final AcmeMetrics metrics;
+
+    public AdmissionControlFilter(AdmissionController admissionController, AcmeMetrics metrics) {
+        this.admissionController = admissionController;
+        this.metrics = metrics;
+    }
+
+    @Override
+    public void doFilter(ServletRequest req, ServletResponse res, FilterChain chain) throws IOException, ServletException {
+        HttpServletRequest request = (HttpServletRequest) req;
+        String path = request.getRequestURI();
+        if (!isAdmissionControlled(request.getMethod(), path)) {
+            chain.doFilter(req, res);
+            return;
+        }
+
+        AdmissionController.Reason rejected = admissionController.admit();
+        if (rejected != null) {
+            shed((HttpServletResponse) res, path, rejected);
+            return;
+        }
+
+        long start = System.nanoTime();
+        try {
+            chain.doFilter(req, res);
+        } finally {
+            admissionController.release(start);
+        }
+    }
+
+    /**
+     * 요청이 부하 차단 대상(new-account, new-order POST)인지 확인합니다. WebFlux 스택의 AdmissionWebFilter도 같은 규칙을 씁니다.
+     */
+    public static boolean isAdmissionControlled(String method, String path) {
+        return "POST".equals(method) && (NEW_ACCOUNT_PATH.equals(path) || NEW_ORDER_PATH.equals(path));
+    }
+
+    /**
+     * 거절 사유별 503 rateLimited 문제 문서를 반환합니다 (미리 만들어 둔 인스턴스).
+     */
+    public static AcmeProblem problemFor(AdmissionController.Reason reason) {
+        return PROBLEMS[reason.ordinal()];
+    }
+
+    private void shed(HttpServletResponse response, String path, AdmissionController.Reason reason) throws IOException {
+        AcmeProblem problem = PROBLEMS[reason.ordinal()];
+        metrics.error(problem.getType());
+        log.debug("Shed {} request: {}", path, reason);
+
+        byte[] body = problem.toJson();
+        response.setStatus(problem.getStatus().value());
+        response.setHeader("Retry-After", String.valueOf(admissionController.getRetryAfterSeconds()));
+        response.setContentType(AcmeProblem.PROBLEM_JSON);
+        response.setContentLength(body.length);
+        response.getOutputStream().write(body);
+    }
+}
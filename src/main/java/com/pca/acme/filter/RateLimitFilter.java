@@ -0,0 +1,118 @@
+package com.pca.acme.filter;
+
+import java.io.IOException;
+import java.net.Inet6Address;
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.util.HexFormat;
+
+import com.pca.acme.exception.AcmeProblem;
+import com.pca.acme.exception.RateLimitedProblem;
+import com.pca.acme.metrics.AcmeMetrics;
+import com.pca.acme.service.RateLimiter;
+
+import jakarta.servlet.Filter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * new-nonce, new-account의 클라이언트 IP별 요청 한도 필터
+ * 고속 경로 필터보다 앞에 두어 new-nonce도 이 필터를 거치며, JWS 검증과 nonce 소비보다 먼저 거절합니다.
+ * 거절된 요청의 nonce는 소비되지 않으므로 응답에 Replay-Nonce를 붙이지 않습니다.
+ * 응답은 429 rateLimited 문제 문서와 Retry-After입니다 (RFC 8555 §6.6).
+ * 기동 워밍업의 면제 토큰({@link RateLimiter#EXEMPT_HEADER})을 가진 요청은 검사하지 않습니다.
+ *
+ * IP는 request.getRemoteAddr()이며, 프록시 뒤에서는 server.forward-headers-strategy로 실제 주소를 받아야 합니다.
+ * IPv6 클라이언트는 보통 /64 하나를 통째로 받아 주소를 마음대로 바꿀 수 있으므로, IPv6 주소는
+ * acme.rate-limit.ipv6-prefix-length(기본 64) 비트 프리픽스 단위로 한도를 셉니다.
+ * 주소를 바꿔 가며 버킷을 새로 만들어 다른 클라이언트의 버킷을 밀어내는 것도 이렇게 막습니다.
+ */
+@Slf4j
+public class RateLimitFilter implements Filter {
+
+    static final String NEW_NONCE_PATH = "/acme/new-nonce";
+    static final String NEW_ACCOUNT_PATH = "/acme/new-account";
+
+    private final RateLimiter rateLimiter;
+    private final AcmeMetrics metrics;
+    private final int ipv6PrefixLength;
+
+    public RateLimitFilter(RateLimiter rateLimiter, AcmeMetrics metrics, int ipv6PrefixLength) {
+        this.rateLimiter = rateLimiter;
+        this.metrics = metrics;
+        this.ipv6PrefixLength = ipv6PrefixLength;
+    }
+
+    @Override
+    public void doFilter(ServletRequest req, ServletResponse res, FilterChain chain) throws IOException, ServletException {
+        HttpServletRequest request = (HttpServletRequest) req;
+        RateLimiter.Limit limit = limitFor(request.getMethod(), request.getRequestURI());
+        if (limit != null && !rateLimiter.isExempt(request.getHeader(RateLimiter.EXEMPT_HEADER))) {
+            long retryAfter = rateLimiter.check(limit, addressKey(request.getRemoteAddr(), ipv6PrefixLength));
+            if (retryAfter > 0) {
+                reject((HttpServletResponse) res, limit, retryAfter);
+                return;
+            }
+        }
+        chain.doFilter(req, res);
+    }
+
+    /**
+     * 요청에 적용할 IP별 한도를 반환합니다 (없으면 null). WebFlux 스택의 RateLimitWebFilter도 같은 규칙을 씁니다.
+     */
+    public static RateLimiter.Limit limitFor(String method, String path) {
+        if (NEW_NONCE_PATH.equals(path)) {
+            return RateLimiter.Limit.NEW_NONCE_PER_IP;
+        }
+        if (NEW_ACCOUNT_PATH.equals(path) && "POST".equals(method)) {
+            return RateLimiter.Limit.NEW_ACCOUNT_PER_IP;
+        }
+        return null;
+    }
+
+    /**
+     * IP별 한도의 키를 만듭니다. IPv4 주소는 그대로, IPv6 주소는 앞 prefixLength 비트(0~128)만 남겨
+     * "16진수 프리픽스/길이" 형태로 반환합니다. WebFlux 스택의 RateLimitWebFilter도 같은 규칙을 씁니다.
+     */
+    public static String addressKey(String address, int prefixLength) {
+        if (address == null || address.indexOf(':') < 0) {
+            return address;
+        }
+        InetAddress parsed;
+        try {
+            parsed = InetAddress.getByName(address);  // ':'가 있는 리터럴은 DNS 조회 없이 해석됨
+        } catch (UnknownHostException e) {
+            return address;
+        }
+        if (!(parsed instanceof Inet6Address)) {
+            return parsed.getHostAddress();  // IPv4 매핑 주소(::ffff:a.b.c.d)
+        }
+
+        int bits = Math.max(0, Math.min(128, prefixLength));
+        byte[] bytes = parsed.getAddress();
+        for (int i = 0; i < bytes.length; i++) {
+            int keep = Math.max(0, Math.min(8, bits - i * 8));
+            bytes[i] &= (byte) (0xff00 >> keep);
+        }
+        return HexFormat.of().formatHex(bytes, 0, (bits + 7) / 8) + "/" + bits;
+    }
+
+    private void reject(HttpServletResponse response, RateLimiter.Limit limit, long retryAfter) throws IOException {
+        RateLimitedProblem problem = new RateLimitedProblem(
+            "Too many " + limit.getDetail() + ", retry after " + retryAfter + " seconds", retryAfter);
+        metrics.error(problem.getType());
+        log.debug("Rate limited {}", limit);
+
+        byte[] body = problem.toJson();
+        response.setStatus(problem.getStatus().value());
+        response.setHeader("Retry-After", String.valueOf(retryAfter));
+        response.setContentType(AcmeProblem.PROBLEM_JSON);
+        response.setContentLength(body.length);
+        response.getOutputStream().write(body);
+    }
+}
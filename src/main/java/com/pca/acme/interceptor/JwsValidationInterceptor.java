@@ -3,14 +3,19 @@ package com.pca.acme.interceptor;
 import java.io.IOException;
 import java.util.Map;
 
-import org.springframework.http.HttpStatus;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.stereotype.Component;
 import org.springframework.web.servlet.HandlerInterceptor;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pca.acme.exception.AcmeErrorType;
+import com.pca.acme.exception.AcmeProblem;
+import com.pca.acme.jfr.JwsVerifyEvent;
+import com.pca.acme.metrics.AcmeMetrics;
+import com.pca.acme.tracing.AcmeTracing;
 import com.pca.acme.util.JwsValidator;
 
 import jakarta.servlet.http.HttpServletRequest;
+import io.micrometer.observation.Observation;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -22,11 +27,21 @@ import lombok.extern.slf4j.Slf4j;
  */
 @Slf4j
 @Component
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 @RequiredArgsConstructor
 public class JwsValidationInterceptor implements HandlerInterceptor {
 
+    // 메시지가 고정된 에러는 본문까지 한 번만 만들어 재사용
+    private static final AcmeProblem MISSING_JWS =
+        new AcmeProblem(AcmeErrorType.MISSING_JWS, "JWS token is required");
+    private static final AcmeProblem MISSING_JWK =
+        new AcmeProblem(AcmeErrorType.MALFORMED, "Missing 'jwk' field in JWS header for new account");
+    private static final AcmeProblem INVALID_URL =
+        new AcmeProblem(AcmeErrorType.MALFORMED, "Invalid or missing 'url' field in JWS header");
+
     private final JwsValidator jwsValidator;
-    private final ObjectMapper objectMapper;
+    private final AcmeMetrics metrics;
+    private final AcmeTracing tracing;
 
     // JWS 검증이 필요 없는 엔드포인트들
     private static final String[] EXCLUDED_PATHS = {
@@ -51,16 +66,39 @@ public class JwsValidationInterceptor implements HandlerInterceptor {
 
         log.debug("JWS validation required for path: {}", requestURI);
 
+        if (!tracing.isEnabled()) {
+            return verify(request, response, requestURI);
+        }
+        Observation observation = tracing.start("acme.jws.verify");
+        observation.highCardinalityKeyValue(AcmeTracing.PATH, requestURI);
+        try (Observation.Scope scope = observation.openScope()) {
+            return verify(request, response, requestURI);
+        } catch (IOException | RuntimeException e) {
+            observation.error(e);
+            throw e;
+        } finally {
+            observation.stop();
+        }
+    }
+
+    /**
+     * JWS 토큰을 추출, 검증하고 검증된 헤더와 페이로드를 요청 속성에 저장합니다.
+     */
+    private boolean verify(HttpServletRequest request, HttpServletResponse response, String requestURI) throws IOException {
         // JWS 토큰 추출
         String jwsToken = extractJwsToken(request);
         if (jwsToken == null) {
-            return sendErrorResponse(response, HttpStatus.BAD_REQUEST, "missing-jws", "JWS token is required");
+            return sendErrorResponse(response, MISSING_JWS);
         }
 
         // JWS 검증
+        JwsVerifyEvent event = new JwsVerifyEvent();
+        event.begin();
         JwsValidator.JwsValidationResult validationResult = jwsValidator.validateJws(jwsToken);
+        event.complete(requestURI, jwsToken.length(), validationResult);
         if (!validationResult.isValid()) {
-            return sendErrorResponse(response, HttpStatus.BAD_REQUEST, "malformed-jws", validationResult.getErrorMessage());
+            return sendErrorResponse(response,
+                new AcmeProblem(AcmeErrorType.MALFORMED_JWS, validationResult.getErrorMessage()));
         }
 
         // NewAccount API 특화 검증 (Nonce 검증 제외)
@@ -133,19 +171,20 @@ public class JwsValidationInterceptor implements HandlerInterceptor {
     private boolean validateNewAccountJws(Map<String, Object> header, HttpServletResponse response) throws IOException {
         // 1. jwk 필드 존재 확인
         if (!header.containsKey("jwk")) {
-            return sendErrorResponse(response, HttpStatus.BAD_REQUEST, "malformed", "Missing 'jwk' field in JWS header for new account");
+            return sendErrorResponse(response, MISSING_JWK);
         }
 
         // 2. 알고리즘 검증
         String algorithm = (String) header.get("alg");
         if (!"RS256".equals(algorithm) && !"ES256".equals(algorithm)) {
-            return sendErrorResponse(response, HttpStatus.BAD_REQUEST, "badSignatureAlgorithm", "Unsupported signature algorithm: " + algorithm);
+            return sendErrorResponse(response,
+                new AcmeProblem(AcmeErrorType.BAD_SIGNATURE_ALGORITHM, "Unsupported signature algorithm: " + algorithm));
         }
 
         // 3. url 필드 확인
         String url = (String) header.get("url");
         if (url == null || !url.endsWith("/acme/new-account")) {
-            return sendErrorResponse(response, HttpStatus.BAD_REQUEST, "malformed", "Invalid or missing 'url' field in JWS header");
+            return sendErrorResponse(response, INVALID_URL);
         }
 
         return true;
@@ -155,22 +194,15 @@ public class JwsValidationInterceptor implements HandlerInterceptor {
      * ACME 에러 응답을 전송합니다.
      * RFC 8555 §6.7 Problem Details for HTTP APIs 형식 준수
      */
-    private boolean sendErrorResponse(HttpServletResponse response, HttpStatus status, String type, String detail) throws IOException {
-        response.setStatus(status.value());
-        response.setContentType("application/problem+json;charset=UTF-8");
-        response.setCharacterEncoding("UTF-8");
-
-        Map<String, Object> errorResponse = Map.of(
-            "type", "urn:ietf:params:acme:error:" + type,
-            "detail", detail,
-            "status", status.value()
-        );
-
-        String jsonResponse = objectMapper.writeValueAsString(errorResponse);
-        response.getWriter().write(jsonResponse);
-        response.getWriter().flush();
-
-        log.warn("JWS validation failed: {} - {}", type, detail);
+    private boolean sendErrorResponse(HttpServletResponse response, AcmeProblem problem) throws IOException {
+        metrics.error(problem.getType());
+        byte[] body = problem.toJson();
+        response.setStatus(problem.getStatus().value());
+        response.setContentType(AcmeProblem.PROBLEM_JSON);
+        response.setContentLength(body.length);
+        response.getOutputStream().write(body);
+
+        log.warn("JWS validation failed: {} - {}", problem.getType().getType(), problem.getDetail());
         return false;
     }
-}
\ No newline at end of file
+}
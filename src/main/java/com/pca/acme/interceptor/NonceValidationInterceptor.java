@@ -3,13 +3,17 @@ package com.pca.acme.interceptor;
 import java.io.IOException;
 import java.util.Map;
 
-import org.springframework.http.HttpStatus;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.stereotype.Component;
 import org.springframework.web.servlet.HandlerInterceptor;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pca.acme.exception.AcmeErrorType;
+import com.pca.acme.exception.AcmeProblem;
+import com.pca.acme.metrics.AcmeMetrics;
 import com.pca.acme.service.NonceService;
+import com.pca.acme.tracing.AcmeTracing;
 
+import io.micrometer.observation.Observation;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
@@ -22,11 +26,21 @@ import lombok.extern.slf4j.Slf4j;
  */
 @Slf4j
 @Component
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 @RequiredArgsConstructor
 public class NonceValidationInterceptor implements HandlerInterceptor {
 
+    // 메시지가 고정된 에러는 본문까지 한 번만 만들어 재사용
+    private static final AcmeProblem MISSING_HEADER =
+        new AcmeProblem(AcmeErrorType.MALFORMED, "JWS header information is missing");
+    private static final AcmeProblem MISSING_NONCE =
+        new AcmeProblem(AcmeErrorType.BAD_NONCE, "Missing 'nonce' field in JWS header");
+    private static final AcmeProblem INVALID_NONCE =
+        new AcmeProblem(AcmeErrorType.BAD_NONCE, "Invalid or expired nonce");
+
     private final NonceService nonceService;
-    private final ObjectMapper objectMapper;
+    private final AcmeMetrics metrics;
+    private final AcmeTracing tracing;
 
     // Nonce 검증이 필요 없는 엔드포인트들
     private static final String[] EXCLUDED_PATHS = {
@@ -51,26 +65,45 @@ public class NonceValidationInterceptor implements HandlerInterceptor {
 
         log.debug("Nonce validation required for path: {}", requestURI);
 
+        if (!tracing.isEnabled()) {
+            return consume(request, response, requestURI);
+        }
+        Observation observation = tracing.start("acme.nonce.consume");
+        observation.highCardinalityKeyValue(AcmeTracing.PATH, requestURI);
+        try (Observation.Scope scope = observation.openScope()) {
+            return consume(request, response, requestURI);
+        } catch (IOException | RuntimeException e) {
+            observation.error(e);
+            throw e;
+        } finally {
+            observation.stop();
+        }
+    }
+
+    /**
+     * JWS 헤더의 nonce를 검증하고 사용 처리합니다.
+     */
+    private boolean consume(HttpServletRequest request, HttpServletResponse response, String requestURI) throws IOException {
         // JWS 헤더에서 nonce 추출 (이미 JwsValidationInterceptor에서 검증된 상태)
         @SuppressWarnings("unchecked")
         Map<String, Object> jwsHeader = (Map<String, Object>) request.getAttribute("jwsHeader");
 
         if (jwsHeader == null) {
             log.warn("JWS header not found in request attributes for path: {}", requestURI);
-            return sendErrorResponse(response, HttpStatus.BAD_REQUEST, "malformed", "JWS header information is missing");
+            return sendErrorResponse(response, MISSING_HEADER);
         }
 
         // nonce 필드 존재 확인
         String nonce = (String) jwsHeader.get("nonce");
         if (nonce == null || nonce.trim().isEmpty()) {
             log.warn("Missing nonce in JWS header for path: {}", requestURI);
-            return sendErrorResponse(response, HttpStatus.BAD_REQUEST, "badNonce", "Missing 'nonce' field in JWS header");
+            return sendErrorResponse(response, MISSING_NONCE);
         }
 
         // nonce 유효성 검증 및 소비
         if (!nonceService.validateAndConsumeNonce(nonce)) {
             log.warn("Invalid or expired nonce: {} for path: {}", nonce, requestURI);
-            return sendErrorResponse(response, HttpStatus.BAD_REQUEST, "badNonce", "Invalid or expired nonce");
+            return sendErrorResponse(response, INVALID_NONCE);
         }
 
         log.debug("Nonce validation successful for path: {} with nonce: {}", requestURI, nonce);
@@ -94,22 +127,15 @@ public class NonceValidationInterceptor implements HandlerInterceptor {
      * ACME 에러 응답을 전송합니다.
      * RFC 8555 §6.7 Problem Details for HTTP APIs 형식 준수
      */
-    private boolean sendErrorResponse(HttpServletResponse response, HttpStatus status, String type, String detail) throws IOException {
-        response.setStatus(status.value());
-        response.setContentType("application/problem+json;charset=UTF-8");
-        response.setCharacterEncoding("UTF-8");
-
-        Map<String, Object> errorResponse = Map.of(
-            "type", "urn:ietf:params:acme:error:" + type,
-            "detail", detail,
-            "status", status.value()
-        );
-
-        String jsonResponse = objectMapper.writeValueAsString(errorResponse);
-        response.getWriter().write(jsonResponse);
-        response.getWriter().flush();
-
-        log.warn("Nonce validation failed: {} - {}", type, detail);
+    private boolean sendErrorResponse(HttpServletResponse response, AcmeProblem problem) throws IOException {
+        metrics.error(problem.getType());
+        byte[] body = problem.toJson();
+        response.setStatus(problem.getStatus().value());
+        response.setContentType(AcmeProblem.PROBLEM_JSON);
+        response.setContentLength(body.length);
+        response.getOutputStream().write(body);
+
+        log.warn("Nonce validation failed: {} - {}", problem.getType().getType(), problem.getDetail());
         return false;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,80 @@
+package com.pca.acme.jfr;
+
+import org.springframework.http.ResponseEntity;
+
+import com.pca.acme.exception.AcmeProblem;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * ACME 엔드포인트 요청 한 건 (컨트롤러 진입부터 응답 반환 또는 예외까지)
+ * 필드 값은 shouldCommit()이 true일 때만 채우므로 기록이 꺼져 있으면 문자열/상태 조회 비용이 없습니다.
+ */
+@Name("com.pca.acme.AcmeRequest")
+@Label("ACME Request")
+@Category({"ACME"})
+@Description("ACME endpoint request handled by the controller")
+@StackTrace(false)
+public class AcmeRequestEvent extends Event {
+
+    @Label("Endpoint")
+    String endpoint;
+
+    @Label("Account")
+    String accountId;
+
+    @Label("Status")
+    int status;
+
+    @Label("Problem Type")
+    String problemType;
+
+    /**
+     * 이벤트를 만들고 시간 측정을 시작합니다.
+     */
+    public static AcmeRequestEvent begin(String endpoint) {
+        AcmeRequestEvent event = new AcmeRequestEvent();
+        event.endpoint = endpoint;
+        event.begin();
+        return event;
+    }
+
+    public void setAccountId(String accountId) {
+        this.accountId = accountId;
+    }
+
+    /**
+     * 정상 응답으로 이벤트를 기록하고 응답을 그대로 반환합니다.
+     */
+    public <T> ResponseEntity<T> complete(ResponseEntity<T> response) {
+        complete(response.getStatusCode().value());
+        return response;
+    }
+
+    public void complete(int status) {
+        if (shouldCommit()) {
+            this.status = status;
+            commit();
+        }
+    }
+
+    /**
+     * 예외로 끝난 요청을 기록합니다. AcmeProblem이면 상태와 에러 타입을 함께 남깁니다.
+     */
+    public void fail(Exception e) {
+        if (shouldCommit()) {
+            if (e instanceof AcmeProblem problem) {
+                this.status = problem.getStatus().value();
+                this.problemType = problem.getType().getType();
+            } else {
+                this.status = 500;
+            }
+            commit();
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.pca.acme.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * 발급 전 식별자 검증
+ * 현재 서버가 직접 수행하는 검증은 CAA 검사뿐이므로 validationType은 "caa"입니다.
+ * HTTP-01/DNS-01 챌린지 검증이 추가되면 같은 이벤트에 타입만 달리해 기록합니다.
+ */
+@Name("com.pca.acme.ChallengeValidate")
+@Label("Challenge Validate")
+@Category({"ACME"})
+@Description("Server-side validation of order identifiers")
+@StackTrace(false)
+public class ChallengeValidateEvent extends Event {
+
+    @Label("Validation Type")
+    String validationType;
+
+    @Label("Identifiers")
+    int identifiers;
+
+    @Label("Lookups")
+    int lookups;
+
+    @Label("Valid")
+    boolean valid;
+
+    @Label("Failed Identifier")
+    String failedIdentifier;
+
+    public void complete(String validationType, int identifiers, int lookups, boolean valid, String failedIdentifier) {
+        if (shouldCommit()) {
+            this.validationType = validationType;
+            this.identifiers = identifiers;
+            this.lookups = lookups;
+            this.valid = valid;
+            this.failedIdentifier = failedIdentifier;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.pca.acme.jfr;
+
+import java.util.Map;
+
+import com.pca.acme.util.JwsValidator;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * 요청 본문 JWS 파싱 및 검증 (RFC 8555 §6.2)
+ * 요청마다 발생하므로 기본 임계값 1ms 이상인 경우만 기록합니다.
+ */
+@Name("com.pca.acme.JwsVerify")
+@Label("JWS Verify")
+@Category({"ACME"})
+@Description("JWS request body parsed and validated")
+@StackTrace(false)
+@Threshold("1 ms")
+public class JwsVerifyEvent extends Event {
+
+    @Label("Path")
+    String path;
+
+    @Label("Size")
+    @DataAmount
+    int size;
+
+    @Label("Algorithm")
+    String algorithm;
+
+    @Label("Valid")
+    boolean valid;
+
+    public void complete(String path, int size, JwsValidator.JwsValidationResult result) {
+        if (shouldCommit()) {
+            this.path = path;
+            this.size = size;
+            Map<String, Object> header = result.getHeader();
+            Object alg = header != null ? header.get("alg") : null;
+            this.algorithm = alg instanceof String ? (String) alg : null;
+            this.valid = result.isValid();
+            commit();
+        }
+    }
+}
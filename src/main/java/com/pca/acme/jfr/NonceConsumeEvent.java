@@ -0,0 +1,32 @@
+package com.pca.acme.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * Nonce 검증 및 소비 (RFC 8555 §6.5)
+ * 요청마다 발생하므로 기본 임계값 1ms 이상인 경우만 기록합니다.
+ */
+@Name("com.pca.acme.NonceConsume")
+@Label("Nonce Consume")
+@Category({"ACME"})
+@Description("Replay-Nonce validated and removed from the store")
+@StackTrace(false)
+@Threshold("1 ms")
+public class NonceConsumeEvent extends Event {
+
+    @Label("Valid")
+    boolean valid;
+
+    public void complete(boolean valid) {
+        if (shouldCommit()) {
+            this.valid = valid;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.pca.acme.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * 주문 생성 (검증, 인증 생성, 저장 포함, RFC 8555 §7.4)
+ */
+@Name("com.pca.acme.OrderCreate")
+@Label("Order Create")
+@Category({"ACME"})
+@Description("Order validated, authorizations created and order stored")
+@StackTrace(false)
+public class OrderCreateEvent extends Event {
+
+    @Label("Account")
+    String accountId;
+
+    @Label("Order")
+    String orderId;
+
+    @Label("Identifiers")
+    int identifiers;
+
+    public void complete(String accountId, String orderId, int identifiers) {
+        if (shouldCommit()) {
+            this.accountId = accountId;
+            this.orderId = orderId;
+            this.identifiers = identifiers;
+            commit();
+        }
+    }
+}
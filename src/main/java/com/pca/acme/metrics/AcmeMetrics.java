@@ -0,0 +1,105 @@
+package com.pca.acme.metrics;
+
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.pca.acme.exception.AcmeErrorType;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * ACME 처리 단계별 타이머와 에러 타입별 카운터
+ *
+ * 타이머와 카운터는 생성 시 한 번 등록해 배열에 두고, 호출부는 start()로 받은 시각을 stop()에 넘깁니다.
+ * Timer.Sample이나 태그 객체를 만들지 않으므로 측정 중에도 할당이 없고,
+ * acme.metrics.enabled=false이면 start()는 0을 반환하고 stop()/error()는 아무것도 하지 않습니다.
+ */
+@Component
+public class AcmeMetrics {
+
+    /**
+     * 측정하지 않는 인스턴스 (단위 테스트, 벤치마크용)
+     */
+    public static final AcmeMetrics NOOP = new AcmeMetrics();
+
+    /**
+     * 요청 처리 단계 (acme.stage 타이머의 stage 태그)
+     */
+    public enum Stage {
+        JWS_PARSE("jws-parse"),
+        NONCE_CONSUME("nonce-consume"),
+        ACCOUNT_LOOKUP("account-lookup"),
+        ORDER_CREATE("order-create"),
+        SERIALIZE("serialize");
+
+        private final String tag;
+
+        Stage(String tag) {
+            this.tag = tag;
+        }
+
+        public String getTag() {
+            return tag;
+        }
+    }
+
+    private final boolean enabled;
+    private final Timer[] stageTimers;
+    private final Counter[] errorCounters;
+
+    private AcmeMetrics() {
+        this.enabled = false;
+        this.stageTimers = null;
+        this.errorCounters = null;
+    }
+
+    @Autowired
+    public AcmeMetrics(MeterRegistry registry, @Value("${acme.metrics.enabled:true}") boolean enabled) {
+        this.enabled = enabled;
+        this.stageTimers = new Timer[Stage.values().length];
+        for (Stage stage : Stage.values()) {
+            stageTimers[stage.ordinal()] = Timer.builder("acme.stage")
+                .description("ACME request processing stage latency")
+                .tag("stage", stage.getTag())
+                .register(registry);
+        }
+        this.errorCounters = new Counter[AcmeErrorType.values().length];
+        for (AcmeErrorType type : AcmeErrorType.values()) {
+            errorCounters[type.ordinal()] = Counter.builder("acme.errors")
+                .description("ACME problem responses by error type")
+                .tag("type", type.getType())
+                .register(registry);
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 단계 측정 시작 시각 (비활성화 시 0)
+     */
+    public long start() {
+        return enabled ? System.nanoTime() : 0L;
+    }
+
+    public void stop(Stage stage, long start) {
+        if (enabled) {
+            stageTimers[stage.ordinal()].record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * ACME 에러 응답 한 건을 집계합니다.
+     */
+    public void error(AcmeErrorType type) {
+        if (enabled) {
+            errorCounters[type.ordinal()].increment();
+        }
+    }
+}
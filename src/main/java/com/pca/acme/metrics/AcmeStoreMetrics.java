@@ -0,0 +1,65 @@
+package com.pca.acme.metrics;
+
+import org.springframework.stereotype.Component;
+
+import com.pca.acme.service.AccountService;
+import com.pca.acme.service.AuthorizationService;
+import com.pca.acme.service.CaaService;
+import com.pca.acme.service.CertificateStore;
+import com.pca.acme.service.FinalizeService;
+import com.pca.acme.service.NonceStore;
+import com.pca.acme.service.OrderService;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 저장소 크기와 제거 건수 게이지
+ * 값은 스크레이프 시점에만 읽으므로 요청 처리 경로에는 비용이 없습니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class AcmeStoreMetrics implements MeterBinder {
+
+    private final NonceStore nonceStore;
+    private final AccountService accountService;
+    private final OrderService orderService;
+    private final AuthorizationService authorizationService;
+    private final CertificateStore certificateStore;
+    private final FinalizeService finalizeService;
+    private final CaaService caaService;
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("acme.store.size", nonceStore, NonceStore::getNonceCount)
+            .description("Entries held by an ACME in-memory store")
+            .tag("store", "nonce")
+            .register(registry);
+        Gauge.builder("acme.store.size", accountService, AccountService::getAccountCount)
+            .tag("store", "account")
+            .register(registry);
+        Gauge.builder("acme.store.size", orderService, OrderService::getOrderCount)
+            .tag("store", "order")
+            .register(registry);
+        Gauge.builder("acme.store.size", authorizationService, AuthorizationService::getAuthorizationCount)
+            .tag("store", "authorization")
+            .register(registry);
+        Gauge.builder("acme.store.size", certificateStore, CertificateStore::getCertificateCount)
+            .tag("store", "certificate")
+            .register(registry);
+        Gauge.builder("acme.store.size", caaService, CaaService::getCacheSize)
+            .tag("store", "caa-cache")
+            .register(registry);
+        Gauge.builder("acme.finalize.queue.depth", finalizeService, FinalizeService::getQueueDepth)
+            .description("Finalization jobs waiting for a worker")
+            .register(registry);
+
+        FunctionCounter.builder("acme.store.evictions", nonceStore, NonceStore::getEvictionCount)
+            .description("Entries removed by expiry or capacity limits")
+            .tag("store", "nonce")
+            .register(registry);
+    }
+}
@@ -0,0 +1,44 @@
+package com.pca.acme.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DNS CAA 레코드 모델 클래스
+ * RFC 8659 §4 Syntax 구현
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CaaRecord {
+
+    /**
+     * Issuer Critical 플래그 비트 (RFC 8659 §4.1)
+     */
+    public static final int FLAG_CRITICAL = 0x80;
+
+    /**
+     * 플래그 값 (0-255)
+     */
+    private int flags;
+
+    /**
+     * 속성 태그 (예: "issue", "issuewild", "iodef")
+     */
+    private String tag;
+
+    /**
+     * 속성 값 (예: "ca.example.net; account=1234")
+     */
+    private String value;
+
+    /**
+     * Issuer Critical 플래그가 설정되어 있는지 확인합니다.
+     */
+    public boolean isCritical() {
+        return (flags & FLAG_CRITICAL) != 0;
+    }
+}
@@ -3,6 +3,8 @@ package com.pca.acme.model;
 import java.time.Instant;
 import java.util.List;
 
+import com.pca.acme.exception.AcmeErrorType;
+
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -69,6 +71,16 @@ public class Order {
      */
     private String certificate;
 
+    /**
+     * 주문을 invalid로 만든 에러 타입 (최종화 실패 시, RFC 8555 §7.1.3 error)
+     */
+    private AcmeErrorType errorType;
+
+    /**
+     * 주문을 invalid로 만든 에러 설명
+     */
+    private String errorDetail;
+
     /**
      * 주문 생성 시간
      */
@@ -0,0 +1,165 @@
+package com.pca.acme.reactive;
+
+import java.util.Map;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pca.acme.dto.account.AccountRequest;
+import com.pca.acme.dto.account.AccountResponse;
+import com.pca.acme.dto.order.OrderRequest;
+import com.pca.acme.exception.AcmeErrorType;
+import com.pca.acme.exception.AcmeProblem;
+import com.pca.acme.metrics.AcmeMetrics;
+import com.pca.acme.model.Order;
+import com.pca.acme.service.AccountService;
+import com.pca.acme.service.DirectoryService;
+import com.pca.acme.service.NonceService;
+import com.pca.acme.service.OrderService;
+
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Mono;
+
+/**
+ * ACME 엔드포인트의 WebFlux 핸들러
+ * ACMEController와 같은 서비스를 사용하며, 응답 형태와 에러 규칙도 같습니다.
+ * JWS와 nonce 검증은 JwsWebFilter, NonceWebFilter에서 끝난 상태로 호출됩니다.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class AcmeHandler {
+
+    private final DirectoryService directoryService;
+    private final NonceService nonceService;
+    private final AccountService accountService;
+    private final OrderService orderService;
+    private final ObjectMapper objectMapper;
+    private final AcmeMetrics metrics;
+
+    /**
+     * RFC 8555 §7.1 Directory 엔드포인트
+     * If-None-Match가 ETag와 일치하면 304를 반환합니다.
+     */
+    public Mono<ServerResponse> directory(ServerRequest request) {
+        DirectoryService.DirectoryDocument document = directoryService.getDocument();
+        return request.checkNotModified(document.getETag())
+            .switchIfEmpty(Mono.defer(() -> ServerResponse.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .eTag(document.getETag())
+                .header(HttpHeaders.CACHE_CONTROL, document.getCacheControl())
+                .bodyValue(document.getBody())));
+    }
+
+    /**
+     * RFC 8555 §7.2 NewNonce 엔드포인트
+     * HEAD 메서드 (권장) - 200 OK 반환
+     */
+    public Mono<ServerResponse> newNonceHead(ServerRequest request) {
+        return nonceResponse(ServerResponse.ok());
+    }
+
+    /**
+     * RFC 8555 §7.2 NewNonce 엔드포인트
+     * GET 메서드 (선택) - 204 No Content 반환
+     */
+    public Mono<ServerResponse> newNonceGet(ServerRequest request) {
+        return nonceResponse(ServerResponse.noContent());
+    }
+
+    private Mono<ServerResponse> nonceResponse(ServerResponse.HeadersBuilder<?> builder) {
+        return builder
+            .header("Replay-Nonce", nonceService.createNonce())
+            .header(HttpHeaders.CACHE_CONTROL, "no-store")
+            .header(HttpHeaders.LINK, "<" + nonceService.getDirectoryUrl() + ">;rel=\"index\"")
+            .build();
+    }
+
+    /**
+     * RFC 8555 §7.3 NewAccount 엔드포인트
+     * 기존 계정이면 200 OK, 새 계정이면 201 Created
+     */
+    public Mono<ServerResponse> newAccount(ServerRequest request) {
+        return Mono.fromCallable(() -> {
+                Map<String, Object> jwsHeader = jwsHeader(request);
+                @SuppressWarnings("unchecked")
+                Map<String, Object> jwk = (Map<String, Object>) jwsHeader.get("jwk");
+                AccountRequest accountRequest = objectMapper.readValue(jwsPayload(request), AccountRequest.class);
+
+                String publicKeyHash = accountService.generatePublicKeyHash(jwk);
+                boolean isExistingAccount = accountService.getAccountByPublicKeyHash(publicKeyHash) != null;
+                AccountResponse accountResponse = accountService.createOrGetAccount(accountRequest, jwk);
+                return Map.entry(isExistingAccount, accountResponse);
+            })
+            .onErrorMap(e -> !(e instanceof RuntimeException),
+                e -> new RuntimeException("Account creation failed: " + e.getMessage(), e))
+            .flatMap(result -> ServerResponse.status(result.getKey() ? HttpStatus.OK : HttpStatus.CREATED)
+                .header(HttpHeaders.LOCATION, accountService.getAccountUrl(result.getValue().getAccountId()))
+                .header("Replay-Nonce", nonceService.createNonce())
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(result.getValue()))
+            .onErrorResume(RuntimeException.class, this::problem);
+    }
+
+    /**
+     * ACME NewOrder API
+     * RFC 8555 §7.4 Order Objects 구현
+     */
+    public Mono<ServerResponse> newOrder(ServerRequest request) {
+        return Mono.fromCallable(() -> {
+                String kidUrl = (String) jwsHeader(request).get("kid");
+                if (kidUrl == null) {
+                    throw new AcmeProblem(AcmeErrorType.MALFORMED, "Missing 'kid' field in JWS header for new order");
+                }
+
+                String accountId = extractAccountIdFromKidUrl(kidUrl);
+                if (accountId == null || accountService.getAccountById(accountId) == null) {
+                    throw new AcmeProblem(AcmeErrorType.ACCOUNT_DOES_NOT_EXIST, "Account not found: " + kidUrl);
+                }
+
+                OrderRequest orderRequest = objectMapper.readValue(jwsPayload(request), OrderRequest.class);
+                return orderService.createOrder(accountId, orderRequest);
+            })
+            .onErrorMap(e -> !(e instanceof RuntimeException),
+                e -> new RuntimeException("Order creation failed: " + e.getMessage(), e))
+            .flatMap((Order order) -> ServerResponse.status(HttpStatus.CREATED)
+                .header(HttpHeaders.LOCATION, orderService.getOrderUrl(order.getOrderId()))
+                .header("Replay-Nonce", nonceService.createNonce())
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(orderService.toOrderResponse(order)))
+            .onErrorResume(RuntimeException.class, this::problem);
+    }
+
+    private Mono<ServerResponse> problem(RuntimeException ex) {
+        AcmeProblem problem = AcmeProblem.of(ex);
+        metrics.error(problem.getType());
+        return ReactiveProblems.response(problem, nonceService.createNonce());
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> jwsHeader(ServerRequest request) {
+        return (Map<String, Object>) request.attribute(JwsWebFilter.JWS_HEADER).orElseThrow(
+            () -> new AcmeProblem(AcmeErrorType.MALFORMED, "JWS header information is missing"));
+    }
+
+    private static String jwsPayload(ServerRequest request) {
+        return (String) request.attribute(JwsWebFilter.JWS_PAYLOAD).orElseThrow(
+            () -> new AcmeProblem(AcmeErrorType.MALFORMED, "JWS payload is missing"));
+    }
+
+    /**
+     * kid URL에서 계정 ID를 추출합니다.
+     */
+    private static String extractAccountIdFromKidUrl(String kidUrl) {
+        if (kidUrl.contains("/acme/acct/")) {
+            return kidUrl.substring(kidUrl.lastIndexOf("/") + 1);
+        }
+        return null;
+    }
+}
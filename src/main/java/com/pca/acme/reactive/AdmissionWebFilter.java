@@ -0,0 +1,66 @@
+package com.pca.acme.reactive;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.core.Ordered;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+
+import com.pca.acme.exception.AcmeProblem;
+import com.pca.acme.filter.AdmissionControlFilter;
+import com.pca.acme.metrics.AcmeMetrics;
+import com.pca.acme.service.AdmissionController;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+
+/**
+ * new-account, new-order POST 요청의 부하 차단 WebFilter (WebFlux 스택)
+ * 서블릿 스택의 AdmissionControlFilter와 같은 AdmissionController를 JWS 검증과 nonce 소비보다 먼저 적용합니다.
+ * 이벤트 루프 스레드를 막지 않도록 실행 슬롯을 기다리지 않으며({@link AdmissionController#admitNow()}), 슬롯이 없으면 바로 거절합니다.
+ * 응답은 503 rateLimited 문제 문서와 계산된 Retry-After이고, nonce를 소비하지 않았으므로 Replay-Nonce는 붙이지 않습니다.
+ * 슬롯은 응답이 끝나거나 취소될 때 반납합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@ConditionalOnProperty(name = "acme.admission.enabled", havingValue = "true", matchIfMissing = true)
+public class AdmissionWebFilter implements WebFilter, Ordered {
+
+    private final AdmissionController admissionController;
+    private final AcmeMetrics metrics;
+
+    @Override
+    public int getOrder() {
+        // IP별 요청 한도 뒤, JWS 검증 전 실행
+        return -1;
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        ServerHttpRequest request = exchange.getRequest();
+        String path = request.getPath().value();
+        if (!AdmissionControlFilter.isAdmissionControlled(request.getMethod().name(), path)) {
+            return chain.filter(exchange);
+        }
+
+        AdmissionController.Reason rejected = admissionController.admitNow();
+        if (rejected != null) {
+            AcmeProblem problem = AdmissionControlFilter.problemFor(rejected);
+            metrics.error(problem.getType());
+            log.debug("Shed {} request: {}", path, rejected);
+            exchange.getResponse().getHeaders().set("Retry-After",
+                String.valueOf(admissionController.getRetryAfterSeconds()));
+            return ReactiveProblems.write(exchange, problem);
+        }
+
+        long start = System.nanoTime();
+        return chain.filter(exchange)
+            .doFinally(signal -> admissionController.release(start));
+    }
+}
@@ -0,0 +1,138 @@
+package com.pca.acme.reactive;
+
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.core.Ordered;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferLimitException;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+
+import com.pca.acme.exception.AcmeErrorType;
+import com.pca.acme.exception.AcmeProblem;
+import com.pca.acme.jfr.JwsVerifyEvent;
+import com.pca.acme.metrics.AcmeMetrics;
+import com.pca.acme.util.JwsValidator;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+
+/**
+ * JWS 검증 WebFilter (WebFlux 스택)
+ * JwsValidationInterceptor와 같은 규칙으로 검증하되, 요청 본문을 DataBuffer 바이트로 모아 바로 파싱합니다.
+ * 검증된 헤더와 페이로드는 exchange 속성(jwsHeader, jwsPayload)으로 핸들러에 전달됩니다.
+ * RFC 8555 §6.2 JWS 요구사항 구현
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class JwsWebFilter implements WebFilter, Ordered {
+
+    static final String JWS_HEADER = "jwsHeader";
+    static final String JWS_PAYLOAD = "jwsPayload";
+
+    private static final MediaType JOSE_JSON = MediaType.parseMediaType("application/jose+json");
+
+    private static final AcmeProblem MISSING_JWS =
+        new AcmeProblem(AcmeErrorType.MISSING_JWS, "JWS token is required");
+    private static final AcmeProblem MISSING_JWK =
+        new AcmeProblem(AcmeErrorType.MALFORMED, "Missing 'jwk' field in JWS header for new account");
+    private static final AcmeProblem INVALID_URL =
+        new AcmeProblem(AcmeErrorType.MALFORMED, "Invalid or missing 'url' field in JWS header");
+
+    private final JwsValidator jwsValidator;
+    private final AcmeMetrics metrics;
+
+    @Value("${acme.reactive.max-jws-bytes:65536}")
+    private int maxJwsBytes = 65536;
+
+    @Override
+    public int getOrder() {
+        return 0;
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        String path = exchange.getRequest().getPath().value();
+        if (!path.startsWith("/acme/") || isExcludedPath(path)) {
+            return chain.filter(exchange);
+        }
+
+        MediaType contentType = exchange.getRequest().getHeaders().getContentType();
+        if (contentType == null || !JOSE_JSON.isCompatibleWith(contentType)) {
+            log.warn("Invalid Content-Type for JWS request: {}", contentType);
+            return reject(exchange, MISSING_JWS);
+        }
+
+        return DataBufferUtils.join(exchange.getRequest().getBody(), maxJwsBytes)
+            .map(JwsWebFilter::toBytes)
+            .defaultIfEmpty(new byte[0])
+            .flatMap(body -> validate(exchange, chain, path, body))
+            .onErrorResume(DataBufferLimitException.class,
+                e -> reject(exchange,
+                    new AcmeProblem(AcmeErrorType.MALFORMED, "JWS body exceeds " + maxJwsBytes + " bytes")));
+    }
+
+    private Mono<Void> validate(ServerWebExchange exchange, WebFilterChain chain, String path, byte[] body) {
+        if (body.length == 0) {
+            return reject(exchange, MISSING_JWS);
+        }
+
+        JwsVerifyEvent event = new JwsVerifyEvent();
+        event.begin();
+        JwsValidator.JwsValidationResult result = jwsValidator.validateJws(body);
+        event.complete(path, body.length, result);
+        if (!result.isValid()) {
+            return reject(exchange, new AcmeProblem(AcmeErrorType.MALFORMED_JWS, result.getErrorMessage()));
+        }
+
+        // NewAccount API 특화 검증
+        if (path.equals("/acme/new-account")) {
+            Map<String, Object> header = result.getHeader();
+            if (!header.containsKey("jwk")) {
+                return reject(exchange, MISSING_JWK);
+            }
+            Object algorithm = header.get("alg");
+            if (!"RS256".equals(algorithm) && !"ES256".equals(algorithm)) {
+                return reject(exchange,
+                    new AcmeProblem(AcmeErrorType.BAD_SIGNATURE_ALGORITHM, "Unsupported signature algorithm: " + algorithm));
+            }
+            Object url = header.get("url");
+            if (!(url instanceof String) || !((String) url).endsWith("/acme/new-account")) {
+                return reject(exchange, INVALID_URL);
+            }
+        }
+
+        exchange.getAttributes().put(JWS_HEADER, result.getHeader());
+        exchange.getAttributes().put(JWS_PAYLOAD, result.getPayload());
+        return chain.filter(exchange);
+    }
+
+    private Mono<Void> reject(ServerWebExchange exchange, AcmeProblem problem) {
+        metrics.error(problem.getType());
+        log.warn("JWS validation failed: {} - {}", problem.getType().getType(), problem.getDetail());
+        return ReactiveProblems.write(exchange, problem);
+    }
+
+    static boolean isExcludedPath(String path) {
+        return path.equals("/acme/directory") || path.equals("/acme/new-nonce");
+    }
+
+    private static byte[] toBytes(DataBuffer buffer) {
+        try {
+            byte[] bytes = new byte[buffer.readableByteCount()];
+            buffer.read(bytes);
+            return bytes;
+        } finally {
+            DataBufferUtils.release(buffer);
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.pca.acme.reactive;
+
+import java.util.Map;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.core.Ordered;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+
+import com.pca.acme.exception.AcmeErrorType;
+import com.pca.acme.exception.AcmeProblem;
+import com.pca.acme.metrics.AcmeMetrics;
+import com.pca.acme.service.NonceService;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+
+/**
+ * Nonce 검증 WebFilter (WebFlux 스택)
+ * JwsWebFilter가 저장한 JWS 헤더의 nonce를 검증하고 소비합니다.
+ * RFC 8555 §6.5 Replay Protection 구현
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class NonceWebFilter implements WebFilter, Ordered {
+
+    private static final AcmeProblem MISSING_HEADER =
+        new AcmeProblem(AcmeErrorType.MALFORMED, "JWS header information is missing");
+    private static final AcmeProblem MISSING_NONCE =
+        new AcmeProblem(AcmeErrorType.BAD_NONCE, "Missing 'nonce' field in JWS header");
+    private static final AcmeProblem INVALID_NONCE =
+        new AcmeProblem(AcmeErrorType.BAD_NONCE, "Invalid or expired nonce");
+
+    private final NonceService nonceService;
+    private final AcmeMetrics metrics;
+
+    @Override
+    public int getOrder() {
+        // JWS 검증 후 실행
+        return 1;
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        String path = exchange.getRequest().getPath().value();
+        if (!path.startsWith("/acme/") || JwsWebFilter.isExcludedPath(path)) {
+            return chain.filter(exchange);
+        }
+
+        Map<String, Object> jwsHeader = exchange.getAttribute(JwsWebFilter.JWS_HEADER);
+        if (jwsHeader == null) {
+            return reject(exchange, MISSING_HEADER);
+        }
+
+        Object nonce = jwsHeader.get("nonce");
+        if (!(nonce instanceof String) || ((String) nonce).trim().isEmpty()) {
+            return reject(exchange, MISSING_NONCE);
+        }
+
+        if (!nonceService.validateAndConsumeNonce((String) nonce)) {
+            return reject(exchange, INVALID_NONCE);
+        }
+        return chain.filter(exchange);
+    }
+
+    private Mono<Void> reject(ServerWebExchange exchange, AcmeProblem problem) {
+        metrics.error(problem.getType());
+        log.warn("Nonce validation failed: {} - {}", problem.getType().getType(), problem.getDetail());
+        return ReactiveProblems.write(exchange, problem);
+    }
+}
@@ -0,0 +1,78 @@
+package com.pca.acme.reactive;
+
+import java.net.InetSocketAddress;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.core.Ordered;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+
+import com.pca.acme.exception.RateLimitedProblem;
+import com.pca.acme.filter.RateLimitFilter;
+import com.pca.acme.metrics.AcmeMetrics;
+import com.pca.acme.service.RateLimiter;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+
+/**
+ * new-nonce, new-account의 클라이언트 IP별 요청 한도 WebFilter (WebFlux 스택)
+ * 서블릿 스택의 RateLimitFilter와 같은 한도를 JWS 검증과 nonce 소비보다 먼저 적용합니다.
+ * 응답은 429 rateLimited 문제 문서와 Retry-After이며, 워밍업 면제 토큰을 가진 요청은 검사하지 않습니다.
+ *
+ * IP는 소켓 주소이며, 프록시 뒤에서는 server.forward-headers-strategy로 실제 주소를 받아야 합니다.
+ * IPv6 주소는 RateLimitFilter와 같이 acme.rate-limit.ipv6-prefix-length 비트 프리픽스 단위로 셉니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class RateLimitWebFilter implements WebFilter, Ordered {
+
+    private final RateLimiter rateLimiter;
+    private final AcmeMetrics metrics;
+
+    @Value("${acme.rate-limit.ipv6-prefix-length:64}")
+    private int ipv6PrefixLength;
+
+    @Override
+    public int getOrder() {
+        // 부하 차단(AdmissionWebFilter)과 JWS 검증 전 실행
+        return -2;
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        ServerHttpRequest request = exchange.getRequest();
+        RateLimiter.Limit limit = RateLimitFilter.limitFor(request.getMethod().name(), request.getPath().value());
+        if (limit == null || rateLimiter.isExempt(request.getHeaders().getFirst(RateLimiter.EXEMPT_HEADER))) {
+            return chain.filter(exchange);
+        }
+        long retryAfter = rateLimiter.check(limit, RateLimitFilter.addressKey(remoteAddress(request), ipv6PrefixLength));
+        if (retryAfter <= 0) {
+            return chain.filter(exchange);
+        }
+
+        RateLimitedProblem problem = new RateLimitedProblem(
+            "Too many " + limit.getDetail() + ", retry after " + retryAfter + " seconds", retryAfter);
+        metrics.error(problem.getType());
+        log.debug("Rate limited {}", limit);
+        return ReactiveProblems.write(exchange, problem);
+    }
+
+    /**
+     * 서블릿의 getRemoteAddr()와 같은 문자열(호스트 주소)을 만듭니다.
+     */
+    private static String remoteAddress(ServerHttpRequest request) {
+        InetSocketAddress address = request.getRemoteAddress();
+        if (address == null) {
+            return "";
+        }
+        return address.getAddress() != null ? address.getAddress().getHostAddress() : address.getHostString();
+    }
+}
@@ -0,0 +1,41 @@
+package com.pca.acme.reactive;
+
+import static org.springframework.web.reactive.function.server.RequestPredicates.HEAD;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.web.embedded.netty.NettyReactiveWebServerFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.reactive.function.server.RouterFunctions;
+import org.springframework.web.reactive.function.server.ServerResponse;
+
+/**
+ * WebFlux(Netty) 실행 모드 설정
+ * reactive 프로파일(spring.main.web-application-type=reactive)에서만 활성화되며,
+ * 이때 서블릿 컨트롤러와 인터셉터 대신 이 라우터와 WebFilter가 ACME 요청을 처리합니다.
+ */
+@Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveAcmeConfig {
+
+    /**
+     * Tomcat도 클래스패스에 있으므로 Netty 서버를 명시적으로 선택합니다.
+     */
+    @Bean
+    public NettyReactiveWebServerFactory nettyReactiveWebServerFactory() {
+        return new NettyReactiveWebServerFactory();
+    }
+
+    @Bean
+    public RouterFunction<ServerResponse> acmeRoutes(AcmeHandler handler) {
+        return RouterFunctions.route()
+            .path("/acme", builder -> builder
+                .GET("/directory", handler::directory)
+                .route(HEAD("/new-nonce"), handler::newNonceHead)
+                .GET("/new-nonce", handler::newNonceGet)
+                .POST("/new-account", handler::newAccount)
+                .POST("/new-order", handler::newOrder))
+            .build();
+    }
+}
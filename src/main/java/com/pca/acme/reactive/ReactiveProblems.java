@@ -0,0 +1,51 @@
+package com.pca.acme.reactive;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import org.springframework.web.server.ServerWebExchange;
+
+import com.pca.acme.exception.AcmeProblem;
+import com.pca.acme.exception.RateLimitedProblem;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * WebFlux 스택의 ACME 에러 응답 작성
+ * RFC 8555 §6.7 Problem Details 형식으로 MVC 스택과 같은 본문을 만듭니다.
+ */
+final class ReactiveProblems {
+
+    private static final MediaType PROBLEM_JSON = MediaType.parseMediaType(AcmeProblem.PROBLEM_JSON);
+
+    private ReactiveProblems() {
+    }
+
+    /**
+     * 핸들러 에러 응답을 만듭니다 (GlobalExceptionHandler와 동일).
+     */
+    static Mono<ServerResponse> response(AcmeProblem problem, String nonce) {
+        ServerResponse.BodyBuilder builder = ServerResponse.status(problem.getStatus())
+            .header("Replay-Nonce", nonce);
+        if (problem instanceof RateLimitedProblem rateLimited) {
+            builder.header("Retry-After", String.valueOf(rateLimited.getRetryAfterSeconds()));
+        }
+        return builder.contentType(PROBLEM_JSON).bodyValue(problem.toJson());
+    }
+
+    /**
+     * 필터 단계에서 체인을 중단하고 에러 응답을 직접 씁니다 (인터셉터의 sendErrorResponse와 동일).
+     */
+    static Mono<Void> write(ServerWebExchange exchange, AcmeProblem problem) {
+        byte[] body = problem.toJson();
+        ServerHttpResponse response = exchange.getResponse();
+        response.setStatusCode(problem.getStatus());
+        response.getHeaders().set(HttpHeaders.CONTENT_TYPE, AcmeProblem.PROBLEM_JSON);
+        response.getHeaders().setContentLength(body.length);
+        if (problem instanceof RateLimitedProblem rateLimited) {
+            response.getHeaders().set("Retry-After", String.valueOf(rateLimited.getRetryAfterSeconds()));
+        }
+        return response.writeWith(Mono.just(response.bufferFactory().wrap(body)));
+    }
+}
@@ -2,6 +2,11 @@ package com.pca.acme.service;
 
 import com.pca.acme.dto.account.AccountRequest;
 import com.pca.acme.dto.account.AccountResponse;
+import com.pca.acme.event.AcmeEventType;
+import com.pca.acme.event.AcmeEvents;
+import com.pca.acme.exception.AcmeErrorType;
+import com.pca.acme.exception.AcmeProblem;
+import com.pca.acme.metrics.AcmeMetrics;
 import com.pca.acme.model.Account;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -28,6 +33,9 @@ import java.util.regex.Pattern;
 @RequiredArgsConstructor
 public class AccountService {
 
+    private final AcmeMetrics metrics;
+    private final KeyBlocklist keyBlocklist;
+
     @Value("${acme.base-url:https://localhost:8443}")
     private String baseUrl;
 
@@ -50,24 +58,27 @@ public class AccountService {
         // 2. 연락처 형식 검증
         validateContactFormats(request.getContact());
         
-        // 3. 공개키 해시 생성
+        // 3. 유출된 키 차단 목록 확인
+        keyBlocklist.checkAccountKey(jwk);
+
+        // 4. 공개키 해시 생성
         String publicKeyHash = generatePublicKeyHash(jwk);
         
-        // 4. 기존 계정 확인
+        // 5. 기존 계정 확인
         Account existingAccount = accountsByHash.get(publicKeyHash);
         if (existingAccount != null) {
-            log.info("Returning existing account: {}", existingAccount.getAccountId());
+            log.debug("Returning existing account: {}", existingAccount.getAccountId());
             return buildAccountResponse(existingAccount, false);
         }
         
-        // 5. 새 계정 생성
+        // 6. 새 계정 생성
         Account newAccount = createNewAccount(request, jwk, publicKeyHash);
         
-        // 6. 계정 저장
+        // 7. 계정 저장
         accountsByHash.put(publicKeyHash, newAccount);
         accountsById.put(newAccount.getAccountId(), newAccount);
         
-        log.info("Created new account: {}", newAccount.getAccountId());
+        AcmeEvents.emit(AcmeEventType.ACCOUNT_CREATED, "account", newAccount.getAccountId());
         return buildAccountResponse(newAccount, true);
     }
 
@@ -75,14 +86,37 @@ public class AccountService {
      * 계정 ID로 계정 조회
      */
     public Account getAccountById(String accountId) {
-        return accountsById.get(accountId);
+        long start = metrics.start();
+        Account account = accountsById.get(accountId);
+        metrics.stop(AcmeMetrics.Stage.ACCOUNT_LOOKUP, start);
+        return account;
     }
 
     /**
      * 공개키 해시로 계정 조회
      */
     public Account getAccountByPublicKeyHash(String publicKeyHash) {
-        return accountsByHash.get(publicKeyHash);
+        long start = metrics.start();
+        Account account = accountsByHash.get(publicKeyHash);
+        metrics.stop(AcmeMetrics.Stage.ACCOUNT_LOOKUP, start);
+        return account;
+    }
+
+    /**
+     * 계정을 저장소에서 제거합니다 (워밍업용 합성 계정 정리).
+     */
+    public void removeAccount(String accountId) {
+        Account account = accountsById.remove(accountId);
+        if (account != null) {
+            accountsByHash.remove(account.getPublicKeyHash(), account);
+        }
+    }
+
+    /**
+     * 저장된 계정 수를 반환합니다.
+     */
+    public int getAccountCount() {
+        return accountsById.size();
     }
 
     /**
@@ -90,10 +124,10 @@ public class AccountService {
      */
     private void validateAccountRequest(AccountRequest request) {
         if (request.getTermsOfServiceAgreed() == null) {
-            throw new IllegalArgumentException("termsOfServiceAgreed field is required");
+            throw new AcmeProblem(AcmeErrorType.MALFORMED, "termsOfServiceAgreed field is required");
         }
         if (!request.getTermsOfServiceAgreed()) {
-            throw new IllegalArgumentException("Terms of service agreement is required");
+            throw new AcmeProblem(AcmeErrorType.USER_ACTION_REQUIRED, "Terms of service agreement is required");
         }
     }
 
@@ -108,7 +142,7 @@ public class AccountService {
         for (String contact : contacts) {
             if (!EMAIL_PATTERN.matcher(contact).matches() && 
                 !TEL_PATTERN.matcher(contact).matches()) {
-                throw new IllegalArgumentException("Invalid contact format: " + contact);
+                throw new AcmeProblem(AcmeErrorType.INVALID_CONTACT, "Invalid contact format: " + contact);
             }
         }
     }
@@ -0,0 +1,183 @@
+package com.pca.acme.service;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 부하 차단(load shedding) 판단 서비스
+ * new-account, new-order처럼 상태를 만드는 요청만 동시 실행 수를 제한하고, 과부하 신호가 보이면 일찍 거절합니다.
+ * new-nonce, directory, 주문·인증서 폴링은 이 제한을 거치지 않으므로 과부하 중에도 여유가 남습니다.
+ *
+ * 거절 조건 (먼저 맞는 것):
+ * 1. 만료되지 않은 nonce가 max-count의 nonce-pressure-ratio 이상: 더 받으면 살아 있는 nonce가 밀려나 badNonce 재시도가 늘어남
+ *    저장소 크기에는 아직 지우지 않은 만료 nonce도 들어 있으므로, 기준을 넘으면 만료 nonce를 먼저 정리한 뒤 다시 셉니다
+ *    (정리는 초당 한 번까지).
+ * 2. 최근 대기 지연(EWMA)이 목표를 넘었고 바로 얻을 수 있는 실행 슬롯이 없음: 대기열에 넣지 않고 바로 거절 (CoDel 방식)
+ * 3. max-queue-wait 동안 실행 슬롯을 얻지 못함 (WebFlux 스택의 {@link #admitNow()}는 기다리지 않고 바로 거절)
+ *
+ * Retry-After는 대기 중·실행 중 요청 수와 평균 처리 시간으로 밀린 작업을 비우는 데 걸릴 시간을 계산합니다.
+ */
+@Service
+@RequiredArgsConstructor
+public class AdmissionController {
+
+    // 대기 지연과 처리 시간 EWMA 가중치
+    private static final double EWMA_ALPHA = 0.2;
+
+    // 압박 판단 전 만료 nonce 정리 최소 간격
+    private static final long PURGE_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    /**
+     * 거절 사유
+     */
+    public enum Reason {
+        NONCE_PRESSURE("nonce store is near capacity"),
+        QUEUE_DELAY("request queueing delay is above target"),
+        IN_FLIGHT("too many requests in flight");
+
+        private final String detail;
+
+        Reason(String detail) {
+            this.detail = detail;
+        }
+
+        public String getDetail() {
+            return detail;
+        }
+    }
+
+    private final NonceStore nonceStore;
+
+    @Value("${acme.admission.max-in-flight:64}")
+    private int maxInFlight;
+
+    @Value("${acme.admission.max-queue-wait-ms:100}")
+    private long maxQueueWaitMs;
+
+    @Value("${acme.admission.target-queue-delay-ms:20}")
+    private long targetQueueDelayMs;
+
+    @Value("${acme.admission.nonce-pressure-ratio:0.9}")
+    private double noncePressureRatio;
+
+    @Value("${acme.nonce.max-count:100000}")
+    private int maxNonceCount;
+
+    @Value("${acme.nonce.max-age:300}")
+    private long nonceMaxAgeSeconds;
+
+    @Value("${acme.admission.max-retry-after-seconds:60}")
+    private long maxRetryAfterSeconds;
+
+    private Semaphore permits;
+    private volatile double queueDelayNanos;
+    private volatile double averageServiceNanos;
+    private final AtomicLong lastPurgeNanos = new AtomicLong(System.nanoTime() - PURGE_INTERVAL_NANOS);
+
+    @PostConstruct
+    public void start() {
+        permits = new Semaphore(maxInFlight);
+        // 처리 시간 측정값이 생기기 전의 추정치
+        averageServiceNanos = TimeUnit.MILLISECONDS.toNanos(10);
+    }
+
+    /**
+     * 상태를 만드는 요청의 실행 슬롯을 얻습니다.
+     *
+     * @return 거절 사유, 허용되었으면 null (허용된 경우 처리 후 {@link #release(long)}를 호출해야 함)
+     */
+    public Reason admit() {
+        return admit(maxQueueWaitMs);
+    }
+
+    /**
+     * 기다리지 않고 실행 슬롯을 얻습니다 (이벤트 루프 스레드용, WebFlux 스택).
+     * 슬롯이 없으면 max-queue-wait를 기다리는 대신 바로 거절합니다.
+     *
+     * @return 거절 사유, 허용되었으면 null (허용된 경우 처리 후 {@link #release(long)}를 호출해야 함)
+     */
+    public Reason admitNow() {
+        return admit(0);
+    }
+
+    private Reason admit(long queueWaitMs) {
+        if (isNonceStoreUnderPressure()) {
+            return Reason.NONCE_PRESSURE;
+        }
+
+        if (permits.tryAcquire()) {
+            recordQueueDelay(0);
+            return null;
+        }
+        if (queueDelayNanos > TimeUnit.MILLISECONDS.toNanos(targetQueueDelayMs)) {
+            return Reason.QUEUE_DELAY;
+        }
+        if (queueWaitMs <= 0) {
+            return Reason.IN_FLIGHT;
+        }
+
+        long waitStart = System.nanoTime();
+        try {
+            boolean acquired = permits.tryAcquire(queueWaitMs, TimeUnit.MILLISECONDS);
+            recordQueueDelay(System.nanoTime() - waitStart);
+            return acquired ? null : Reason.IN_FLIGHT;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return Reason.IN_FLIGHT;
+        }
+    }
+
+    /**
+     * 실행 슬롯을 반납하고 처리 시간을 기록합니다.
+     *
+     * @param startNanos 슬롯을 얻은 뒤 처리를 시작한 시각 (System.nanoTime)
+     */
+    public void release(long startNanos) {
+        permits.release();
+        long elapsed = System.nanoTime() - startNanos;
+        averageServiceNanos = averageServiceNanos + EWMA_ALPHA * (elapsed - averageServiceNanos);
+    }
+
+    /**
+     * 밀린 요청을 비우는 데 걸릴 시간으로 클라이언트 재시도 간격(초)을 계산합니다.
+     */
+    public long getRetryAfterSeconds() {
+        int backlog = getInFlight() + permits.getQueueLength();
+        double seconds = backlog * averageServiceNanos / Math.max(1, maxInFlight) / 1_000_000_000d;
+        return Math.max(1, Math.min(maxRetryAfterSeconds, (long) Math.ceil(seconds)));
+    }
+
+    /**
+     * 실행 중인 상태 생성 요청 수를 반환합니다.
+     */
+    public int getInFlight() {
+        return maxInFlight - permits.availablePermits();
+    }
+
+    /**
+     * 만료되지 않은 nonce 수로 저장소 압박을 판단합니다.
+     */
+    private boolean isNonceStoreUnderPressure() {
+        double threshold = noncePressureRatio * maxNonceCount;
+        if (nonceStore.getNonceCount() < threshold) {
+            return false;
+        }
+        long now = System.nanoTime();
+        long last = lastPurgeNanos.get();
+        if (now - last >= PURGE_INTERVAL_NANOS && lastPurgeNanos.compareAndSet(last, now)) {
+            nonceStore.cleanupExpiredNonces(nonceMaxAgeSeconds);
+        }
+        return nonceStore.getNonceCount() >= threshold;
+    }
+
+    private void recordQueueDelay(long nanos) {
+        queueDelayNanos = queueDelayNanos + EWMA_ALPHA * (nanos - queueDelayNanos);
+    }
+}
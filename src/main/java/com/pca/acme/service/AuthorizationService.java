@@ -8,8 +8,12 @@ import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
+import com.pca.acme.event.AcmeEventType;
+import com.pca.acme.event.AcmeEvents;
+import com.pca.acme.event.AuthorizationStatusChangedEvent;
 import com.pca.acme.model.Authorization;
 import com.pca.acme.model.Identifier;
 
@@ -26,6 +30,7 @@ import lombok.extern.slf4j.Slf4j;
 public class AuthorizationService {
 
     private final Map<String, Authorization> authorizations = new ConcurrentHashMap<>();
+    private final ApplicationEventPublisher eventPublisher;
 
     @Value("${acme.base-url:https://localhost:8443/acme}")
     private String baseUrl;
@@ -37,8 +42,6 @@ public class AuthorizationService {
      * 주어진 식별자들에 대한 인증을 생성합니다.
      */
     public List<Authorization> createAuthorizations(List<Identifier> identifiers) {
-        log.info("Creating authorizations for {} identifiers", identifiers.size());
-
         return identifiers.stream()
             .map(this::createAuthorization)
             .collect(Collectors.toList());
@@ -48,9 +51,7 @@ public class AuthorizationService {
      * 단일 식별자에 대한 인증을 생성합니다.
      */
     public Authorization createAuthorization(Identifier identifier) {
-        log.info("Creating authorization with baseUrl: {}, expirationHours: {}", baseUrl, authorizationExpirationHours);
         String authorizationId = generateAuthorizationId();
-        log.info("Generated authorizationId: {}", authorizationId);
         Instant now = Instant.now();
         Instant expires = now.plusSeconds(authorizationExpirationHours * 3600L);
 
@@ -90,8 +91,8 @@ public class AuthorizationService {
 
         authorizations.put(authorizationId, authorization);
 
-        log.info("Created authorization {} for identifier {}:{}",
-            authorizationId, identifier.getType(), identifier.getValue());
+        AcmeEvents.emit(AcmeEventType.AUTHORIZATION_CREATED,
+            "authorization", authorizationId, "identifier", identifier.getValue());
 
         return authorization;
     }
@@ -103,6 +104,43 @@ public class AuthorizationService {
         return authorizations.get(authorizationId);
     }
 
+    /**
+     * 인증을 저장소에서 제거합니다.
+     */
+    public void removeAuthorization(String authorizationId) {
+        authorizations.remove(authorizationId);
+    }
+
+    /**
+     * 저장된 인증 수를 반환합니다.
+     */
+    public int getAuthorizationCount() {
+        return authorizations.size();
+    }
+
+    /**
+     * 인증 상태를 변경하고, 실제로 상태가 바뀐 경우 상태 변경 이벤트를 발행합니다.
+     * 동일 인증에 대한 동시 갱신은 저장소 단위로 직렬화되므로 이벤트는 전이당 한 번만 발행됩니다.
+     *
+     * @return 상태가 변경되었으면 true, 인증이 없거나 이미 같은 상태이면 false
+     */
+    public boolean updateStatus(String authorizationId, Authorization.AuthorizationStatus status) {
+        Authorization.AuthorizationStatus[] previous = new Authorization.AuthorizationStatus[1];
+        authorizations.computeIfPresent(authorizationId, (id, authorization) -> {
+            previous[0] = authorization.getStatus();
+            authorization.setStatus(status);
+            return authorization;
+        });
+
+        if (previous[0] == null || previous[0] == status) {
+            return false;
+        }
+
+        log.debug("Authorization {} changed from {} to {}", authorizationId, previous[0], status);
+        eventPublisher.publishEvent(new AuthorizationStatusChangedEvent(authorizationId, previous[0], status));
+        return true;
+    }
+
     /**
      * 인증 URL을 생성합니다.
      */
@@ -0,0 +1,20 @@
+package com.pca.acme.service;
+
+import java.util.List;
+
+import com.pca.acme.model.CaaRecord;
+
+/**
+ * CAA 레코드 조회를 위한 인터페이스
+ * RFC 8659 §3 CAA Records 조회를 추상화합니다.
+ */
+public interface CaaResolver {
+
+    /**
+     * 주어진 도메인 이름에 직접 게시된 CAA 레코드를 조회합니다 (상위 도메인 탐색 없음).
+     * @param domain 조회할 도메인 이름 (와일드카드 접두어 제외)
+     * @return CAA 레코드 목록, 레코드가 없거나 도메인이 존재하지 않으면 빈 목록
+     * @throws IllegalStateException DNS 조회 자체가 실패한 경우 (SERVFAIL, 타임아웃 등)
+     */
+    List<CaaRecord> lookup(String domain);
+}
@@ -0,0 +1,331 @@
+package com.pca.acme.service;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.pca.acme.jfr.ChallengeValidateEvent;
+import com.pca.acme.model.CaaRecord;
+import com.pca.acme.model.Identifier;
+import com.pca.acme.model.Order;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * CAA (Certification Authority Authorization) 검사 서비스
+ * RFC 8659 §3 Relevant Resource Record Set 탐색 및 §4 발급 허용 여부 판단 구현
+ *
+ * 주문의 모든 식별자에 대해 탐색해야 할 도메인(자신과 모든 상위 도메인)을 먼저 모은 뒤
+ * 중복을 제거하여 한 번의 병렬 배치로 조회합니다. 조회 결과는 TTL 동안 캐시되며,
+ * 진행 중인 조회도 공유되므로 공통 상위 도메인은 한 번만 조회됩니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CaaService {
+
+    private static final String TAG_ISSUE = "issue";
+    private static final String TAG_ISSUEWILD = "issuewild";
+    private static final String TAG_IODEF = "iodef";
+    private static final String VALIDATION_TYPE = "caa";
+
+    private final CaaResolver caaResolver;
+
+    private final Map<String, CachedLookup> cache = new ConcurrentHashMap<>();
+
+    @Value("${acme.caa.identities:example.com}")
+    private List<String> caaIdentities;
+
+    @Value("${acme.caa.cache-ttl-seconds:300}")
+    private long cacheTtlSeconds;
+
+    @Value("${acme.caa.lookup-threads:16}")
+    private int lookupThreads;
+
+    @Value("${acme.caa.lookup-timeout-ms:5000}")
+    private long lookupTimeoutMs;
+
+    @Value("${acme.caa.evict-interval-seconds:60}")
+    private long evictIntervalSeconds;
+
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreads;
+
+    private ExecutorService lookupExecutor;
+    private ScheduledExecutorService evictor;
+
+    @PostConstruct
+    public void start() {
+        // 고정 크기 풀로 DNS 동시 조회 수를 제한하고, 가상 스레드 모드에서는 풀 스레드도 가상 스레드로 생성
+        ThreadFactory threadFactory = virtualThreads
+            ? Thread.ofVirtual().name("acme-caa-lookup-", 1).factory()
+            : Thread.ofPlatform().daemon(true).name("acme-caa-lookup-", 1).factory();
+        lookupExecutor = Executors.newFixedThreadPool(lookupThreads, threadFactory);
+
+        // 스케줄링이 켜져 있지 않으므로 만료 항목 정리는 전용 스레드에서 수행
+        if (evictIntervalSeconds > 0) {
+            evictor = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().daemon(true).name("acme-caa-evict").factory());
+            evictor.scheduleWithFixedDelay(this::evictExpired, evictIntervalSeconds, evictIntervalSeconds, TimeUnit.SECONDS);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (evictor != null) {
+            evictor.shutdownNow();
+        }
+        if (lookupExecutor != null) {
+            lookupExecutor.shutdownNow();
+        }
+    }
+
+    /**
+     * 주문에 포함된 모든 식별자에 대해 CAA 검사를 수행합니다.
+     * 하나라도 발급이 허용되지 않으면 실패 결과를 반환합니다.
+     */
+    public CaaCheckResult checkOrder(Order order) {
+        return checkIdentifiers(order.getIdentifiers());
+    }
+
+    /**
+     * 식별자 목록에 대해 CAA 검사를 수행합니다.
+     */
+    public CaaCheckResult checkIdentifiers(List<Identifier> identifiers) {
+        ChallengeValidateEvent event = new ChallengeValidateEvent();
+        event.begin();
+
+        // 1. 식별자별 탐색 경로 계산 및 조회 대상 도메인 중복 제거
+        Map<String, CompletableFuture<List<CaaRecord>>> lookups = new LinkedHashMap<>();
+        List<List<String>> pathsByIdentifier = new ArrayList<>(identifiers.size());
+        for (Identifier identifier : identifiers) {
+            List<String> path = climbingPath(baseDomain(identifier.getValue()));
+            pathsByIdentifier.add(path);
+            for (String domain : path) {
+                lookups.computeIfAbsent(domain, this::lookupCached);
+            }
+        }
+
+        // 2. 단일 병렬 배치 완료 대기
+        try {
+            CompletableFuture.allOf(lookups.values().toArray(new CompletableFuture[0]))
+                .get(lookupTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (Exception e) {
+            log.warn("CAA lookup batch failed for {} domains", lookups.size(), e);
+            event.complete(VALIDATION_TYPE, identifiers.size(), lookups.size(), false, null);
+            return CaaCheckResult.invalid(null, "CAA lookup failed: " + rootMessage(e));
+        }
+
+        // 3. 식별자별 관련 레코드 집합 결정 및 평가
+        for (int i = 0; i < identifiers.size(); i++) {
+            Identifier identifier = identifiers.get(i);
+            List<CaaRecord> relevant = List.of();
+            for (String domain : pathsByIdentifier.get(i)) {
+                List<CaaRecord> records = lookups.get(domain).join();
+                if (!records.isEmpty()) {
+                    relevant = records;
+                    break;
+                }
+            }
+
+            boolean wildcard = identifier.getValue().startsWith("*.");
+            if (!isIssuancePermitted(relevant, wildcard)) {
+                event.complete(VALIDATION_TYPE, identifiers.size(), lookups.size(), false, identifier.getValue());
+                return CaaCheckResult.invalid(identifier.getValue(),
+                    "CAA record for " + identifier.getValue() + " prevents issuance");
+            }
+        }
+
+        event.complete(VALIDATION_TYPE, identifiers.size(), lookups.size(), true, null);
+        return CaaCheckResult.valid();
+    }
+
+    /**
+     * 관련 레코드 집합으로 발급 허용 여부를 판단합니다 (RFC 8659 §4.2, §4.3).
+     */
+    boolean isIssuancePermitted(List<CaaRecord> records, boolean wildcard) {
+        if (records.isEmpty()) {
+            return true;
+        }
+
+        List<CaaRecord> issue = new ArrayList<>();
+        List<CaaRecord> issueWild = new ArrayList<>();
+        for (CaaRecord record : records) {
+            String tag = record.getTag().toLowerCase(Locale.ROOT);
+            switch (tag) {
+                case TAG_ISSUE -> issue.add(record);
+                case TAG_ISSUEWILD -> issueWild.add(record);
+                case TAG_IODEF -> { }
+                default -> {
+                    // 알 수 없는 critical 속성이 있으면 발급 불가 (RFC 8659 §4.1)
+                    if (record.isCritical()) {
+                        return false;
+                    }
+                }
+            }
+        }
+
+        List<CaaRecord> applicable = wildcard && !issueWild.isEmpty() ? issueWild : issue;
+        if (applicable.isEmpty()) {
+            return true;
+        }
+        for (CaaRecord record : applicable) {
+            String issuer = issuerDomain(record.getValue());
+            if (!issuer.isEmpty() && isOwnIdentity(issuer)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 만료된 캐시 항목을 정리합니다 (evict-interval-seconds마다 전용 스레드에서 호출).
+     */
+    public void evictExpired() {
+        Instant now = Instant.now();
+        cache.values().removeIf(entry -> entry.isExpired(now));
+    }
+
+    /**
+     * 현재 캐시된 도메인 수를 반환합니다.
+     */
+    public int getCacheSize() {
+        return cache.size();
+    }
+
+    private CompletableFuture<List<CaaRecord>> lookupCached(String domain) {
+        Instant now = Instant.now();
+        CachedLookup entry = cache.compute(domain, (key, existing) -> {
+            if (existing != null && !existing.isExpired(now) && !existing.future.isCompletedExceptionally()) {
+                return existing;
+            }
+            CompletableFuture<List<CaaRecord>> future =
+                CompletableFuture.supplyAsync(() -> caaResolver.lookup(key), lookupExecutor);
+            return new CachedLookup(future, now.plusSeconds(cacheTtlSeconds));
+        });
+        return entry.future;
+    }
+
+    private boolean isOwnIdentity(String issuer) {
+        for (String identity : caaIdentities) {
+            if (identity.equalsIgnoreCase(issuer)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * issue 속성 값에서 발급자 도메인을 추출합니다 ("ca.example; account=1" → "ca.example").
+     */
+    private static String issuerDomain(String value) {
+        int separator = value.indexOf(';');
+        String domain = separator >= 0 ? value.substring(0, separator) : value;
+        return domain.trim();
+    }
+
+    /**
+     * 와일드카드 접두어와 끝의 점을 제거한 도메인을 반환합니다.
+     */
+    private static String baseDomain(String value) {
+        String domain = value.startsWith("*.") ? value.substring(2) : value;
+        if (domain.endsWith(".")) {
+            domain = domain.substring(0, domain.length() - 1);
+        }
+        return domain.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * 도메인에서 루트 직전까지 상위로 올라가는 탐색 경로를 계산합니다.
+     * 예: "a.b.example.com" → [a.b.example.com, b.example.com, example.com, com]
+     */
+    static List<String> climbingPath(String domain) {
+        List<String> path = new ArrayList<>();
+        String current = domain;
+        while (!current.isEmpty()) {
+            path.add(current);
+            int dot = current.indexOf('.');
+            if (dot < 0) {
+                break;
+            }
+            current = current.substring(dot + 1);
+        }
+        return path;
+    }
+
+    private static String rootMessage(Throwable e) {
+        Throwable cause = e;
+        while (cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        return cause.getMessage() != null ? cause.getMessage() : cause.getClass().getSimpleName();
+    }
+
+    /**
+     * TTL이 있는 캐시 항목
+     */
+    private static final class CachedLookup {
+        private final CompletableFuture<List<CaaRecord>> future;
+        private final Instant expiresAt;
+
+        private CachedLookup(CompletableFuture<List<CaaRecord>> future, Instant expiresAt) {
+            this.future = future;
+            this.expiresAt = expiresAt;
+        }
+
+        private boolean isExpired(Instant now) {
+            return now.isAfter(expiresAt);
+        }
+    }
+
+    /**
+     * CAA 검사 결과를 담는 클래스
+     */
+    public static class CaaCheckResult {
+        private final boolean permitted;
+        private final String identifier;
+        private final String errorMessage;
+
+        private CaaCheckResult(boolean permitted, String identifier, String errorMessage) {
+            this.permitted = permitted;
+            this.identifier = identifier;
+            this.errorMessage = errorMessage;
+        }
+
+        public static CaaCheckResult valid() {
+            return new CaaCheckResult(true, null, null);
+        }
+
+        public static CaaCheckResult invalid(String identifier, String errorMessage) {
+            return new CaaCheckResult(false, identifier, errorMessage);
+        }
+
+        public boolean isPermitted() {
+            return permitted;
+        }
+
+        public String getIdentifier() {
+            return identifier;
+        }
+
+        public String getErrorMessage() {
+            return errorMessage;
+        }
+    }
+}
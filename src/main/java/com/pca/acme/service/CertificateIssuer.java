@@ -0,0 +1,44 @@
+package com.pca.acme.service;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.pca.acme.model.Order;
+import com.pca.acme.util.CsrParser;
+
+/**
+ * 인증서 발급자 인터페이스
+ * 검증이 끝난 주문과 CSR로 인증서를 발급합니다.
+ */
+public interface CertificateIssuer {
+
+    /**
+     * 인증서를 발급합니다.
+     * @param order 발급 대상 주문 (processing 상태)
+     * @param csr 서명 검증과 식별자 대조가 끝난 CSR
+     * @return 발급된 인증서 다운로드 URL
+     */
+    String issue(Order order, CsrParser.ParsedCsr csr);
+
+    /**
+     * 발급할 수 있는 상태인지 반환합니다 (발급 키가 설정되지 않았으면 false).
+     */
+    default boolean isEnabled() {
+        return true;
+    }
+
+    /**
+     * 여러 주문을 한 번에 발급합니다.
+     * 구현체는 서명기 준비 비용을 배치 단위로 분산할 수 있습니다.
+     * @param orders 발급 대상 주문 목록
+     * @param csrs 주문과 같은 순서의 CSR 목록
+     * @return 주문과 같은 순서의 인증서 다운로드 URL 목록
+     */
+    default List<String> issueBatch(List<Order> orders, List<CsrParser.ParsedCsr> csrs) {
+        List<String> certificateUrls = new ArrayList<>(orders.size());
+        for (int i = 0; i < orders.size(); i++) {
+            certificateUrls.add(issue(orders.get(i), csrs.get(i)));
+        }
+        return certificateUrls;
+    }
+}
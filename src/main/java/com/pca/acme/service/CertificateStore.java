@@ -0,0 +1,306 @@
+package com.pca.acme.service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 발급된 인증서 저장소
+ * RFC 8555 §7.4.2 Downloading the Certificate
+ *
+ * PEM 조각(leaf 인증서, 중간 인증서 체인)을 SHA-256 해시로 주소화한 blob 파일로 한 번만 저장하고,
+ * 인증서마다 leaf blob과 체인 blob 목록을 가리키는 매니페스트만 기록합니다.
+ * 같은 중간 인증서 체인을 쓰는 인증서들은 체인 blob 하나를 공유합니다.
+ * 다운로드 시에는 저장된 바이트를 다시 인코딩하지 않고 응답에 그대로 씁니다.
+ * 체인 blob은 여러 인증서가 공유하고 수가 적으므로 처음 읽을 때 메모리에 두고, leaf blob은 요청마다 파일에서 읽습니다.
+ * 응답은 leaf와 체인 두 파일을 이어 붙여야 하므로 서블릿 출력 스트림으로 쓰며, 커널 sendfile 같은 무복사 전송은 하지 않습니다.
+ */
+@Slf4j
+@Service
+public class CertificateStore {
+
+    private static final String BLOB_DIRECTORY = "blobs";
+    private static final String MANIFEST_DIRECTORY = "certs";
+    private static final String BLOB_SUFFIX = ".pem";
+
+    @Value("${acme.base-url:https://localhost:8443/acme}")
+    private String baseUrl;
+
+    @Value("${acme.certificate-store.directory:data/certificates}")
+    private String directory;
+
+    // 해시 → blob (파일 존재 여부를 매번 확인하지 않도록 캐시)
+    private final Map<String, Blob> blobs = new ConcurrentHashMap<>();
+
+    // 인증서 ID → 저장된 인증서
+    private final Map<String, StoredCertificate> certificates = new ConcurrentHashMap<>();
+
+    private final ThreadLocal<MessageDigest> sha256 = ThreadLocal.withInitial(CertificateStore::newDigest);
+
+    private Path blobDirectory;
+    private Path manifestDirectory;
+
+    @PostConstruct
+    public void init() throws IOException {
+        Path root = Path.of(directory);
+        blobDirectory = Files.createDirectories(root.resolve(BLOB_DIRECTORY));
+        manifestDirectory = Files.createDirectories(root.resolve(MANIFEST_DIRECTORY));
+        loadManifests();
+        log.info("Certificate store at {} ({} certificates, {} blobs)",
+            root.toAbsolutePath(), certificates.size(), blobs.size());
+    }
+
+    /**
+     * 중간 인증서 체인 PEM을 저장하고 체인 ID(내용 해시)를 반환합니다.
+     * 같은 내용은 한 번만 저장되므로 발급자 초기화 시 한 번 호출해 두고 ID를 재사용합니다.
+     */
+    public String storeChain(byte[] chainPem) {
+        return putBlob(chainPem).hash;
+    }
+
+    /**
+     * 발급된 인증서를 저장합니다.
+     *
+     * @param accountId 인증서를 발급받은 계정 ID
+     * @param leafPem PEM 인코딩된 leaf 인증서
+     * @param chainIds storeChain으로 저장한 체인 ID 목록 (첫 번째가 기본 체인, 나머지는 대체 체인)
+     * @return 인증서 ID (leaf 인증서 내용 해시)
+     */
+    public String store(String accountId, byte[] leafPem, List<String> chainIds) {
+        if (chainIds.isEmpty()) {
+            throw new IllegalArgumentException("At least one certificate chain is required");
+        }
+        Blob leaf = putBlob(leafPem);
+        List<Blob> chains = new ArrayList<>(chainIds.size());
+        for (String chainId : chainIds) {
+            Blob chain = blobs.get(chainId);
+            if (chain == null) {
+                throw new IllegalArgumentException("Unknown certificate chain: " + chainId);
+            }
+            chains.add(chain);
+        }
+
+        StoredCertificate certificate = new StoredCertificate(leaf.hash, accountId, leaf, chains);
+        writeManifest(certificate);
+        certificates.put(certificate.certificateId, certificate);
+        return certificate.certificateId;
+    }
+
+    /**
+     * 저장된 인증서를 조회합니다.
+     */
+    public StoredCertificate getCertificate(String certificateId) {
+        return certificates.get(certificateId);
+    }
+
+    /**
+     * 저장된 인증서 수를 반환합니다.
+     */
+    public int getCertificateCount() {
+        return certificates.size();
+    }
+
+    /**
+     * leaf 인증서와 지정한 체인을 출력 스트림에 씁니다.
+     * leaf는 파일에서 한 번에 읽고, 체인은 메모리에 둔 바이트를 그대로 씁니다.
+     */
+    public void writeTo(StoredCertificate certificate, int chainIndex, OutputStream out) throws IOException {
+        out.write(Files.readAllBytes(certificate.leaf.path));
+        out.write(chainContent(certificate.chains.get(chainIndex)));
+    }
+
+    /**
+     * 인증서 다운로드 URL을 생성합니다.
+     */
+    public String getCertificateUrl(String certificateId) {
+        return baseUrl + "/cert/" + certificateId;
+    }
+
+    /**
+     * 대체 체인 다운로드 URL을 생성합니다 (0번은 기본 체인).
+     */
+    public String getCertificateUrl(String certificateId, int chainIndex) {
+        return chainIndex == 0 ? getCertificateUrl(certificateId) : getCertificateUrl(certificateId) + "/" + chainIndex;
+    }
+
+    private Blob putBlob(byte[] content) {
+        MessageDigest digest = sha256.get();
+        digest.reset();
+        String hash = HexFormat.of().formatHex(digest.digest(content));
+        Blob blob = blobs.get(hash);
+        if (blob != null) {
+            return blob;
+        }
+        // computeIfAbsent는 버킷 모니터를 잡은 채 함수를 실행하므로 파일 쓰기는 맵 밖에서 수행
+        // (같은 내용을 동시에 쓰더라도 원자적 이동이라 결과는 동일)
+        blob = writeBlob(hash, content);
+        Blob existing = blobs.putIfAbsent(hash, blob);
+        return existing != null ? existing : blob;
+    }
+
+    private Blob writeBlob(String hash, byte[] content) {
+        Path path = blobDirectory.resolve(hash + BLOB_SUFFIX);
+        try {
+            if (!Files.exists(path)) {
+                writeAtomically(path, content);
+            }
+            return new Blob(hash, path, content.length);
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to write certificate blob " + hash, e);
+        }
+    }
+
+    /**
+     * 매니페스트 형식: 첫 줄은 계정 ID, 둘째 줄은 leaf 해시, 이후 줄은 체인 해시
+     */
+    private void writeManifest(StoredCertificate certificate) {
+        StringBuilder manifest = new StringBuilder()
+            .append(certificate.accountId).append('\n')
+            .append(certificate.leaf.hash).append('\n');
+        for (Blob chain : certificate.chains) {
+            manifest.append(chain.hash).append('\n');
+        }
+        try {
+            writeAtomically(manifestDirectory.resolve(certificate.certificateId),
+                manifest.toString().getBytes(StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to write certificate manifest " + certificate.certificateId, e);
+        }
+    }
+
+    private void loadManifests() throws IOException {
+        try (DirectoryStream<Path> manifests = Files.newDirectoryStream(manifestDirectory)) {
+            for (Path manifest : manifests) {
+                if (manifest.getFileName().toString().startsWith(".")) {
+                    continue;
+                }
+                List<String> lines = Files.readAllLines(manifest, StandardCharsets.UTF_8);
+                if (lines.size() < 3) {
+                    log.warn("Skipping malformed certificate manifest {}", manifest);
+                    continue;
+                }
+                Blob leaf = loadBlob(lines.get(1));
+                List<Blob> chains = new ArrayList<>(lines.size() - 2);
+                for (String chainHash : lines.subList(2, lines.size())) {
+                    chains.add(loadBlob(chainHash));
+                }
+                String certificateId = manifest.getFileName().toString();
+                certificates.put(certificateId, new StoredCertificate(certificateId, lines.get(0), leaf, chains));
+            }
+        }
+    }
+
+    private Blob loadBlob(String hash) throws IOException {
+        Blob blob = blobs.get(hash);
+        if (blob == null) {
+            Path path = blobDirectory.resolve(hash + BLOB_SUFFIX);
+            blob = new Blob(hash, path, Files.size(path));
+            blobs.put(hash, blob);
+        }
+        return blob;
+    }
+
+    /**
+     * 체인 blob 내용을 반환합니다. 처음 읽을 때 메모리에 두며, 동시에 읽더라도 내용이 같으므로 결과는 동일합니다.
+     */
+    private static byte[] chainContent(Blob blob) throws IOException {
+        byte[] content = blob.content;
+        if (content == null) {
+            content = Files.readAllBytes(blob.path);
+            blob.content = content;
+        }
+        return content;
+    }
+
+    private static void writeAtomically(Path path, byte[] content) throws IOException {
+        Path temp = Files.createTempFile(path.getParent(), ".tmp-", null);
+        try {
+            Files.write(temp, content);
+            Files.move(temp, path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * 내용 해시로 주소화된 PEM 파일
+     */
+    private static final class Blob {
+        private final String hash;
+        private final Path path;
+        private final long length;
+
+        // 체인 blob의 내용 (처음 다운로드할 때 채움, leaf blob은 비워 둠)
+        private volatile byte[] content;
+
+        private Blob(String hash, Path path, long length) {
+            this.hash = hash;
+            this.path = path;
+            this.length = length;
+        }
+    }
+
+    /**
+     * 저장된 인증서 (leaf blob과 체인 blob 목록)
+     */
+    public static final class StoredCertificate {
+        private final String certificateId;
+        private final String accountId;
+        private final Blob leaf;
+        private final List<Blob> chains;
+
+        private StoredCertificate(String certificateId, String accountId, Blob leaf, List<Blob> chains) {
+            this.certificateId = certificateId;
+            this.accountId = accountId;
+            this.leaf = leaf;
+            this.chains = List.copyOf(chains);
+        }
+
+        public String getCertificateId() {
+            return certificateId;
+        }
+
+        public String getAccountId() {
+            return accountId;
+        }
+
+        /**
+         * 기본 체인을 포함한 체인 개수
+         */
+        public int getChainCount() {
+            return chains.size();
+        }
+
+        /**
+         * 지정한 체인으로 응답할 때의 전체 바이트 수
+         */
+        public long getContentLength(int chainIndex) {
+            return leaf.length + chains.get(chainIndex).length;
+        }
+    }
+}
@@ -3,17 +3,54 @@ package com.pca.acme.service;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.pca.acme.dto.directory.DirectoryMeta;
 import com.pca.acme.dto.directory.DirectoryResponse;
 
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Base64;
 import java.util.List;
 
 @Service
+@RequiredArgsConstructor
 public class DirectoryService {
 
+    // ETag로 사용할 SHA-256 앞부분 길이 (바이트)
+    private static final int ETAG_BYTES = 16;
+
+    private final ObjectMapper objectMapper;
+
     @Value("${acme.base-url:https://localhost:8443/acme}")
     private String baseUrl;
 
+    @Value("${acme.caa.identities:example.com}")
+    private List<String> caaIdentities;
+
+    @Value("${acme.directory.max-age-seconds:86400}")
+    private long maxAgeSeconds;
+
+    // 설정이 바뀔 때만 다시 만드는 직렬화된 디렉터리 문서
+    private volatile DirectoryDocument document;
+
+    @PostConstruct
+    public void refresh() {
+        document = DirectoryDocument.render(objectMapper, getDirectory(), maxAgeSeconds);
+    }
+
+    /**
+     * 미리 직렬화된 디렉터리 문서를 반환합니다.
+     * 디렉터리는 설정으로만 결정되므로 요청마다 DTO 생성과 JSON 직렬화를 하지 않습니다.
+     */
+    public DirectoryDocument getDocument() {
+        return document;
+    }
+
     public DirectoryResponse getDirectory() {
         String prefix = baseUrl.endsWith("/") ? baseUrl : baseUrl + "/";
 
@@ -27,9 +64,51 @@ public class DirectoryService {
             .meta(DirectoryMeta.builder()
                 .termsOfService("https://example.com/acme/terms/v1")
                 .website("https://www.example.com")
-                .caaIdentities(List.of("example.com"))
+                .caaIdentities(caaIdentities)
                 .externalAccountRequired(false)
                 .build())
             .build();
     }
-} 
\ No newline at end of file
+
+    /**
+     * 직렬화된 디렉터리 JSON과 강한 ETag
+     */
+    public static final class DirectoryDocument {
+        private final byte[] body;
+        private final String eTag;
+        private final String cacheControl;
+
+        private DirectoryDocument(byte[] body, String eTag, long maxAgeSeconds) {
+            this.body = body;
+            this.eTag = eTag;
+            this.cacheControl = "max-age=" + maxAgeSeconds + ", public";
+        }
+
+        /**
+         * 디렉터리를 JSON으로 직렬화하고 내용 해시로 ETag를 계산합니다.
+         */
+        public static DirectoryDocument render(ObjectMapper objectMapper, DirectoryResponse directory, long maxAgeSeconds) {
+            try {
+                byte[] body = objectMapper.writeValueAsBytes(directory);
+                byte[] hash = MessageDigest.getInstance("SHA-256").digest(body);
+                String tag = Base64.getUrlEncoder().withoutPadding()
+                    .encodeToString(Arrays.copyOf(hash, ETAG_BYTES));
+                return new DirectoryDocument(body, "\"" + tag + "\"", maxAgeSeconds);
+            } catch (JsonProcessingException | NoSuchAlgorithmException e) {
+                throw new IllegalStateException("Failed to render directory", e);
+            }
+        }
+
+        public byte[] getBody() {
+            return body;
+        }
+
+        public String getETag() {
+            return eTag;
+        }
+
+        public String getCacheControl() {
+            return cacheControl;
+        }
+    }
+}
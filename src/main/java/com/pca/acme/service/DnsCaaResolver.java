@@ -0,0 +1,109 @@
+package com.pca.acme.service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Hashtable;
+import java.util.List;
+
+import javax.naming.NameNotFoundException;
+import javax.naming.NamingEnumeration;
+import javax.naming.NamingException;
+import javax.naming.directory.Attribute;
+import javax.naming.directory.Attributes;
+import javax.naming.directory.DirContext;
+import javax.naming.directory.InitialDirContext;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.pca.acme.model.CaaRecord;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * JNDI DNS 프로바이더 기반 CAA 조회 구현체
+ * JDK DNS 프로바이더는 CAA(type 257)를 알지 못하므로 RDATA를 직접 파싱합니다.
+ */
+@Slf4j
+@Service
+public class DnsCaaResolver implements CaaResolver {
+
+    private static final String CAA_RECORD_TYPE = "257";
+    private static final String[] CAA_ATTRIBUTE_IDS = { CAA_RECORD_TYPE };
+
+    @Value("${acme.caa.dns-server:}")
+    private String dnsServer;
+
+    @Value("${acme.caa.lookup-timeout-ms:5000}")
+    private int lookupTimeoutMs;
+
+    @Override
+    public List<CaaRecord> lookup(String domain) {
+        DirContext context = null;
+        try {
+            context = new InitialDirContext(createEnvironment());
+            Attributes attributes = context.getAttributes(domain, CAA_ATTRIBUTE_IDS);
+            Attribute attribute = attributes.get(CAA_RECORD_TYPE);
+            if (attribute == null) {
+                return List.of();
+            }
+
+            List<CaaRecord> records = new ArrayList<>(attribute.size());
+            NamingEnumeration<?> values = attribute.getAll();
+            while (values.hasMore()) {
+                Object value = values.next();
+                if (value instanceof byte[] rdata) {
+                    CaaRecord record = parseRdata(rdata);
+                    if (record != null) {
+                        records.add(record);
+                    }
+                }
+            }
+            return records;
+        } catch (NameNotFoundException e) {
+            // NXDOMAIN은 레코드 없음과 동일하게 처리 (RFC 8659 §3)
+            return List.of();
+        } catch (NamingException e) {
+            throw new IllegalStateException("CAA lookup failed for " + domain + ": " + e.getMessage(), e);
+        } finally {
+            if (context != null) {
+                try {
+                    context.close();
+                } catch (NamingException e) {
+                    log.debug("Failed to close DNS context", e);
+                }
+            }
+        }
+    }
+
+    /**
+     * CAA RDATA를 파싱합니다.
+     * 형식: flags(1) | tag length(1) | tag | value (RFC 8659 §4.1)
+     */
+    static CaaRecord parseRdata(byte[] rdata) {
+        if (rdata.length < 2) {
+            return null;
+        }
+        int flags = rdata[0] & 0xFF;
+        int tagLength = rdata[1] & 0xFF;
+        if (tagLength == 0 || 2 + tagLength > rdata.length) {
+            return null;
+        }
+        String tag = new String(rdata, 2, tagLength, StandardCharsets.US_ASCII);
+        String value = new String(rdata, 2 + tagLength, rdata.length - 2 - tagLength, StandardCharsets.UTF_8);
+        return CaaRecord.builder()
+            .flags(flags)
+            .tag(tag)
+            .value(value)
+            .build();
+    }
+
+    private Hashtable<String, String> createEnvironment() {
+        Hashtable<String, String> env = new Hashtable<>();
+        env.put("java.naming.factory.initial", "com.sun.jndi.dns.DnsContextFactory");
+        env.put("java.naming.provider.url", dnsServer.isBlank() ? "dns:" : "dns://" + dnsServer);
+        env.put("com.sun.jndi.dns.timeout.initial", String.valueOf(lookupTimeoutMs));
+        env.put("com.sun.jndi.dns.timeout.retries", "1");
+        return env;
+    }
+}
@@ -0,0 +1,78 @@
+package com.pca.acme.service;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.pca.acme.util.DomainBlocklistFile;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 정책 도메인 차단 목록 서비스
+ * new-order의 식별자 검증 단계에서 정책팀 차단 목록에 있는 이름을 rejectedIdentifier로 거절합니다.
+ *
+ * 목록은 {@link DomainBlocklistFile} 형식의 파일(acme.blocklist.domains.file)을 메모리 매핑해 조회하므로
+ * 수백만 개여도 힙을 거의 쓰지 않습니다. 파일을 비워 두면 차단하지 않습니다.
+ * reload-check-seconds마다 파일이 바뀌었는지 확인해 새로 매핑합니다({@link ReloadableFile}).
+ * 목록 컴파일 도구가 임시 파일을 다 쓴 뒤 이름 바꾸기로 교체하므로 반쯤 쓴 파일을 읽을 일이 없습니다.
+ */
+@Slf4j
+@Service
+public class DomainBlocklist {
+
+    /**
+     * 아무것도 차단하지 않는 인스턴스 (단위 테스트, 벤치마크용)
+     */
+    public static final DomainBlocklist NONE = new DomainBlocklist();
+
+    private final ReloadableFile<DomainBlocklistFile> blocklist = new ReloadableFile<>("domain blocklist",
+        "acme-domain-blocklist-reload", DomainBlocklistFile::open, loaded -> loaded.getEntryCount() + " entries");
+
+    @Value("${acme.blocklist.domains.file:}")
+    private String file = "";
+
+    @Value("${acme.blocklist.domains.reload-check-seconds:10}")
+    private long reloadCheckSeconds;
+
+    @PostConstruct
+    public void start() throws IOException {
+        if (file.isBlank()) {
+            log.info("Domain blocklist disabled (acme.blocklist.domains.file not set)");
+            return;
+        }
+        blocklist.start(Path.of(file), reloadCheckSeconds);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        blocklist.shutdown();
+    }
+
+    /**
+     * 식별자가 차단 목록의 이름이거나 차단된 상위 도메인("*.example.com") 아래에 있는지 확인합니다.
+     */
+    public boolean isBlocked(String name) {
+        DomainBlocklistFile current = blocklist.get();
+        return current != null && current.matches(name);
+    }
+
+    /**
+     * 파일을 다시 매핑해 교체합니다.
+     */
+    public void reload() throws IOException {
+        blocklist.reload();
+    }
+
+    /**
+     * 현재 목록의 항목 수를 반환합니다.
+     */
+    public int getEntryCount() {
+        DomainBlocklistFile current = blocklist.get();
+        return current == null ? 0 : current.getEntryCount();
+    }
+}
@@ -0,0 +1,334 @@
+package com.pca.acme.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+
+import com.pca.acme.event.AcmeEventType;
+import com.pca.acme.event.AcmeEvents;
+import com.pca.acme.exception.AcmeErrorType;
+import com.pca.acme.exception.AcmeProblem;
+import com.pca.acme.model.Order;
+import com.pca.acme.tracing.AcmeTracing;
+import com.pca.acme.util.CsrParser;
+
+import io.micrometer.observation.Observation;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * ACME 주문 최종화(finalize) 처리 서비스
+ * RFC 8555 §7.4 Applying for Certificate Issuance 구현
+ *
+ * 요청 스레드에서는 주문 상태와 CSR 형식 같은 가벼운 검사만 수행하고 주문을 processing으로 전이한 뒤
+ * 제한된 크기의 큐에 작업을 넣습니다. CSR 서명 검증, 식별자 대조, CAA 검사와 서명은 전용 워커가 처리하며,
+ * 클라이언트에는 현재 큐 깊이와 평균 처리 시간으로 계산한 Retry-After 값을 안내합니다.
+ *
+ * 워커는 큐에서 최대 max-batch-size개의 작업을 한 번에 꺼내 검증을 마친 작업들을 발급자에 일괄 전달합니다.
+ * 접수 시점의 Observation을 작업에 담아 두고 워커에서 그 아래에 span을 열어 finalize 요청과 같은 trace로 이어 줍니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class FinalizeService {
+
+    // 평균 처리 시간 EWMA 가중치
+    private static final double EWMA_ALPHA = 0.2;
+
+    private final OrderService orderService;
+    private final CaaService caaService;
+    private final ObjectProvider<CertificateIssuer> certificateIssuer;
+    private final AcmeTracing tracing;
+    private final KeyBlocklist keyBlocklist;
+
+    @Value("${acme.finalize.workers:4}")
+    private int workerCount;
+
+    @Value("${acme.finalize.queue-capacity:1000}")
+    private int queueCapacity;
+
+    @Value("${acme.finalize.max-csr-bytes:16384}")
+    private int maxCsrBytes;
+
+    @Value("${acme.finalize.max-batch-size:16}")
+    private int maxBatchSize;
+
+    @Value("${acme.finalize.initial-estimate-ms:200}")
+    private long initialEstimateMs;
+
+    @Value("${acme.finalize.max-retry-after-seconds:60}")
+    private long maxRetryAfterSeconds;
+
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreads;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final List<Thread> workers = new ArrayList<>();
+    private BlockingQueue<FinalizeJob> queue;
+    private volatile double averageJobNanos;
+    private volatile boolean running;
+
+    @PostConstruct
+    public void start() {
+        queue = new ArrayBlockingQueue<>(queueCapacity);
+        averageJobNanos = initialEstimateMs * 1_000_000d;
+        running = true;
+        // 워커는 오래 사는 루프이므로 가상 스레드에서도 스레드별 Signature 풀이 유지됩니다
+        Thread.Builder builder = virtualThreads
+            ? Thread.ofVirtual().name("acme-finalize-", 1)
+            : Thread.ofPlatform().daemon(true).name("acme-finalize-", 1);
+        for (int i = 0; i < workerCount; i++) {
+            workers.add(builder.start(this::workerLoop));
+        }
+    }
+
+    @PreDestroy
+    public void stop() {
+        running = false;
+        workers.forEach(Thread::interrupt);
+    }
+
+    /**
+     * 최종화 요청을 접수합니다.
+     * 주문을 ready → processing으로 전이하고 CSR 처리를 큐에 넣습니다.
+     *
+     * @return processing 상태의 주문
+     */
+    public Order submit(String accountId, String orderId, byte[] csrDer) {
+        Order order = orderService.getOrder(orderId);
+        if (order == null || !order.getAccountId().equals(accountId)) {
+            throw new AcmeProblem(AcmeErrorType.MALFORMED, HttpStatus.NOT_FOUND, "Order not found: " + orderId);
+        }
+
+        // 요청 스레드에서는 비용이 작은 형식 검사와 공개키 차단 목록 조회만 수행 (서명 검증은 워커에서)
+        if (csrDer.length == 0 || csrDer.length > maxCsrBytes || (csrDer[0] & 0xFF) != 0x30) {
+            throw new AcmeProblem(AcmeErrorType.BAD_CSR, "Invalid CSR: not a DER encoded PKCS#10 request");
+        }
+        checkKeyBlocklist(csrDer);
+
+        if (!orderService.transitionStatus(orderId, Order.OrderStatus.READY, Order.OrderStatus.PROCESSING)) {
+            throw new AcmeProblem(AcmeErrorType.ORDER_NOT_READY, "Order is not ready for finalization: " + order.getStatus().getValue());
+        }
+
+        CertificateIssuer issuer = certificateIssuer.getIfAvailable();
+        if (issuer == null || !issuer.isEnabled()) {
+            orderService.transitionStatus(orderId, Order.OrderStatus.PROCESSING, Order.OrderStatus.READY);
+            throw new AcmeProblem(AcmeErrorType.SERVER_INTERNAL, "Certificate issuance is not configured on this server");
+        }
+
+        if (!queue.offer(new FinalizeJob(order, csrDer, tracing.current()))) {
+            orderService.transitionStatus(orderId, Order.OrderStatus.PROCESSING, Order.OrderStatus.READY);
+            throw new AcmeProblem(AcmeErrorType.RATE_LIMITED, "Finalize queue is full");
+        }
+
+        log.debug("Queued finalization for order {} (queue depth {})", orderId, queue.size());
+        return order;
+    }
+
+    /**
+     * 현재 큐 깊이와 평균 처리 시간으로 클라이언트 재시도 간격(초)을 계산합니다.
+     */
+    public long getRetryAfterSeconds() {
+        int backlog = queue.size() + inFlight.get();
+        double seconds = backlog * averageJobNanos / Math.max(1, workerCount) / 1_000_000_000d;
+        return Math.max(1, Math.min(maxRetryAfterSeconds, (long) Math.ceil(seconds)));
+    }
+
+    /**
+     * 대기 중인 작업 수를 반환합니다.
+     */
+    public int getQueueDepth() {
+        return queue.size();
+    }
+
+    private void workerLoop() {
+        List<FinalizeJob> batch = new ArrayList<>(maxBatchSize);
+        while (running) {
+            try {
+                batch.add(queue.take());
+                queue.drainTo(batch, maxBatchSize - 1);
+                processBatch(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    /**
+     * 큐에서 꺼낸 최종화 작업 하나를 처리합니다.
+     */
+    void process(FinalizeJob job) {
+        processBatch(List.of(job));
+    }
+
+    /**
+     * 큐에서 꺼낸 최종화 작업들을 처리합니다.
+     * 작업별로 CSR 검증과 CAA 검사를 수행한 뒤 통과한 작업만 모아 한 번에 발급합니다.
+     */
+    void processBatch(List<FinalizeJob> jobs) {
+        inFlight.addAndGet(jobs.size());
+        long startedAt = System.nanoTime();
+        try {
+            List<Order> orders = new ArrayList<>(jobs.size());
+            List<CsrParser.ParsedCsr> csrs = new ArrayList<>(jobs.size());
+            List<Observation> observations = new ArrayList<>(jobs.size());
+            for (FinalizeJob job : jobs) {
+                // 작업 span은 발급이 끝날 때까지 열어 두어 일괄 대기 시간까지 포함
+                Observation observation = tracing.start("acme.finalize", job.parent);
+                observation.highCardinalityKeyValue(AcmeTracing.ORDER_ID, job.order.getOrderId());
+                try (Observation.Scope scope = observation.openScope()) {
+                    csrs.add(validate(job));
+                    orders.add(job.order);
+                    observations.add(observation);
+                } catch (RuntimeException e) {
+                    observation.error(e);
+                    observation.stop();
+                    fail(job.order.getOrderId(), e);
+                }
+            }
+            if (!orders.isEmpty()) {
+                issue(orders, csrs, observations);
+            }
+        } finally {
+            inFlight.addAndGet(-jobs.size());
+            double elapsedPerJob = (double) (System.nanoTime() - startedAt) / jobs.size();
+            averageJobNanos = averageJobNanos + EWMA_ALPHA * (elapsedPerJob - averageJobNanos);
+        }
+    }
+
+    /**
+     * CSR의 공개키가 차단 목록에 있으면 주문 상태를 바꾸기 전에 거절합니다.
+     */
+    private void checkKeyBlocklist(byte[] csrDer) {
+        if (keyBlocklist.getCount() == 0) {
+            return;
+        }
+        byte[] subjectPublicKeyInfo;
+        try {
+            subjectPublicKeyInfo = CsrParser.subjectPublicKeyInfo(csrDer);
+        } catch (IllegalArgumentException e) {
+            throw new AcmeProblem(AcmeErrorType.BAD_CSR, "Invalid CSR: " + e.getMessage());
+        }
+        if (keyBlocklist.isBlocked(subjectPublicKeyInfo)) {
+            log.info("Rejected CSR with blocklisted public key");
+            throw new AcmeProblem(AcmeErrorType.BAD_CSR, "Invalid CSR: public key is known to be compromised");
+        }
+    }
+
+    /**
+     * CSR 서명, 식별자 일치 여부와 CAA 레코드를 검사합니다.
+     */
+    private CsrParser.ParsedCsr validate(FinalizeJob job) {
+        Observation observation = tracing.start("acme.finalize.validate");
+        try (Observation.Scope scope = observation.openScope()) {
+            CsrParser.ParsedCsr csr;
+            try {
+                csr = CsrParser.parse(job.csrDer);
+            } catch (IllegalArgumentException e) {
+                throw new AcmeProblem(AcmeErrorType.BAD_CSR, e.getMessage());
+            }
+            verifyIdentifiers(job.order, csr);
+
+            CaaService.CaaCheckResult caaResult = caaService.checkOrder(job.order);
+            if (!caaResult.isPermitted()) {
+                throw new AcmeProblem(AcmeErrorType.CAA, caaResult.getErrorMessage());
+            }
+            return csr;
+        } catch (RuntimeException e) {
+            observation.error(e);
+            throw e;
+        } finally {
+            observation.stop();
+        }
+    }
+
+    /**
+     * 검증을 통과한 작업들을 일괄 발급합니다.
+     * 발급 span은 첫 작업 span 아래에 두고, 같은 배치의 다른 주문은 acme.batch.size로 구분합니다.
+     */
+    private void issue(List<Order> orders, List<CsrParser.ParsedCsr> csrs, List<Observation> observations) {
+        Observation observation = tracing.start("acme.certificate.issue", observations.get(0));
+        observation.highCardinalityKeyValue(AcmeTracing.BATCH_SIZE, String.valueOf(orders.size()));
+        try (Observation.Scope scope = observation.openScope()) {
+            CertificateIssuer issuer = certificateIssuer.getIfAvailable();
+            if (issuer == null) {
+                throw new IllegalStateException("No certificate issuer is configured");
+            }
+
+            List<String> certificateUrls = orders.size() == 1
+                ? List.of(issuer.issue(orders.get(0), csrs.get(0)))
+                : issuer.issueBatch(orders, csrs);
+            for (int i = 0; i < orders.size(); i++) {
+                orderService.completeOrder(orders.get(i).getOrderId(), certificateUrls.get(i));
+                AcmeEvents.emit(AcmeEventType.ORDER_FINALIZED,
+                    "order", orders.get(i).getOrderId(), "batch", orders.size());
+            }
+        } catch (RuntimeException e) {
+            observation.error(e);
+            observations.forEach(jobObservation -> jobObservation.error(e));
+            orders.forEach(order -> fail(order.getOrderId(), e));
+        } finally {
+            observation.stop();
+            observations.forEach(Observation::stop);
+        }
+    }
+
+    /**
+     * 주문을 invalid로 만들고 원인을 주문의 error로 남깁니다.
+     * ACME 에러가 아닌 예외는 내부 메시지를 노출하지 않도록 serverInternal로 기록합니다.
+     */
+    private void fail(String orderId, RuntimeException e) {
+        log.warn("Finalization failed for order {}: {}", orderId, e.getMessage());
+        AcmeProblem problem = e instanceof AcmeProblem acmeProblem
+            ? acmeProblem
+            : new AcmeProblem(AcmeErrorType.SERVER_INTERNAL, "Certificate issuance failed");
+        orderService.failOrder(orderId, problem);
+    }
+
+    /**
+     * CSR이 요청한 이름 집합이 주문의 식별자 집합과 정확히 일치하는지 확인합니다.
+     */
+    private void verifyIdentifiers(Order order, CsrParser.ParsedCsr csr) {
+        Set<String> expected = order.getIdentifiers().stream()
+            .map(identifier -> identifier.getValue().toLowerCase(Locale.ROOT))
+            .collect(Collectors.toSet());
+        if (!expected.equals(csr.getRequestedNames())) {
+            throw new AcmeProblem(AcmeErrorType.BAD_CSR, "Invalid CSR: names " + csr.getRequestedNames()
+                + " do not match order identifiers " + expected);
+        }
+    }
+
+    /**
+     * 최종화 대기 작업
+     */
+    static final class FinalizeJob {
+        private final Order order;
+        private final byte[] csrDer;
+        private final Observation parent;
+
+        FinalizeJob(Order order, byte[] csrDer) {
+            this(order, csrDer, null);
+        }
+
+        FinalizeJob(Order order, byte[] csrDer, Observation parent) {
+            this.order = order;
+            this.csrDer = csrDer;
+            this.parent = parent;
+        }
+    }
+}
@@ -1,13 +1,19 @@
 package com.pca.acme.service;
 
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
 import java.time.Instant;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * 메모리 기반 Nonce Store 구현체
@@ -18,12 +24,37 @@ public class InMemoryNonceStore implements NonceStore {
     
     private final Map<String, Instant> nonces = new ConcurrentHashMap<>();
     private final AtomicInteger nonceCounter = new AtomicInteger(0);
+    private final AtomicLong evictionCounter = new AtomicLong(0);
     
     @Value("${acme.nonce.max-age:300}") // 기본 5분
     private long maxAgeSeconds;
     
-    @Value("${acme.nonce.max-count:1000}") // 기본 최대 1000개
+    @Value("${acme.nonce.max-count:100000}") // 기본 최대 100000개
     private int maxNonceCount;
+
+    @Value("${acme.nonce.cleanup-interval-seconds:60}")
+    private long cleanupIntervalSeconds;
+
+    private ScheduledExecutorService cleaner;
+
+    /**
+     * 만료된 Nonce 정리 스레드를 시작합니다 (애플리케이션에 @EnableScheduling이 없으므로 전용 스레드 사용).
+     */
+    @PostConstruct
+    public void start() {
+        if (cleanupIntervalSeconds > 0) {
+            cleaner = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().daemon(true).name("acme-nonce-cleanup").factory());
+            cleaner.scheduleWithFixedDelay(this::scheduledCleanup, cleanupIntervalSeconds, cleanupIntervalSeconds, TimeUnit.SECONDS);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (cleaner != null) {
+            cleaner.shutdownNow();
+        }
+    }
     
     @Override
     public void storeNonce(String nonce, Instant issuedAt) {
@@ -79,13 +110,24 @@ public class InMemoryNonceStore implements NonceStore {
     @Override
     public void cleanupExpiredNonces(long maxAge) {
         Instant cutoff = Instant.now().minusSeconds(maxAge);
-        nonces.entrySet().removeIf(entry -> entry.getValue().isBefore(cutoff));
+        nonces.entrySet().removeIf(entry -> {
+            if (entry.getValue().isBefore(cutoff)) {
+                evictionCounter.incrementAndGet();
+                return true;
+            }
+            return false;
+        });
     }
     
     @Override
     public int getNonceCount() {
         return nonces.size();
     }
+
+    @Override
+    public long getEvictionCount() {
+        return evictionCounter.get();
+    }
     
     /**
      * 가장 오래된 Nonce를 제거합니다.
@@ -93,13 +135,16 @@ public class InMemoryNonceStore implements NonceStore {
     private void removeOldestNonce() {
         nonces.entrySet().stream()
                 .min(Map.Entry.comparingByValue())
-                .ifPresent(entry -> nonces.remove(entry.getKey()));
+                .ifPresent(entry -> {
+                    if (nonces.remove(entry.getKey()) != null) {
+                        evictionCounter.incrementAndGet();
+                    }
+                });
     }
     
     /**
-     * 정기적으로 만료된 Nonce를 정리합니다 (5분마다).
+     * 정기적으로 만료된 Nonce를 정리합니다 (cleanup-interval-seconds마다).
      */
-    @Scheduled(fixedRate = 300000) // 5분
     public void scheduledCleanup() {
         cleanupExpiredNonces(maxAgeSeconds);
     }
@@ -0,0 +1,103 @@
+package com.pca.acme.service;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.pca.acme.exception.AcmeErrorType;
+import com.pca.acme.exception.AcmeProblem;
+import com.pca.acme.util.JwkPublicKey;
+import com.pca.acme.util.KeyBlocklistFile;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 공개키 차단 목록 서비스
+ * 유출되었거나 약한 것으로 알려진 키를 new-account의 계정 키와 finalize의 CSR 키에서 거절합니다.
+ *
+ * 목록은 {@link KeyBlocklistFile} 형식의 파일(acme.blocklist.keys.file)을 메모리 매핑해 조회하며, 비워 두면 검사하지 않습니다.
+ * reload-check-seconds마다 파일이 바뀌었는지 확인해 새로 매핑합니다({@link ReloadableFile}).
+ */
+@Slf4j
+@Service
+public class KeyBlocklist {
+
+    /**
+     * 아무것도 차단하지 않는 인스턴스 (단위 테스트, 벤치마크용)
+     */
+    public static final KeyBlocklist NONE = new KeyBlocklist();
+
+    private final ReloadableFile<KeyBlocklistFile> blocklist = new ReloadableFile<>("key blocklist",
+        "acme-key-blocklist-reload", KeyBlocklistFile::open, loaded -> loaded.getCount() + " fingerprints");
+
+    @Value("${acme.blocklist.keys.file:}")
+    private String file = "";
+
+    @Value("${acme.blocklist.keys.reload-check-seconds:10}")
+    private long reloadCheckSeconds;
+
+    @PostConstruct
+    public void start() throws IOException {
+        if (file.isBlank()) {
+            log.info("Key blocklist disabled (acme.blocklist.keys.file not set)");
+            return;
+        }
+        blocklist.start(Path.of(file), reloadCheckSeconds);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        blocklist.shutdown();
+    }
+
+    /**
+     * new-account의 계정 키(JWK)를 검사합니다.
+     * 목록을 쓰는 동안에는 SPKI로 바꿀 수 없는 키도 검사할 수 없으므로 거절합니다.
+     *
+     * @throws AcmeProblem badPublicKey
+     */
+    public void checkAccountKey(Map<String, Object> jwk) {
+        KeyBlocklistFile current = blocklist.get();
+        if (current == null) {
+            return;
+        }
+        byte[] subjectPublicKeyInfo;
+        try {
+            subjectPublicKeyInfo = JwkPublicKey.toPublicKey(jwk).getEncoded();
+        } catch (IllegalArgumentException e) {
+            throw new AcmeProblem(AcmeErrorType.BAD_PUBLIC_KEY, "Unsupported account key: " + e.getMessage());
+        }
+        if (current.contains(subjectPublicKeyInfo)) {
+            log.info("Rejected blocklisted account key");
+            throw new AcmeProblem(AcmeErrorType.BAD_PUBLIC_KEY, "Account key is known to be compromised");
+        }
+    }
+
+    /**
+     * DER 인코딩된 SubjectPublicKeyInfo가 목록에 있는지 확인합니다.
+     */
+    public boolean isBlocked(byte[] subjectPublicKeyInfo) {
+        KeyBlocklistFile current = blocklist.get();
+        return current != null && current.contains(subjectPublicKeyInfo);
+    }
+
+    /**
+     * 파일을 다시 매핑해 교체합니다.
+     */
+    public void reload() throws IOException {
+        blocklist.reload();
+    }
+
+    /**
+     * 현재 목록의 지문 수를 반환합니다.
+     */
+    public int getCount() {
+        KeyBlocklistFile current = blocklist.get();
+        return current == null ? 0 : current.getCount();
+    }
+}
@@ -0,0 +1,198 @@
+package com.pca.acme.service;
+
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.security.KeyStore;
+import java.security.PrivateKey;
+import java.security.cert.Certificate;
+import java.security.cert.CertificateFactory;
+import java.security.cert.X509Certificate;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.stereotype.Service;
+
+import com.pca.acme.model.Identifier;
+import com.pca.acme.model.Order;
+import com.pca.acme.util.CertificateSigner;
+import com.pca.acme.util.CsrParser;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 프로세스 내 인증서 발급자
+ * PKCS#12 파일에서 중간 인증서와 키를 읽어 CertificateSigner로 직접 서명하고 CertificateStore에 저장합니다.
+ * 기본 체인은 키 저장소의 인증서 체인이며, acme.issuer.alternate-chains로 대체 체인 PEM 파일을 추가할 수 있습니다.
+ *
+ * 발급 키 저장소(acme.issuer.key-store)에는 기본값이 없습니다. 서버 TLS 키(server.ssl)를 발급에 쓰지 않도록
+ * 전용 저장소를 지정해야 하며, 지정하지 않으면 발급이 꺼지고 finalize는 거절됩니다.
+ * 저장소의 인증서는 CA 인증서(basicConstraints CA=true, keyUsage keyCertSign)여야 하며 아니면 기동에 실패합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class LocalCertificateIssuer implements CertificateIssuer {
+
+    private final CertificateStore certificateStore;
+    private final ResourceLoader resourceLoader;
+
+    @Value("${acme.issuer.key-store:}")
+    private String keyStore;
+
+    @Value("${acme.issuer.key-store-password:}")
+    private String keyStorePassword;
+
+    @Value("${acme.issuer.key-store-type:PKCS12}")
+    private String keyStoreType;
+
+    // 비우면 저장소의 유일한 키 항목
+    @Value("${acme.issuer.key-alias:}")
+    private String keyAlias;
+
+    @Value("${acme.issuer.validity-days:90}")
+    private int validityDays;
+
+    @Value("${acme.issuer.alternate-chains:}")
+    private List<String> alternateChains;
+
+    private CertificateSigner signer;
+
+    // 저장소에 한 번 저장해 둔 체인 ID (기본 체인 + 대체 체인)
+    private List<String> chainIds;
+
+    @PostConstruct
+    public void init() throws Exception {
+        if (keyStore.isBlank()) {
+            log.warn("Certificate issuance disabled: acme.issuer.key-store is not set (finalize requests will be rejected)");
+            return;
+        }
+        KeyStore store = KeyStore.getInstance(keyStoreType);
+        Resource resource = resourceLoader.getResource(keyStore);
+        try (InputStream in = resource.getInputStream()) {
+            store.load(in, keyStorePassword.toCharArray());
+        }
+        String alias = keyAlias.isBlank() ? singleKeyAlias(store) : keyAlias;
+        PrivateKey key = (PrivateKey) store.getKey(alias, keyStorePassword.toCharArray());
+        Certificate[] chain = store.getCertificateChain(alias);
+        if (key == null || chain == null || chain.length == 0) {
+            throw new IllegalStateException("Issuer key entry not found in key store: " + alias);
+        }
+        X509Certificate certificate = (X509Certificate) chain[0];
+        requireCaCertificate(certificate);
+        signer = new CertificateSigner(key, certificate);
+
+        List<String> ids = new ArrayList<>(1 + alternateChains.size());
+        ids.add(certificateStore.storeChain(toPem(List.of(chain))));
+        for (String location : alternateChains) {
+            ids.add(certificateStore.storeChain(loadChain(location)));
+        }
+        chainIds = List.copyOf(ids);
+
+        log.info("Loaded issuer {} ({}, {} chain(s))",
+            certificate.getSubjectX500Principal(), signer.getSignatureAlgorithm(), chainIds.size());
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return signer != null;
+    }
+
+    @Override
+    public String issue(Order order, CsrParser.ParsedCsr csr) {
+        return issueBatch(List.of(order), List.of(csr)).get(0);
+    }
+
+    @Override
+    public List<String> issueBatch(List<Order> orders, List<CsrParser.ParsedCsr> csrs) {
+        if (signer == null) {
+            throw new IllegalStateException("Certificate issuance is disabled: acme.issuer.key-store is not set");
+        }
+        List<byte[]> publicKeys = new ArrayList<>(orders.size());
+        List<List<String>> names = new ArrayList<>(orders.size());
+        for (int i = 0; i < orders.size(); i++) {
+            publicKeys.add(csrs.get(i).getSubjectPublicKeyInfo());
+            names.add(dnsNames(orders.get(i)));
+        }
+
+        Instant notBefore = Instant.now();
+        Instant notAfter = notBefore.plusSeconds(validityDays * 86400L);
+        List<CertificateSigner.SignedCertificate> signed = signer.signBatch(publicKeys, names, notBefore, notAfter);
+
+        List<String> certificateUrls = new ArrayList<>(signed.size());
+        for (int i = 0; i < signed.size(); i++) {
+            String certificateId = certificateStore.store(
+                orders.get(i).getAccountId(), signed.get(i).getPem(), chainIds);
+            certificateUrls.add(certificateStore.getCertificateUrl(certificateId));
+        }
+        return certificateUrls;
+    }
+
+    /**
+     * 발급 인증서가 하위 인증서에 서명할 수 있는 CA 인증서인지 확인합니다 (RFC 5280 §4.2.1.3, §4.2.1.9).
+     */
+    static void requireCaCertificate(X509Certificate certificate) {
+        if (certificate.getBasicConstraints() < 0) {
+            throw new IllegalStateException("Issuer certificate is not a CA (basicConstraints CA=false): "
+                + certificate.getSubjectX500Principal());
+        }
+        boolean[] keyUsage = certificate.getKeyUsage();
+        if (keyUsage == null || keyUsage.length <= 5 || !keyUsage[5]) {
+            throw new IllegalStateException("Issuer certificate lacks keyCertSign key usage: "
+                + certificate.getSubjectX500Principal());
+        }
+    }
+
+    private static String singleKeyAlias(KeyStore store) throws Exception {
+        String found = null;
+        for (String alias : Collections.list(store.aliases())) {
+            if (store.isKeyEntry(alias)) {
+                if (found != null) {
+                    throw new IllegalStateException("Issuer key store has several key entries, set acme.issuer.key-alias");
+                }
+                found = alias;
+            }
+        }
+        if (found == null) {
+            throw new IllegalStateException("Issuer key store has no key entry");
+        }
+        return found;
+    }
+
+    /**
+     * PEM 번들 파일을 읽어 정규화된 PEM 체인으로 변환합니다.
+     */
+    private byte[] loadChain(String location) throws Exception {
+        try (InputStream in = resourceLoader.getResource(location).getInputStream()) {
+            Collection<? extends Certificate> certificates = CertificateFactory.getInstance("X.509").generateCertificates(in);
+            if (certificates.isEmpty()) {
+                throw new IllegalStateException("No certificates found in alternate chain: " + location);
+            }
+            return toPem(certificates);
+        }
+    }
+
+    private static byte[] toPem(Collection<? extends Certificate> certificates) throws Exception {
+        ByteArrayOutputStream pem = new ByteArrayOutputStream();
+        for (Certificate certificate : certificates) {
+            pem.write(CertificateSigner.toPem(certificate.getEncoded()));
+        }
+        return pem.toByteArray();
+    }
+
+    private static List<String> dnsNames(Order order) {
+        List<String> names = new ArrayList<>(order.getIdentifiers().size());
+        for (Identifier identifier : order.getIdentifiers()) {
+            names.add(identifier.getValue().toLowerCase(Locale.ROOT));
+        }
+        return names;
+    }
+}
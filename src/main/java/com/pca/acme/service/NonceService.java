@@ -1,5 +1,8 @@
 package com.pca.acme.service;
 
+import com.pca.acme.jfr.NonceConsumeEvent;
+import com.pca.acme.metrics.AcmeMetrics;
+import com.pca.acme.util.SecureRandomFactory;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
@@ -12,10 +15,11 @@ import java.util.Base64;
 @RequiredArgsConstructor
 public class NonceService {
     
-    private static final SecureRandom secureRandom = new SecureRandom();
+    private static final SecureRandom secureRandom = SecureRandomFactory.create();
     private static final Base64.Encoder base64Encoder = Base64.getUrlEncoder().withoutPadding();
     
     private final NonceStore nonceStore;
+    private final AcmeMetrics metrics;
     
     @Value("${acme.base-url:https://localhost:8443/acme}")
     private String baseUrl;
@@ -36,7 +40,13 @@ public class NonceService {
      * @return 유효하면 true, 그렇지 않으면 false
      */
     public boolean validateAndConsumeNonce(String nonce) {
-        return nonceStore.validateAndConsumeNonce(nonce);
+        NonceConsumeEvent event = new NonceConsumeEvent();
+        event.begin();
+        long start = metrics.start();
+        boolean valid = nonceStore.validateAndConsumeNonce(nonce);
+        metrics.stop(AcmeMetrics.Stage.NONCE_CONSUME, start);
+        event.complete(valid);
+        return valid;
     }
     
     /**
@@ -63,14 +73,4 @@ public class NonceService {
     public String getDirectoryUrl() {
         return baseUrl + "/directory";
     }
-    
-    /**
-     * Nonce 통계 정보를 반환합니다.
-     */
-    public InMemoryNonceStore.NonceStats getStats() {
-        if (nonceStore instanceof InMemoryNonceStore) {
-            return ((InMemoryNonceStore) nonceStore).getStats();
-        }
-        return null;
-    }
-} 
\ No newline at end of file
+}
@@ -40,4 +40,12 @@ public interface NonceStore {
      * @return Nonce 개수
      */
     int getNonceCount();
+
+    /**
+     * 만료 또는 최대 개수 초과로 제거된 Nonce 누적 개수를 반환합니다.
+     * @return 제거된 Nonce 개수
+     */
+    default long getEvictionCount() {
+        return 0;
+    }
 } 
\ No newline at end of file
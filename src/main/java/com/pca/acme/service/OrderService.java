@@ -6,14 +6,23 @@ import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Service;
 
 import com.pca.acme.dto.order.OrderRequest;
 import com.pca.acme.dto.order.OrderResponse;
+import com.pca.acme.event.AcmeEventType;
+import com.pca.acme.event.AcmeEvents;
+import com.pca.acme.event.AuthorizationStatusChangedEvent;
+import com.pca.acme.exception.AcmeErrorType;
+import com.pca.acme.exception.AcmeProblem;
+import com.pca.acme.jfr.OrderCreateEvent;
+import com.pca.acme.metrics.AcmeMetrics;
 import com.pca.acme.model.Authorization;
 import com.pca.acme.model.Identifier;
 import com.pca.acme.model.Order;
@@ -32,6 +41,15 @@ public class OrderService {
 
     private final Map<String, Order> orders = new ConcurrentHashMap<>();
     private final AuthorizationService authorizationService;
+    private final AcmeMetrics metrics;
+    private final RateLimiter rateLimiter;
+    private final DomainBlocklist domainBlocklist;
+
+    // 인증 ID → 해당 인증을 포함한 주문 ID 역색인 (인증 상태 변경 시 재탐색 없이 주문 갱신)
+    private final Map<String, Set<String>> orderIdsByAuthorization = new ConcurrentHashMap<>();
+
+    // 주문 ID → 아직 완료되지 않은 인증 진행 상황
+    private final Map<String, OrderProgress> progressByOrder = new ConcurrentHashMap<>();
 
     @Value("${acme.base-url:https://localhost:8443/acme}")
     private String baseUrl;
@@ -54,12 +72,15 @@ public class OrderService {
      * 새로운 주문을 생성합니다.
      */
     public Order createOrder(String accountId, OrderRequest request) {
-        log.info("Creating new order for account: {}", accountId);
-        log.info("Request identifiers: {}", request.getIdentifiers());
+        OrderCreateEvent event = new OrderCreateEvent();
+        event.begin();
+        long start = metrics.start();
 
         // 요청 검증
         validateOrderRequest(request);
-        log.info("Order request validation passed");
+
+        // 계정별, 등록 도메인별 요청 한도
+        rateLimiter.checkNewOrder(accountId, request.getIdentifiers());
 
         // 주문 생성
         String orderId = generateOrderId();
@@ -74,22 +95,23 @@ public class OrderService {
             .collect(Collectors.toList());
 
         // 인증 생성 및 URL 생성
-        log.info("Creating authorizations for {} identifiers", identifiers.size());
         List<Authorization> authorizationList = authorizationService.createAuthorizations(identifiers);
-        log.info("Created {} authorizations", authorizationList.size());
 
         List<String> authorizations = authorizationList.stream()
-            .map(auth -> {
-                log.info("Processing authorization: {}", auth.getAuthorizationId());
-                return authorizationService.getAuthorizationUrl(auth.getAuthorizationId());
-            })
+            .map(auth -> authorizationService.getAuthorizationUrl(auth.getAuthorizationId()))
             .collect(Collectors.toList());
-        log.info("Generated {} authorization URLs", authorizations.size());
+
+        int outstanding = 0;
+        for (Authorization authorization : authorizationList) {
+            if (authorization.getStatus() != Authorization.AuthorizationStatus.VALID) {
+                outstanding++;
+            }
+        }
 
         Order order = Order.builder()
             .orderId(orderId)
             .accountId(accountId)
-            .status(Order.OrderStatus.PENDING)
+            .status(outstanding == 0 ? Order.OrderStatus.READY : Order.OrderStatus.PENDING)
             .createdAt(now)
             .expires(expiresAt)
             .updatedAt(now)
@@ -99,8 +121,14 @@ public class OrderService {
             .build();
 
         orders.put(orderId, order);
+        if (outstanding > 0) {
+            indexOrder(orderId, authorizationList, outstanding);
+        }
 
-        log.info("Created order {} with {} identifiers", orderId, identifiers.size());
+        AcmeEvents.emit(AcmeEventType.ORDER_CREATED,
+            "order", orderId, "account", accountId, "identifiers", identifiers.size());
+        metrics.stop(AcmeMetrics.Stage.ORDER_CREATE, start);
+        event.complete(accountId, orderId, identifiers.size());
         return order;
     }
 
@@ -111,6 +139,121 @@ public class OrderService {
         return orders.get(orderId);
     }
 
+    /**
+     * 주문과 그 인증을 저장소와 역색인에서 제거합니다 (워밍업용 합성 주문 정리).
+     */
+    public void removeOrder(String orderId) {
+        Order order = orders.remove(orderId);
+        if (order == null) {
+            return;
+        }
+        unindexOrder(orderId);
+        for (String authorizationUrl : order.getAuthorizations()) {
+            authorizationService.removeAuthorization(authorizationUrl.substring(authorizationUrl.lastIndexOf('/') + 1));
+        }
+    }
+
+    /**
+     * 저장된 주문 수를 반환합니다.
+     */
+    public int getOrderCount() {
+        return orders.size();
+    }
+
+    /**
+     * 주문 상태를 기대 상태에서 다음 상태로 전이합니다.
+     * 동일 주문에 대한 전이는 저장소 단위로 직렬화됩니다.
+     *
+     * @return 전이가 일어났으면 true, 주문이 없거나 현재 상태가 기대 상태가 아니면 false
+     */
+    public boolean transitionStatus(String orderId, Order.OrderStatus expected, Order.OrderStatus next) {
+        boolean[] changed = new boolean[1];
+        orders.computeIfPresent(orderId, (id, order) -> {
+            if (order.getStatus() == expected) {
+                order.setStatus(next);
+                order.setUpdatedAt(Instant.now());
+                changed[0] = true;
+            }
+            return order;
+        });
+
+        if (changed[0]) {
+            log.debug("Order {} changed from {} to {}", orderId, expected, next);
+            if (next != Order.OrderStatus.PENDING && next != Order.OrderStatus.READY) {
+                unindexOrder(orderId);
+            }
+        }
+        return changed[0];
+    }
+
+    /**
+     * 발급이 끝난 주문을 processing → valid로 전이하고 인증서 URL을 기록합니다.
+     *
+     * @return 전이가 일어났으면 true
+     */
+    public boolean completeOrder(String orderId, String certificateUrl) {
+        boolean[] changed = new boolean[1];
+        orders.computeIfPresent(orderId, (id, order) -> {
+            if (order.getStatus() == Order.OrderStatus.PROCESSING) {
+                order.setCertificate(certificateUrl);
+                order.setStatus(Order.OrderStatus.VALID);
+                order.setUpdatedAt(Instant.now());
+                changed[0] = true;
+            }
+            return order;
+        });
+        return changed[0];
+    }
+
+    /**
+     * 최종화에 실패한 주문을 processing → invalid로 전이하고 에러를 기록합니다 (RFC 8555 §7.1.3 error).
+     *
+     * @return 전이가 일어났으면 true
+     */
+    public boolean failOrder(String orderId, AcmeProblem problem) {
+        boolean[] changed = new boolean[1];
+        orders.computeIfPresent(orderId, (id, order) -> {
+            if (order.getStatus() == Order.OrderStatus.PROCESSING) {
+                order.setErrorType(problem.getType());
+                order.setErrorDetail(problem.getDetail());
+                order.setStatus(Order.OrderStatus.INVALID);
+                order.setUpdatedAt(Instant.now());
+                changed[0] = true;
+            }
+            return order;
+        });
+        return changed[0];
+    }
+
+    /**
+     * 인증 상태 변경을 역색인으로 해당 주문들에 반영합니다.
+     * 인증 하나당 영향을 받는 주문마다 O(1)로 갱신되며 주문의 인증 목록을 다시 조회하지 않습니다.
+     * RFC 8555 §7.1.6 Status Changes
+     */
+    @EventListener
+    public void onAuthorizationStatusChanged(AuthorizationStatusChangedEvent event) {
+        Set<String> orderIds = orderIdsByAuthorization.get(event.getAuthorizationId());
+        if (orderIds == null) {
+            return;
+        }
+
+        if (event.getStatus() == Authorization.AuthorizationStatus.VALID) {
+            for (String orderId : orderIds) {
+                OrderProgress progress = progressByOrder.get(orderId);
+                if (progress != null && progress.outstanding.decrementAndGet() == 0) {
+                    transitionStatus(orderId, Order.OrderStatus.PENDING, Order.OrderStatus.READY);
+                }
+            }
+        } else if (event.getStatus() != Authorization.AuthorizationStatus.PENDING) {
+            // 인증이 invalid/deactivated/expired/revoked가 되면 아직 확정되지 않은 주문은 invalid
+            for (String orderId : orderIds) {
+                if (!transitionStatus(orderId, Order.OrderStatus.PENDING, Order.OrderStatus.INVALID)) {
+                    transitionStatus(orderId, Order.OrderStatus.READY, Order.OrderStatus.INVALID);
+                }
+            }
+        }
+    }
+
     /**
      * 주문을 OrderResponse DTO로 변환합니다.
      */
@@ -129,6 +272,11 @@ public class OrderService {
             .authorizations(order.getAuthorizations())
             .finalize(order.getFinalize())
             .certificate(order.getCertificate())
+            .error(order.getErrorType() == null ? null : OrderResponse.Problem.builder()
+                .type(order.getErrorType().getUrn())
+                .detail(order.getErrorDetail())
+                .status(order.getErrorType().getDefaultStatus().value())
+                .build())
             .build();
     }
 
@@ -138,14 +286,14 @@ public class OrderService {
     private void validateOrderRequest(OrderRequest request) {
         if (request.getIdentifiers() == null || request.getIdentifiers().isEmpty()) {
             if (request.getIdentifiers() == null) {
-                throw new IllegalArgumentException("Missing 'identifiers' field");
+                throw new AcmeProblem(AcmeErrorType.MALFORMED, "Missing 'identifiers' field");
             } else {
-                throw new IllegalArgumentException("At least one identifier is required");
+                throw new AcmeProblem(AcmeErrorType.MALFORMED, "At least one identifier is required");
             }
         }
 
         if (request.getIdentifiers().size() > maxIdentifiers) {
-            throw new IllegalArgumentException("Too many identifiers (maximum " + maxIdentifiers + " allowed)");
+            throw new AcmeProblem(AcmeErrorType.MALFORMED, "Too many identifiers (maximum " + maxIdentifiers + " allowed)");
         }
 
         Set<String> seenIdentifiers = new java.util.HashSet<>();
@@ -156,7 +304,7 @@ public class OrderService {
             String key = (identifier.getType() != null ? identifier.getType() : "") + ":" +
                         (identifier.getValue() != null ? identifier.getValue() : "");
             if (seenIdentifiers.contains(key)) {
-                throw new IllegalArgumentException("Duplicate identifier: " + identifier.getValue());
+                throw new AcmeProblem(AcmeErrorType.MALFORMED, "Duplicate identifier: " + identifier.getValue());
             }
             seenIdentifiers.add(key);
         }
@@ -167,23 +315,27 @@ public class OrderService {
      */
     private void validateIdentifier(OrderRequest.Identifier identifier) {
         if (identifier.getType() == null || identifier.getType().trim().isEmpty()) {
-            throw new IllegalArgumentException("Identifier missing 'type' field");
+            throw new AcmeProblem(AcmeErrorType.MALFORMED, "Identifier missing 'type' field");
         }
 
         if (identifier.getValue() == null || identifier.getValue().trim().isEmpty()) {
             if (identifier.getValue() == null) {
-                throw new IllegalArgumentException("Identifier missing 'value' field");
+                throw new AcmeProblem(AcmeErrorType.MALFORMED, "Identifier missing 'value' field");
             } else {
-                throw new IllegalArgumentException("Domain name cannot be empty");
+                throw new AcmeProblem(AcmeErrorType.MALFORMED, "Domain name cannot be empty");
             }
         }
 
         // 현재는 DNS 타입만 지원
         if (!"dns".equals(identifier.getType())) {
-            throw new UnsupportedOperationException("Unsupported identifier type: " + identifier.getType());
+            throw new AcmeProblem(AcmeErrorType.UNSUPPORTED_IDENTIFIER, "Unsupported identifier type: " + identifier.getType());
         }
 
         validateDomainName(identifier.getValue());
+
+        if (domainBlocklist.isBlocked(identifier.getValue())) {
+            throw new AcmeProblem(AcmeErrorType.REJECTED_IDENTIFIER, "Policy forbids issuing for name: " + identifier.getValue());
+        }
     }
 
     /**
@@ -191,18 +343,49 @@ public class OrderService {
      */
     private void validateDomainName(String domain) {
         if (domain.length() > 255) {
-            throw new IllegalArgumentException("Domain name too long: " + domain);
+            throw new AcmeProblem(AcmeErrorType.MALFORMED, "Domain name too long: " + domain);
         }
 
         // 기본적인 도메인 형식 검증 (와일드카드 및 국제 도메인 지원)
         if (!DOMAIN_PATTERN.matcher(domain).matches()) {
             // 간단한 추가 검증
             if (domain.contains("..") || domain.startsWith(".") || domain.endsWith(".")) {
-                throw new IllegalArgumentException("Invalid domain name: " + domain);
+                throw new AcmeProblem(AcmeErrorType.MALFORMED, "Invalid domain name: " + domain);
             }
         }
     }
 
+    /**
+     * 주문의 인증들을 역색인에 등록합니다.
+     */
+    private void indexOrder(String orderId, List<Authorization> authorizationList, int outstanding) {
+        List<String> authorizationIds = authorizationList.stream()
+            .map(Authorization::getAuthorizationId)
+            .collect(Collectors.toList());
+        progressByOrder.put(orderId, new OrderProgress(authorizationIds, outstanding));
+        for (String authorizationId : authorizationIds) {
+            orderIdsByAuthorization
+                .computeIfAbsent(authorizationId, id -> ConcurrentHashMap.newKeySet())
+                .add(orderId);
+        }
+    }
+
+    /**
+     * 더 이상 인증 상태에 영향을 받지 않는 주문을 역색인에서 제거합니다.
+     */
+    private void unindexOrder(String orderId) {
+        OrderProgress progress = progressByOrder.remove(orderId);
+        if (progress == null) {
+            return;
+        }
+        for (String authorizationId : progress.authorizationIds) {
+            orderIdsByAuthorization.computeIfPresent(authorizationId, (id, orderIds) -> {
+                orderIds.remove(orderId);
+                return orderIds.isEmpty() ? null : orderIds;
+            });
+        }
+    }
+
     /**
      * 주문 ID를 생성합니다.
      */
@@ -218,4 +401,17 @@ public class OrderService {
     public String getOrderUrl(String orderId) {
         return baseUrl + "/order/" + orderId;
     }
+
+    /**
+     * 주문별 인증 진행 상황
+     */
+    private static final class OrderProgress {
+        private final List<String> authorizationIds;
+        private final AtomicInteger outstanding;
+
+        private OrderProgress(List<String> authorizationIds, int outstanding) {
+            this.authorizationIds = authorizationIds;
+            this.outstanding = new AtomicInteger(outstanding);
+        }
+    }
 }
\ No newline at end of file
@@ -0,0 +1,109 @@
+package com.pca.acme.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.pca.acme.util.PublicSuffixTrie;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 공개 접미사 목록 서비스
+ * 식별자의 등록 도메인을 계산합니다 (도메인별 요청 한도 등에서 사용).
+ *
+ * 기본은 jar에 포함된 publicsuffix/public_suffix_list.dat이며, acme.public-suffix.file을 지정하면 그 파일을 읽고
+ * reload-check-seconds마다 파일이 바뀌었는지 확인해 다시 읽습니다({@link ReloadableFile}).
+ * 새 트라이는 별도 스레드에서 다 만든 뒤 교체하므로 조회는 멈추지 않습니다.
+ */
+@Slf4j
+@Service
+public class PublicSuffixList {
+
+    static final String BUNDLED_LIST = "/publicsuffix/public_suffix_list.dat";
+
+    private final ReloadableFile<PublicSuffixTrie> trie = new ReloadableFile<>("public suffix list",
+        "acme-public-suffix-reload", PublicSuffixList::parse,
+        loaded -> loaded.getRuleCount() + " rules, " + loaded.getNodeCount() + " nodes");
+
+    @Value("${acme.public-suffix.file:}")
+    private String file;
+
+    @Value("${acme.public-suffix.reload-check-seconds:60}")
+    private long reloadCheckSeconds;
+
+    @PostConstruct
+    public void start() throws IOException {
+        if (file.isBlank()) {
+            loadBundled();
+        } else {
+            trie.start(Path.of(file), reloadCheckSeconds);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        trie.shutdown();
+    }
+
+    /**
+     * 호스트 이름의 등록 도메인을 반환합니다.
+     *
+     * @return 등록 도메인, 이름 자체가 공개 접미사이면 null
+     * @see PublicSuffixTrie#registeredDomain(String)
+     */
+    public String registeredDomain(String name) {
+        return trie.get().registeredDomain(name);
+    }
+
+    /**
+     * 목록을 다시 읽어 교체합니다.
+     */
+    public void reload() throws IOException {
+        if (file.isBlank()) {
+            loadBundled();
+        } else {
+            trie.reload();
+        }
+    }
+
+    /**
+     * 현재 목록의 규칙 수를 반환합니다.
+     */
+    public int getRuleCount() {
+        return trie.get().getRuleCount();
+    }
+
+    private void loadBundled() throws IOException {
+        try (InputStream in = PublicSuffixList.class.getResourceAsStream(BUNDLED_LIST)) {
+            if (in == null) {
+                throw new IOException("Bundled public suffix list not found: " + BUNDLED_LIST);
+            }
+            PublicSuffixTrie loaded = parse(in);
+            trie.set(loaded);
+            log.info("Loaded public suffix list from classpath:{}: {} rules, {} nodes",
+                BUNDLED_LIST, loaded.getRuleCount(), loaded.getNodeCount());
+        }
+    }
+
+    private static PublicSuffixTrie parse(Path path) throws IOException {
+        try (InputStream in = Files.newInputStream(path)) {
+            return parse(in);
+        }
+    }
+
+    private static PublicSuffixTrie parse(InputStream in) throws IOException {
+        try (Reader reader = new InputStreamReader(in, StandardCharsets.UTF_8)) {
+            return PublicSuffixTrie.parse(reader);
+        }
+    }
+}
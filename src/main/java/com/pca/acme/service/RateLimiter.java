@@ -0,0 +1,278 @@
+package com.pca.acme.service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.pca.acme.dto.order.OrderRequest;
+import com.pca.acme.exception.RateLimitedProblem;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 클라이언트별 요청 한도 서비스 (RFC 8555 §6.6 Rate Limits)
+ * 서버 전체 과부하를 막는 AdmissionController와 달리, 한 클라이언트가 정해진 몫 이상을 쓰지 못하게 합니다.
+ *
+ * 한도 (acme.rate-limit.*, 각각 period 동안 limit개):
+ * - new-nonce-per-ip: IP별 new-nonce 요청
+ * - new-account-per-ip: IP별 new-account 요청
+ * - new-order-per-account: 계정별 new-order 요청
+ * - new-order-per-domain: 등록 도메인별 new-order 요청 (주문 하나는 포함한 등록 도메인마다 한 번씩 셈)
+ *   등록 도메인은 공개 접미사 목록({@link PublicSuffixList})으로 계산합니다.
+ *
+ * 한도마다 독립된 {@link TokenBucketTable}을 두며, 표 크기는 acme.rate-limit.max-buckets로 제한됩니다.
+ * 다 채워진 버킷은 전용 스레드가 sweep-interval-seconds마다 지우므로 요청 경로는 표를 훑지 않습니다.
+ *
+ * 기동 워밍업의 합성 요청만 한도에서 뺍니다. 워밍업 동안만 유효한 무작위 토큰을 {@link #EXEMPT_HEADER}로 보낸 요청은
+ * IP별 한도를 건너뛰고, 워밍업이 등록한 계정의 new-order는 계정별, 도메인별 한도를 건너뜁니다.
+ * 면제된 요청은 버킷을 만들지 않으므로 워밍업이 끝난 뒤 지울 버킷도 없습니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RateLimiter {
+
+    /**
+     * 제한하지 않는 인스턴스 (단위 테스트, 벤치마크용)
+     */
+    public static final RateLimiter UNLIMITED = new RateLimiter(null);
+
+    /**
+     * 요청 한도 종류
+     */
+    public enum Limit {
+        NEW_NONCE_PER_IP("new-nonce requests from this address"),
+        NEW_ACCOUNT_PER_IP("new-account requests from this address"),
+        NEW_ORDER_PER_ACCOUNT("new-order requests for this account"),
+        NEW_ORDER_PER_DOMAIN("new-order requests for registered domain");
+
+        private final String detail;
+
+        Limit(String detail) {
+            this.detail = detail;
+        }
+
+        public String getDetail() {
+            return detail;
+        }
+    }
+
+    /**
+     * 한도 면제 토큰을 담는 요청 헤더 (기동 워밍업 전용)
+     */
+    public static final String EXEMPT_HEADER = "X-Acme-Warmup";
+
+    private final PublicSuffixList publicSuffixList;
+
+    @Value("${acme.rate-limit.enabled:true}")
+    private boolean enabled;
+
+    @Value("${acme.rate-limit.max-buckets:100000}")
+    private int maxBuckets;
+
+    @Value("${acme.rate-limit.sweep-interval-seconds:60}")
+    private long sweepIntervalSeconds;
+
+    @Value("${acme.rate-limit.new-nonce-per-ip.limit:100}")
+    private int newNoncePerIpLimit;
+
+    @Value("${acme.rate-limit.new-nonce-per-ip.period:10s}")
+    private Duration newNoncePerIpPeriod;
+
+    @Value("${acme.rate-limit.new-account-per-ip.limit:10}")
+    private int newAccountPerIpLimit;
+
+    @Value("${acme.rate-limit.new-account-per-ip.period:3h}")
+    private Duration newAccountPerIpPeriod;
+
+    @Value("${acme.rate-limit.new-order-per-account.limit:300}")
+    private int newOrderPerAccountLimit;
+
+    @Value("${acme.rate-limit.new-order-per-account.period:3h}")
+    private Duration newOrderPerAccountPeriod;
+
+    @Value("${acme.rate-limit.new-order-per-domain.limit:50}")
+    private int newOrderPerDomainLimit;
+
+    @Value("${acme.rate-limit.new-order-per-domain.period:7d}")
+    private Duration newOrderPerDomainPeriod;
+
+    private TokenBucketTable[] tables;
+    private ScheduledExecutorService sweeper;
+
+    // 워밍업 중에만 값이 있는 면제 토큰과 워밍업이 만든 계정
+    private volatile byte[] exemptToken;
+    private final Set<String> exemptAccounts = ConcurrentHashMap.newKeySet();
+
+    @PostConstruct
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        tables = new TokenBucketTable[Limit.values().length];
+        tables[Limit.NEW_NONCE_PER_IP.ordinal()] = table(newNoncePerIpLimit, newNoncePerIpPeriod);
+        tables[Limit.NEW_ACCOUNT_PER_IP.ordinal()] = table(newAccountPerIpLimit, newAccountPerIpPeriod);
+        tables[Limit.NEW_ORDER_PER_ACCOUNT.ordinal()] = table(newOrderPerAccountLimit, newOrderPerAccountPeriod);
+        tables[Limit.NEW_ORDER_PER_DOMAIN.ordinal()] = table(newOrderPerDomainLimit, newOrderPerDomainPeriod);
+        if (sweepIntervalSeconds > 0) {
+            sweeper = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().daemon(true).name("acme-rate-limit-sweep").factory());
+            sweeper.scheduleWithFixedDelay(this::evictIdle, sweepIntervalSeconds, sweepIntervalSeconds, TimeUnit.SECONDS);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (sweeper != null) {
+            sweeper.shutdownNow();
+        }
+    }
+
+    /**
+     * 한 키에 대한 요청 한도를 검사하고 허용되면 토큰 하나를 씁니다.
+     *
+     * @return 허용되었으면 0, 거절되었으면 Retry-After 초
+     */
+    public long check(Limit limit, String key) {
+        if (tables == null || key == null) {
+            return 0;
+        }
+        long waitNanos = tables[limit.ordinal()].tryAcquire(key, System.nanoTime());
+        return waitNanos == 0 ? 0 : retryAfterSeconds(waitNanos);
+    }
+
+    /**
+     * new-order 요청의 계정별, 등록 도메인별 한도를 검사합니다.
+     * 한 한도라도 넘으면 이미 쓴 토큰을 돌려주고 rateLimited 에러를 던집니다.
+     */
+    public void checkNewOrder(String accountId, List<OrderRequest.Identifier> identifiers) {
+        if (tables == null || exemptAccounts.contains(accountId)) {
+            return;
+        }
+
+        long retryAfter = check(Limit.NEW_ORDER_PER_ACCOUNT, accountId);
+        if (retryAfter > 0) {
+            throw rejected(Limit.NEW_ORDER_PER_ACCOUNT, null, retryAfter);
+        }
+
+        TokenBucketTable domainTable = tables[Limit.NEW_ORDER_PER_DOMAIN.ordinal()];
+        List<String> acquired = new ArrayList<>(identifiers.size());
+        for (OrderRequest.Identifier identifier : identifiers) {
+            String domain = registeredDomain(identifier.getValue());
+            if (acquired.contains(domain)) {
+                continue;
+            }
+            retryAfter = check(Limit.NEW_ORDER_PER_DOMAIN, domain);
+            if (retryAfter > 0) {
+                tables[Limit.NEW_ORDER_PER_ACCOUNT.ordinal()].refund(accountId);
+                for (String key : acquired) {
+                    domainTable.refund(key);
+                }
+                throw rejected(Limit.NEW_ORDER_PER_DOMAIN, domain, retryAfter);
+            }
+            acquired.add(domain);
+        }
+    }
+
+    /**
+     * 면제 토큰을 새로 만들어 반환합니다 (기동 워밍업 시작).
+     */
+    public String beginExemption() {
+        byte[] token = new byte[16];
+        new SecureRandom().nextBytes(token);
+        String value = HexFormat.of().formatHex(token);
+        exemptToken = value.getBytes(StandardCharsets.US_ASCII);
+        return value;
+    }
+
+    /**
+     * 면제 토큰과 면제 계정을 모두 거둡니다 (기동 워밍업 종료).
+     */
+    public void endExemption() {
+        exemptToken = null;
+        exemptAccounts.clear();
+    }
+
+    /**
+     * 요청의 {@link #EXEMPT_HEADER} 값이 현재 면제 토큰인지 확인합니다.
+     */
+    public boolean isExempt(String token) {
+        byte[] expected = exemptToken;
+        return expected != null && token != null
+            && MessageDigest.isEqual(expected, token.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    /**
+     * 워밍업이 만든 계정을 new-order 한도에서 뺍니다.
+     */
+    public void exemptAccount(String accountId) {
+        if (exemptToken != null) {
+            exemptAccounts.add(accountId);
+        }
+    }
+
+    /**
+     * 계정 면제를 거둡니다.
+     */
+    public void releaseAccount(String accountId) {
+        exemptAccounts.remove(accountId);
+    }
+
+    /**
+     * 모든 표에서 다 채워진 버킷을 지웁니다.
+     */
+    public void evictIdle() {
+        if (tables != null) {
+            long now = System.nanoTime();
+            for (TokenBucketTable table : tables) {
+                table.evictIdle(now);
+            }
+        }
+    }
+
+    /**
+     * 한도별 버킷 수를 반환합니다.
+     */
+    public int getBucketCount(Limit limit) {
+        return tables == null ? 0 : tables[limit.ordinal()].size();
+    }
+
+    /**
+     * 식별자의 등록 도메인을 반환합니다. 이름 자체가 공개 접미사이면 이름을 그대로 키로 씁니다.
+     */
+    private String registeredDomain(String name) {
+        String domain = publicSuffixList.registeredDomain(name);
+        return domain != null ? domain : name.toLowerCase(Locale.ROOT);
+    }
+
+    private RateLimitedProblem rejected(Limit limit, String key, long retryAfterSeconds) {
+        String detail = "Too many " + limit.getDetail() + (key != null ? " " + key : "")
+            + ", retry after " + retryAfterSeconds + " seconds";
+        log.debug("Rate limited: {} {}", limit, key);
+        return new RateLimitedProblem(detail, retryAfterSeconds);
+    }
+
+    private TokenBucketTable table(int limit, Duration period) {
+        return new TokenBucketTable(limit, period.toNanos(), maxBuckets);
+    }
+
+    private static long retryAfterSeconds(long waitNanos) {
+        return Math.max(1, (waitNanos + TimeUnit.SECONDS.toNanos(1) - 1) / TimeUnit.SECONDS.toNanos(1));
+    }
+}
@@ -0,0 +1,113 @@
+package com.pca.acme.service;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 파일에서 읽은 조회 구조를 보관하고, 파일이 바뀌면 다시 읽어 교체합니다.
+ * 도메인·공개키 차단 목록과 공개 접미사 목록이 같이 씁니다.
+ *
+ * reload-check-seconds마다 파일 식별자(inode), 수정 시각, 크기를 확인해 바뀌었으면 새로 읽어 AtomicReference로 교체합니다.
+ * 이름 바꾸기로 교체되면 inode가 바뀌므로 수정 시각이 같아도 알아채고, 새 파일을 읽지 못하면 기존 값을 계속 씁니다.
+ */
+@Slf4j
+final class ReloadableFile<T> {
+
+    @FunctionalInterface
+    interface Loader<T> {
+        T load(Path path) throws IOException;
+    }
+
+    private final String description;
+    private final String threadName;
+    private final Loader<T> loader;
+    private final Function<T, String> summary;
+    private final AtomicReference<T> current = new AtomicReference<>();
+
+    private volatile Path path;
+    private volatile List<Object> loadedVersion;
+    private ScheduledExecutorService reloader;
+
+    /**
+     * @param description 로그에 쓸 이름 (예: "key blocklist")
+     * @param threadName  변경 확인 스레드 이름
+     * @param summary     로드 로그에 붙일 요약 (예: 항목 수)
+     */
+    ReloadableFile(String description, String threadName, Loader<T> loader, Function<T, String> summary) {
+        this.description = description;
+        this.threadName = threadName;
+        this.loader = loader;
+        this.summary = summary;
+    }
+
+    /**
+     * 파일을 읽고, reloadCheckSeconds가 0보다 크면 변경 확인 스레드를 시작합니다.
+     */
+    void start(Path path, long reloadCheckSeconds) throws IOException {
+        this.path = path;
+        reload();
+        if (reloadCheckSeconds > 0) {
+            reloader = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().daemon(true).name(threadName).factory());
+            reloader.scheduleWithFixedDelay(this::reloadIfModified, reloadCheckSeconds, reloadCheckSeconds, TimeUnit.SECONDS);
+        }
+    }
+
+    void shutdown() {
+        if (reloader != null) {
+            reloader.shutdownNow();
+        }
+    }
+
+    /**
+     * 현재 값을 반환합니다. 아직 읽지 않았으면 null입니다.
+     */
+    T get() {
+        return current.get();
+    }
+
+    /**
+     * 파일 대신 주어진 값을 씁니다 (jar에 포함된 기본 목록 등).
+     */
+    void set(T value) {
+        current.set(value);
+    }
+
+    /**
+     * 파일을 다시 읽어 교체합니다.
+     */
+    void reload() throws IOException {
+        List<Object> version = version(path);
+        T loaded = loader.load(path);
+        current.set(loaded);
+        loadedVersion = version;
+        log.info("Loaded {} from {}: {}", description, path, summary.apply(loaded));
+    }
+
+    void reloadIfModified() {
+        try {
+            if (!Objects.equals(version(path), loadedVersion)) {
+                reload();
+            }
+        } catch (IOException | RuntimeException e) {
+            log.warn("{} reload failed, keeping current list: {}", description, e.toString());
+        }
+    }
+
+    private static List<Object> version(Path path) throws IOException {
+        BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+        return Arrays.asList(attributes.fileKey(), attributes.lastModifiedTime(), attributes.size());
+    }
+}
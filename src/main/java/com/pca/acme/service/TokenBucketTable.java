@@ -0,0 +1,144 @@
+package com.pca.acme.service;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 키별 토큰 버킷 표
+ * 버킷 하나는 "이론상 다음 도착 시각"(GCRA, Generic Cell Rate Algorithm) 하나를 AtomicLong에 담습니다.
+ * 토큰 수와 마지막 보충 시각을 따로 두지 않으므로 획득은 CAS 한 번이며 락을 쓰지 않습니다.
+ * period 동안 limit개를 허용하고, 비어 있던 키는 처음에 limit개까지 한꺼번에 허용합니다 (토큰 버킷과 동일).
+ *
+ * 표는 maxBuckets개로 제한됩니다. 다 채워진(idle) 버킷은 새로 만든 버킷과 상태가 같으므로 지워도 제한이 느슨해지지 않으며,
+ * 소유자가 주기적으로 {@link #evictIdle(long)}을 불러 백그라운드에서 정리합니다.
+ * 요청 경로는 표 전체를 훑지 않습니다. 가득 찬 표에 새 키가 오면 앞쪽 EVICTION_BATCH개만 살펴 다 채워진 버킷을 지우고,
+ * 하나도 없으면 그중 가장 오래 쉬고 있던 버킷 하나를 밀어냅니다.
+ * 다른 스레드가 이미 자리를 만드는 중이면 기다리지 않고 새 키를 잠시 거절(제한됨으로 처리)하므로,
+ * 표 크기는 maxBuckets에 동시에 새 키를 넣는 스레드 수를 더한 값을 넘지 않습니다.
+ */
+public final class TokenBucketTable {
+
+    // 표가 가득 찼을 때 요청 경로에서 살펴보는 최대 버킷 수
+    private static final int EVICTION_BATCH = 64;
+
+    private final Map<String, AtomicLong> buckets = new ConcurrentHashMap<>();
+    private final AtomicBoolean sweeping = new AtomicBoolean();
+
+    private final long periodNanos;
+    private final long emissionNanos;
+    private final int maxBuckets;
+
+    /**
+     * @param limit period 동안 허용하는 요청 수 (버스트 크기)
+     * @param periodNanos limit개가 모두 다시 채워지는 시간
+     * @param maxBuckets 표에 유지하는 최대 키 수
+     */
+    public TokenBucketTable(int limit, long periodNanos, int maxBuckets) {
+        if (limit <= 0 || periodNanos <= 0 || maxBuckets <= 0) {
+            throw new IllegalArgumentException("limit, period and maxBuckets must be positive");
+        }
+        this.periodNanos = periodNanos;
+        this.emissionNanos = Math.max(1, periodNanos / limit);
+        this.maxBuckets = maxBuckets;
+    }
+
+    /**
+     * 키의 버킷에서 토큰 하나를 얻습니다.
+     *
+     * @param now 현재 시각 (System.nanoTime)
+     * @return 허용되었으면 0, 거절되었으면 다음 토큰이 생길 때까지 남은 시간 (나노초)
+     */
+    public long tryAcquire(String key, long now) {
+        AtomicLong bucket = buckets.get(key);
+        if (bucket == null) {
+            if (buckets.size() >= maxBuckets && !makeRoom(now)) {
+                return emissionNanos;
+            }
+            bucket = buckets.computeIfAbsent(key, k -> new AtomicLong(Long.MIN_VALUE));
+        }
+
+        while (true) {
+            long tat = bucket.get();
+            long next = Math.max(tat, now) + emissionNanos;
+            long ahead = next - now;
+            if (ahead > periodNanos) {
+                return ahead - periodNanos;
+            }
+            if (bucket.compareAndSet(tat, next)) {
+                return 0;
+            }
+        }
+    }
+
+    /**
+     * 얻었던 토큰 하나를 돌려줍니다 (여러 버킷을 함께 검사하다 뒤에서 거절된 경우).
+     */
+    public void refund(String key) {
+        AtomicLong bucket = buckets.get(key);
+        if (bucket != null) {
+            bucket.addAndGet(-emissionNanos);
+        }
+    }
+
+    /**
+     * 다 채워진 버킷을 모두 지웁니다 (표 전체를 훑으므로 요청 경로가 아닌 백그라운드 정리용).
+     */
+    public void evictIdle(long now) {
+        for (Map.Entry<String, AtomicLong> entry : buckets.entrySet()) {
+            AtomicLong bucket = entry.getValue();
+            if (bucket.get() <= now) {
+                buckets.remove(entry.getKey(), bucket);
+            }
+        }
+    }
+
+    /**
+     * 모든 버킷을 지웁니다.
+     */
+    public void clear() {
+        buckets.clear();
+    }
+
+    /**
+     * 표에 있는 버킷 수를 반환합니다.
+     */
+    public int size() {
+        return buckets.size();
+    }
+
+    /**
+     * 새 키를 넣을 자리를 만듭니다. 살펴보는 버킷 수는 EVICTION_BATCH개로 제한됩니다.
+     *
+     * @return 새 키를 넣어도 되면 true, 다른 스레드가 정리 중이고 자리가 없으면 false
+     */
+    private boolean makeRoom(long now) {
+        if (!sweeping.compareAndSet(false, true)) {
+            return buckets.size() < maxBuckets;
+        }
+        try {
+            boolean removed = false;
+            String oldestKey = null;
+            AtomicLong oldest = null;
+            Iterator<Map.Entry<String, AtomicLong>> it = buckets.entrySet().iterator();
+            for (int i = 0; i < EVICTION_BATCH && it.hasNext(); i++) {
+                Map.Entry<String, AtomicLong> entry = it.next();
+                AtomicLong bucket = entry.getValue();
+                if (bucket.get() <= now) {
+                    removed |= buckets.remove(entry.getKey(), bucket);
+                } else if (oldest == null || bucket.get() < oldest.get()) {
+                    oldestKey = entry.getKey();
+                    oldest = bucket;
+                }
+            }
+            if (!removed && oldestKey != null) {
+                buckets.remove(oldestKey, oldest);
+            }
+            return true;
+        } finally {
+            sweeping.set(false);
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package com.pca.acme.tracing;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+
+/**
+ * ACME 요청 흐름의 Observation(OpenTelemetry span) 생성과 ACME ID 속성 부착
+ *
+ * 요청 스레드에서는 현재 Observation(HTTP 요청 또는 컨트롤러 핸들러)에 속성을 붙이고,
+ * 백그라운드 작업은 접수 시점의 Observation을 부모로 넘겨 같은 trace로 이어지게 합니다.
+ * ACME ID는 high cardinality 값으로만 붙이므로 span에는 남고 메트릭 태그에는 포함되지 않습니다.
+ *
+ * management.tracing.enabled=false이면 ObservationRegistry.NOOP을 쓰므로 start는 Observation.NOOP을 반환하고
+ * 요청마다 Observation 객체나 컨텍스트를 만들지 않습니다. 실행 시 값을 읽으므로 빠른 기동(AOT) 모드에서도 적용됩니다.
+ */
+@Component
+public class AcmeTracing {
+
+    public static final String ACCOUNT_ID = "acme.account.id";
+    public static final String ORDER_ID = "acme.order.id";
+    public static final String CERTIFICATE_ID = "acme.certificate.id";
+    public static final String PATH = "acme.path";
+    public static final String BATCH_SIZE = "acme.batch.size";
+
+    /**
+     * 추적하지 않는 인스턴스 (단위 테스트, 벤치마크용)
+     */
+    public static final AcmeTracing NOOP = new AcmeTracing(ObservationRegistry.NOOP);
+
+    private final ObservationRegistry registry;
+
+    @Autowired
+    public AcmeTracing(ObservationRegistry registry, @Value("${management.tracing.enabled:true}") boolean enabled) {
+        this(enabled ? registry : ObservationRegistry.NOOP);
+    }
+
+    public AcmeTracing(ObservationRegistry registry) {
+        this.registry = registry;
+    }
+
+    /**
+     * span을 기록하는지 여부
+     */
+    public boolean isEnabled() {
+        return !registry.isNoop();
+    }
+
+    /**
+     * 현재 스레드에서 열려 있는 Observation (없으면 null)
+     */
+    public Observation current() {
+        return registry.getCurrentObservation();
+    }
+
+    /**
+     * 현재 Observation에 ACME ID 속성을 붙입니다.
+     */
+    public void tag(String key, String value) {
+        Observation observation = registry.getCurrentObservation();
+        if (observation != null && value != null) {
+            observation.highCardinalityKeyValue(key, value);
+        }
+    }
+
+    /**
+     * 현재 Observation을 부모로 하는 하위 Observation을 시작합니다.
+     */
+    public Observation start(String name) {
+        return Observation.start(name, registry);
+    }
+
+    /**
+     * 다른 스레드에서 넘겨받은 부모 Observation 아래에 Observation을 시작합니다.
+     */
+    public Observation start(String name, Observation parent) {
+        return Observation.createNotStarted(name, registry)
+            .parentObservation(parent)
+            .start();
+    }
+}
@@ -0,0 +1,118 @@
+package com.pca.acme.tracing;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Collection;
+import java.util.Map;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.StreamWriteFeature;
+
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 완료된 span을 한 줄에 하나씩 JSON으로 파일에 추가하는 exporter
+ * 수집기 없이도 trace를 남겨 두었다가 jq 등으로 꼬리 지연 구간을 분석할 수 있게 합니다.
+ *
+ * BatchSpanProcessor가 단일 스레드에서 호출하지만 flush/shutdown과의 경합을 막기 위해 쓰기는 동기화합니다.
+ */
+@Slf4j
+public class FileSpanExporter implements SpanExporter {
+
+    // span마다 파일까지 flush하지 않고 배치 단위로 한 번만 flush
+    private static final JsonFactory JSON = JsonFactory.builder()
+        .disable(StreamWriteFeature.AUTO_CLOSE_TARGET)
+        .disable(StreamWriteFeature.FLUSH_PASSED_TO_STREAM)
+        .build();
+
+    private final Path path;
+    private final BufferedWriter writer;
+    private boolean closed;
+
+    public FileSpanExporter(Path path) throws IOException {
+        this.path = path;
+        Path parent = path.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        this.writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8,
+            StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+    }
+
+    @Override
+    public synchronized CompletableResultCode export(Collection<SpanData> spans) {
+        if (closed) {
+            return CompletableResultCode.ofFailure();
+        }
+        try {
+            for (SpanData span : spans) {
+                writeSpan(span);
+                writer.newLine();
+            }
+            writer.flush();
+            return CompletableResultCode.ofSuccess();
+        } catch (IOException | UncheckedIOException e) {
+            log.warn("Failed to write {} spans to {}", spans.size(), path, e);
+            return CompletableResultCode.ofFailure();
+        }
+    }
+
+    @Override
+    public synchronized CompletableResultCode flush() {
+        if (closed) {
+            return CompletableResultCode.ofSuccess();
+        }
+        try {
+            writer.flush();
+            return CompletableResultCode.ofSuccess();
+        } catch (IOException e) {
+            return CompletableResultCode.ofFailure();
+        }
+    }
+
+    @Override
+    public synchronized CompletableResultCode shutdown() {
+        if (closed) {
+            return CompletableResultCode.ofSuccess();
+        }
+        closed = true;
+        try {
+            writer.close();
+            return CompletableResultCode.ofSuccess();
+        } catch (IOException e) {
+            return CompletableResultCode.ofFailure();
+        }
+    }
+
+    private void writeSpan(SpanData span) throws IOException {
+        JsonGenerator json = JSON.createGenerator(writer);
+        json.writeStartObject();
+        json.writeStringField("traceId", span.getTraceId());
+        json.writeStringField("spanId", span.getSpanId());
+        if (span.getParentSpanContext().isValid()) {
+            json.writeStringField("parentSpanId", span.getParentSpanId());
+        }
+        json.writeStringField("name", span.getName());
+        json.writeStringField("kind", span.getKind().name());
+        json.writeNumberField("startEpochNanos", span.getStartEpochNanos());
+        json.writeNumberField("durationNanos", span.getEndEpochNanos() - span.getStartEpochNanos());
+        json.writeStringField("status", span.getStatus().getStatusCode().name());
+        json.writeObjectFieldStart("attributes");
+        for (Map.Entry<AttributeKey<?>, Object> attribute : span.getAttributes().asMap().entrySet()) {
+            json.writeStringField(attribute.getKey().getKey(), String.valueOf(attribute.getValue()));
+        }
+        json.writeEndObject();
+        json.writeEndObject();
+        json.close();
+    }
+}
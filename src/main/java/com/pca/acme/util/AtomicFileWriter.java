@@ -0,0 +1,43 @@
+package com.pca.acme.util;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * 파일 원자적 교체 쓰기
+ * 같은 디렉터리의 임시 파일에 다 쓰고 디스크에 내린 뒤 원자적 이름 바꾸기로 교체하므로,
+ * 파일을 매핑하는 실행 중인 서버는 완성된 파일만 봅니다. 실패하면 임시 파일을 지우고 기존 파일을 그대로 둡니다.
+ */
+final class AtomicFileWriter {
+
+    @FunctionalInterface
+    interface Body {
+        void writeTo(DataOutputStream out) throws IOException;
+    }
+
+    private AtomicFileWriter() {
+    }
+
+    static void write(Path target, Body body) throws IOException {
+        Path directory = target.toAbsolutePath().getParent();
+        Path temp = Files.createTempFile(directory, target.getFileName().toString(), ".tmp");
+        try {
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+                DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Channels.newOutputStream(channel), 1 << 16));
+                body.writeTo(out);
+                out.flush();
+                channel.force(true);
+            }
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+}
@@ -0,0 +1,393 @@
+package com.pca.acme.util;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.KeyPair;
+import java.security.MessageDigest;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.SecureRandom;
+import java.security.Signature;
+import java.security.cert.CertificateException;
+import java.security.cert.CertificateFactory;
+import java.security.cert.X509Certificate;
+import java.security.interfaces.ECKey;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+
+/**
+ * X.509 인증서 서명기
+ * RFC 5280 TBSCertificate를 직접 DER 인코딩하고 발급자 키로 서명합니다.
+ *
+ * 서명 비용 외의 할당을 줄이기 위해 스레드마다 Signature, MessageDigest, DerWriter를 하나씩 두고
+ * 재사용하며, 발급자 이름과 서명 알고리즘 식별자 등 고정 부분은 생성 시 한 번만 인코딩합니다.
+ */
+public final class CertificateSigner {
+
+    private static final String OID_BASIC_CONSTRAINTS = "2.5.29.19";
+    private static final String OID_KEY_USAGE = "2.5.29.15";
+    private static final String OID_EXT_KEY_USAGE = "2.5.29.37";
+    private static final String OID_SUBJECT_KEY_ID = "2.5.29.14";
+    private static final String OID_AUTHORITY_KEY_ID = "2.5.29.35";
+    private static final String OID_SUBJECT_ALT_NAME = "2.5.29.17";
+    private static final String OID_SERVER_AUTH = "1.3.6.1.5.5.7.3.1";
+    private static final String OID_CLIENT_AUTH = "1.3.6.1.5.5.7.3.2";
+    private static final String OID_COMMON_NAME = "2.5.4.3";
+    private static final String OID_SHA256_WITH_RSA = "1.2.840.113549.1.1.11";
+    private static final String OID_ECDSA_WITH_SHA256 = "1.2.840.10045.4.3.2";
+    private static final String OID_ECDSA_WITH_SHA384 = "1.2.840.10045.4.3.3";
+
+    // keyUsage 비트 (RFC 5280 §4.2.1.3)
+    private static final int KU_DIGITAL_SIGNATURE = 0x80;
+    private static final int KU_KEY_ENCIPHERMENT = 0x20;
+    private static final int KU_KEY_CERT_SIGN = 0x04;
+    private static final int KU_CRL_SIGN = 0x02;
+
+    private static final int MAX_COMMON_NAME_LENGTH = 64;
+    private static final int SERIAL_BYTES = 16;
+    private static final int SAN_DNS_NAME_TAG = 0x82;
+    private static final int AKI_KEY_ID_TAG = 0x80;
+
+    private static final Base64.Encoder PEM_ENCODER = Base64.getMimeEncoder(64, new byte[] { '\n' });
+    private static final byte[] PEM_HEADER = "-----BEGIN CERTIFICATE-----\n".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] PEM_FOOTER = "\n-----END CERTIFICATE-----\n".getBytes(StandardCharsets.US_ASCII);
+
+    private final SecureRandom random = SecureRandomFactory.create();
+    private final PrivateKey issuerKey;
+    private final X509Certificate issuerCertificate;
+    private final String jcaAlgorithm;
+    private final byte[] signatureAlgorithmId;
+    private final byte[] issuerName;
+    private final byte[] authorityKeyId;
+    private final byte[] issuerPem;
+
+    private final ThreadLocal<Signature> signatures;
+    private final ThreadLocal<MessageDigest> sha1 = ThreadLocal.withInitial(() -> newDigest("SHA-1"));
+    private final ThreadLocal<DerWriter> writers = ThreadLocal.withInitial(DerWriter::new);
+
+    public CertificateSigner(PrivateKey issuerKey, X509Certificate issuerCertificate) {
+        this.issuerKey = issuerKey;
+        this.issuerCertificate = issuerCertificate;
+        this.jcaAlgorithm = jcaAlgorithm(issuerKey);
+        this.signatureAlgorithmId = algorithmIdentifier(jcaAlgorithm);
+        this.issuerName = issuerCertificate.getSubjectX500Principal().getEncoded();
+        this.authorityKeyId = issuerKeyIdentifier(issuerCertificate);
+        try {
+            this.issuerPem = toPem(issuerCertificate.getEncoded());
+        } catch (CertificateException e) {
+            throw new IllegalArgumentException("Cannot encode issuer certificate", e);
+        }
+        this.signatures = ThreadLocal.withInitial(this::newSignature);
+    }
+
+    /**
+     * 개발 및 벤치마크용 자체 서명 발급자 인증서를 생성합니다.
+     */
+    public static X509Certificate selfSignedIssuer(KeyPair keyPair, String commonName, Instant notBefore, Instant notAfter) {
+        String algorithm = jcaAlgorithm(keyPair.getPrivate());
+        DerWriter writer = new DerWriter();
+        writer.beginSequence().beginSet().beginSequence()
+            .writeOid(OID_COMMON_NAME).writeUtf8String(commonName)
+            .end().end().end();
+        byte[] name = writer.toByteArray();
+        byte[] spki = keyPair.getPublic().getEncoded();
+        byte[] keyId = sha1(subjectPublicKeyBits(spki), newDigest("SHA-1"));
+
+        writer.reset();
+        writer.beginSequence();
+        writeTbsPrefix(writer, randomSerial(new SecureRandom()), algorithmIdentifier(algorithm), name, notBefore, notAfter);
+        writer.writeRaw(name).writeRaw(spki);
+        writer.beginExplicit(3).beginSequence();
+        writeExtension(writer, OID_BASIC_CONSTRAINTS, true).beginSequence().writeBoolean(true).end().end().end();
+        writeExtension(writer, OID_KEY_USAGE, true)
+            .writeBitString(new byte[] { (byte) (KU_DIGITAL_SIGNATURE | KU_KEY_CERT_SIGN | KU_CRL_SIGN) }, 1)
+            .end().end();
+        writeExtension(writer, OID_SUBJECT_KEY_ID, false).writeOctetString(keyId).end().end();
+        writer.end().end();
+        writer.end();
+        byte[] tbs = writer.toByteArray();
+
+        try {
+            Signature signature = Signature.getInstance(algorithm);
+            signature.initSign(keyPair.getPrivate());
+            signature.update(tbs);
+            byte[] der = assemble(writer.reset(), tbs, algorithmIdentifier(algorithm), signature.sign());
+            return (X509Certificate) CertificateFactory.getInstance("X.509")
+                .generateCertificate(new ByteArrayInputStream(der));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Failed to create self-signed issuer", e);
+        }
+    }
+
+    /**
+     * 단일 인증서를 서명합니다.
+     *
+     * @param subjectPublicKeyInfo DER 인코딩된 SubjectPublicKeyInfo (CSR에서 그대로 사용)
+     * @param dnsNames SAN에 포함할 DNS 이름 목록
+     */
+    public SignedCertificate sign(byte[] subjectPublicKeyInfo, List<String> dnsNames, Instant notBefore, Instant notAfter) {
+        DerWriter writer = writers.get().reset();
+        Signature signature = signatures.get();
+        MessageDigest digest = sha1.get();
+        byte[] serial = randomSerial(random);
+
+        // TBSCertificate
+        writer.beginSequence();
+        writeTbsPrefix(writer, serial, signatureAlgorithmId, issuerName, notBefore, notAfter);
+        writeSubject(writer, dnsNames);
+        writer.writeRaw(subjectPublicKeyInfo);
+        writeLeafExtensions(writer, subjectPublicKeyInfo, dnsNames, digest);
+        writer.end();
+        byte[] tbs = writer.toByteArray();
+
+        try {
+            signature.update(tbs);
+            byte[] der = assemble(writer.reset(), tbs, signatureAlgorithmId, signature.sign());
+            return new SignedCertificate(serial, der, toPem(der), notBefore, notAfter);
+        } catch (GeneralSecurityException e) {
+            // 실패한 Signature는 상태를 알 수 없으므로 폐기
+            signatures.remove();
+            throw new IllegalStateException("Certificate signing failed", e);
+        }
+    }
+
+    /**
+     * 여러 인증서를 같은 스레드의 Signature와 버퍼로 연속 서명합니다.
+     */
+    public List<SignedCertificate> signBatch(List<byte[]> subjectPublicKeyInfos, List<List<String>> dnsNames,
+                                             Instant notBefore, Instant notAfter) {
+        List<SignedCertificate> signed = new ArrayList<>(subjectPublicKeyInfos.size());
+        for (int i = 0; i < subjectPublicKeyInfos.size(); i++) {
+            signed.add(sign(subjectPublicKeyInfos.get(i), dnsNames.get(i), notBefore, notAfter));
+        }
+        return signed;
+    }
+
+    /**
+     * 발급자 인증서의 PEM 인코딩을 반환합니다 (체인 구성용).
+     */
+    public byte[] getIssuerPem() {
+        return issuerPem.clone();
+    }
+
+    public X509Certificate getIssuerCertificate() {
+        return issuerCertificate;
+    }
+
+    public String getSignatureAlgorithm() {
+        return jcaAlgorithm;
+    }
+
+    /**
+     * DER 인증서를 PEM으로 인코딩합니다.
+     */
+    public static byte[] toPem(byte[] der) {
+        byte[] body = PEM_ENCODER.encode(der);
+        byte[] pem = new byte[PEM_HEADER.length + body.length + PEM_FOOTER.length];
+        System.arraycopy(PEM_HEADER, 0, pem, 0, PEM_HEADER.length);
+        System.arraycopy(body, 0, pem, PEM_HEADER.length, body.length);
+        System.arraycopy(PEM_FOOTER, 0, pem, PEM_HEADER.length + body.length, PEM_FOOTER.length);
+        return pem;
+    }
+
+    private static void writeTbsPrefix(DerWriter writer, byte[] serial, byte[] algorithmId, byte[] issuer,
+                                       Instant notBefore, Instant notAfter) {
+        writer.beginExplicit(0).writeInteger(2).end();
+        writer.writeUnsignedInteger(serial);
+        writer.writeRaw(algorithmId);
+        writer.writeRaw(issuer);
+        writer.beginSequence().writeTime(notBefore).writeTime(notAfter).end();
+    }
+
+    private static void writeSubject(DerWriter writer, List<String> dnsNames) {
+        writer.beginSequence();
+        if (!dnsNames.isEmpty() && dnsNames.get(0).length() <= MAX_COMMON_NAME_LENGTH) {
+            writer.beginSet().beginSequence()
+                .writeOid(OID_COMMON_NAME).writeUtf8String(dnsNames.get(0))
+                .end().end();
+        }
+        writer.end();
+    }
+
+    private void writeLeafExtensions(DerWriter writer, byte[] subjectPublicKeyInfo, List<String> dnsNames,
+                                     MessageDigest digest) {
+        boolean rsa = isRsaKey(subjectPublicKeyInfo);
+        boolean emptySubject = dnsNames.isEmpty() || dnsNames.get(0).length() > MAX_COMMON_NAME_LENGTH;
+
+        writer.beginExplicit(3).beginSequence();
+
+        writeExtension(writer, OID_BASIC_CONSTRAINTS, true).beginSequence().end().end().end();
+
+        int keyUsage = KU_DIGITAL_SIGNATURE | (rsa ? KU_KEY_ENCIPHERMENT : 0);
+        writeExtension(writer, OID_KEY_USAGE, true)
+            .writeBitString(new byte[] { (byte) keyUsage }, rsa ? 5 : 7)
+            .end().end();
+
+        writeExtension(writer, OID_EXT_KEY_USAGE, false)
+            .beginSequence().writeOid(OID_SERVER_AUTH).writeOid(OID_CLIENT_AUTH).end()
+            .end().end();
+
+        writeExtension(writer, OID_SUBJECT_KEY_ID, false)
+            .writeOctetString(sha1(subjectPublicKeyBits(subjectPublicKeyInfo), digest))
+            .end().end();
+
+        writeExtension(writer, OID_AUTHORITY_KEY_ID, false)
+            .beginSequence().writeTagged(AKI_KEY_ID_TAG, authorityKeyId).end()
+            .end().end();
+
+        writeExtension(writer, OID_SUBJECT_ALT_NAME, emptySubject).beginSequence();
+        for (String dnsName : dnsNames) {
+            writer.writeIa5String(SAN_DNS_NAME_TAG, dnsName);
+        }
+        writer.end().end().end();
+
+        writer.end().end();
+    }
+
+    /**
+     * Extension SEQUENCE와 extnValue OCTET STRING을 연 상태로 반환합니다.
+     * 호출자는 값을 쓴 뒤 end()를 두 번 호출해야 합니다.
+     */
+    private static DerWriter writeExtension(DerWriter writer, String oid, boolean critical) {
+        writer.beginSequence().writeOid(oid);
+        if (critical) {
+            writer.writeBoolean(true);
+        }
+        return writer.beginOctetString();
+    }
+
+    private static byte[] assemble(DerWriter writer, byte[] tbs, byte[] algorithmId, byte[] signatureValue) {
+        writer.beginSequence()
+            .writeRaw(tbs)
+            .writeRaw(algorithmId)
+            .writeBitString(signatureValue, 0)
+            .end();
+        return writer.toByteArray();
+    }
+
+    private Signature newSignature() {
+        try {
+            Signature signature = Signature.getInstance(jcaAlgorithm);
+            signature.initSign(issuerKey);
+            return signature;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Cannot initialize " + jcaAlgorithm + " signer", e);
+        }
+    }
+
+    private static MessageDigest newDigest(String algorithm) {
+        try {
+            return MessageDigest.getInstance(algorithm);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(algorithm + " not available", e);
+        }
+    }
+
+    private static byte[] sha1(byte[] data, MessageDigest digest) {
+        digest.reset();
+        return digest.digest(data);
+    }
+
+    private static byte[] randomSerial(SecureRandom random) {
+        byte[] serial = new byte[SERIAL_BYTES];
+        random.nextBytes(serial);
+        serial[0] = (byte) ((serial[0] & 0x7F) | 0x01);
+        return serial;
+    }
+
+    /**
+     * SubjectPublicKeyInfo의 subjectPublicKey 비트를 추출합니다 (키 식별자 계산용, RFC 5280 §4.2.1.2).
+     */
+    private static byte[] subjectPublicKeyBits(byte[] subjectPublicKeyInfo) {
+        DerReader spki = new DerReader(subjectPublicKeyInfo).next(DerReader.TAG_SEQUENCE).reader();
+        spki.next(DerReader.TAG_SEQUENCE);
+        return spki.next(DerReader.TAG_BIT_STRING).bitStringBytes();
+    }
+
+    private static boolean isRsaKey(byte[] subjectPublicKeyInfo) {
+        DerReader spki = new DerReader(subjectPublicKeyInfo).next(DerReader.TAG_SEQUENCE).reader();
+        return "1.2.840.113549.1.1.1".equals(spki.next(DerReader.TAG_SEQUENCE).reader().next(DerReader.TAG_OID).oid());
+    }
+
+    private static byte[] issuerKeyIdentifier(X509Certificate certificate) {
+        byte[] extension = certificate.getExtensionValue(OID_SUBJECT_KEY_ID);
+        if (extension != null) {
+            DerReader outer = new DerReader(extension);
+            return outer.next(DerReader.TAG_OCTET_STRING).reader().next(DerReader.TAG_OCTET_STRING).value();
+        }
+        PublicKey publicKey = certificate.getPublicKey();
+        return sha1(subjectPublicKeyBits(publicKey.getEncoded()), newDigest("SHA-1"));
+    }
+
+    private static String jcaAlgorithm(PrivateKey key) {
+        switch (key.getAlgorithm()) {
+            case "RSA":
+                return "SHA256withRSA";
+            case "EC":
+                int fieldSize = ((ECKey) key).getParams().getCurve().getField().getFieldSize();
+                return fieldSize > 256 ? "SHA384withECDSA" : "SHA256withECDSA";
+            default:
+                throw new IllegalArgumentException("Unsupported issuer key algorithm: " + key.getAlgorithm());
+        }
+    }
+
+    private static byte[] algorithmIdentifier(String jcaAlgorithm) {
+        DerWriter writer = new DerWriter(32).beginSequence();
+        switch (jcaAlgorithm) {
+            case "SHA256withRSA" -> writer.writeOid(OID_SHA256_WITH_RSA).writeNull();
+            case "SHA256withECDSA" -> writer.writeOid(OID_ECDSA_WITH_SHA256);
+            case "SHA384withECDSA" -> writer.writeOid(OID_ECDSA_WITH_SHA384);
+            default -> throw new IllegalArgumentException("Unsupported signature algorithm: " + jcaAlgorithm);
+        }
+        return writer.end().toByteArray();
+    }
+
+    /**
+     * 서명된 인증서
+     */
+    public static final class SignedCertificate {
+        private final byte[] serial;
+        private final byte[] der;
+        private final byte[] pem;
+        private final Instant notBefore;
+        private final Instant notAfter;
+
+        private SignedCertificate(byte[] serial, byte[] der, byte[] pem, Instant notBefore, Instant notAfter) {
+            this.serial = serial;
+            this.der = der;
+            this.pem = pem;
+            this.notBefore = notBefore;
+            this.notAfter = notAfter;
+        }
+
+        /**
+         * 일련번호를 16진수 문자열로 반환합니다.
+         */
+        public String getSerialHex() {
+            StringBuilder sb = new StringBuilder(serial.length * 2);
+            for (byte b : serial) {
+                sb.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+            }
+            return sb.toString();
+        }
+
+        public byte[] getDer() {
+            return der;
+        }
+
+        public byte[] getPem() {
+            return pem;
+        }
+
+        public Instant getNotBefore() {
+            return notBefore;
+        }
+
+        public Instant getNotAfter() {
+            return notAfter;
+        }
+    }
+}
@@ -0,0 +1,233 @@
+package com.pca.acme.util;
+
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.PublicKey;
+import java.security.Signature;
+import java.security.spec.X509EncodedKeySpec;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * PKCS#10 인증서 서명 요청(CSR) 파서
+ * RFC 2986 CertificationRequest 구조를 파싱하고 자체 서명을 검증합니다.
+ * RFC 8555 §7.4 finalize 요청의 csr 필드 처리에 사용됩니다.
+ */
+public final class CsrParser {
+
+    private static final String OID_EXTENSION_REQUEST = "1.2.840.113549.1.9.14";
+    private static final String OID_SUBJECT_ALT_NAME = "2.5.29.17";
+    private static final String OID_COMMON_NAME = "2.5.4.3";
+    private static final int SAN_DNS_NAME_TAG = 0x82;
+    private static final int ATTRIBUTES_TAG = 0xA0;
+
+    private static final Map<String, String> SIGNATURE_ALGORITHMS = Map.of(
+        "1.2.840.113549.1.1.11", "SHA256withRSA",
+        "1.2.840.113549.1.1.12", "SHA384withRSA",
+        "1.2.840.113549.1.1.13", "SHA512withRSA",
+        "1.2.840.10045.4.3.2", "SHA256withECDSA",
+        "1.2.840.10045.4.3.3", "SHA384withECDSA",
+        "1.2.840.10045.4.3.4", "SHA512withECDSA",
+        "1.3.101.112", "Ed25519"
+    );
+
+    private static final Map<String, String> KEY_ALGORITHMS = Map.of(
+        "1.2.840.113549.1.1.1", "RSA",
+        "1.2.840.10045.2.1", "EC",
+        "1.3.101.112", "Ed25519"
+    );
+
+    private CsrParser() {
+    }
+
+    /**
+     * DER 인코딩된 CSR을 파싱하고 서명을 검증합니다.
+     *
+     * @param der DER 인코딩된 CertificationRequest
+     * @return 파싱된 CSR
+     * @throws IllegalArgumentException 구조가 잘못되었거나 서명 검증에 실패한 경우
+     */
+    public static ParsedCsr parse(byte[] der) {
+        DerReader outer = new DerReader(der);
+        DerReader request = outer.next(DerReader.TAG_SEQUENCE).reader();
+        if (outer.hasMore()) {
+            throw new IllegalArgumentException("Invalid CSR: trailing data");
+        }
+
+        DerReader.Element info = request.next(DerReader.TAG_SEQUENCE);
+        DerReader.Element signatureAlgorithm = request.next(DerReader.TAG_SEQUENCE);
+        byte[] signature = request.next(DerReader.TAG_BIT_STRING).bitStringBytes();
+
+        // CertificationRequestInfo
+        DerReader infoReader = info.reader();
+        infoReader.next(DerReader.TAG_INTEGER);
+        DerReader.Element subject = infoReader.next(DerReader.TAG_SEQUENCE);
+        DerReader.Element spki = infoReader.next(DerReader.TAG_SEQUENCE);
+
+        Set<String> dnsNames = new LinkedHashSet<>();
+        if (infoReader.hasMore()) {
+            readExtensionRequest(infoReader.next(ATTRIBUTES_TAG).reader(), dnsNames);
+        }
+
+        String commonName = readCommonName(subject.reader());
+        PublicKey publicKey = decodePublicKey(spki);
+        String signatureAlgorithmName = signatureAlgorithmName(signatureAlgorithm);
+
+        try {
+            Signature verifier = Signature.getInstance(signatureAlgorithmName);
+            verifier.initVerify(publicKey);
+            verifier.update(info.encoded());
+            if (!verifier.verify(signature)) {
+                throw new IllegalArgumentException("Invalid CSR: signature verification failed");
+            }
+        } catch (GeneralSecurityException e) {
+            throw new IllegalArgumentException("Invalid CSR: " + e.getMessage(), e);
+        }
+
+        return new ParsedCsr(der, spki.encoded(), publicKey, commonName, Collections.unmodifiableSet(dnsNames));
+    }
+
+    /**
+     * 서명을 검증하지 않고 CSR의 SubjectPublicKeyInfo만 꺼냅니다 (요청 스레드의 공개키 차단 목록 검사용).
+     *
+     * @param der DER 인코딩된 CertificationRequest
+     * @return DER 인코딩된 SubjectPublicKeyInfo
+     * @throws IllegalArgumentException 구조가 잘못된 경우
+     */
+    public static byte[] subjectPublicKeyInfo(byte[] der) {
+        DerReader info = new DerReader(der).next(DerReader.TAG_SEQUENCE).reader()
+            .next(DerReader.TAG_SEQUENCE).reader();
+        info.next(DerReader.TAG_INTEGER);
+        info.next(DerReader.TAG_SEQUENCE);
+        return info.next(DerReader.TAG_SEQUENCE).encoded();
+    }
+
+    /**
+     * attributes에서 extensionRequest의 subjectAltName dNSName들을 수집합니다.
+     */
+    private static void readExtensionRequest(DerReader attributes, Set<String> dnsNames) {
+        while (attributes.hasMore()) {
+            DerReader attribute = attributes.next(DerReader.TAG_SEQUENCE).reader();
+            String type = attribute.next(DerReader.TAG_OID).oid();
+            DerReader values = attribute.next(DerReader.TAG_SET).reader();
+            if (!OID_EXTENSION_REQUEST.equals(type)) {
+                continue;
+            }
+            while (values.hasMore()) {
+                DerReader extensions = values.next(DerReader.TAG_SEQUENCE).reader();
+                while (extensions.hasMore()) {
+                    DerReader extension = extensions.next(DerReader.TAG_SEQUENCE).reader();
+                    String extensionId = extension.next(DerReader.TAG_OID).oid();
+                    if (extension.peekTag() == DerReader.TAG_BOOLEAN) {
+                        extension.next();
+                    }
+                    DerReader.Element extensionValue = extension.next(DerReader.TAG_OCTET_STRING);
+                    if (OID_SUBJECT_ALT_NAME.equals(extensionId)) {
+                        DerReader names = extensionValue.reader().next(DerReader.TAG_SEQUENCE).reader();
+                        while (names.hasMore()) {
+                            DerReader.Element name = names.next();
+                            if (name.getTag() == SAN_DNS_NAME_TAG) {
+                                dnsNames.add(name.string().toLowerCase(Locale.ROOT));
+                            }
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * subject에서 첫 번째 CN 값을 찾습니다.
+     */
+    private static String readCommonName(DerReader name) {
+        while (name.hasMore()) {
+            DerReader rdn = name.next(DerReader.TAG_SET).reader();
+            while (rdn.hasMore()) {
+                DerReader attribute = rdn.next(DerReader.TAG_SEQUENCE).reader();
+                String type = attribute.next(DerReader.TAG_OID).oid();
+                DerReader.Element value = attribute.next();
+                if (OID_COMMON_NAME.equals(type)) {
+                    return value.string().toLowerCase(Locale.ROOT);
+                }
+            }
+        }
+        return null;
+    }
+
+    private static PublicKey decodePublicKey(DerReader.Element spki) {
+        String keyOid = spki.reader().next(DerReader.TAG_SEQUENCE).reader().next(DerReader.TAG_OID).oid();
+        String keyAlgorithm = KEY_ALGORITHMS.get(keyOid);
+        if (keyAlgorithm == null) {
+            throw new IllegalArgumentException("Invalid CSR: unsupported key algorithm " + keyOid);
+        }
+        try {
+            return KeyFactory.getInstance(keyAlgorithm).generatePublic(new X509EncodedKeySpec(spki.encoded()));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalArgumentException("Invalid CSR: malformed public key", e);
+        }
+    }
+
+    private static String signatureAlgorithmName(DerReader.Element algorithmIdentifier) {
+        String oid = algorithmIdentifier.reader().next(DerReader.TAG_OID).oid();
+        String name = SIGNATURE_ALGORITHMS.get(oid);
+        if (name == null) {
+            throw new IllegalArgumentException("Invalid CSR: unsupported signature algorithm " + oid);
+        }
+        return name;
+    }
+
+    /**
+     * 파싱 및 서명 검증이 끝난 CSR
+     */
+    public static final class ParsedCsr {
+        private final byte[] encoded;
+        private final byte[] subjectPublicKeyInfo;
+        private final PublicKey publicKey;
+        private final String commonName;
+        private final Set<String> dnsNames;
+
+        private ParsedCsr(byte[] encoded, byte[] subjectPublicKeyInfo, PublicKey publicKey,
+                          String commonName, Set<String> dnsNames) {
+            this.encoded = encoded;
+            this.subjectPublicKeyInfo = subjectPublicKeyInfo;
+            this.publicKey = publicKey;
+            this.commonName = commonName;
+            this.dnsNames = dnsNames;
+        }
+
+        public byte[] getEncoded() {
+            return encoded;
+        }
+
+        public byte[] getSubjectPublicKeyInfo() {
+            return subjectPublicKeyInfo;
+        }
+
+        public PublicKey getPublicKey() {
+            return publicKey;
+        }
+
+        public String getCommonName() {
+            return commonName;
+        }
+
+        public Set<String> getDnsNames() {
+            return dnsNames;
+        }
+
+        /**
+         * CSR이 요청하는 모든 이름 (SAN dNSName과 CN의 합집합)
+         */
+        public Set<String> getRequestedNames() {
+            if (commonName == null || dnsNames.contains(commonName)) {
+                return dnsNames;
+            }
+            Set<String> names = new LinkedHashSet<>(dnsNames);
+            names.add(commonName);
+            return names;
+        }
+    }
+}
@@ -0,0 +1,208 @@
+package com.pca.acme.util;
+
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * 최소한의 ASN.1 DER 디코더
+ * CSR 등 ACME에서 다루는 구조를 파싱하기 위한 TLV 단위 순차 리더입니다.
+ * 원본 배열을 복사하지 않고 오프셋만으로 탐색합니다.
+ */
+public final class DerReader {
+
+    public static final int TAG_BOOLEAN = 0x01;
+    public static final int TAG_INTEGER = 0x02;
+    public static final int TAG_BIT_STRING = 0x03;
+    public static final int TAG_OCTET_STRING = 0x04;
+    public static final int TAG_NULL = 0x05;
+    public static final int TAG_OID = 0x06;
+    public static final int TAG_UTF8_STRING = 0x0C;
+    public static final int TAG_PRINTABLE_STRING = 0x13;
+    public static final int TAG_IA5_STRING = 0x16;
+    public static final int TAG_UTC_TIME = 0x17;
+    public static final int TAG_GENERALIZED_TIME = 0x18;
+    public static final int TAG_SEQUENCE = 0x30;
+    public static final int TAG_SET = 0x31;
+
+    private final byte[] data;
+    private final int end;
+    private int position;
+
+    public DerReader(byte[] data) {
+        this(data, 0, data.length);
+    }
+
+    public DerReader(byte[] data, int offset, int length) {
+        if (offset < 0 || length < 0 || offset + length > data.length) {
+            throw new IllegalArgumentException("Invalid DER range");
+        }
+        this.data = data;
+        this.position = offset;
+        this.end = offset + length;
+    }
+
+    /**
+     * 읽을 요소가 남아 있는지 확인합니다.
+     */
+    public boolean hasMore() {
+        return position < end;
+    }
+
+    /**
+     * 다음 요소의 태그를 소비하지 않고 반환합니다.
+     */
+    public int peekTag() {
+        if (!hasMore()) {
+            throw new IllegalArgumentException("Unexpected end of DER data");
+        }
+        return data[position] & 0xFF;
+    }
+
+    /**
+     * 다음 TLV 요소를 읽습니다.
+     */
+    public Element next() {
+        int start = position;
+        int tag = peekTag();
+        if ((tag & 0x1F) == 0x1F) {
+            throw new IllegalArgumentException("High-tag-number form is not supported");
+        }
+        int cursor = position + 1;
+        if (cursor >= end) {
+            throw new IllegalArgumentException("Truncated DER length");
+        }
+
+        int first = data[cursor++] & 0xFF;
+        int length;
+        if (first < 0x80) {
+            length = first;
+        } else {
+            int octets = first & 0x7F;
+            if (octets == 0 || octets > 4) {
+                throw new IllegalArgumentException("Unsupported DER length encoding");
+            }
+            if (cursor + octets > end) {
+                throw new IllegalArgumentException("Truncated DER length");
+            }
+            length = 0;
+            for (int i = 0; i < octets; i++) {
+                length = (length << 8) | (data[cursor++] & 0xFF);
+            }
+            if (length < 0) {
+                throw new IllegalArgumentException("DER length overflow");
+            }
+        }
+
+        if (length > end - cursor) {
+            throw new IllegalArgumentException("DER element exceeds enclosing data");
+        }
+        position = cursor + length;
+        return new Element(data, tag, start, cursor, length);
+    }
+
+    /**
+     * 다음 요소를 읽고 태그가 기대값과 일치하는지 확인합니다.
+     */
+    public Element next(int expectedTag) {
+        Element element = next();
+        if (element.tag != expectedTag) {
+            throw new IllegalArgumentException(String.format(
+                "Unexpected DER tag 0x%02X (expected 0x%02X)", element.tag, expectedTag));
+        }
+        return element;
+    }
+
+    /**
+     * DER TLV 요소
+     */
+    public static final class Element {
+        private final byte[] data;
+        private final int tag;
+        private final int start;
+        private final int valueOffset;
+        private final int valueLength;
+
+        private Element(byte[] data, int tag, int start, int valueOffset, int valueLength) {
+            this.data = data;
+            this.tag = tag;
+            this.start = start;
+            this.valueOffset = valueOffset;
+            this.valueLength = valueLength;
+        }
+
+        public int getTag() {
+            return tag;
+        }
+
+        public int getValueLength() {
+            return valueLength;
+        }
+
+        /**
+         * 하위 요소를 읽기 위한 리더를 반환합니다 (SEQUENCE, SET, 명시적 태그).
+         */
+        public DerReader reader() {
+            return new DerReader(data, valueOffset, valueLength);
+        }
+
+        /**
+         * 태그와 길이를 포함한 전체 인코딩을 복사합니다.
+         */
+        public byte[] encoded() {
+            return Arrays.copyOfRange(data, start, valueOffset + valueLength);
+        }
+
+        /**
+         * 값 부분만 복사합니다.
+         */
+        public byte[] value() {
+            return Arrays.copyOfRange(data, valueOffset, valueOffset + valueLength);
+        }
+
+        /**
+         * BIT STRING의 비트 부분을 반환합니다 (미사용 비트 수 바이트 제외).
+         */
+        public byte[] bitStringBytes() {
+            if (tag != TAG_BIT_STRING || valueLength < 1 || data[valueOffset] != 0) {
+                throw new IllegalArgumentException("Invalid or non-octet-aligned BIT STRING");
+            }
+            return Arrays.copyOfRange(data, valueOffset + 1, valueOffset + valueLength);
+        }
+
+        /**
+         * OBJECT IDENTIFIER를 점 표기 문자열로 변환합니다.
+         */
+        public String oid() {
+            if (tag != TAG_OID || valueLength == 0) {
+                throw new IllegalArgumentException("Invalid OBJECT IDENTIFIER");
+            }
+            StringBuilder sb = new StringBuilder();
+            long value = 0;
+            boolean first = true;
+            for (int i = valueOffset; i < valueOffset + valueLength; i++) {
+                int b = data[i] & 0xFF;
+                value = (value << 7) | (b & 0x7F);
+                if ((b & 0x80) == 0) {
+                    if (first) {
+                        int arc = (int) Math.min(value / 40, 2);
+                        sb.append(arc).append('.').append(value - arc * 40L);
+                        first = false;
+                    } else {
+                        sb.append('.').append(value);
+                    }
+                    value = 0;
+                }
+            }
+            return sb.toString();
+        }
+
+        /**
+         * 문자열 계열 값을 디코딩합니다.
+         */
+        public String string() {
+            Charset charset = tag == TAG_UTF8_STRING ? StandardCharsets.UTF_8 : StandardCharsets.ISO_8859_1;
+            return new String(data, valueOffset, valueLength, charset);
+        }
+    }
+}
@@ -0,0 +1,324 @@
+package com.pca.acme.util;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 재사용 가능한 ASN.1 DER 인코더
+ * 내부 버퍼와 중첩 스택을 유지하므로 스레드마다 하나씩 두고 reset()으로 재사용합니다.
+ * 구조형 요소는 내용을 먼저 쓰고 end()에서 길이 헤더를 끼워 넣습니다.
+ */
+public final class DerWriter {
+
+    // 자주 쓰는 OID 인코딩 캐시
+    private static final Map<String, byte[]> OID_CACHE = new ConcurrentHashMap<>();
+
+    // UTCTime은 2049년까지만 표현 가능 (RFC 5280 §4.1.2.5)
+    private static final int UTC_TIME_MAX_YEAR = 2049;
+
+    private byte[] buffer;
+    private int size;
+    private int[] starts = new int[16];
+    private int[] tags = new int[16];
+    private int depth;
+
+    public DerWriter() {
+        this(2048);
+    }
+
+    public DerWriter(int initialCapacity) {
+        this.buffer = new byte[initialCapacity];
+    }
+
+    /**
+     * 버퍼를 비웁니다 (용량은 유지).
+     */
+    public DerWriter reset() {
+        size = 0;
+        depth = 0;
+        return this;
+    }
+
+    /**
+     * 지금까지 쓴 내용을 복사해 반환합니다.
+     */
+    public byte[] toByteArray() {
+        if (depth != 0) {
+            throw new IllegalStateException("Unclosed DER structure");
+        }
+        return Arrays.copyOf(buffer, size);
+    }
+
+    /**
+     * 현재까지 쓴 바이트 수를 반환합니다.
+     */
+    public int size() {
+        return size;
+    }
+
+    public DerWriter beginSequence() {
+        return begin(DerReader.TAG_SEQUENCE);
+    }
+
+    public DerWriter beginSet() {
+        return begin(DerReader.TAG_SET);
+    }
+
+    /**
+     * 명시적 컨텍스트 태그 [n]을 시작합니다.
+     */
+    public DerWriter beginExplicit(int tagNumber) {
+        return begin(0xA0 | tagNumber);
+    }
+
+    public DerWriter beginOctetString() {
+        return begin(DerReader.TAG_OCTET_STRING);
+    }
+
+    /**
+     * 미사용 비트가 없는 BIT STRING을 시작합니다.
+     */
+    public DerWriter beginBitString() {
+        begin(DerReader.TAG_BIT_STRING);
+        writeByte(0);
+        return this;
+    }
+
+    /**
+     * 임의 태그의 구조형 요소를 시작합니다.
+     */
+    public DerWriter begin(int tag) {
+        if (depth == starts.length) {
+            starts = Arrays.copyOf(starts, depth * 2);
+            tags = Arrays.copyOf(tags, depth * 2);
+        }
+        starts[depth] = size;
+        tags[depth] = tag;
+        depth++;
+        return this;
+    }
+
+    /**
+     * 가장 최근에 시작한 요소를 닫고 태그와 길이 헤더를 내용 앞에 삽입합니다.
+     */
+    public DerWriter end() {
+        if (depth == 0) {
+            throw new IllegalStateException("No open DER structure");
+        }
+        depth--;
+        int start = starts[depth];
+        int length = size - start;
+        int headerLength = 1 + lengthOfLength(length);
+        ensureCapacity(headerLength);
+        System.arraycopy(buffer, start, buffer, start + headerLength, length);
+        size += headerLength;
+
+        int position = start;
+        buffer[position++] = (byte) tags[depth];
+        writeLength(position, length);
+        return this;
+    }
+
+    /**
+     * 이미 인코딩된 DER 요소를 그대로 씁니다.
+     */
+    public DerWriter writeRaw(byte[] encoded) {
+        ensureCapacity(encoded.length);
+        System.arraycopy(encoded, 0, buffer, size, encoded.length);
+        size += encoded.length;
+        return this;
+    }
+
+    /**
+     * 태그와 값을 씁니다 (원시형 요소).
+     */
+    public DerWriter writeTagged(int tag, byte[] value) {
+        return writeTagged(tag, value, 0, value.length);
+    }
+
+    public DerWriter writeTagged(int tag, byte[] value, int offset, int length) {
+        writeHeader(tag, length);
+        ensureCapacity(length);
+        System.arraycopy(value, offset, buffer, size, length);
+        size += length;
+        return this;
+    }
+
+    public DerWriter writeBoolean(boolean value) {
+        writeHeader(DerReader.TAG_BOOLEAN, 1);
+        return writeByte(value ? 0xFF : 0x00);
+    }
+
+    public DerWriter writeNull() {
+        writeHeader(DerReader.TAG_NULL, 0);
+        return this;
+    }
+
+    public DerWriter writeInteger(long value) {
+        int bytes = 8;
+        while (bytes > 1) {
+            long top = value >> ((bytes - 1) * 8 - 1);
+            if (top != 0 && top != -1) {
+                break;
+            }
+            bytes--;
+        }
+        writeHeader(DerReader.TAG_INTEGER, bytes);
+        for (int i = bytes - 1; i >= 0; i--) {
+            writeByte((int) (value >> (i * 8)));
+        }
+        return this;
+    }
+
+    /**
+     * 양의 정수를 부호 없는 빅엔디언 크기 표현으로 씁니다.
+     */
+    public DerWriter writeUnsignedInteger(byte[] magnitude) {
+        int offset = 0;
+        while (offset < magnitude.length - 1 && magnitude[offset] == 0) {
+            offset++;
+        }
+        int length = magnitude.length - offset;
+        boolean pad = (magnitude[offset] & 0x80) != 0;
+        writeHeader(DerReader.TAG_INTEGER, length + (pad ? 1 : 0));
+        if (pad) {
+            writeByte(0);
+        }
+        ensureCapacity(length);
+        System.arraycopy(magnitude, offset, buffer, size, length);
+        size += length;
+        return this;
+    }
+
+    public DerWriter writeOid(String oid) {
+        return writeRaw(OID_CACHE.computeIfAbsent(oid, DerWriter::encodeOid));
+    }
+
+    public DerWriter writeOctetString(byte[] value) {
+        return writeTagged(DerReader.TAG_OCTET_STRING, value);
+    }
+
+    /**
+     * 지정한 미사용 비트 수로 BIT STRING을 씁니다.
+     */
+    public DerWriter writeBitString(byte[] value, int unusedBits) {
+        writeHeader(DerReader.TAG_BIT_STRING, value.length + 1);
+        writeByte(unusedBits);
+        ensureCapacity(value.length);
+        System.arraycopy(value, 0, buffer, size, value.length);
+        size += value.length;
+        return this;
+    }
+
+    public DerWriter writeUtf8String(String value) {
+        return writeTagged(DerReader.TAG_UTF8_STRING, value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public DerWriter writeIa5String(int tag, String value) {
+        return writeTagged(tag, value.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    /**
+     * X.509 Time을 씁니다. 2049년까지는 UTCTime, 이후는 GeneralizedTime (RFC 5280 §4.1.2.5).
+     */
+    public DerWriter writeTime(Instant instant) {
+        ZonedDateTime time = instant.atZone(ZoneOffset.UTC);
+        int year = time.getYear();
+        boolean utc = year <= UTC_TIME_MAX_YEAR;
+        writeHeader(utc ? DerReader.TAG_UTC_TIME : DerReader.TAG_GENERALIZED_TIME, utc ? 13 : 15);
+        if (utc) {
+            writeDigits(year % 100, 2);
+        } else {
+            writeDigits(year, 4);
+        }
+        writeDigits(time.getMonthValue(), 2);
+        writeDigits(time.getDayOfMonth(), 2);
+        writeDigits(time.getHour(), 2);
+        writeDigits(time.getMinute(), 2);
+        writeDigits(time.getSecond(), 2);
+        return writeByte('Z');
+    }
+
+    private void writeDigits(int value, int width) {
+        ensureCapacity(width);
+        for (int i = width - 1; i >= 0; i--) {
+            buffer[size + i] = (byte) ('0' + value % 10);
+            value /= 10;
+        }
+        size += width;
+    }
+
+    private DerWriter writeByte(int value) {
+        ensureCapacity(1);
+        buffer[size++] = (byte) value;
+        return this;
+    }
+
+    private void writeHeader(int tag, int length) {
+        ensureCapacity(1 + lengthOfLength(length));
+        buffer[size++] = (byte) tag;
+        size = writeLength(size, length);
+    }
+
+    private int writeLength(int position, int length) {
+        if (length < 0x80) {
+            buffer[position++] = (byte) length;
+            return position;
+        }
+        int octets = lengthOfLength(length) - 1;
+        buffer[position++] = (byte) (0x80 | octets);
+        for (int i = octets - 1; i >= 0; i--) {
+            buffer[position++] = (byte) (length >> (i * 8));
+        }
+        return position;
+    }
+
+    private static int lengthOfLength(int length) {
+        if (length < 0x80) {
+            return 1;
+        } else if (length < 0x100) {
+            return 2;
+        } else if (length < 0x10000) {
+            return 3;
+        } else if (length < 0x1000000) {
+            return 4;
+        }
+        return 5;
+    }
+
+    private void ensureCapacity(int additional) {
+        if (size + additional > buffer.length) {
+            buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, size + additional));
+        }
+    }
+
+    private static byte[] encodeOid(String oid) {
+        String[] arcs = oid.split("\\.");
+        if (arcs.length < 2) {
+            throw new IllegalArgumentException("Invalid OID: " + oid);
+        }
+        DerWriter body = new DerWriter(32);
+        writeBase128(body, Long.parseLong(arcs[0]) * 40 + Long.parseLong(arcs[1]));
+        for (int i = 2; i < arcs.length; i++) {
+            writeBase128(body, Long.parseLong(arcs[i]));
+        }
+        byte[] value = body.toByteArray();
+        return new DerWriter(value.length + 2).writeTagged(DerReader.TAG_OID, value).toByteArray();
+    }
+
+    private static void writeBase128(DerWriter writer, long value) {
+        int groups = 1;
+        while ((value >> (7 * groups)) != 0) {
+            groups++;
+        }
+        for (int i = groups - 1; i >= 0; i--) {
+            int b = (int) ((value >> (7 * i)) & 0x7F);
+            writer.writeByte(i == 0 ? b : b | 0x80);
+        }
+    }
+}
@@ -0,0 +1,389 @@
+package com.pca.acme.util;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.IDN;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 메모리 매핑 도메인 차단 목록 파일
+ * 수백만 개의 이름을 힙에 올리지 않고 파일을 그대로 매핑해 조회합니다.
+ *
+ * 키는 이름을 글자 단위로 뒤집은 ASCII 바이트입니다 (www.example.com → moc.elpmaxe.www).
+ * - 정확히 일치: "example.com" → "moc.elpmaxe"
+ * - 하위 도메인 전체: "*.example.com" → "moc.elpmaxe." (끝의 점이 레이블 경계)
+ * 뒤집어 정렬하면 같은 상위 도메인의 이름이 이웃하므로, 블록마다 첫 키만 온전히 두고
+ * 나머지는 앞 키와 겹치는 길이와 나머지 바이트만 저장(front coding)해 파일이 작아집니다.
+ *
+ * 파일 형식 (big-endian):
+ * magic "ACMEBLK1" | int 키 수 | int 하위 도메인 키 수 | int 블록 크기 | int 블록 수 | int[블록 수] 블록 시작 위치 | 블록 데이터
+ * 블록: [u8 길이][키] 다음 (블록 크기 - 1)개의 [u8 공유 길이][u8 나머지 길이][나머지]
+ *
+ * 조회는 블록 첫 키로 이진 탐색한 뒤 블록 안을 앞 키와의 공통 접두사 길이만 추적하며 훑으므로
+ * 키를 복원하지 않고 매핑된 버퍼에서 바로 비교합니다. 만든 뒤에는 바뀌지 않아 여러 스레드가 동시에 조회할 수 있습니다.
+ */
+public final class DomainBlocklistFile {
+
+    private static final byte[] MAGIC = "ACMEBLK1".getBytes(StandardCharsets.US_ASCII);
+    private static final int HEADER_SIZE = MAGIC.length + 16;
+    private static final int MAX_KEY_LENGTH = 255;
+    private static final int DEFAULT_BLOCK_SIZE = 16;
+
+    private final ByteBuffer data;
+    private final int entryCount;
+    private final int subdomainCount;
+    private final int blockSize;
+    private final int blockCount;
+
+    // 블록 첫 키의 앞 8바이트 (힙에 두는 유일한 색인, 블록당 8바이트)
+    private final long[] blockPrefixes;
+
+    private DomainBlocklistFile(ByteBuffer data, int entryCount, int subdomainCount, int blockSize, int blockCount) {
+        this.data = data;
+        this.entryCount = entryCount;
+        this.subdomainCount = subdomainCount;
+        this.blockSize = blockSize;
+        this.blockCount = blockCount;
+        this.blockPrefixes = new long[blockCount];
+        for (int block = 0; block < blockCount; block++) {
+            int pos = data.getInt(HEADER_SIZE + 4 * block);
+            blockPrefixes[block] = prefix(data, pos + 1, data.get(pos) & 0xFF);
+        }
+    }
+
+    /**
+     * 파일을 읽기 전용으로 매핑합니다. 매핑 후에는 파일이 이름 바꾸기로 교체되어도 기존 내용을 계속 봅니다.
+     */
+    public static DomainBlocklistFile open(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size < HEADER_SIZE || size > Integer.MAX_VALUE) {
+                throw new IOException("Invalid blocklist file size: " + size);
+            }
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            return of(buffer);
+        }
+    }
+
+    /**
+     * 이미 메모리에 있는 목록 이미지로 만듭니다.
+     */
+    public static DomainBlocklistFile of(ByteBuffer buffer) throws IOException {
+        byte[] magic = new byte[MAGIC.length];
+        buffer.get(0, magic);
+        if (!Arrays.equals(magic, MAGIC)) {
+            throw new IOException("Not a domain blocklist file");
+        }
+        int entryCount = buffer.getInt(MAGIC.length);
+        int subdomainCount = buffer.getInt(MAGIC.length + 4);
+        int blockSize = buffer.getInt(MAGIC.length + 8);
+        int blockCount = buffer.getInt(MAGIC.length + 12);
+        if (entryCount < 0 || subdomainCount < 0 || subdomainCount > entryCount || blockSize <= 0
+                || blockCount != (entryCount + blockSize - 1) / blockSize
+                || HEADER_SIZE + 4L * blockCount > buffer.capacity()) {
+            throw new IOException("Corrupt domain blocklist header");
+        }
+        return new DomainBlocklistFile(buffer, entryCount, subdomainCount, blockSize, blockCount);
+    }
+
+    /**
+     * 이름이 목록의 정확한 이름이거나 목록에 있는 "*.상위 도메인" 아래에 있는지 확인합니다.
+     * 와일드카드 식별자("*.example.com")는 "*"를 하나의 레이블로 보고 같은 규칙을 적용합니다.
+     */
+    public boolean matches(String name) {
+        if (entryCount == 0) {
+            return false;
+        }
+        byte[] key = reversedKey(name);
+        if (key == null) {
+            return false;
+        }
+        if (contains(key, key.length)) {
+            return true;
+        }
+        if (subdomainCount == 0) {
+            return false;
+        }
+        // 레이블 경계마다 "*.상위 도메인" 키 확인 (moc. → moc.elpmaxe. → ...)
+        for (int i = 0; i < key.length; i++) {
+            if (key[i] == '.' && contains(key, i + 1)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 목록의 키 수를 반환합니다.
+     */
+    public int getEntryCount() {
+        return entryCount;
+    }
+
+    /**
+     * key[0, length)가 목록에 있는지 확인합니다.
+     */
+    boolean contains(byte[] key, int length) {
+        int block = findBlock(key, length);
+        if (block < 0) {
+            return false;
+        }
+
+        int pos = data.getInt(HEADER_SIZE + 4 * block);
+        int entryLength = data.get(pos++) & 0xFF;
+        int suffixStart = 0;
+        int matched = commonPrefix(key, 0, length, pos, entryLength);
+        int count = Math.min(blockSize, entryCount - block * blockSize);
+        int i = 0;
+        while (true) {
+            // matched = 현재 키와 질의의 공통 접두사 길이, 현재 키의 바이트는 suffixStart부터 pos에 있음
+            if (matched == length) {
+                return matched == entryLength;
+            }
+            if (matched < entryLength && (data.get(pos + matched - suffixStart) & 0xFF) > (key[matched] & 0xFF)) {
+                return false;
+            }
+
+            // 현재 키 < 질의: 다음 키로. 공유 길이가 matched보다 긴 키는 같은 이유로 질의보다 작으므로 비교 없이 건너뜀
+            pos += entryLength - suffixStart;
+            if (++i == count) {
+                return false;
+            }
+            int shared = data.get(pos++) & 0xFF;
+            int rest = data.get(pos++) & 0xFF;
+            while (shared > matched) {
+                pos += rest;
+                if (++i == count) {
+                    return false;
+                }
+                shared = data.get(pos++) & 0xFF;
+                rest = data.get(pos++) & 0xFF;
+            }
+            if (shared < matched) {
+                return false;
+            }
+            suffixStart = shared;
+            entryLength = shared + rest;
+            matched = shared + commonPrefix(key, shared, length, pos, rest);
+        }
+    }
+
+    /**
+     * 첫 키가 질의 이하인 마지막 블록을 이진 탐색합니다.
+     * 앞 8바이트 색인으로 비교하고, 앞 8바이트가 같을 때만 매핑된 키 전체를 읽습니다.
+     *
+     * @return 블록 번호, 질의가 모든 키보다 작으면 -1
+     */
+    private int findBlock(byte[] key, int length) {
+        long keyPrefix = prefix(key, length);
+        int low = 0;
+        int high = blockCount - 1;
+        int found = -1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int cmp = Long.compareUnsigned(keyPrefix, blockPrefixes[mid]);
+            if (cmp == 0) {
+                int pos = data.getInt(HEADER_SIZE + 4 * mid);
+                cmp = compare(key, length, pos + 1, data.get(pos) & 0xFF);
+            }
+            if (cmp >= 0) {
+                found = mid;
+                low = mid + 1;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return found;
+    }
+
+    private int compare(byte[] key, int length, int pos, int entryLength) {
+        int n = Math.min(length, entryLength);
+        for (int i = 0; i < n; i++) {
+            int diff = (key[i] & 0xFF) - (data.get(pos + i) & 0xFF);
+            if (diff != 0) {
+                return diff;
+            }
+        }
+        return length - entryLength;
+    }
+
+    /**
+     * 키 앞 8바이트를 부호 없는 정수 순서가 키 순서와 같도록 묶습니다 (짧은 키는 0으로 채움, 이름에 0 바이트는 없음).
+     */
+    private static long prefix(byte[] key, int length) {
+        long value = 0;
+        for (int i = 0; i < 8; i++) {
+            value = (value << 8) | (i < length ? key[i] & 0xFF : 0);
+        }
+        return value;
+    }
+
+    private static long prefix(ByteBuffer buffer, int pos, int length) {
+        long value = 0;
+        for (int i = 0; i < 8; i++) {
+            value = (value << 8) | (i < length ? buffer.get(pos + i) & 0xFF : 0);
+        }
+        return value;
+    }
+
+    /**
+     * key[from, length)와 data[pos, pos + n)의 공통 접두사 길이
+     */
+    private int commonPrefix(byte[] key, int from, int length, int pos, int n) {
+        int limit = Math.min(length - from, n);
+        int i = 0;
+        while (i < limit && key[from + i] == data.get(pos + i)) {
+            i++;
+        }
+        return i;
+    }
+
+    /**
+     * 목록 한 줄(이름 또는 "*.이름")을 키로 바꿉니다.
+     *
+     * @return 키, 빈 줄이나 주석(#)이면 null
+     */
+    static byte[] entryKey(String line) {
+        String name = line.strip();
+        if (name.isEmpty() || name.startsWith("#")) {
+            return null;
+        }
+        boolean subdomains = name.startsWith("*.");
+        byte[] reversed = reversedKey(subdomains ? name.substring(2) : name);
+        if (reversed == null || (subdomains && reversed.length == MAX_KEY_LENGTH)) {
+            throw new IllegalArgumentException("Invalid blocklist entry: " + line);
+        }
+        if (!subdomains) {
+            return reversed;
+        }
+        byte[] key = Arrays.copyOf(reversed, reversed.length + 1);
+        key[reversed.length] = '.';
+        return key;
+    }
+
+    /**
+     * 이름을 소문자 ASCII(국제화 도메인은 A-label)로 바꿔 글자 단위로 뒤집습니다.
+     */
+    private static byte[] reversedKey(String name) {
+        int end = name.endsWith(".") ? name.length() - 1 : name.length();
+        for (int i = 0; i < end; i++) {
+            if (name.charAt(i) > 0x7F) {
+                try {
+                    name = IDN.toASCII(name.substring(0, end), IDN.ALLOW_UNASSIGNED);
+                } catch (IllegalArgumentException e) {
+                    return null;
+                }
+                end = name.length();
+                break;
+            }
+        }
+        if (end == 0 || end > MAX_KEY_LENGTH) {
+            return null;
+        }
+        byte[] key = new byte[end];
+        for (int i = 0; i < end; i++) {
+            char c = name.charAt(end - 1 - i);
+            key[i] = (byte) (c >= 'A' && c <= 'Z' ? c + ('a' - 'A') : c);
+        }
+        return key;
+    }
+
+    /**
+     * 이름 목록으로 차단 목록 파일을 만듭니다.
+     * {@link AtomicFileWriter}로 교체하므로, 실행 중인 서버는 완성된 파일만 봅니다.
+     */
+    public static void write(Collection<String> lines, Path target) throws IOException {
+        List<byte[]> keys = new ArrayList<>(lines.size());
+        for (String line : lines) {
+            byte[] key = entryKey(line);
+            if (key != null) {
+                keys.add(key);
+            }
+        }
+        keys.sort(Arrays::compareUnsigned);
+
+        List<byte[]> unique = new ArrayList<>(keys.size());
+        for (byte[] key : keys) {
+            if (unique.isEmpty() || !Arrays.equals(unique.get(unique.size() - 1), key)) {
+                unique.add(key);
+            }
+        }
+
+        AtomicFileWriter.write(target, out -> writeImage(unique, DEFAULT_BLOCK_SIZE, out));
+    }
+
+    private static void writeImage(List<byte[]> keys, int blockSize, DataOutputStream out) throws IOException {
+        int blockCount = (keys.size() + blockSize - 1) / blockSize;
+        int subdomainCount = 0;
+        int[] offsets = new int[blockCount];
+        long pos = HEADER_SIZE + 4L * blockCount;
+        for (int i = 0; i < keys.size(); i++) {
+            byte[] key = keys.get(i);
+            if (key[key.length - 1] == '.') {
+                subdomainCount++;
+            }
+            if (i % blockSize == 0) {
+                offsets[i / blockSize] = Math.toIntExact(pos);
+                pos += 1 + key.length;
+            } else {
+                pos += 2 + key.length - sharedPrefix(keys.get(i - 1), key);
+            }
+        }
+        Math.toIntExact(pos);
+
+        out.write(MAGIC);
+        out.writeInt(keys.size());
+        out.writeInt(subdomainCount);
+        out.writeInt(blockSize);
+        out.writeInt(blockCount);
+        for (int offset : offsets) {
+            out.writeInt(offset);
+        }
+        for (int i = 0; i < keys.size(); i++) {
+            byte[] key = keys.get(i);
+            if (i % blockSize == 0) {
+                out.writeByte(key.length);
+                out.write(key);
+            } else {
+                int shared = sharedPrefix(keys.get(i - 1), key);
+                out.writeByte(shared);
+                out.writeByte(key.length - shared);
+                out.write(key, shared, key.length - shared);
+            }
+        }
+        out.flush();
+    }
+
+    private static int sharedPrefix(byte[] a, byte[] b) {
+        int mismatch = Arrays.mismatch(a, b);
+        return mismatch < 0 ? a.length : mismatch;
+    }
+
+    /**
+     * 목록 컴파일 도구: 한 줄에 하나씩 이름("example.com") 또는 하위 도메인 전체("*.example.com")가 있는 텍스트 파일을 읽어
+     * 차단 목록 파일을 만들고 대상 경로로 원자적으로 교체합니다.
+     *
+     * 사용: ./gradlew compileBlocklist -Pblocklist.input=blocked.txt -Pblocklist.output=/etc/acme/blocklist.bin
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length != 2) {
+            System.err.println("usage: DomainBlocklistFile <input.txt> <output.bin>");
+            System.exit(2);
+        }
+        List<String> lines = Files.readAllLines(Path.of(args[0]), StandardCharsets.UTF_8);
+        Path output = Path.of(args[1]);
+        write(lines, output);
+        System.out.printf(Locale.ROOT, "%s: %d entries, %d bytes%n", output, open(output).getEntryCount(), Files.size(output));
+    }
+}
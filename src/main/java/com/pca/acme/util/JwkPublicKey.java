@@ -0,0 +1,94 @@
+package com.pca.acme.util;
+
+import java.math.BigInteger;
+import java.security.AlgorithmParameters;
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.PublicKey;
+import java.security.spec.ECGenParameterSpec;
+import java.security.spec.ECParameterSpec;
+import java.security.spec.ECPoint;
+import java.security.spec.ECPublicKeySpec;
+import java.security.spec.EdECPoint;
+import java.security.spec.EdECPublicKeySpec;
+import java.security.spec.NamedParameterSpec;
+import java.security.spec.RSAPublicKeySpec;
+import java.util.Base64;
+import java.util.Map;
+
+/**
+ * JWK(RFC 7517) 공개키 변환
+ * RSA, EC(P-256/P-384/P-521), OKP(Ed25519) 키를 JCA PublicKey로 바꿉니다.
+ * getEncoded()는 DER 인코딩된 SubjectPublicKeyInfo이므로 CSR 키와 같은 기준으로 키 차단 목록을 조회할 수 있습니다.
+ */
+public final class JwkPublicKey {
+
+    private static final Map<String, String> EC_CURVES = Map.of(
+        "P-256", "secp256r1",
+        "P-384", "secp384r1",
+        "P-521", "secp521r1"
+    );
+
+    private JwkPublicKey() {
+    }
+
+    /**
+     * JWK를 공개키로 변환합니다.
+     *
+     * @throws IllegalArgumentException 지원하지 않는 키 종류이거나 값이 잘못된 경우
+     */
+    public static PublicKey toPublicKey(Map<String, Object> jwk) {
+        Object kty = jwk.get("kty");
+        try {
+            if ("RSA".equals(kty)) {
+                return KeyFactory.getInstance("RSA").generatePublic(
+                    new RSAPublicKeySpec(unsigned(jwk, "n"), unsigned(jwk, "e")));
+            }
+            if ("EC".equals(kty)) {
+                String curve = EC_CURVES.get(String.valueOf(jwk.get("crv")));
+                if (curve == null) {
+                    throw new IllegalArgumentException("Unsupported EC curve: " + jwk.get("crv"));
+                }
+                AlgorithmParameters parameters = AlgorithmParameters.getInstance("EC");
+                parameters.init(new ECGenParameterSpec(curve));
+                ECPoint point = new ECPoint(unsigned(jwk, "x"), unsigned(jwk, "y"));
+                return KeyFactory.getInstance("EC").generatePublic(
+                    new ECPublicKeySpec(point, parameters.getParameterSpec(ECParameterSpec.class)));
+            }
+            if ("OKP".equals(kty) && "Ed25519".equals(jwk.get("crv"))) {
+                return KeyFactory.getInstance("Ed25519").generatePublic(
+                    new EdECPublicKeySpec(NamedParameterSpec.ED25519, edPoint(bytes(jwk, "x"))));
+            }
+        } catch (GeneralSecurityException e) {
+            throw new IllegalArgumentException("Malformed " + kty + " key: " + e.getMessage(), e);
+        }
+        throw new IllegalArgumentException("Unsupported key type: " + kty);
+    }
+
+    /**
+     * RFC 8032 인코딩(y 리틀 엔디언, 최상위 비트가 x의 홀짝)을 EdECPoint로 바꿉니다.
+     */
+    private static EdECPoint edPoint(byte[] encoded) {
+        if (encoded.length != 32) {
+            throw new IllegalArgumentException("Malformed Ed25519 key: length " + encoded.length);
+        }
+        boolean xOdd = (encoded[31] & 0x80) != 0;
+        byte[] y = new byte[encoded.length];
+        for (int i = 0; i < encoded.length; i++) {
+            y[i] = encoded[encoded.length - 1 - i];
+        }
+        y[0] &= 0x7F;
+        return new EdECPoint(xOdd, new BigInteger(1, y));
+    }
+
+    private static BigInteger unsigned(Map<String, Object> jwk, String member) {
+        return new BigInteger(1, bytes(jwk, member));
+    }
+
+    private static byte[] bytes(Map<String, Object> jwk, String member) {
+        if (!(jwk.get(member) instanceof String value) || value.isEmpty()) {
+            throw new IllegalArgumentException("Missing JWK member: " + member);
+        }
+        return Base64.getUrlDecoder().decode(value);
+    }
+}
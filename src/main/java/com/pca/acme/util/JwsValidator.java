@@ -1,11 +1,15 @@
 package com.pca.acme.util;
 
+import java.nio.charset.StandardCharsets;
 import java.util.Base64;
 import java.util.Map;
 
 import org.springframework.stereotype.Component;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pca.acme.event.AcmeEventType;
+import com.pca.acme.event.AcmeEvents;
+import com.pca.acme.metrics.AcmeMetrics;
 
 import lombok.extern.slf4j.Slf4j;
 
@@ -19,9 +23,11 @@ import lombok.extern.slf4j.Slf4j;
 public class JwsValidator {
 
     private final ObjectMapper objectMapper;
+    private final AcmeMetrics metrics;
 
-    public JwsValidator(ObjectMapper objectMapper) {
+    public JwsValidator(ObjectMapper objectMapper, AcmeMetrics metrics) {
         this.objectMapper = objectMapper;
+        this.metrics = metrics;
     }
 
     /**
@@ -31,16 +37,45 @@ public class JwsValidator {
      * @param jwsToken JWS 토큰 문자열
      * @return JwsValidationResult 검증 결과
      */
+    @SuppressWarnings("unchecked")
     public JwsValidationResult validateJws(String jwsToken) {
+        long start = metrics.start();
         try {
             // JSON 형식인지 확인 (Flattened JSON Serialization)
             if (jwsToken.trim().startsWith("{")) {
-                return validateFlattenedJws(jwsToken);
+                return validateFlattenedJws(objectMapper.readValue(jwsToken, Map.class), start);
             } else {
-                return validateCompactJws(jwsToken);
+                return validateCompactJws(jwsToken, start);
             }
         } catch (Exception e) {
-            log.error("JWS validation failed", e);
+            // 잘못된 JWS는 클라이언트 입력 오류이므로 스택 트레이스 없이 debug로만 남김
+            log.debug("JWS validation failed: {}", e.toString());
+            return JwsValidationResult.invalid("JWS validation error: " + e.getMessage());
+        }
+    }
+
+    /**
+     * 요청 본문 바이트에서 바로 JWS를 파싱하고 검증합니다.
+     * WebFlux 필터처럼 본문을 DataBuffer로 받는 경우 문자열 변환 없이 사용합니다.
+     *
+     * @param jwsBytes UTF-8 JWS 본문
+     * @return JwsValidationResult 검증 결과
+     */
+    @SuppressWarnings("unchecked")
+    public JwsValidationResult validateJws(byte[] jwsBytes) {
+        long start = metrics.start();
+        try {
+            int offset = 0;
+            while (offset < jwsBytes.length && Character.isWhitespace(jwsBytes[offset])) {
+                offset++;
+            }
+            if (offset < jwsBytes.length && jwsBytes[offset] == '{') {
+                return validateFlattenedJws(objectMapper.readValue(jwsBytes, Map.class), start);
+            }
+            return validateCompactJws(new String(jwsBytes, StandardCharsets.US_ASCII).trim(), start);
+        } catch (Exception e) {
+            // 잘못된 JWS는 클라이언트 입력 오류이므로 스택 트레이스 없이 debug로만 남김
+            log.debug("JWS validation failed: {}", e.toString());
             return JwsValidationResult.invalid("JWS validation error: " + e.getMessage());
         }
     }
@@ -48,7 +83,7 @@ public class JwsValidator {
     /**
      * Compact Serialization 형식의 JWS 검증 (header.payload.signature)
      */
-    private JwsValidationResult validateCompactJws(String jwsToken) throws Exception {
+    private JwsValidationResult validateCompactJws(String jwsToken, long parseStart) throws Exception {
         String[] parts = jwsToken.split("\\.");
         if (parts.length != 3) {
             return JwsValidationResult.invalid("Invalid JWS format: must have 3 parts");
@@ -65,15 +100,14 @@ public class JwsValidator {
         // 페이로드 디코딩
         String payload = new String(Base64.getUrlDecoder().decode(payloadB64));
 
+        metrics.stop(AcmeMetrics.Stage.JWS_PARSE, parseStart);
         return validateJwsStructure(header, payload);
     }
 
     /**
      * Flattened JSON Serialization 형식의 JWS 검증
      */
-    private JwsValidationResult validateFlattenedJws(String jwsToken) throws Exception {
-        Map<String, Object> jwsObject = objectMapper.readValue(jwsToken, Map.class);
-
+    private JwsValidationResult validateFlattenedJws(Map<String, Object> jwsObject, long parseStart) throws Exception {
         if (!jwsObject.containsKey("protected") || !jwsObject.containsKey("payload") || !jwsObject.containsKey("signature")) {
             return JwsValidationResult.invalid("Invalid Flattened JWS format: missing required fields");
         }
@@ -89,6 +123,7 @@ public class JwsValidator {
         // 페이로드 디코딩
         String payload = new String(Base64.getUrlDecoder().decode(payloadB64));
 
+        metrics.stop(AcmeMetrics.Stage.JWS_PARSE, parseStart);
         return validateJwsStructure(header, payload);
     }
 
@@ -101,9 +136,9 @@ public class JwsValidator {
             return JwsValidationResult.invalid("Missing 'alg' in JWS header");
         }
 
-        // TODO: 실제 서명 검증 로직 구현
+        // TODO: 실제 서명 검증 로직 구현 (구현하면 그 구간을 별도 stage 타이머로 측정)
         // 현재는 기본 구조만 검증
-        log.info("JWS validation passed for algorithm: {}", header.get("alg"));
+        AcmeEvents.emit(AcmeEventType.JWS_VERIFIED, "alg", header.get("alg"));
 
         return JwsValidationResult.valid(header, payload);
     }
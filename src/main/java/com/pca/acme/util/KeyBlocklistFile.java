@@ -0,0 +1,243 @@
+package com.pca.acme.util;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.DigestException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.HexFormat;
+import java.util.Locale;
+
+/**
+ * 메모리 매핑 공개키 차단 목록 파일
+ * 유출되었거나 약한 것으로 알려진 키(Debian 약한 키 등)의 SubjectPublicKeyInfo SHA-256 해시를
+ * 앞 8바이트 지문으로 잘라 정렬해 둔 파일을 힙 밖에 매핑해 조회합니다.
+ * 수백만 개여도 힙은 쓰지 않고, 64비트 지문의 오탐 확률은 항목 수 / 2^64 수준입니다.
+ *
+ * 파일 형식 (big-endian):
+ * magic "ACMEKBL1" | int 지문 수 | int 버킷 비트 수 | int[2^비트 + 1] 버킷 시작 위치 | long[지문 수] 정렬된 지문 (부호 없는 순서)
+ * 지문 상위 비트로 버킷을 고르고 그 안(평균 지문 수 / 2^비트개)만 이진 탐색하므로, 조회는 매핑된 페이지 한두 개만 읽습니다.
+ *
+ * 조회({@link #contains(long)}, {@link #fingerprint(byte[])})는 할당하지 않습니다.
+ */
+public final class KeyBlocklistFile {
+
+    private static final byte[] MAGIC = "ACMEKBL1".getBytes(StandardCharsets.US_ASCII);
+    private static final int HEADER_SIZE = MAGIC.length + 8;
+    private static final int DEFAULT_BUCKET_BITS = 16;
+    private static final int MAX_BUCKET_BITS = 24;
+    private static final int SHA256_LENGTH = 32;
+
+    // 스레드마다 다이제스트와 출력 버퍼를 재사용 (지문 계산에 할당 없음)
+    private static final ThreadLocal<MessageDigest> SHA256 = ThreadLocal.withInitial(KeyBlocklistFile::newDigest);
+    private static final ThreadLocal<byte[]> DIGEST_BUFFER = ThreadLocal.withInitial(() -> new byte[SHA256_LENGTH]);
+
+    private final ByteBuffer data;
+    private final int count;
+    private final int bucketBits;
+    private final int fingerprintsStart;
+
+    private KeyBlocklistFile(ByteBuffer data, int count, int bucketBits) {
+        this.data = data;
+        this.count = count;
+        this.bucketBits = bucketBits;
+        this.fingerprintsStart = HEADER_SIZE + 4 * ((1 << bucketBits) + 1);
+    }
+
+    /**
+     * 파일을 읽기 전용으로 매핑합니다. 매핑 후에는 파일이 이름 바꾸기로 교체되어도 기존 내용을 계속 봅니다.
+     */
+    public static KeyBlocklistFile open(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size < HEADER_SIZE || size > Integer.MAX_VALUE) {
+                throw new IOException("Invalid key blocklist file size: " + size);
+            }
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            return of(buffer);
+        }
+    }
+
+    /**
+     * 이미 메모리에 있는 목록 이미지로 만듭니다.
+     */
+    public static KeyBlocklistFile of(ByteBuffer buffer) throws IOException {
+        if (buffer.capacity() < HEADER_SIZE) {
+            throw new IOException("Not a key blocklist file");
+        }
+        byte[] magic = new byte[MAGIC.length];
+        buffer.get(0, magic);
+        if (!Arrays.equals(magic, MAGIC)) {
+            throw new IOException("Not a key blocklist file");
+        }
+        int count = buffer.getInt(MAGIC.length);
+        int bucketBits = buffer.getInt(MAGIC.length + 4);
+        if (count < 0 || bucketBits < 1 || bucketBits > MAX_BUCKET_BITS
+                || HEADER_SIZE + 4L * ((1 << bucketBits) + 1) + 8L * count != buffer.capacity()) {
+            throw new IOException("Corrupt key blocklist header");
+        }
+        return new KeyBlocklistFile(buffer, count, bucketBits);
+    }
+
+    /**
+     * DER 인코딩된 SubjectPublicKeyInfo의 지문(SHA-256 앞 8바이트)을 계산합니다.
+     */
+    public static long fingerprint(byte[] subjectPublicKeyInfo) {
+        MessageDigest digest = SHA256.get();
+        byte[] hash = DIGEST_BUFFER.get();
+        digest.reset();
+        digest.update(subjectPublicKeyInfo);
+        try {
+            digest.digest(hash, 0, SHA256_LENGTH);
+        } catch (DigestException e) {
+            throw new IllegalStateException("SHA-256 digest failed", e);
+        }
+        return fingerprintOf(hash);
+    }
+
+    /**
+     * 지문이 목록에 있는지 확인합니다.
+     */
+    public boolean contains(long fingerprint) {
+        int bucket = (int) (fingerprint >>> (Long.SIZE - bucketBits));
+        int low = data.getInt(HEADER_SIZE + 4 * bucket);
+        int high = data.getInt(HEADER_SIZE + 4 * (bucket + 1)) - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int cmp = Long.compareUnsigned(data.getLong(fingerprintsStart + 8 * mid), fingerprint);
+            if (cmp < 0) {
+                low = mid + 1;
+            } else if (cmp > 0) {
+                high = mid - 1;
+            } else {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * SubjectPublicKeyInfo가 목록에 있는지 확인합니다.
+     */
+    public boolean contains(byte[] subjectPublicKeyInfo) {
+        return count > 0 && contains(fingerprint(subjectPublicKeyInfo));
+    }
+
+    /**
+     * 목록의 지문 수를 반환합니다.
+     */
+    public int getCount() {
+        return count;
+    }
+
+    /**
+     * 목록 한 줄(SPKI SHA-256 해시의 16진수 또는 base64)을 지문으로 바꿉니다.
+     *
+     * @throws IllegalArgumentException SHA-256 해시 형식이 아닌 경우
+     */
+    static long entryFingerprint(String line) {
+        String value = line.strip();
+        byte[] hash;
+        try {
+            hash = value.length() == 2 * SHA256_LENGTH
+                ? HexFormat.of().parseHex(value)
+                : Base64.getDecoder().decode(value.replace('-', '+').replace('_', '/'));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid key blocklist entry: " + line, e);
+        }
+        if (hash.length != SHA256_LENGTH) {
+            throw new IllegalArgumentException("Invalid key blocklist entry: " + line);
+        }
+        return fingerprintOf(hash);
+    }
+
+    /**
+     * SPKI SHA-256 해시 목록으로 차단 목록 파일을 만듭니다. 빈 줄과 주석(#)은 건너뜁니다.
+     * {@link AtomicFileWriter}로 교체하므로, 실행 중인 서버는 완성된 파일만 봅니다.
+     */
+    public static void write(Collection<String> lines, Path target) throws IOException {
+        long[] fingerprints = new long[lines.size()];
+        int n = 0;
+        for (String line : lines) {
+            if (!line.isBlank() && !line.strip().startsWith("#")) {
+                fingerprints[n++] = entryFingerprint(line);
+            }
+        }
+        // 부호를 뒤집어 정렬하면 부호 없는 순서가 됨
+        for (int i = 0; i < n; i++) {
+            fingerprints[i] ^= Long.MIN_VALUE;
+        }
+        Arrays.sort(fingerprints, 0, n);
+        int unique = 0;
+        for (int i = 0; i < n; i++) {
+            if (unique == 0 || fingerprints[unique - 1] != fingerprints[i]) {
+                fingerprints[unique++] = fingerprints[i];
+            }
+        }
+        for (int i = 0; i < unique; i++) {
+            fingerprints[i] ^= Long.MIN_VALUE;
+        }
+
+        int count = unique;
+        AtomicFileWriter.write(target, out -> writeImage(fingerprints, count, DEFAULT_BUCKET_BITS, out));
+    }
+
+    private static void writeImage(long[] fingerprints, int count, int bucketBits, DataOutputStream out) throws IOException {
+        out.write(MAGIC);
+        out.writeInt(count);
+        out.writeInt(bucketBits);
+        int index = 0;
+        for (int bucket = 0; bucket <= 1 << bucketBits; bucket++) {
+            while (index < count && (fingerprints[index] >>> (Long.SIZE - bucketBits)) < bucket) {
+                index++;
+            }
+            out.writeInt(index);
+        }
+        for (int i = 0; i < count; i++) {
+            out.writeLong(fingerprints[i]);
+        }
+        out.flush();
+    }
+
+    private static long fingerprintOf(byte[] hash) {
+        long value = 0;
+        for (int i = 0; i < Long.BYTES; i++) {
+            value = (value << 8) | (hash[i] & 0xFF);
+        }
+        return value;
+    }
+
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 algorithm not available", e);
+        }
+    }
+
+    /**
+     * 목록 컴파일 도구: 한 줄에 하나씩 SPKI SHA-256 해시(16진수 또는 base64)가 있는 텍스트 파일을 읽어
+     * 차단 목록 파일을 만들고 대상 경로로 원자적으로 교체합니다.
+     *
+     * 사용: ./gradlew compileKeyBlocklist -PkeyBlocklist.input=blocked-keys.txt -PkeyBlocklist.output=/etc/acme/key-blocklist.bin
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length != 2) {
+            System.err.println("usage: KeyBlocklistFile <input.txt> <output.bin>");
+            System.exit(2);
+        }
+        Path output = Path.of(args[1]);
+        write(Files.readAllLines(Path.of(args[0]), StandardCharsets.US_ASCII), output);
+        System.out.printf(Locale.ROOT, "%s: %d fingerprints, %d bytes%n", output, open(output).getCount(), Files.size(output));
+    }
+}
@@ -0,0 +1,322 @@
+package com.pca.acme.util;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.net.IDN;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 공개 접미사 목록(Public Suffix List) 트라이
+ * 규칙을 레이블 단위로 뒤집어(com → example) 넣은 트라이를 너비 우선 순서의 배열로 펼쳐 둡니다.
+ * 한 노드의 자식은 배열에서 연속되고 레이블 순으로 정렬되어 있어 이진 탐색으로 찾습니다.
+ * 만든 뒤에는 바뀌지 않으므로 여러 스레드가 락 없이 조회할 수 있습니다.
+ *
+ * 조회는 호스트 이름을 오른쪽 레이블부터 한 번만 훑으며, 레이블을 잘라 내지 않고 원래 문자열의 구간을 바로 비교합니다.
+ * https://github.com/publicsuffix/list/wiki/Format 의 규칙(일반, 와일드카드 "*.", 예외 "!", 기본 규칙 "*")을 따릅니다.
+ */
+public final class PublicSuffixTrie {
+
+    private static final int ROOT = 0;
+
+    // 노드 플래그
+    private static final byte RULE = 1;        // 이 노드까지가 공개 접미사
+    private static final byte WILDCARD = 2;    // 이 노드 아래 임의의 레이블 하나까지가 공개 접미사
+    private static final byte EXCEPTION = 4;   // 예외 규칙: 이 노드의 부모까지만 공개 접미사
+
+    private final char[] labels;
+    private final int[] labelOffset;
+    private final int[] labelLength;
+    private final int[] childStart;
+    private final int[] childCount;
+    private final byte[] flags;
+    private final int ruleCount;
+
+    private PublicSuffixTrie(char[] labels, int[] labelOffset, int[] labelLength,
+                             int[] childStart, int[] childCount, byte[] flags, int ruleCount) {
+        this.labels = labels;
+        this.labelOffset = labelOffset;
+        this.labelLength = labelLength;
+        this.childStart = childStart;
+        this.childCount = childCount;
+        this.flags = flags;
+        this.ruleCount = ruleCount;
+    }
+
+    /**
+     * public_suffix_list.dat 형식의 목록을 읽어 트라이를 만듭니다.
+     * 국제화 도메인 규칙은 유니코드와 A-label(xn--) 형태를 모두 넣습니다.
+     */
+    public static PublicSuffixTrie parse(Reader reader) throws IOException {
+        BuildNode root = new BuildNode();
+        int rules = 0;
+
+        BufferedReader in = reader instanceof BufferedReader buffered ? buffered : new BufferedReader(reader);
+        String line;
+        while ((line = in.readLine()) != null) {
+            String rule = firstToken(line);
+            if (rule == null) {
+                continue;
+            }
+            add(root, rule);
+            String ascii = toAscii(rule);
+            if (ascii != null && !ascii.equals(rule)) {
+                add(root, ascii);
+            }
+            rules++;
+        }
+        if (rules == 0) {
+            throw new IOException("Public suffix list has no rules");
+        }
+        return flatten(root, rules);
+    }
+
+    /**
+     * 호스트 이름의 등록 도메인(공개 접미사 + 레이블 하나)을 소문자로 반환합니다.
+     * 앞의 와일드카드 레이블("*.")과 끝의 점은 무시합니다.
+     * 이미 소문자이고 잘라 낼 부분이 없으면 입력 문자열을 그대로 반환하므로 할당이 없습니다.
+     *
+     * @return 등록 도메인, 이름 자체가 공개 접미사이거나 빈 레이블이 있으면 null
+     */
+    public String registeredDomain(String name) {
+        int begin = name.startsWith("*.") ? 2 : 0;
+        int end = name.length();
+        if (end > begin && name.charAt(end - 1) == '.') {
+            end--;
+        }
+        if (end <= begin || name.charAt(begin) == '.') {
+            return null;
+        }
+        int emptyLabel = name.indexOf("..", begin);
+        if (emptyLabel >= 0 && emptyLabel < end) {
+            return null;  // 접미사 비교가 일찍 끝나도 왼쪽의 빈 레이블을 놓치지 않도록 미리 확인
+        }
+
+        int node = ROOT;
+        int suffixStart = -1;
+        int labelEnd = end;
+        int rightLabelStart = end;
+        while (true) {
+            int labelStart = Math.max(begin, name.lastIndexOf('.', labelEnd - 1) + 1);
+            if (labelStart == labelEnd) {
+                return null;
+            }
+
+            int candidate = labelEnd == end ? labelStart : -1;  // 기본 규칙 "*": 최상위 레이블은 공개 접미사
+            if (node >= 0) {
+                if ((flags[node] & WILDCARD) != 0) {
+                    candidate = labelStart;
+                }
+                int child = findChild(node, name, labelStart, labelEnd);
+                if (child >= 0 && (flags[child] & EXCEPTION) != 0) {
+                    suffixStart = rightLabelStart;
+                    break;
+                }
+                if (child >= 0 && (flags[child] & RULE) != 0) {
+                    candidate = labelStart;
+                }
+                node = child;
+            }
+            if (candidate >= 0) {
+                suffixStart = candidate;
+            }
+            if (node < 0 || labelStart == begin) {
+                break;
+            }
+            rightLabelStart = labelStart;
+            labelEnd = labelStart - 1;
+        }
+
+        if (suffixStart <= begin) {
+            return null;
+        }
+        int start = Math.max(begin, name.lastIndexOf('.', suffixStart - 2) + 1);
+        return lowerCase(name, start, end);
+    }
+
+    /**
+     * 목록의 규칙 수를 반환합니다.
+     */
+    public int getRuleCount() {
+        return ruleCount;
+    }
+
+    /**
+     * 트라이 노드 수를 반환합니다.
+     */
+    public int getNodeCount() {
+        return flags.length;
+    }
+
+    /**
+     * 노드의 자식 중 name[start, end) 레이블과 같은 것을 이진 탐색합니다 (ASCII 대문자는 소문자로 비교).
+     */
+    private int findChild(int node, String name, int start, int end) {
+        int low = childStart[node];
+        int high = low + childCount[node] - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int cmp = compare(mid, name, start, end);
+            if (cmp < 0) {
+                low = mid + 1;
+            } else if (cmp > 0) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -1;
+    }
+
+    private int compare(int node, String name, int start, int end) {
+        int offset = labelOffset[node];
+        int length = labelLength[node];
+        int n = Math.min(length, end - start);
+        for (int i = 0; i < n; i++) {
+            char a = labels[offset + i];
+            char b = toLower(name.charAt(start + i));
+            if (a != b) {
+                return a - b;
+            }
+        }
+        return length - (end - start);
+    }
+
+    private static char toLower(char c) {
+        return c >= 'A' && c <= 'Z' ? (char) (c + ('a' - 'A')) : c;
+    }
+
+    private static String lowerCase(String name, int start, int end) {
+        boolean lower = true;
+        for (int i = start; i < end && lower; i++) {
+            char c = name.charAt(i);
+            lower = c < 'A' || c > 'Z';
+        }
+        if (!lower) {
+            char[] chars = new char[end - start];
+            for (int i = start; i < end; i++) {
+                chars[i - start] = toLower(name.charAt(i));
+            }
+            return new String(chars);
+        }
+        return start == 0 && end == name.length() ? name : name.substring(start, end);
+    }
+
+    private static String firstToken(String line) {
+        String trimmed = line.strip();
+        if (trimmed.isEmpty() || trimmed.startsWith("//")) {
+            return null;
+        }
+        int space = 0;
+        while (space < trimmed.length() && !Character.isWhitespace(trimmed.charAt(space))) {
+            space++;
+        }
+        return trimmed.substring(0, space).toLowerCase(Locale.ROOT);
+    }
+
+    private static String toAscii(String rule) {
+        boolean exception = rule.startsWith("!");
+        boolean wildcard = rule.startsWith("*.");
+        String domain = exception ? rule.substring(1) : wildcard ? rule.substring(2) : rule;
+        try {
+            String ascii = IDN.toASCII(domain, IDN.ALLOW_UNASSIGNED).toLowerCase(Locale.ROOT);
+            return (exception ? "!" : wildcard ? "*." : "") + ascii;
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private static void add(BuildNode root, String rule) {
+        byte flag = RULE;
+        String domain = rule;
+        if (rule.startsWith("!")) {
+            flag = EXCEPTION;
+            domain = rule.substring(1);
+        } else if (rule.startsWith("*.")) {
+            flag = WILDCARD;
+            domain = rule.substring(2);
+        } else if (rule.equals("*")) {
+            // 기본 규칙은 조회에 이미 들어 있음
+            return;
+        }
+
+        BuildNode node = root;
+        int end = domain.length();
+        while (end > 0) {
+            int start = domain.lastIndexOf('.', end - 1) + 1;
+            node = node.children.computeIfAbsent(domain.substring(start, end), label -> new BuildNode());
+            end = start - 1;
+        }
+        node.flags |= flag;
+    }
+
+    /**
+     * 빌드용 트리를 너비 우선으로 배열에 펼칩니다. 같은 레이블 문자열은 한 번만 저장합니다.
+     */
+    private static PublicSuffixTrie flatten(BuildNode root, int ruleCount) {
+        List<BuildNode> order = new ArrayList<>();
+        List<String> names = new ArrayList<>();
+        order.add(root);
+        names.add("");
+        ArrayDeque<Integer> queue = new ArrayDeque<>();
+        queue.add(0);
+
+        int nodeCount = 1;
+        int[] childStartTmp = new int[16];
+        int[] childCountTmp = new int[16];
+        while (!queue.isEmpty()) {
+            int index = queue.poll();
+            BuildNode node = order.get(index);
+            if (index >= childStartTmp.length) {
+                childStartTmp = Arrays.copyOf(childStartTmp, childStartTmp.length * 2);
+                childCountTmp = Arrays.copyOf(childCountTmp, childCountTmp.length * 2);
+            }
+            childStartTmp[index] = nodeCount;
+            childCountTmp[index] = node.children.size();
+            for (Map.Entry<String, BuildNode> entry : node.children.entrySet()) {
+                order.add(entry.getValue());
+                names.add(entry.getKey());
+                queue.add(nodeCount++);
+            }
+        }
+
+        int[] labelOffset = new int[nodeCount];
+        int[] labelLength = new int[nodeCount];
+        byte[] flags = new byte[nodeCount];
+        Map<String, Integer> pooled = new HashMap<>();
+        StringBuilder pool = new StringBuilder();
+        for (int i = 0; i < nodeCount; i++) {
+            String label = names.get(i);
+            Integer offset = pooled.get(label);
+            if (offset == null) {
+                offset = pool.length();
+                pool.append(label);
+                pooled.put(label, offset);
+            }
+            labelOffset[i] = offset;
+            labelLength[i] = label.length();
+            flags[i] = order.get(i).flags;
+        }
+
+        char[] labels = new char[pool.length()];
+        pool.getChars(0, pool.length(), labels, 0);
+        return new PublicSuffixTrie(labels, labelOffset, labelLength,
+            Arrays.copyOf(childStartTmp, nodeCount), Arrays.copyOf(childCountTmp, nodeCount),
+            flags, ruleCount);
+    }
+
+    /**
+     * 빌드 중에만 쓰는 트리 노드 (자식은 레이블 순)
+     */
+    private static final class BuildNode {
+        private final TreeMap<String, BuildNode> children = new TreeMap<>();
+        private byte flags;
+    }
+}
@@ -0,0 +1,25 @@
+package com.pca.acme.util;
+
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+
+/**
+ * 요청 경로에서 쓰는 SecureRandom 생성기
+ *
+ * Linux 기본 구현(NativePRNG)은 모니터를 잡은 채 /dev/urandom을 읽으므로
+ * 가상 스레드가 캐리어 스레드에 고정(pinning)된 상태로 블로킹됩니다.
+ * DRBG는 초기 시드 이후 잠금 구간에서 I/O를 하지 않으므로 이를 우선 사용합니다.
+ */
+public final class SecureRandomFactory {
+
+    private SecureRandomFactory() {
+    }
+
+    public static SecureRandom create() {
+        try {
+            return SecureRandom.getInstance("DRBG");
+        } catch (NoSuchAlgorithmException e) {
+            return new SecureRandom();
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.pca.acme.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.availability.ApplicationAvailability;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import com.pca.acme.service.AccountService;
+import com.pca.acme.service.AuthorizationService;
+import com.pca.acme.service.InMemoryNonceStore;
+import com.pca.acme.service.OrderService;
+
+/**
+ * 기동 워밍업 테스트
+ * 실제 포트(TLS 포함)로 서버를 띄워 워밍업 흐름이 돌고 난 뒤 저장소에 합성 레코드가 남지 않는지 확인합니다.
+ */
+@SpringBootTest(
+    webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+    properties = {
+        "acme.warmup.enabled=true",
+        "acme.warmup.max-duration-seconds=3",
+        "acme.warmup.round-size=20",
+        "acme.warmup.concurrency=2"
+    })
+class AcmeWarmupTest {
+
+    @Autowired
+    private ApplicationAvailability availability;
+
+    @Autowired
+    private AccountService accountService;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private AuthorizationService authorizationService;
+
+    @Autowired
+    private InMemoryNonceStore nonceStore;
+
+    @Test
+    void shouldLeaveNoSyntheticRecordsAndAcceptTrafficAfterWarmup() {
+        // Then
+        assertTrue(nonceStore.getStats().getTotalIssued() > 0, "warm-up flows should have run");
+        assertEquals(ReadinessState.ACCEPTING_TRAFFIC, availability.getReadinessState());
+        assertEquals(0, accountService.getAccountCount());
+        assertEquals(0, orderService.getOrderCount());
+        assertEquals(0, authorizationService.getAuthorizationCount());
+        assertEquals(0, nonceStore.getNonceCount());
+    }
+}
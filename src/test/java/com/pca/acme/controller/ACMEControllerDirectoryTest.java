@@ -1,7 +1,9 @@
 package com.pca.acme.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.pca.acme.dto.directory.DirectoryMeta;
 import com.pca.acme.dto.directory.DirectoryResponse;
+import com.pca.acme.metrics.AcmeMetrics;
 import com.pca.acme.service.DirectoryService;
 import com.pca.acme.service.NonceService;
 import org.junit.jupiter.api.BeforeEach;
@@ -42,7 +44,7 @@ class ACMEControllerDirectoryTest {
     @BeforeEach
     void setUp() {
         mockMvc = MockMvcBuilders.standaloneSetup(acmeController)
-                .setControllerAdvice(new GlobalExceptionHandler(nonceService))
+                .setControllerAdvice(new GlobalExceptionHandler(nonceService, AcmeMetrics.NOOP))
                 .defaultResponseCharacterEncoding(StandardCharsets.UTF_8)
                 .alwaysDo(result -> {
                     result.getResponse().setHeader("Access-Control-Allow-Origin", "*");
@@ -71,7 +73,7 @@ class ACMEControllerDirectoryTest {
                         .build())
                 .build();
 
-        given(directoryService.getDirectory()).willReturn(expectedResponse);
+        given(directoryService.getDocument()).willReturn(document(expectedResponse));
 
         // When & Then
         mockMvc.perform(get("/acme/directory"))
@@ -89,11 +91,44 @@ class ACMEControllerDirectoryTest {
                 .andExpect(jsonPath("$.meta.externalAccountRequired", is(false)));
     }
 
+    @Test
+    @DisplayName("GET /acme/directory should return strong ETag and cache headers")
+    void directory_shouldReturnETagAndCacheControl() throws Exception {
+        // Given
+        DirectoryService.DirectoryDocument document = document(DirectoryResponse.builder()
+                .newNonce("https://example.com/acme/new-nonce")
+                .build());
+        given(directoryService.getDocument()).willReturn(document);
+
+        // When & Then
+        mockMvc.perform(get("/acme/directory"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", document.getETag()))
+                .andExpect(header().string("ETag", not(startsWith("W/"))))
+                .andExpect(header().string("Cache-Control", "max-age=86400, public"));
+    }
+
+    @Test
+    @DisplayName("GET /acme/directory should return 304 when If-None-Match matches")
+    void directory_shouldReturnNotModifiedForMatchingETag() throws Exception {
+        // Given
+        DirectoryService.DirectoryDocument document = document(DirectoryResponse.builder()
+                .newNonce("https://example.com/acme/new-nonce")
+                .build());
+        given(directoryService.getDocument()).willReturn(document);
+
+        // When & Then
+        mockMvc.perform(get("/acme/directory").header("If-None-Match", document.getETag()))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", document.getETag()))
+                .andExpect(content().bytes(new byte[0]));
+    }
+
     @Test
     @DisplayName("GET /acme/directory should include CORS headers")
     void directory_shouldIncludeCorsHeaders() throws Exception {
         // Given
-        given(directoryService.getDirectory()).willReturn(DirectoryResponse.builder().build());
+        given(directoryService.getDocument()).willReturn(document(DirectoryResponse.builder().build()));
 
         // When & Then
         mockMvc.perform(get("/acme/directory"))
@@ -105,7 +140,7 @@ class ACMEControllerDirectoryTest {
     @DisplayName("GET /acme/directory should not require authentication")
     void directory_shouldNotRequireAuthentication() throws Exception {
         // Given
-        given(directoryService.getDirectory()).willReturn(DirectoryResponse.builder().build());
+        given(directoryService.getDocument()).willReturn(document(DirectoryResponse.builder().build()));
 
         // When & Then - 인증 헤더 없이도 정상 동작
         mockMvc.perform(get("/acme/directory"))
@@ -116,7 +151,7 @@ class ACMEControllerDirectoryTest {
     @DisplayName("GET /acme/directory should not require JWS")
     void directory_shouldNotRequireJws() throws Exception {
         // Given
-        given(directoryService.getDirectory()).willReturn(DirectoryResponse.builder().build());
+        given(directoryService.getDocument()).willReturn(document(DirectoryResponse.builder().build()));
 
         // When & Then - JWS 없이도 정상 동작
         mockMvc.perform(get("/acme/directory"))
@@ -149,7 +184,7 @@ class ACMEControllerDirectoryTest {
                         .build())
                 .build();
 
-        given(directoryService.getDirectory()).willReturn(response);
+        given(directoryService.getDocument()).willReturn(document(response));
 
         // When & Then
         mockMvc.perform(get("/acme/directory"))
@@ -184,7 +219,7 @@ class ACMEControllerDirectoryTest {
                         .build())
                 .build();
 
-        given(directoryService.getDirectory()).willReturn(response);
+        given(directoryService.getDocument()).willReturn(document(response));
 
         // When & Then
         mockMvc.perform(get("/acme/directory"))
@@ -210,7 +245,7 @@ class ACMEControllerDirectoryTest {
                         .build())
                 .build();
 
-        given(directoryService.getDirectory()).willReturn(response);
+        given(directoryService.getDocument()).willReturn(document(response));
 
         // When & Then
         mockMvc.perform(get("/acme/directory"))
@@ -224,7 +259,7 @@ class ACMEControllerDirectoryTest {
     @DisplayName("GET /acme/directory should handle service exception gracefully")
     void directory_shouldHandleServiceException() throws Exception {
         // Given
-        given(directoryService.getDirectory()).willThrow(new RuntimeException("Service error"));
+        given(directoryService.getDocument()).willThrow(new RuntimeException("Service error"));
 
         // When & Then
         mockMvc.perform(get("/acme/directory"))
@@ -235,7 +270,7 @@ class ACMEControllerDirectoryTest {
     @DisplayName("GET /acme/directory should return valid JSON structure")
     void directory_shouldReturnValidJsonStructure() throws Exception {
         // Given
-        given(directoryService.getDirectory()).willReturn(DirectoryResponse.builder()
+        given(directoryService.getDocument()).willReturn(document(DirectoryResponse.builder()
                 .newNonce("https://example.com/acme/new-nonce")
                 .newAccount("https://example.com/acme/new-account")
                 .newOrder("https://example.com/acme/new-order")
@@ -247,7 +282,7 @@ class ACMEControllerDirectoryTest {
                         .caaIdentities(List.of("example.com"))
                         .externalAccountRequired(false)
                         .build())
-                .build());
+                .build()));
 
         // When & Then
         mockMvc.perform(get("/acme/directory"))
@@ -256,4 +291,8 @@ class ACMEControllerDirectoryTest {
                 .andExpect(jsonPath("$").isMap())
                 .andExpect(jsonPath("$.meta").isMap());
     }
-} 
\ No newline at end of file
+
+    private static DirectoryService.DirectoryDocument document(DirectoryResponse directory) {
+        return DirectoryService.DirectoryDocument.render(new ObjectMapper(), directory, 86400);
+    }
+}
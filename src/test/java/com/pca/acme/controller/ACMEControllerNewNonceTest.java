@@ -1,5 +1,6 @@
 package com.pca.acme.controller;
 
+import com.pca.acme.metrics.AcmeMetrics;
 import com.pca.acme.service.NonceService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -35,7 +36,7 @@ class ACMEControllerNewNonceTest {
     @BeforeEach
     void setUp() {
         mockMvc = MockMvcBuilders.standaloneSetup(acmeController)
-                .setControllerAdvice(new GlobalExceptionHandler(nonceService))
+                .setControllerAdvice(new GlobalExceptionHandler(nonceService, AcmeMetrics.NOOP))
                 .defaultResponseCharacterEncoding(StandardCharsets.UTF_8)
                 .alwaysDo(result -> {
                     result.getResponse().setHeader("Access-Control-Allow-Origin", "*");
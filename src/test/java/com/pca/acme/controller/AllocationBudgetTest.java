@@ -0,0 +1,279 @@
+package com.pca.acme.controller;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.fail;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.head;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.SortedMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.function.IntFunction;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.RequestBuilder;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pca.acme.filter.AcmeFastPathFilter;
+import com.pca.acme.service.NonceService;
+import com.sun.management.ThreadMXBean;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingFile;
+
+/**
+ * 엔드포인트별 요청당 할당 예산 테스트
+ * 워밍업 후 같은 스레드에서 요청을 반복하고 ThreadMXBean의 스레드 할당량 차이로 요청당 바이트를 구합니다.
+ * 예산은 allocation-budgets.properties에 있으며, 초과하면 JFR 할당 샘플로 가장 많이 할당한 위치를 출력합니다.
+ * 측정값은 INFO 로그와 build/reports/allocation/allocation.properties에 남겨 예산을 조정할 때 씁니다.
+ */
+@SpringBootTest(properties = {"acme.nonce.max-count=100000", "acme.rate-limit.enabled=false"})
+class AllocationBudgetTest {
+
+    private static final Logger log = LoggerFactory.getLogger(AllocationBudgetTest.class);
+
+    private static final int WARMUP_REQUESTS = 2_000;
+    private static final int MEASURED_REQUESTS = 1_000;
+    private static final int TOP_SITES = 15;
+    private static final Path REPORT = Path.of("build/reports/allocation/allocation.properties");
+
+    private static final SortedMap<String, String> MEASURED = new ConcurrentSkipListMap<>();
+
+    @Autowired
+    private WebApplicationContext webApplicationContext;
+
+    @Autowired
+    private FilterRegistrationBean<AcmeFastPathFilter> acmeFastPathFilter;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private NonceService nonceService;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        // 운영과 같이 new-nonce, directory는 고속 경로 필터에서 처리
+        mockMvc = MockMvcBuilders.webAppContextSetup(webApplicationContext)
+            .addFilter(acmeFastPathFilter.getFilter(), "/acme/new-nonce", "/acme/directory")
+            .build();
+    }
+
+    @Test
+    void directoryShouldStayWithinBudget() throws Exception {
+        assertWithinBudget("directory", 200, i -> get("/acme/directory"));
+    }
+
+    @Test
+    void newNonceShouldStayWithinBudget() throws Exception {
+        assertWithinBudget("new-nonce", 200, i -> head("/acme/new-nonce"));
+    }
+
+    @Test
+    void newAccountShouldStayWithinBudget() throws Exception {
+        // 매 요청이 새 계정을 만들도록 키를 바꿈
+        assertWithinBudget("new-account", 201, i -> post("/acme/new-account")
+            .contentType("application/jose+json")
+            .content(newAccountJws("alloc-" + i)));
+    }
+
+    @Test
+    void newOrderShouldStayWithinBudget() throws Exception {
+        // Given
+        String kid = mockMvc.perform(post("/acme/new-account")
+                .contentType("application/jose+json")
+                .content(newAccountJws("alloc-order")))
+            .andReturn().getResponse().getHeader("Location");
+
+        // When & Then
+        assertWithinBudget("new-order", 201, i -> post("/acme/new-order")
+            .contentType("application/jose+json")
+            .content(newOrderJws(kid, "order-" + i + ".example.com")));
+    }
+
+    /**
+     * 워밍업 후 요청당 할당량을 측정하고 예산과 비교합니다.
+     * 요청 본문(JWS)은 측정 구간 밖에서 미리 만들어 테스트 코드의 할당이 섞이지 않게 합니다.
+     */
+    private void assertWithinBudget(String endpoint, int expectedStatus, IntFunction<RequestBuilder> requests)
+            throws Exception {
+        long budget = budget(endpoint);
+
+        // Given
+        perform(prepare(requests, 0, WARMUP_REQUESTS), expectedStatus);
+        List<RequestBuilder> measured = prepare(requests, WARMUP_REQUESTS, MEASURED_REQUESTS);
+
+        // When
+        ThreadMXBean threads = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().threadId();
+        long before = threads.getThreadAllocatedBytes(threadId);
+        perform(measured, expectedStatus);
+        long bytesPerRequest = (threads.getThreadAllocatedBytes(threadId) - before) / MEASURED_REQUESTS;
+
+        // Then
+        log.info("allocation {}: {} bytes/request (budget {})", endpoint, bytesPerRequest, budget);
+        MEASURED.put(endpoint, bytesPerRequest + "  # budget " + budget);
+        if (bytesPerRequest > budget) {
+            String sites = heaviestSites(prepare(requests, WARMUP_REQUESTS + MEASURED_REQUESTS, MEASURED_REQUESTS),
+                expectedStatus);
+            fail(String.format("%s allocated %d bytes/request, budget is %d%nHeaviest allocation sites:%n%s",
+                endpoint, bytesPerRequest, budget, sites));
+        }
+    }
+
+    /**
+     * 이번 실행의 엔드포인트별 요청당 바이트를 보고서 파일로 남깁니다.
+     */
+    @AfterAll
+    static void writeReport() throws IOException {
+        if (MEASURED.isEmpty()) {
+            return;
+        }
+        StringBuilder report = new StringBuilder("# 엔드포인트별 요청당 할당 (바이트), ")
+            .append(Runtime.version()).append(System.lineSeparator());
+        MEASURED.forEach((endpoint, line) -> report.append(endpoint).append('=').append(line).append(System.lineSeparator()));
+        Files.createDirectories(REPORT.getParent());
+        Files.writeString(REPORT, report);
+    }
+
+    private List<RequestBuilder> prepare(IntFunction<RequestBuilder> requests, int from, int count) {
+        List<RequestBuilder> prepared = new ArrayList<>(count);
+        for (int i = from; i < from + count; i++) {
+            prepared.add(requests.apply(i));
+        }
+        return prepared;
+    }
+
+    private void perform(List<RequestBuilder> requests, int expectedStatus) throws Exception {
+        for (RequestBuilder request : requests) {
+            assertEquals(expectedStatus, mockMvc.perform(request).andReturn().getResponse().getStatus(),
+                "unexpected status while measuring allocation");
+        }
+    }
+
+    /**
+     * 같은 요청을 JFR 할당 샘플링과 함께 다시 실행하고, 할당 위치별 추정 바이트 상위 목록을 만듭니다.
+     * 위치는 스택에서 처음 만나는 com.pca.acme 프레임이며 없으면 최상위 프레임입니다.
+     */
+    private String heaviestSites(List<RequestBuilder> requests, int expectedStatus) throws Exception {
+        Path file = Files.createTempFile("allocation-budget", ".jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable("jdk.ObjectAllocationSample").with("throttle", "10000/s").withStackTrace();
+            recording.start();
+            perform(requests, expectedStatus);
+            recording.stop();
+            recording.dump(file);
+        }
+
+        Map<String, Long> weights = new HashMap<>();
+        try {
+            for (RecordedEvent event : RecordingFile.readAllEvents(file)) {
+                if (event.getStackTrace() == null || event.getThread() == null
+                        || event.getThread().getJavaThreadId() != Thread.currentThread().threadId()) {
+                    continue;
+                }
+                String site = allocationSite(event.getStackTrace().getFrames());
+                String type = event.getClass("objectClass").getName();
+                weights.merge(type + " @ " + site, event.getLong("weight"), Long::sum);
+            }
+        } finally {
+            Files.deleteIfExists(file);
+        }
+
+        long total = weights.values().stream().mapToLong(Long::longValue).sum();
+        return weights.entrySet().stream()
+            .sorted(Map.Entry.<String, Long>comparingByValue().reversed())
+            .limit(TOP_SITES)
+            .map(entry -> String.format("  %5.1f%%  %s", 100.0 * entry.getValue() / Math.max(total, 1), entry.getKey()))
+            .collect(Collectors.joining(System.lineSeparator()));
+    }
+
+    private static String allocationSite(List<RecordedFrame> frames) {
+        for (RecordedFrame frame : frames) {
+            if (frame.getMethod().getType().getName().startsWith("com.pca.acme")) {
+                return describe(frame);
+            }
+        }
+        return frames.isEmpty() ? "<unknown>" : describe(frames.get(0));
+    }
+
+    private static String describe(RecordedFrame frame) {
+        return frame.getMethod().getType().getName() + "." + frame.getMethod().getName() + ":" + frame.getLineNumber();
+    }
+
+    private long budget(String endpoint) throws IOException {
+        String override = System.getProperty("acme.allocation.budget." + endpoint);
+        if (override != null) {
+            return Long.parseLong(override);
+        }
+        Properties budgets = new Properties();
+        try (InputStream in = getClass().getResourceAsStream("/allocation-budgets.properties")) {
+            budgets.load(in);
+        }
+        return Long.parseLong(budgets.getProperty(endpoint));
+    }
+
+    private String newAccountJws(String keyId) {
+        Map<String, Object> header = Map.of(
+            "alg", "RS256",
+            "jwk", Map.of("kty", "RSA", "n", "alloc-n-" + keyId, "e", "AQAB"),
+            "nonce", nonceService.createNonce(),
+            "url", "https://localhost:8443/acme/new-account");
+        Map<String, Object> payload = Map.of(
+            "termsOfServiceAgreed", true,
+            "contact", List.of("mailto:alloc@example.com"));
+        return flattenedJws(header, payload);
+    }
+
+    private String newOrderJws(String kid, String domain) {
+        Map<String, Object> header = Map.of(
+            "alg", "RS256",
+            "kid", kid,
+            "nonce", nonceService.createNonce(),
+            "url", "https://localhost:8443/acme/new-order");
+        Map<String, Object> payload = Map.of(
+            "identifiers", List.of(Map.of("type", "dns", "value", domain)));
+        return flattenedJws(header, payload);
+    }
+
+    private String flattenedJws(Map<String, Object> header, Map<String, Object> payload) {
+        try {
+            String protectedB64 = Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(objectMapper.writeValueAsBytes(header));
+            String payloadB64 = Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(objectMapper.writeValueAsBytes(payload));
+            return objectMapper.writeValueAsString(Map.of(
+                "protected", protectedB64,
+                "payload", payloadB64,
+                "signature", "alloc-signature"));
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to create JWS token", e);
+        }
+    }
+}
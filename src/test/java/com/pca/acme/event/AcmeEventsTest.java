@@ -0,0 +1,78 @@
+package com.pca.acme.event;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+
+class AcmeEventsTest {
+
+    private final Logger logger = (Logger) LoggerFactory.getLogger(AcmeEvents.LOGGER_NAME);
+    private final ListAppender<ILoggingEvent> appender = new ListAppender<>();
+
+    @BeforeEach
+    void setUp() {
+        appender.start();
+        logger.addAppender(appender);
+    }
+
+    @AfterEach
+    void tearDown() {
+        logger.detachAppender(appender);
+        AcmeEventType type = AcmeEventType.AUTHORIZATION_CREATED;
+        AcmeEvents.configure(type, type.getDefaultSampleEvery(), type.getDefaultMaxPerSecond());
+    }
+
+    @Test
+    void shouldWriteEventNameAndKeyValues() {
+        // Given
+        AcmeEvents.configure(AcmeEventType.AUTHORIZATION_CREATED, 1, 100);
+
+        // When
+        AcmeEvents.emit(AcmeEventType.AUTHORIZATION_CREATED, "authorization", "authz-1", "identifier", "example.com");
+
+        // Then
+        assertEquals(1, appender.list.size());
+        ILoggingEvent event = appender.list.get(0);
+        assertEquals("authorization-created", event.getMessage());
+        assertEquals("authorization", event.getKeyValuePairs().get(0).key);
+        assertEquals("authz-1", event.getKeyValuePairs().get(0).value);
+        assertEquals("example.com", event.getKeyValuePairs().get(1).value);
+    }
+
+    @Test
+    void shouldSampleOneOfEveryN() {
+        // Given
+        AcmeEvents.configure(AcmeEventType.AUTHORIZATION_CREATED, 4, 100);
+
+        // When
+        for (int i = 0; i < 8; i++) {
+            AcmeEvents.emit(AcmeEventType.AUTHORIZATION_CREATED, "authorization", "authz-" + i);
+        }
+
+        // Then
+        assertEquals(2, appender.list.size());
+    }
+
+    @Test
+    void shouldDropEventsOverRateLimit() {
+        // Given
+        AcmeEvents.configure(AcmeEventType.AUTHORIZATION_CREATED, 1, 3);
+
+        // When
+        for (int i = 0; i < 10; i++) {
+            AcmeEvents.emit(AcmeEventType.AUTHORIZATION_CREATED, "authorization", "authz-" + i);
+        }
+
+        // Then (1초 윈도 경계에 걸리면 최대 두 윈도만큼 기록될 수 있음)
+        int written = appender.list.size();
+        assertTrue(written >= 3 && written <= 6, "written=" + written);
+    }
+}
@@ -0,0 +1,86 @@
+package com.pca.acme.exception;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+class AcmeProblemTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void shouldRenderSameDocumentAsJackson() throws Exception {
+        // Given
+        AcmeProblem problem = new AcmeProblem(AcmeErrorType.BAD_NONCE, "Invalid or expired nonce");
+
+        // When
+        Map<?, ?> body = objectMapper.readValue(problem.toJson(), Map.class);
+
+        // Then
+        assertEquals(Map.of(
+            "type", "urn:ietf:params:acme:error:badNonce",
+            "detail", "Invalid or expired nonce",
+            "status", 400), body);
+        assertSame(problem.toJson(), problem.toJson());
+    }
+
+    @Test
+    void shouldEscapeDetailAndUseExplicitStatus() throws Exception {
+        // Given
+        String detail = "Order not found: \"a\\b\"\n\u0001 주문";
+        AcmeProblem problem = new AcmeProblem(AcmeErrorType.MALFORMED, HttpStatus.NOT_FOUND, detail);
+
+        // When
+        Map<?, ?> body = objectMapper.readValue(problem.toJson(), Map.class);
+
+        // Then
+        assertEquals(detail, body.get("detail"));
+        assertEquals(404, body.get("status"));
+        assertEquals(HttpStatus.NOT_FOUND, problem.getStatus());
+    }
+
+    @Test
+    void shouldSeparateOverloadFromPerClientRateLimit() {
+        // Given
+        AcmeProblem overload = new AcmeProblem(AcmeErrorType.RATE_LIMITED, "Finalize queue is full");
+        RateLimitedProblem perClient = new RateLimitedProblem("Too many new orders", 30);
+
+        // Then: 서버 과부하는 503, 클라이언트별 한도는 429 + Retry-After
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, overload.getStatus());
+        assertEquals(HttpStatus.TOO_MANY_REQUESTS, perClient.getStatus());
+        assertEquals(AcmeErrorType.RATE_LIMITED, perClient.getType());
+        assertEquals(30, perClient.getRetryAfterSeconds());
+    }
+
+    @Test
+    void shouldSkipStackTraceForClientErrorsOnly() {
+        // Given
+        AcmeProblem clientError = new AcmeProblem(AcmeErrorType.MALFORMED, "bad request");
+        AcmeProblem serverError = AcmeProblem.of(new IllegalStateException("boom"));
+
+        // Then
+        assertArrayEquals(new StackTraceElement[0], clientError.getStackTrace());
+        assertEquals(AcmeErrorType.SERVER_INTERNAL, serverError.getType());
+        assertTrue(serverError.getStackTrace().length > 0);
+    }
+
+    @Test
+    void shouldMapGenericExceptions() {
+        // Given
+        AcmeProblem problem = new AcmeProblem(AcmeErrorType.RATE_LIMITED, "Finalize queue is full");
+
+        // Then
+        assertSame(problem, AcmeProblem.of(problem));
+        assertEquals(AcmeErrorType.MALFORMED, AcmeProblem.of(new IllegalArgumentException("x")).getType());
+        assertEquals(AcmeErrorType.UNSUPPORTED_IDENTIFIER,
+            AcmeProblem.of(new UnsupportedOperationException("x")).getType());
+    }
+}
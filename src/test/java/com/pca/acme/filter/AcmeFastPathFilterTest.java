@@ -0,0 +1,128 @@
+package com.pca.acme.filter;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pca.acme.dto.directory.DirectoryResponse;
+import com.pca.acme.service.DirectoryService;
+import com.pca.acme.service.NonceService;
+
+@ExtendWith(MockitoExtension.class)
+class AcmeFastPathFilterTest {
+
+    private static final String DIRECTORY_URL = "https://localhost:8443/acme/directory";
+
+    @Mock
+    private NonceService nonceService;
+
+    @Mock
+    private DirectoryService directoryService;
+
+    private AcmeFastPathFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        when(nonceService.getDirectoryUrl()).thenReturn(DIRECTORY_URL);
+        filter = new AcmeFastPathFilter(nonceService, directoryService);
+    }
+
+    @Test
+    void shouldAnswerHeadNewNonceWithoutDispatch() throws Exception {
+        // Given
+        when(nonceService.createNonce()).thenReturn("oFvnlFP1wIhRlYS2jTaXbA");
+        MockFilterChain chain = new MockFilterChain();
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // When
+        filter.doFilter(new MockHttpServletRequest("HEAD", "/acme/new-nonce"), response, chain);
+
+        // Then
+        assertEquals(200, response.getStatus());
+        assertEquals("oFvnlFP1wIhRlYS2jTaXbA", response.getHeader("Replay-Nonce"));
+        assertEquals("no-store", response.getHeader("Cache-Control"));
+        assertEquals("<" + DIRECTORY_URL + ">;rel=\"index\"", response.getHeader("Link"));
+        assertNull(chain.getRequest());
+    }
+
+    @Test
+    void shouldAnswerGetNewNonceWithNoContent() throws Exception {
+        // Given
+        when(nonceService.createNonce()).thenReturn("oFvnlFP1wIhRlYS2jTaXbA");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // When
+        filter.doFilter(new MockHttpServletRequest("GET", "/acme/new-nonce"), response, new MockFilterChain());
+
+        // Then
+        assertEquals(204, response.getStatus());
+        assertEquals("oFvnlFP1wIhRlYS2jTaXbA", response.getHeader("Replay-Nonce"));
+    }
+
+    @Test
+    void shouldPassOtherMethodsToChain() throws Exception {
+        // Given
+        MockFilterChain chain = new MockFilterChain();
+
+        // When
+        filter.doFilter(new MockHttpServletRequest("POST", "/acme/new-nonce"), new MockHttpServletResponse(), chain);
+
+        // Then
+        assertNotNull(chain.getRequest());
+        verify(nonceService, never()).createNonce();
+    }
+
+    @Test
+    void shouldWritePreRenderedDirectory() throws Exception {
+        // Given
+        DirectoryService.DirectoryDocument document = document();
+        when(directoryService.getDocument()).thenReturn(document);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // When
+        filter.doFilter(new MockHttpServletRequest("GET", "/acme/directory"), response, new MockFilterChain());
+
+        // Then
+        assertEquals(200, response.getStatus());
+        assertEquals("application/json", response.getContentType());
+        assertEquals(document.getETag(), response.getHeader("ETag"));
+        assertArrayEquals(document.getBody(), response.getContentAsByteArray());
+    }
+
+    @Test
+    void shouldReturnNotModifiedForMatchingETag() throws Exception {
+        // Given
+        DirectoryService.DirectoryDocument document = document();
+        when(directoryService.getDocument()).thenReturn(document);
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/acme/directory");
+        request.addHeader("If-None-Match", "\"other\", W/" + document.getETag());
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // When
+        filter.doFilter(request, response, new MockFilterChain());
+
+        // Then
+        assertEquals(304, response.getStatus());
+        assertEquals(0, response.getContentAsByteArray().length);
+    }
+
+    private static DirectoryService.DirectoryDocument document() {
+        return DirectoryService.DirectoryDocument.render(new ObjectMapper(), DirectoryResponse.builder()
+            .newNonce("https://localhost:8443/acme/new-nonce")
+            .build(), 86400);
+    }
+}
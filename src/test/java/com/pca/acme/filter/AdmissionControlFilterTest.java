@@ -0,0 +1,84 @@
+package com.pca.acme.filter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import com.pca.acme.metrics.AcmeMetrics;
+import com.pca.acme.service.AdmissionController;
+
+@ExtendWith(MockitoExtension.class)
+class AdmissionControlFilterTest {
+
+    @Mock
+    private AdmissionController admissionController;
+
+    private AdmissionControlFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        filter = new AdmissionControlFilter(admissionController, AcmeMetrics.NOOP);
+    }
+
+    @Test
+    void shouldShedWithRateLimitedAndRetryAfter() throws Exception {
+        // Given
+        when(admissionController.admit()).thenReturn(AdmissionController.Reason.IN_FLIGHT);
+        when(admissionController.getRetryAfterSeconds()).thenReturn(7L);
+        MockFilterChain chain = new MockFilterChain();
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // When
+        filter.doFilter(new MockHttpServletRequest("POST", "/acme/new-order"), response, chain);
+
+        // Then
+        assertEquals(503, response.getStatus());
+        assertEquals("7", response.getHeader("Retry-After"));
+        assertTrue(response.getContentAsString().contains("urn:ietf:params:acme:error:rateLimited"));
+        // 거절된 요청의 nonce는 소비되지 않았으므로 새 nonce를 발급하지 않음
+        assertNull(response.getHeader("Replay-Nonce"));
+        assertNull(chain.getRequest());
+        verify(admissionController, never()).release(anyLong());
+    }
+
+    @Test
+    void shouldReleaseSlotAfterAdmittedRequest() throws Exception {
+        // Given
+        when(admissionController.admit()).thenReturn(null);
+        MockFilterChain chain = new MockFilterChain();
+
+        // When
+        filter.doFilter(new MockHttpServletRequest("POST", "/acme/new-account"), new MockHttpServletResponse(), chain);
+
+        // Then
+        assertNotNull(chain.getRequest());
+        verify(admissionController).release(anyLong());
+    }
+
+    @Test
+    void shouldNotLimitOtherRequests() throws Exception {
+        // Given
+        MockFilterChain chain = new MockFilterChain();
+
+        // When
+        filter.doFilter(new MockHttpServletRequest("POST", "/acme/order/abc"), new MockHttpServletResponse(), chain);
+
+        // Then
+        assertNotNull(chain.getRequest());
+        verify(admissionController, never()).admit();
+    }
+}
@@ -0,0 +1,132 @@
+package com.pca.acme.filter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import com.pca.acme.metrics.AcmeMetrics;
+import com.pca.acme.service.RateLimiter;
+
+@ExtendWith(MockitoExtension.class)
+class RateLimitFilterTest {
+
+    @Mock
+    private RateLimiter rateLimiter;
+
+    private RateLimitFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        filter = new RateLimitFilter(rateLimiter, AcmeMetrics.NOOP, 64);
+    }
+
+    @Test
+    void shouldRejectNewNonceOverLimitWith429AndRetryAfter() throws Exception {
+        // Given
+        MockHttpServletRequest request = new MockHttpServletRequest("HEAD", "/acme/new-nonce");
+        request.setRemoteAddr("192.0.2.10");
+        when(rateLimiter.check(RateLimiter.Limit.NEW_NONCE_PER_IP, "192.0.2.10")).thenReturn(3L);
+        MockFilterChain chain = new MockFilterChain();
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // When
+        filter.doFilter(request, response, chain);
+
+        // Then
+        assertEquals(429, response.getStatus());
+        assertEquals("3", response.getHeader("Retry-After"));
+        assertTrue(response.getContentAsString().contains("urn:ietf:params:acme:error:rateLimited"));
+        assertNull(response.getHeader("Replay-Nonce"));
+        assertNull(chain.getRequest());
+    }
+
+    @Test
+    void shouldPassNewAccountWithinLimit() throws Exception {
+        // Given
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/acme/new-account");
+        request.setRemoteAddr("192.0.2.10");
+        when(rateLimiter.check(RateLimiter.Limit.NEW_ACCOUNT_PER_IP, "192.0.2.10")).thenReturn(0L);
+        MockFilterChain chain = new MockFilterChain();
+
+        // When
+        filter.doFilter(request, new MockHttpServletResponse(), chain);
+
+        // Then
+        assertNotNull(chain.getRequest());
+    }
+
+    @Test
+    void shouldSkipLimitForWarmupRequests() throws Exception {
+        // Given
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/acme/new-account");
+        request.setRemoteAddr("127.0.0.1");
+        request.addHeader(RateLimiter.EXEMPT_HEADER, "token");
+        when(rateLimiter.isExempt("token")).thenReturn(true);
+        MockFilterChain chain = new MockFilterChain();
+
+        // When
+        filter.doFilter(request, new MockHttpServletResponse(), chain);
+
+        // Then
+        assertNotNull(chain.getRequest());
+        verify(rateLimiter, never()).check(any(), anyString());
+    }
+
+    @Test
+    void shouldNotLimitOtherRequests() throws Exception {
+        // Given
+        MockFilterChain chain = new MockFilterChain();
+
+        // When
+        filter.doFilter(new MockHttpServletRequest("GET", "/acme/directory"), new MockHttpServletResponse(), chain);
+
+        // Then
+        assertNotNull(chain.getRequest());
+        verify(rateLimiter, never()).check(any(), anyString());
+    }
+
+    @Test
+    void shouldCountIpv6ClientsPerPrefix() throws Exception {
+        // Given: 같은 /64 안의 서로 다른 주소 두 개
+        MockHttpServletRequest first = new MockHttpServletRequest("HEAD", "/acme/new-nonce");
+        first.setRemoteAddr("2001:db8:1:2:0:0:0:1");
+        MockHttpServletRequest second = new MockHttpServletRequest("HEAD", "/acme/new-nonce");
+        second.setRemoteAddr("2001:db8:1:2:a:b:c:d");
+        when(rateLimiter.check(RateLimiter.Limit.NEW_NONCE_PER_IP, "20010db800010002/64")).thenReturn(0L, 5L);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // When
+        filter.doFilter(first, new MockHttpServletResponse(), new MockFilterChain());
+        filter.doFilter(second, response, new MockFilterChain());
+
+        // Then
+        assertEquals(429, response.getStatus());
+        assertEquals("5", response.getHeader("Retry-After"));
+    }
+
+    @Test
+    void shouldBuildAddressKeys() {
+        assertEquals("192.0.2.10", RateLimitFilter.addressKey("192.0.2.10", 64));
+        assertEquals("20010db800010002/64", RateLimitFilter.addressKey("2001:db8:1:2::ffff", 64));
+        assertEquals("20010db80000/48", RateLimitFilter.addressKey("2001:db8:0:7::1", 48));
+        assertEquals("20010db8000100/56", RateLimitFilter.addressKey("2001:db8:1:ff::1", 56));
+        assertEquals("20010db8000000000000000000000001/128", RateLimitFilter.addressKey("2001:db8::1", 128));
+        assertEquals("192.0.2.1", RateLimitFilter.addressKey("::ffff:192.0.2.1", 64));
+        assertNull(RateLimitFilter.addressKey(null, 64));
+    }
+}
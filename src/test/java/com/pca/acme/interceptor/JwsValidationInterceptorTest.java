@@ -22,8 +22,9 @@ import org.springframework.http.HttpStatus;
 import org.springframework.mock.web.MockHttpServletRequest;
 import org.springframework.mock.web.MockHttpServletResponse;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pca.acme.metrics.AcmeMetrics;
 import com.pca.acme.service.NonceService;
+import com.pca.acme.tracing.AcmeTracing;
 import com.pca.acme.util.JwsValidator;
 
 @ExtendWith(MockitoExtension.class)
@@ -41,7 +42,7 @@ class JwsValidationInterceptorTest {
 
     @BeforeEach
     void setUp() {
-        interceptor = new JwsValidationInterceptor(jwsValidator, new ObjectMapper());
+        interceptor = new JwsValidationInterceptor(jwsValidator, AcmeMetrics.NOOP, AcmeTracing.NOOP);
         request = new MockHttpServletRequest();
         response = new MockHttpServletResponse();
     }
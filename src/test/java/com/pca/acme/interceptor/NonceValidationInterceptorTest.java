@@ -17,8 +17,9 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.mock.web.MockHttpServletRequest;
 import org.springframework.mock.web.MockHttpServletResponse;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pca.acme.metrics.AcmeMetrics;
 import com.pca.acme.service.NonceService;
+import com.pca.acme.tracing.AcmeTracing;
 
 @ExtendWith(MockitoExtension.class)
 class NonceValidationInterceptorTest {
@@ -32,8 +33,7 @@ class NonceValidationInterceptorTest {
 
     @BeforeEach
     void setUp() {
-        ObjectMapper objectMapper = new ObjectMapper();
-        interceptor = new NonceValidationInterceptor(nonceService, objectMapper);
+        interceptor = new NonceValidationInterceptor(nonceService, AcmeMetrics.NOOP, AcmeTracing.NOOP);
         request = new MockHttpServletRequest();
         response = new MockHttpServletResponse();
     }
@@ -0,0 +1,93 @@
+package com.pca.acme.jfr;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.pca.acme.metrics.AcmeMetrics;
+import com.pca.acme.service.NonceService;
+import com.pca.acme.service.NonceStore;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+class AcmeJfrEventsTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void shouldRecordNonceConsumeFromService() throws Exception {
+        // Given
+        NonceStore nonceStore = mock(NonceStore.class);
+        when(nonceStore.validateAndConsumeNonce("good")).thenReturn(true);
+        when(nonceStore.validateAndConsumeNonce("bad")).thenReturn(false);
+        NonceService nonceService = new NonceService(nonceStore, AcmeMetrics.NOOP);
+
+        // When
+        List<RecordedEvent> events = record("com.pca.acme.NonceConsume", () -> {
+            nonceService.validateAndConsumeNonce("good");
+            nonceService.validateAndConsumeNonce("bad");
+        });
+
+        // Then
+        assertEquals(2, events.size());
+        assertTrue(events.get(0).getBoolean("valid"));
+        assertFalse(events.get(1).getBoolean("valid"));
+    }
+
+    @Test
+    void shouldRecordOrderCreateFields() throws Exception {
+        // When
+        List<RecordedEvent> events = record("com.pca.acme.OrderCreate", () -> {
+            OrderCreateEvent event = new OrderCreateEvent();
+            event.begin();
+            event.complete("1", "order-1", 3);
+        });
+
+        // Then
+        assertEquals(1, events.size());
+        assertEquals("1", events.get(0).getString("accountId"));
+        assertEquals("order-1", events.get(0).getString("orderId"));
+        assertEquals(3, events.get(0).getInt("identifiers"));
+    }
+
+    @Test
+    void shouldNotCommitWhenEventIsDisabled() throws Exception {
+        // When
+        List<RecordedEvent> events = record("com.pca.acme.ChallengeValidate", () -> {
+            OrderCreateEvent event = new OrderCreateEvent();
+            event.begin();
+            event.complete("1", "order-1", 1);
+        });
+
+        // Then
+        assertTrue(events.isEmpty());
+    }
+
+    private List<RecordedEvent> record(String eventName, Runnable action) throws Exception {
+        Path file = tempDir.resolve("acme.jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(eventName).withThreshold(Duration.ZERO);
+            recording.start();
+            action.run();
+            recording.stop();
+            recording.dump(file);
+        }
+        assertTrue(Files.exists(file));
+        return RecordingFile.readAllEvents(file).stream()
+            .filter(event -> event.getEventType().getName().equals(eventName))
+            .toList();
+    }
+}
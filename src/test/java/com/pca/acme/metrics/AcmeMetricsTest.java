@@ -0,0 +1,56 @@
+package com.pca.acme.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.Test;
+
+import com.pca.acme.exception.AcmeErrorType;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class AcmeMetricsTest {
+
+    @Test
+    void shouldRecordStageTimingAndErrorCount() {
+        // Given
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        AcmeMetrics metrics = new AcmeMetrics(registry, true);
+
+        // When
+        long start = metrics.start();
+        metrics.stop(AcmeMetrics.Stage.NONCE_CONSUME, start);
+        metrics.error(AcmeErrorType.BAD_NONCE);
+
+        // Then
+        assertEquals(1, registry.get("acme.stage").tag("stage", "nonce-consume").timer().count());
+        assertEquals(0, registry.get("acme.stage").tag("stage", "jws-parse").timer().count());
+        assertEquals(1.0, registry.get("acme.errors").tag("type", AcmeErrorType.BAD_NONCE.getType()).counter().count());
+    }
+
+    @Test
+    void shouldRecordNothingWhenDisabled() {
+        // Given
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        AcmeMetrics metrics = new AcmeMetrics(registry, false);
+
+        // When
+        long start = metrics.start();
+        metrics.stop(AcmeMetrics.Stage.NONCE_CONSUME, start);
+        metrics.error(AcmeErrorType.BAD_NONCE);
+
+        // Then
+        assertEquals(0L, start);
+        assertEquals(0, registry.get("acme.stage").tag("stage", "nonce-consume").timer().count());
+        assertEquals(0.0, registry.get("acme.errors").tag("type", AcmeErrorType.BAD_NONCE.getType()).counter().count());
+    }
+
+    @Test
+    void noopInstanceShouldIgnoreCalls() {
+        // When
+        AcmeMetrics.NOOP.stop(AcmeMetrics.Stage.SERIALIZE, AcmeMetrics.NOOP.start());
+        AcmeMetrics.NOOP.error(AcmeErrorType.MALFORMED);
+
+        // Then
+        assertEquals(false, AcmeMetrics.NOOP.isEnabled());
+    }
+}
@@ -0,0 +1,91 @@
+package com.pca.acme.reactive;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.server.WebFilterChain;
+
+import com.pca.acme.metrics.AcmeMetrics;
+import com.pca.acme.service.AdmissionController;
+
+import reactor.core.publisher.Mono;
+
+@ExtendWith(MockitoExtension.class)
+class AdmissionWebFilterTest {
+
+    @Mock
+    private AdmissionController admissionController;
+
+    private AdmissionWebFilter filter;
+    private final AtomicBoolean passed = new AtomicBoolean();
+    private final WebFilterChain chain = exchange -> {
+        passed.set(true);
+        return Mono.empty();
+    };
+
+    @BeforeEach
+    void setUp() {
+        filter = new AdmissionWebFilter(admissionController, AcmeMetrics.NOOP);
+    }
+
+    @Test
+    void shouldShedWithRateLimitedAndRetryAfter() {
+        // Given
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.post("/acme/new-order"));
+        when(admissionController.admitNow()).thenReturn(AdmissionController.Reason.IN_FLIGHT);
+        when(admissionController.getRetryAfterSeconds()).thenReturn(7L);
+
+        // When
+        filter.filter(exchange, chain).block();
+
+        // Then
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, exchange.getResponse().getStatusCode());
+        assertEquals("7", exchange.getResponse().getHeaders().getFirst("Retry-After"));
+        assertTrue(exchange.getResponse().getBodyAsString().block().contains("urn:ietf:params:acme:error:rateLimited"));
+        // 거절된 요청의 nonce는 소비되지 않았으므로 새 nonce를 발급하지 않음
+        assertNull(exchange.getResponse().getHeaders().getFirst("Replay-Nonce"));
+        assertFalse(passed.get());
+        verify(admissionController, never()).admit();
+        verify(admissionController, never()).release(anyLong());
+    }
+
+    @Test
+    void shouldReleaseSlotAfterAdmittedRequest() {
+        // Given
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.post("/acme/new-account"));
+        when(admissionController.admitNow()).thenReturn(null);
+
+        // When
+        filter.filter(exchange, chain).block();
+
+        // Then
+        assertTrue(passed.get());
+        verify(admissionController).release(anyLong());
+    }
+
+    @Test
+    void shouldNotLimitOtherRequests() {
+        // When
+        filter.filter(MockServerWebExchange.from(MockServerHttpRequest.post("/acme/order/abc")), chain).block();
+
+        // Then
+        assertTrue(passed.get());
+        verify(admissionController, never()).admitNow();
+    }
+}
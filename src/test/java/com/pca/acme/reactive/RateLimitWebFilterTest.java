@@ -0,0 +1,127 @@
+package com.pca.acme.reactive;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.net.InetSocketAddress;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.server.WebFilterChain;
+
+import com.pca.acme.metrics.AcmeMetrics;
+import com.pca.acme.service.RateLimiter;
+
+import reactor.core.publisher.Mono;
+
+@ExtendWith(MockitoExtension.class)
+class RateLimitWebFilterTest {
+
+    private static final InetSocketAddress CLIENT = new InetSocketAddress("192.0.2.10", 40000);
+
+    @Mock
+    private RateLimiter rateLimiter;
+
+    private RateLimitWebFilter filter;
+    private final AtomicBoolean passed = new AtomicBoolean();
+    private final WebFilterChain chain = exchange -> {
+        passed.set(true);
+        return Mono.empty();
+    };
+
+    @BeforeEach
+    void setUp() {
+        filter = new RateLimitWebFilter(rateLimiter, AcmeMetrics.NOOP);
+        ReflectionTestUtils.setField(filter, "ipv6PrefixLength", 64);
+    }
+
+    @Test
+    void shouldRejectNewNonceOverLimitWith429AndRetryAfter() {
+        // Given
+        MockServerWebExchange exchange = MockServerWebExchange.from(
+            MockServerHttpRequest.head("/acme/new-nonce").remoteAddress(CLIENT));
+        when(rateLimiter.check(RateLimiter.Limit.NEW_NONCE_PER_IP, "192.0.2.10")).thenReturn(3L);
+
+        // When
+        filter.filter(exchange, chain).block();
+
+        // Then
+        assertEquals(HttpStatus.TOO_MANY_REQUESTS, exchange.getResponse().getStatusCode());
+        assertEquals("3", exchange.getResponse().getHeaders().getFirst("Retry-After"));
+        assertTrue(exchange.getResponse().getBodyAsString().block().contains("urn:ietf:params:acme:error:rateLimited"));
+        assertNull(exchange.getResponse().getHeaders().getFirst("Replay-Nonce"));
+        assertFalse(passed.get());
+    }
+
+    @Test
+    void shouldPassNewAccountWithinLimit() {
+        // Given
+        MockServerWebExchange exchange = MockServerWebExchange.from(
+            MockServerHttpRequest.post("/acme/new-account").remoteAddress(CLIENT));
+        when(rateLimiter.check(RateLimiter.Limit.NEW_ACCOUNT_PER_IP, "192.0.2.10")).thenReturn(0L);
+
+        // When
+        filter.filter(exchange, chain).block();
+
+        // Then
+        assertTrue(passed.get());
+    }
+
+    @Test
+    void shouldSkipLimitForWarmupRequests() {
+        // Given
+        MockServerWebExchange exchange = MockServerWebExchange.from(
+            MockServerHttpRequest.post("/acme/new-account").remoteAddress(CLIENT).header(RateLimiter.EXEMPT_HEADER, "token"));
+        when(rateLimiter.isExempt("token")).thenReturn(true);
+
+        // When
+        filter.filter(exchange, chain).block();
+
+        // Then
+        assertTrue(passed.get());
+        verify(rateLimiter, never()).check(any(), anyString());
+    }
+
+    @Test
+    void shouldNotLimitOtherRequests() {
+        // When
+        filter.filter(MockServerWebExchange.from(MockServerHttpRequest.get("/acme/directory")), chain).block();
+
+        // Then
+        assertTrue(passed.get());
+        verify(rateLimiter, never()).check(any(), anyString());
+    }
+
+    @Test
+    void shouldCountIpv6ClientsPerPrefix() {
+        // Given: 같은 /64 안의 서로 다른 주소 두 개
+        MockServerWebExchange first = MockServerWebExchange.from(
+            MockServerHttpRequest.head("/acme/new-nonce").remoteAddress(new InetSocketAddress("2001:db8:1:2::1", 40000)));
+        MockServerWebExchange second = MockServerWebExchange.from(
+            MockServerHttpRequest.head("/acme/new-nonce").remoteAddress(new InetSocketAddress("2001:db8:1:2:a:b:c:d", 40001)));
+        when(rateLimiter.check(RateLimiter.Limit.NEW_NONCE_PER_IP, "20010db800010002/64")).thenReturn(0L, 5L);
+
+        // When
+        filter.filter(first, chain).block();
+        filter.filter(second, chain).block();
+
+        // Then
+        assertEquals(HttpStatus.TOO_MANY_REQUESTS, second.getResponse().getStatusCode());
+        assertEquals("5", second.getResponse().getHeaders().getFirst("Retry-After"));
+    }
+}
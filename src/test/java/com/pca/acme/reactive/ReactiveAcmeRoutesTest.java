@@ -0,0 +1,168 @@
+package com.pca.acme.reactive;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pca.acme.dto.account.AccountResponse;
+import com.pca.acme.dto.directory.DirectoryResponse;
+import com.pca.acme.metrics.AcmeMetrics;
+import com.pca.acme.service.AccountService;
+import com.pca.acme.service.DirectoryService;
+import com.pca.acme.service.NonceService;
+import com.pca.acme.service.OrderService;
+import com.pca.acme.util.JwsValidator;
+
+@ExtendWith(MockitoExtension.class)
+class ReactiveAcmeRoutesTest {
+
+    private static final MediaType JOSE_JSON = MediaType.parseMediaType("application/jose+json");
+    private static final String NEW_ACCOUNT_URL = "https://localhost:8443/acme/new-account";
+
+    @Mock
+    private DirectoryService directoryService;
+
+    @Mock
+    private NonceService nonceService;
+
+    @Mock
+    private AccountService accountService;
+
+    @Mock
+    private OrderService orderService;
+
+    @Mock
+    private JwsValidator jwsValidator;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private WebTestClient client;
+
+    @BeforeEach
+    void setUp() {
+        AcmeHandler handler = new AcmeHandler(directoryService, nonceService, accountService, orderService, objectMapper, AcmeMetrics.NOOP);
+        client = WebTestClient.bindToRouterFunction(new ReactiveAcmeConfig().acmeRoutes(handler))
+            .webFilter(new JwsWebFilter(jwsValidator, AcmeMetrics.NOOP), new NonceWebFilter(nonceService, AcmeMetrics.NOOP))
+            .build();
+    }
+
+    @Test
+    void shouldServeDirectoryAndHonorIfNoneMatch() {
+        // Given
+        DirectoryService.DirectoryDocument document = DirectoryService.DirectoryDocument.render(
+            objectMapper, DirectoryResponse.builder().newNonce("https://localhost:8443/acme/new-nonce").build(), 86400);
+        when(directoryService.getDocument()).thenReturn(document);
+
+        // When & Then
+        client.get().uri("/acme/directory").exchange()
+            .expectStatus().isOk()
+            .expectHeader().valueEquals("ETag", document.getETag())
+            .expectHeader().valueEquals("Cache-Control", "max-age=86400, public")
+            .expectBody().jsonPath("$.newNonce").isEqualTo("https://localhost:8443/acme/new-nonce");
+
+        client.get().uri("/acme/directory").header("If-None-Match", document.getETag()).exchange()
+            .expectStatus().isNotModified()
+            .expectBody().isEmpty();
+    }
+
+    @Test
+    void shouldAnswerHeadNewNonce() {
+        // Given
+        when(nonceService.createNonce()).thenReturn("oFvnlFP1wIhRlYS2jTaXbA");
+        when(nonceService.getDirectoryUrl()).thenReturn("https://localhost:8443/acme/directory");
+
+        // When & Then
+        client.head().uri("/acme/new-nonce").exchange()
+            .expectStatus().isOk()
+            .expectHeader().valueEquals("Replay-Nonce", "oFvnlFP1wIhRlYS2jTaXbA")
+            .expectHeader().valueEquals("Cache-Control", "no-store")
+            .expectHeader().valueEquals("Link", "<https://localhost:8443/acme/directory>;rel=\"index\"");
+    }
+
+    @Test
+    void shouldRejectNewAccountWithInvalidNonce() {
+        // Given
+        when(jwsValidator.validateJws(any(byte[].class)))
+            .thenReturn(JwsValidator.JwsValidationResult.valid(accountHeader("stale-nonce"), "{}"));
+        when(nonceService.validateAndConsumeNonce("stale-nonce")).thenReturn(false);
+
+        // When & Then
+        client.post().uri("/acme/new-account").contentType(JOSE_JSON).bodyValue("{\"protected\":\"e30\"}").exchange()
+            .expectStatus().isBadRequest()
+            .expectBody()
+            .jsonPath("$.type").isEqualTo("urn:ietf:params:acme:error:badNonce")
+            .jsonPath("$.detail").isEqualTo("Invalid or expired nonce");
+
+        verify(accountService, never()).createOrGetAccount(any(), anyMap());
+    }
+
+    @Test
+    void shouldCreateAccountThroughWebFilters() {
+        // Given
+        when(jwsValidator.validateJws(any(byte[].class)))
+            .thenReturn(JwsValidator.JwsValidationResult.valid(accountHeader("good-nonce"),
+                "{\"termsOfServiceAgreed\":true,\"contact\":[\"mailto:admin@example.com\"]}"));
+        when(nonceService.validateAndConsumeNonce("good-nonce")).thenReturn(true);
+        when(nonceService.createNonce()).thenReturn("next-nonce");
+        when(accountService.generatePublicKeyHash(anyMap())).thenReturn("hash");
+        when(accountService.getAccountByPublicKeyHash("hash")).thenReturn(null);
+        when(accountService.createOrGetAccount(any(), anyMap())).thenReturn(AccountResponse.builder()
+            .status("valid")
+            .contact(List.of("mailto:admin@example.com"))
+            .orders("https://localhost:8443/acme/acct/acc-1/orders")
+            .accountId("acc-1")
+            .build());
+        when(accountService.getAccountUrl(anyString())).thenReturn("https://localhost:8443/acme/acct/acc-1");
+
+        // When & Then
+        client.post().uri("/acme/new-account").contentType(JOSE_JSON).bodyValue("{\"protected\":\"e30\"}").exchange()
+            .expectStatus().isCreated()
+            .expectHeader().valueEquals("Location", "https://localhost:8443/acme/acct/acc-1")
+            .expectHeader().valueEquals("Replay-Nonce", "next-nonce")
+            .expectBody().jsonPath("$.status").isEqualTo("valid");
+    }
+
+    @Test
+    void shouldRejectNewOrderWithNonAccountKidAsAccountDoesNotExist() {
+        // Given: kid가 계정 URL 형식이 아니면 계정 ID를 얻을 수 없음
+        when(jwsValidator.validateJws(any(byte[].class)))
+            .thenReturn(JwsValidator.JwsValidationResult.valid(Map.of(
+                "alg", "ES256",
+                "nonce", "good-nonce",
+                "url", "https://localhost:8443/acme/new-order",
+                "kid", "https://localhost:8443/acme/account/nonexistent"),
+                "{\"identifiers\":[{\"type\":\"dns\",\"value\":\"example.com\"}]}"));
+        when(nonceService.validateAndConsumeNonce("good-nonce")).thenReturn(true);
+        when(nonceService.createNonce()).thenReturn("next-nonce");
+
+        // When & Then
+        client.post().uri("/acme/new-order").contentType(JOSE_JSON).bodyValue("{\"protected\":\"e30\"}").exchange()
+            .expectStatus().isNotFound()
+            .expectBody().jsonPath("$.type").isEqualTo("urn:ietf:params:acme:error:accountDoesNotExist");
+        verify(accountService, never()).getAccountById(any());
+        verify(orderService, never()).createOrder(any(), any());
+    }
+
+    private static Map<String, Object> accountHeader(String nonce) {
+        return Map.of(
+            "alg", "ES256",
+            "nonce", nonce,
+            "url", NEW_ACCOUNT_URL,
+            "jwk", Map.of("kty", "EC", "crv", "P-256", "x", "x", "y", "y"));
+    }
+}
@@ -0,0 +1,168 @@
+package com.pca.acme.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.when;
+
+import java.time.Instant;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+class AdmissionControllerTest {
+
+    @Mock
+    private NonceStore nonceStore;
+
+    private AdmissionController admissionController;
+
+    @BeforeEach
+    void setUp() {
+        admissionController = new AdmissionController(nonceStore);
+        ReflectionTestUtils.setField(admissionController, "maxInFlight", 2);
+        ReflectionTestUtils.setField(admissionController, "maxQueueWaitMs", 10L);
+        ReflectionTestUtils.setField(admissionController, "targetQueueDelayMs", 5L);
+        ReflectionTestUtils.setField(admissionController, "noncePressureRatio", 0.9);
+        ReflectionTestUtils.setField(admissionController, "maxNonceCount", 100);
+        ReflectionTestUtils.setField(admissionController, "nonceMaxAgeSeconds", 300L);
+        ReflectionTestUtils.setField(admissionController, "maxRetryAfterSeconds", 60L);
+        admissionController.start();
+    }
+
+    @Test
+    void shouldAdmitUntilInFlightLimitAndShedAfterQueueWait() {
+        // Given
+        when(nonceStore.getNonceCount()).thenReturn(0);
+
+        // When
+        AdmissionController.Reason first = admissionController.admit();
+        AdmissionController.Reason second = admissionController.admit();
+        AdmissionController.Reason third = admissionController.admit();
+
+        // Then
+        assertNull(first);
+        assertNull(second);
+        assertEquals(AdmissionController.Reason.IN_FLIGHT, third);
+        assertEquals(2, admissionController.getInFlight());
+    }
+
+    @Test
+    void shouldShedWithoutWaitingWhenAdmittingNow() {
+        // Given: 슬롯이 모두 찬 상태 (대기 지연 이력 없음)
+        when(nonceStore.getNonceCount()).thenReturn(0);
+        ReflectionTestUtils.setField(admissionController, "maxQueueWaitMs", 1000L);
+        admissionController.admitNow();
+        admissionController.admitNow();
+
+        // When
+        long start = System.nanoTime();
+        AdmissionController.Reason reason = admissionController.admitNow();
+        long waitedMs = (System.nanoTime() - start) / 1_000_000;
+
+        // Then
+        assertEquals(AdmissionController.Reason.IN_FLIGHT, reason);
+        assertTrue(waitedMs < 500, "should not wait for a slot");
+    }
+
+    @Test
+    void shouldShedImmediatelyWhenQueueDelayIsAboveTarget() {
+        // Given: 슬롯이 모두 찬 상태에서 대기가 목표보다 길었던 이력
+        when(nonceStore.getNonceCount()).thenReturn(0);
+        admissionController.admit();
+        admissionController.admit();
+        ReflectionTestUtils.setField(admissionController, "queueDelayNanos", 50_000_000d);
+
+        // When
+        long start = System.nanoTime();
+        AdmissionController.Reason reason = admissionController.admit();
+        long waitedMs = (System.nanoTime() - start) / 1_000_000;
+
+        // Then
+        assertEquals(AdmissionController.Reason.QUEUE_DELAY, reason);
+        assertTrue(waitedMs < 10, "should not wait for a slot");
+    }
+
+    @Test
+    void shouldShedWhenNonceStoreIsUnderPressure() {
+        // Given
+        when(nonceStore.getNonceCount()).thenReturn(95);
+
+        // When
+        AdmissionController.Reason reason = admissionController.admit();
+
+        // Then
+        assertEquals(AdmissionController.Reason.NONCE_PRESSURE, reason);
+        assertEquals(0, admissionController.getInFlight());
+    }
+
+    @Test
+    void shouldNotShedWhenNonceStoreIsFullOfExpiredNonces() {
+        // Given: 유휴 서버에서 쌓인, 아직 정리되지 않은 만료 nonce로 max-count가 참
+        InMemoryNonceStore store = new InMemoryNonceStore();
+        ReflectionTestUtils.setField(store, "maxAgeSeconds", 300L);
+        ReflectionTestUtils.setField(store, "maxNonceCount", 100);
+        Instant expired = Instant.now().minusSeconds(600);
+        for (int i = 0; i < 100; i++) {
+            store.storeNonce("expired-" + i, expired);
+        }
+        AdmissionController controller = new AdmissionController(store);
+        ReflectionTestUtils.setField(controller, "maxInFlight", 2);
+        ReflectionTestUtils.setField(controller, "noncePressureRatio", 0.9);
+        ReflectionTestUtils.setField(controller, "maxNonceCount", 100);
+        ReflectionTestUtils.setField(controller, "nonceMaxAgeSeconds", 300L);
+        controller.start();
+
+        // When
+        AdmissionController.Reason reason = controller.admit();
+
+        // Then
+        assertNull(reason);
+        assertEquals(0, store.getNonceCount());
+    }
+
+    @Test
+    void shouldShedWhenLiveNoncesExceedRatio() {
+        // Given
+        InMemoryNonceStore store = new InMemoryNonceStore();
+        ReflectionTestUtils.setField(store, "maxAgeSeconds", 300L);
+        ReflectionTestUtils.setField(store, "maxNonceCount", 100);
+        for (int i = 0; i < 90; i++) {
+            store.storeNonce("live-" + i, Instant.now());
+        }
+        AdmissionController controller = new AdmissionController(store);
+        ReflectionTestUtils.setField(controller, "maxInFlight", 2);
+        ReflectionTestUtils.setField(controller, "noncePressureRatio", 0.9);
+        ReflectionTestUtils.setField(controller, "maxNonceCount", 100);
+        ReflectionTestUtils.setField(controller, "nonceMaxAgeSeconds", 300L);
+        controller.start();
+
+        // When & Then
+        assertEquals(AdmissionController.Reason.NONCE_PRESSURE, controller.admit());
+    }
+
+    @Test
+    void shouldReleaseSlotAndComputeBoundedRetryAfter() {
+        // Given
+        when(nonceStore.getNonceCount()).thenReturn(0);
+        admissionController.admit();
+        admissionController.admit();
+        ReflectionTestUtils.setField(admissionController, "averageServiceNanos", 10_000_000_000_000d);
+
+        // When
+        long saturated = admissionController.getRetryAfterSeconds();
+        admissionController.release(System.nanoTime());
+        admissionController.release(System.nanoTime());
+
+        // Then
+        assertEquals(60, saturated);
+        assertEquals(0, admissionController.getInFlight());
+        assertEquals(1, admissionController.getRetryAfterSeconds());
+        assertNull(admissionController.admit());
+    }
+}
@@ -0,0 +1,150 @@
+package com.pca.acme.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.pca.acme.model.CaaRecord;
+import com.pca.acme.model.Identifier;
+
+@DisplayName("CaaService Tests")
+class CaaServiceTest {
+
+    private final Map<String, List<CaaRecord>> zone = new ConcurrentHashMap<>();
+    private final Map<String, AtomicInteger> lookupCounts = new ConcurrentHashMap<>();
+
+    private CaaService caaService;
+
+    @BeforeEach
+    void setUp() {
+        CaaResolver resolver = domain -> {
+            lookupCounts.computeIfAbsent(domain, key -> new AtomicInteger()).incrementAndGet();
+            if (domain.equals("servfail.test")) {
+                throw new IllegalStateException("SERVFAIL");
+            }
+            return zone.getOrDefault(domain, List.of());
+        };
+        caaService = new CaaService(resolver);
+        ReflectionTestUtils.setField(caaService, "caaIdentities", List.of("example.com"));
+        ReflectionTestUtils.setField(caaService, "cacheTtlSeconds", 300L);
+        ReflectionTestUtils.setField(caaService, "lookupThreads", 4);
+        ReflectionTestUtils.setField(caaService, "lookupTimeoutMs", 5000L);
+        caaService.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        caaService.shutdown();
+    }
+
+    @Test
+    @DisplayName("should permit issuance when no CAA records exist")
+    void shouldPermitWhenNoRecords() {
+        assertTrue(caaService.checkIdentifiers(List.of(dns("www.unrestricted.test"))).isPermitted());
+    }
+
+    @Test
+    @DisplayName("should use the closest ancestor with CAA records")
+    void shouldClimbToClosestAncestor() {
+        // Given
+        zone.put("restricted.test", List.of(issue("other-ca.test")));
+        zone.put("allowed.restricted.test", List.of(issue("example.com")));
+
+        // When & Then
+        assertTrue(caaService.checkIdentifiers(List.of(dns("a.allowed.restricted.test"))).isPermitted());
+
+        CaaService.CaaCheckResult result = caaService.checkIdentifiers(List.of(dns("a.denied.restricted.test")));
+        assertFalse(result.isPermitted());
+        assertEquals("a.denied.restricted.test", result.getIdentifier());
+    }
+
+    @Test
+    @DisplayName("should prefer issuewild for wildcard identifiers")
+    void shouldPreferIssueWildForWildcard() {
+        // Given
+        zone.put("wild.test", List.of(issue("example.com"), record(0, "issuewild", ";")));
+
+        // When & Then
+        assertTrue(caaService.checkIdentifiers(List.of(dns("www.wild.test"))).isPermitted());
+        assertFalse(caaService.checkIdentifiers(List.of(dns("*.wild.test"))).isPermitted());
+    }
+
+    @Test
+    @DisplayName("should reject unknown critical properties")
+    void shouldRejectUnknownCriticalProperty() {
+        zone.put("critical.test", List.of(issue("example.com"), record(CaaRecord.FLAG_CRITICAL, "tbs", "x")));
+
+        assertFalse(caaService.checkIdentifiers(List.of(dns("critical.test"))).isPermitted());
+    }
+
+    @Test
+    @DisplayName("should look up shared parents once per batch and cache results")
+    void shouldShareParentLookups() {
+        // Given - 100개의 SAN이 동일한 상위 도메인을 공유
+        List<Identifier> identifiers = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            identifiers.add(dns("host" + i + ".shared.test"));
+        }
+
+        // When
+        assertTrue(caaService.checkIdentifiers(identifiers).isPermitted());
+        assertTrue(caaService.checkIdentifiers(identifiers).isPermitted());
+
+        // Then
+        assertEquals(1, lookupCounts.get("shared.test").get());
+        assertEquals(1, lookupCounts.get("test").get());
+        assertEquals(1, lookupCounts.get("host42.shared.test").get());
+    }
+
+    @Test
+    @DisplayName("should fail closed when DNS lookup fails")
+    void shouldFailClosedOnLookupError() {
+        assertFalse(caaService.checkIdentifiers(List.of(dns("www.servfail.test"))).isPermitted());
+    }
+
+    @Test
+    @DisplayName("should evict expired cache entries in the background")
+    void shouldEvictExpiredEntriesInBackground() throws Exception {
+        // Given: TTL 0초, 1초마다 정리
+        caaService.shutdown();
+        ReflectionTestUtils.setField(caaService, "cacheTtlSeconds", 0L);
+        ReflectionTestUtils.setField(caaService, "evictIntervalSeconds", 1L);
+        caaService.start();
+        assertTrue(caaService.checkIdentifiers(List.of(dns("www.expiring.test"))).isPermitted());
+        assertTrue(caaService.getCacheSize() > 0);
+
+        // When
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (caaService.getCacheSize() > 0 && System.nanoTime() < deadline) {
+            Thread.sleep(50);
+        }
+
+        // Then
+        assertEquals(0, caaService.getCacheSize());
+    }
+
+    private static Identifier dns(String value) {
+        return Identifier.builder().type("dns").value(value).build();
+    }
+
+    private static CaaRecord issue(String issuer) {
+        return record(0, "issue", issuer);
+    }
+
+    private static CaaRecord record(int flags, String tag, String value) {
+        return CaaRecord.builder().flags(flags).tag(tag).value(value).build();
+    }
+}
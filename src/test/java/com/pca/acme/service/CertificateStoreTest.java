@@ -0,0 +1,122 @@
+package com.pca.acme.service;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class CertificateStoreTest {
+
+    private static final byte[] CHAIN = pem("INTERMEDIATE");
+    private static final byte[] ALTERNATE_CHAIN = pem("CROSS-SIGNED INTERMEDIATE");
+
+    @TempDir
+    Path directory;
+
+    private CertificateStore certificateStore;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        certificateStore = newStore();
+    }
+
+    @Test
+    void shouldServeLeafFollowedByChain() throws Exception {
+        // Given
+        String chainId = certificateStore.storeChain(CHAIN);
+        String certificateId = certificateStore.store("acct-1", pem("LEAF"), List.of(chainId));
+
+        // When
+        CertificateStore.StoredCertificate certificate = certificateStore.getCertificate(certificateId);
+        byte[] body = download(certificateStore, certificate, 0);
+
+        // Then
+        assertEquals("acct-1", certificate.getAccountId());
+        assertArrayEquals(concat(pem("LEAF"), CHAIN), body);
+        assertEquals(body.length, certificate.getContentLength(0));
+    }
+
+    @Test
+    void shouldStoreSharedChainOnce() throws Exception {
+        // Given
+        List<String> chainIds = List.of(certificateStore.storeChain(CHAIN), certificateStore.storeChain(ALTERNATE_CHAIN));
+
+        // When
+        certificateStore.store("acct-1", pem("LEAF-1"), chainIds);
+        certificateStore.store("acct-2", pem("LEAF-2"), chainIds);
+        certificateStore.storeChain(CHAIN);
+
+        // Then: 체인 2개 + leaf 2개
+        try (Stream<Path> blobs = Files.list(directory.resolve("blobs"))) {
+            assertEquals(4, blobs.count());
+        }
+    }
+
+    @Test
+    void shouldServeAlternateChain() throws Exception {
+        // Given
+        List<String> chainIds = List.of(certificateStore.storeChain(CHAIN), certificateStore.storeChain(ALTERNATE_CHAIN));
+        String certificateId = certificateStore.store("acct-1", pem("LEAF"), chainIds);
+        CertificateStore.StoredCertificate certificate = certificateStore.getCertificate(certificateId);
+
+        // When & Then
+        assertEquals(2, certificate.getChainCount());
+        assertArrayEquals(concat(pem("LEAF"), ALTERNATE_CHAIN), download(certificateStore, certificate, 1));
+        assertEquals(certificateStore.getCertificateUrl(certificateId) + "/1",
+            certificateStore.getCertificateUrl(certificateId, 1));
+    }
+
+    @Test
+    void shouldReloadCertificatesFromManifests() throws Exception {
+        // Given
+        String chainId = certificateStore.storeChain(CHAIN);
+        String certificateId = certificateStore.store("acct-1", pem("LEAF"), List.of(chainId));
+
+        // When
+        CertificateStore reloaded = newStore();
+
+        // Then
+        CertificateStore.StoredCertificate certificate = reloaded.getCertificate(certificateId);
+        assertNotNull(certificate);
+        assertEquals("acct-1", certificate.getAccountId());
+        assertArrayEquals(concat(pem("LEAF"), CHAIN), download(reloaded, certificate, 0));
+    }
+
+    private CertificateStore newStore() throws Exception {
+        CertificateStore store = new CertificateStore();
+        ReflectionTestUtils.setField(store, "baseUrl", "https://localhost:8443/acme");
+        ReflectionTestUtils.setField(store, "directory", directory.toString());
+        store.init();
+        return store;
+    }
+
+    private static byte[] download(CertificateStore store, CertificateStore.StoredCertificate certificate,
+                                   int chainIndex) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        store.writeTo(certificate, chainIndex, out);
+        return out.toByteArray();
+    }
+
+    private static byte[] pem(String body) {
+        return ("-----BEGIN CERTIFICATE-----\n" + body + "\n-----END CERTIFICATE-----\n")
+            .getBytes(StandardCharsets.US_ASCII);
+    }
+
+    private static byte[] concat(byte[] first, byte[] second) {
+        byte[] result = new byte[first.length + second.length];
+        System.arraycopy(first, 0, result, 0, first.length);
+        System.arraycopy(second, 0, result, first.length, second.length);
+        return result;
+    }
+}
@@ -0,0 +1,58 @@
+package com.pca.acme.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.pca.acme.util.DomainBlocklistFile;
+
+class DomainBlocklistTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void shouldBlockNothingWithoutFile() throws Exception {
+        // Given
+        DomainBlocklist blocklist = new DomainBlocklist();
+        ReflectionTestUtils.setField(blocklist, "file", "");
+
+        // When
+        blocklist.start();
+
+        // Then
+        assertFalse(blocklist.isBlocked("example.com"));
+        assertEquals(0, blocklist.getEntryCount());
+    }
+
+    @Test
+    void shouldBlockListedNames() throws Exception {
+        // Given
+        Path path = directory.resolve("blocklist.bin");
+        DomainBlocklistFile.write(List.of("evil.com", "*.phish.net"), path);
+
+        // When
+        DomainBlocklist blocklist = blocklist(path);
+
+        // Then
+        assertTrue(blocklist.isBlocked("evil.com"));
+        assertTrue(blocklist.isBlocked("login.phish.net"));
+        assertFalse(blocklist.isBlocked("example.com"));
+        assertEquals(2, blocklist.getEntryCount());
+    }
+
+    private static DomainBlocklist blocklist(Path path) throws Exception {
+        DomainBlocklist blocklist = new DomainBlocklist();
+        ReflectionTestUtils.setField(blocklist, "file", path.toString());
+        ReflectionTestUtils.setField(blocklist, "reloadCheckSeconds", 0L);
+        blocklist.start();
+        return blocklist;
+    }
+}
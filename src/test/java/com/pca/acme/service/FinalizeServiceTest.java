@@ -0,0 +1,266 @@
+package com.pca.acme.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.pca.acme.exception.AcmeErrorType;
+import com.pca.acme.exception.AcmeProblem;
+import com.pca.acme.model.Identifier;
+import com.pca.acme.model.Order;
+import com.pca.acme.tracing.AcmeTracing;
+import com.pca.acme.util.CsrParser;
+import com.pca.acme.util.KeyBlocklistFile;
+
+@ExtendWith(MockitoExtension.class)
+class FinalizeServiceTest {
+
+    // keytool로 생성한 EC P-256 CSR (CN=www.example.com, SAN=www.example.com, example.com)
+    private static final byte[] CSR = Base64.getUrlDecoder().decode(
+        "MIIBLzCB1QIBADAaMRgwFgYDVQQDEw93d3cuZXhhbXBsZS5jb20wWTATBgcqhkjOPQIBBggqhkjOPQMBBwNCAAQoZxskfQRPSISpDYrV"
+        + "UFhOvau0crXXIDJb956PuV6P_VfRCFu9c4uWawkSzUe_QXK1E5iQi-RwGU2FmC_kQI4PoFkwVwYJKoZIhvcNAQkOMUowSDAdBgNVHQ4E"
+        + "FgQUjbp2DWrmVJ3gAdDJ5hg7doCSF9wwJwYDVR0RBCAwHoIPd3d3LmV4YW1wbGUuY29tggtleGFtcGxlLmNvbTAKBggqhkjOPQQDAgNJ"
+        + "ADBGAiEAs_YCbm_hwsJFCD9qVW1N4gFIIhdC7mf0w5pw2yKNcpsCIQD0hrUmVA_mj9rM9qbAYqAOybwoIr1OWGI6tBY9Z-6bJw");
+
+    @Mock
+    private OrderService orderService;
+
+    @Mock
+    private CaaService caaService;
+
+    @Mock
+    private ObjectProvider<CertificateIssuer> issuerProvider;
+
+    @Mock
+    private CertificateIssuer certificateIssuer;
+
+    private FinalizeService finalizeService;
+
+    @BeforeEach
+    void setUp() {
+        finalizeService = new FinalizeService(orderService, caaService, issuerProvider, AcmeTracing.NOOP, KeyBlocklist.NONE);
+        ReflectionTestUtils.setField(finalizeService, "workerCount", 0);
+        ReflectionTestUtils.setField(finalizeService, "queueCapacity", 2);
+        ReflectionTestUtils.setField(finalizeService, "maxCsrBytes", 16384);
+        ReflectionTestUtils.setField(finalizeService, "initialEstimateMs", 200L);
+        ReflectionTestUtils.setField(finalizeService, "maxRetryAfterSeconds", 60L);
+        finalizeService.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        finalizeService.stop();
+    }
+
+    @Test
+    void shouldQueueReadyOrder() {
+        // Given
+        Order order = order("order-1", "www.example.com", "example.com");
+        when(orderService.getOrder("order-1")).thenReturn(order);
+        when(orderService.transitionStatus("order-1", Order.OrderStatus.READY, Order.OrderStatus.PROCESSING))
+            .thenReturn(true);
+        when(issuerProvider.getIfAvailable()).thenReturn(certificateIssuer);
+        when(certificateIssuer.isEnabled()).thenReturn(true);
+
+        // When
+        finalizeService.submit("acct-1", "order-1", CSR);
+
+        // Then
+        assertEquals(1, finalizeService.getQueueDepth());
+        assertTrue(finalizeService.getRetryAfterSeconds() >= 1);
+    }
+
+    @Test
+    void shouldRejectFinalizeWhenIssuanceIsNotConfigured() {
+        // Given
+        Order order = order("order-11", "www.example.com", "example.com");
+        when(orderService.getOrder("order-11")).thenReturn(order);
+        when(orderService.transitionStatus("order-11", Order.OrderStatus.READY, Order.OrderStatus.PROCESSING))
+            .thenReturn(true);
+        when(issuerProvider.getIfAvailable()).thenReturn(certificateIssuer);
+        when(certificateIssuer.isEnabled()).thenReturn(false);
+
+        // When & Then
+        AcmeProblem e = assertThrows(AcmeProblem.class,
+            () -> finalizeService.submit("acct-1", "order-11", CSR));
+        assertEquals(AcmeErrorType.SERVER_INTERNAL, e.getType());
+        verify(orderService).transitionStatus("order-11", Order.OrderStatus.PROCESSING, Order.OrderStatus.READY);
+        assertEquals(0, finalizeService.getQueueDepth());
+    }
+
+    @Test
+    void shouldRejectOrderThatIsNotReady() {
+        // Given
+        Order order = order("order-2", "www.example.com");
+        order.setStatus(Order.OrderStatus.PENDING);
+        when(orderService.getOrder("order-2")).thenReturn(order);
+        when(orderService.transitionStatus("order-2", Order.OrderStatus.READY, Order.OrderStatus.PROCESSING))
+            .thenReturn(false);
+
+        // When & Then
+        AcmeProblem e = assertThrows(AcmeProblem.class,
+            () -> finalizeService.submit("acct-1", "order-2", CSR));
+        assertEquals(AcmeErrorType.ORDER_NOT_READY, e.getType());
+        assertTrue(e.getMessage().contains("is not ready for finalization"));
+    }
+
+    @Test
+    void shouldRejectNonDerCsrInline() {
+        // Given
+        when(orderService.getOrder("order-3")).thenReturn(order("order-3", "www.example.com"));
+
+        // When & Then
+        AcmeProblem e = assertThrows(AcmeProblem.class,
+            () -> finalizeService.submit("acct-1", "order-3", new byte[] { 0x01, 0x02 }));
+        assertEquals(AcmeErrorType.BAD_CSR, e.getType());
+        verify(orderService, never()).transitionStatus(any(), any(), any());
+    }
+
+    @Test
+    void shouldIssueWhenCsrMatchesOrder() {
+        // Given
+        Order order = order("order-4", "www.example.com", "example.com");
+        when(caaService.checkOrder(order)).thenReturn(CaaService.CaaCheckResult.valid());
+        when(issuerProvider.getIfAvailable()).thenReturn(certificateIssuer);
+        when(certificateIssuer.issue(any(), any())).thenReturn("https://localhost:8443/acme/cert/1");
+
+        // When
+        finalizeService.process(new FinalizeService.FinalizeJob(order, CSR));
+
+        // Then
+        verify(orderService).completeOrder("order-4", "https://localhost:8443/acme/cert/1");
+    }
+
+    @Test
+    void shouldInvalidateOrderWhenCsrNamesDoNotMatch() {
+        // Given
+        Order order = order("order-5", "other.example.com");
+
+        // When
+        finalizeService.process(new FinalizeService.FinalizeJob(order, CSR));
+
+        // Then
+        ArgumentCaptor<AcmeProblem> problem = ArgumentCaptor.forClass(AcmeProblem.class);
+        verify(orderService).failOrder(eq("order-5"), problem.capture());
+        assertEquals(AcmeErrorType.BAD_CSR, problem.getValue().getType());
+        assertTrue(problem.getValue().getDetail().contains("do not match order identifiers"));
+        verify(orderService, never()).completeOrder(any(), any());
+    }
+
+    @Test
+    void shouldRejectBlocklistedCsrKeyOnRequestThread(@TempDir Path directory) throws Exception {
+        // Given
+        Path path = directory.resolve("keys.bin");
+        byte[] hash = MessageDigest.getInstance("SHA-256").digest(CsrParser.parse(CSR).getSubjectPublicKeyInfo());
+        KeyBlocklistFile.write(List.of(HexFormat.of().formatHex(hash)), path);
+        KeyBlocklist keyBlocklist = new KeyBlocklist();
+        ReflectionTestUtils.setField(keyBlocklist, "file", path.toString());
+        ReflectionTestUtils.setField(keyBlocklist, "reloadCheckSeconds", 0L);
+        keyBlocklist.start();
+        ReflectionTestUtils.setField(finalizeService, "keyBlocklist", keyBlocklist);
+        when(orderService.getOrder("order-10")).thenReturn(order("order-10", "www.example.com", "example.com"));
+
+        // When & Then: 주문 상태를 바꾸거나 큐에 넣기 전에 거절
+        AcmeProblem e = assertThrows(AcmeProblem.class,
+            () -> finalizeService.submit("acct-1", "order-10", CSR));
+        assertEquals(AcmeErrorType.BAD_CSR, e.getType());
+        assertTrue(e.getMessage().contains("compromised"));
+        verify(orderService, never()).transitionStatus(any(), any(), any());
+        assertEquals(0, finalizeService.getQueueDepth());
+    }
+
+    @Test
+    void shouldIssueValidJobsOfBatchTogether() {
+        // Given
+        Order first = order("order-6", "www.example.com", "example.com");
+        Order mismatched = order("order-7", "other.example.com");
+        Order second = order("order-8", "example.com", "www.example.com");
+        when(caaService.checkOrder(any())).thenReturn(CaaService.CaaCheckResult.valid());
+        when(issuerProvider.getIfAvailable()).thenReturn(certificateIssuer);
+        when(certificateIssuer.issueBatch(eq(List.of(first, second)), any()))
+            .thenReturn(List.of("https://localhost:8443/acme/cert/6", "https://localhost:8443/acme/cert/8"));
+
+        // When
+        finalizeService.processBatch(List.of(
+            new FinalizeService.FinalizeJob(first, CSR),
+            new FinalizeService.FinalizeJob(mismatched, CSR),
+            new FinalizeService.FinalizeJob(second, CSR)));
+
+        // Then
+        verify(orderService).completeOrder("order-6", "https://localhost:8443/acme/cert/6");
+        verify(orderService).completeOrder("order-8", "https://localhost:8443/acme/cert/8");
+        verify(orderService).failOrder(eq("order-7"), any());
+        verify(certificateIssuer, never()).issue(any(), any());
+    }
+
+    @Test
+    void shouldRunWorkersOnVirtualThreadsWhenEnabled() throws Exception {
+        // Given
+        finalizeService.stop();
+        finalizeService = new FinalizeService(orderService, caaService, issuerProvider, AcmeTracing.NOOP, KeyBlocklist.NONE);
+        ReflectionTestUtils.setField(finalizeService, "workerCount", 1);
+        ReflectionTestUtils.setField(finalizeService, "queueCapacity", 2);
+        ReflectionTestUtils.setField(finalizeService, "maxCsrBytes", 16384);
+        ReflectionTestUtils.setField(finalizeService, "maxBatchSize", 16);
+        ReflectionTestUtils.setField(finalizeService, "initialEstimateMs", 200L);
+        ReflectionTestUtils.setField(finalizeService, "maxRetryAfterSeconds", 60L);
+        ReflectionTestUtils.setField(finalizeService, "virtualThreads", true);
+        finalizeService.start();
+
+        Order order = order("order-9", "www.example.com", "example.com");
+        CompletableFuture<Boolean> issuedOnVirtualThread = new CompletableFuture<>();
+        when(orderService.getOrder("order-9")).thenReturn(order);
+        when(orderService.transitionStatus("order-9", Order.OrderStatus.READY, Order.OrderStatus.PROCESSING))
+            .thenReturn(true);
+        when(caaService.checkOrder(order)).thenReturn(CaaService.CaaCheckResult.valid());
+        when(issuerProvider.getIfAvailable()).thenReturn(certificateIssuer);
+        when(certificateIssuer.isEnabled()).thenReturn(true);
+        when(certificateIssuer.issue(any(), any())).thenAnswer(invocation -> {
+            issuedOnVirtualThread.complete(Thread.currentThread().isVirtual());
+            return "https://localhost:8443/acme/cert/9";
+        });
+
+        // When
+        finalizeService.submit("acct-1", "order-9", CSR);
+
+        // Then
+        assertTrue(issuedOnVirtualThread.get(5, TimeUnit.SECONDS));
+    }
+
+    private static Order order(String orderId, String... names) {
+        List<Identifier> identifiers = Arrays.stream(names)
+            .map(name -> Identifier.builder().type("dns").value(name).build())
+            .toList();
+        return Order.builder()
+            .orderId(orderId)
+            .accountId("acct-1")
+            .status(Order.OrderStatus.READY)
+            .identifiers(identifiers)
+            .build();
+    }
+}
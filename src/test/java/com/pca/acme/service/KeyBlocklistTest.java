@@ -0,0 +1,94 @@
+package com.pca.acme.service;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Path;
+import java.security.KeyPairGenerator;
+import java.security.MessageDigest;
+import java.security.PublicKey;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.pca.acme.exception.AcmeErrorType;
+import com.pca.acme.exception.AcmeProblem;
+import com.pca.acme.util.KeyBlocklistFile;
+
+class KeyBlocklistTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void shouldAcceptAnyKeyWithoutFile() throws Exception {
+        // Given
+        KeyBlocklist blocklist = new KeyBlocklist();
+        ReflectionTestUtils.setField(blocklist, "file", "");
+
+        // When
+        blocklist.start();
+
+        // Then
+        assertDoesNotThrow(() -> blocklist.checkAccountKey(Map.of("kty", "RSA", "n", "test-key", "e", "AQAB")));
+        assertFalse(blocklist.isBlocked(new byte[] { 0x30, 0x00 }));
+    }
+
+    @Test
+    void shouldRejectBlocklistedAccountKey() throws Exception {
+        // Given
+        PublicKey compromised = KeyPairGenerator.getInstance("Ed25519").generateKeyPair().getPublic();
+        PublicKey fresh = KeyPairGenerator.getInstance("Ed25519").generateKeyPair().getPublic();
+        KeyBlocklist blocklist = blocklist(compromised);
+
+        // When
+        AcmeProblem problem = assertThrows(AcmeProblem.class, () -> blocklist.checkAccountKey(jwk(compromised)));
+
+        // Then
+        assertEquals(AcmeErrorType.BAD_PUBLIC_KEY, problem.getType());
+        assertDoesNotThrow(() -> blocklist.checkAccountKey(jwk(fresh)));
+        assertTrue(blocklist.isBlocked(compromised.getEncoded()));
+        assertEquals(1, blocklist.getCount());
+    }
+
+    @Test
+    void shouldRejectAccountKeyThatCannotBeChecked() throws Exception {
+        // Given
+        KeyBlocklist blocklist = blocklist(KeyPairGenerator.getInstance("Ed25519").generateKeyPair().getPublic());
+
+        // When
+        AcmeProblem problem = assertThrows(AcmeProblem.class,
+            () -> blocklist.checkAccountKey(Map.of("kty", "RSA", "n", "test-key", "e", "AQAB")));
+
+        // Then
+        assertEquals(AcmeErrorType.BAD_PUBLIC_KEY, problem.getType());
+    }
+
+    private KeyBlocklist blocklist(PublicKey key) throws Exception {
+        Path path = directory.resolve("keys.bin");
+        byte[] hash = MessageDigest.getInstance("SHA-256").digest(key.getEncoded());
+        KeyBlocklistFile.write(List.of(HexFormat.of().formatHex(hash)), path);
+
+        KeyBlocklist blocklist = new KeyBlocklist();
+        ReflectionTestUtils.setField(blocklist, "file", path.toString());
+        ReflectionTestUtils.setField(blocklist, "reloadCheckSeconds", 0L);
+        blocklist.start();
+        return blocklist;
+    }
+
+    private static Map<String, Object> jwk(PublicKey ed25519) {
+        byte[] encoded = ed25519.getEncoded();
+        return Map.of("kty", "OKP", "crv", "Ed25519",
+            "x", Base64.getUrlEncoder().withoutPadding().encodeToString(
+                Arrays.copyOfRange(encoded, encoded.length - 32, encoded.length)));
+    }
+}
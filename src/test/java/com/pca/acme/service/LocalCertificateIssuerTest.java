@@ -0,0 +1,124 @@
+package com.pca.acme.service;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayInputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.KeyStore;
+import java.security.cert.Certificate;
+import java.security.cert.CertificateFactory;
+import java.security.cert.X509Certificate;
+import java.security.spec.ECGenParameterSpec;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.pca.acme.util.CertificateSigner;
+
+@ExtendWith(MockitoExtension.class)
+class LocalCertificateIssuerTest {
+
+    private static final String PASSWORD = "changeit";
+
+    @Mock
+    private CertificateStore certificateStore;
+
+    @TempDir
+    Path directory;
+
+    private LocalCertificateIssuer issuer;
+
+    @BeforeEach
+    void setUp() {
+        issuer = new LocalCertificateIssuer(certificateStore, new DefaultResourceLoader());
+        ReflectionTestUtils.setField(issuer, "keyStore", "");
+        ReflectionTestUtils.setField(issuer, "keyStorePassword", PASSWORD);
+        ReflectionTestUtils.setField(issuer, "keyStoreType", "PKCS12");
+        ReflectionTestUtils.setField(issuer, "keyAlias", "");
+        ReflectionTestUtils.setField(issuer, "validityDays", 90);
+        ReflectionTestUtils.setField(issuer, "alternateChains", List.of());
+    }
+
+    @Test
+    void shouldDisableIssuanceWithoutKeyStore() throws Exception {
+        // When
+        issuer.init();
+
+        // Then
+        assertFalse(issuer.isEnabled());
+        assertThrows(IllegalStateException.class, () -> issuer.issueBatch(List.of(), List.of()));
+        verify(certificateStore, never()).storeChain(any(byte[].class));
+    }
+
+    @Test
+    void shouldLoadCaCertificate() throws Exception {
+        // Given
+        KeyPair keys = ecKeyPair();
+        X509Certificate ca = CertificateSigner.selfSignedIssuer(keys, "Test Issuing CA", now(), now().plus(365, ChronoUnit.DAYS));
+        ReflectionTestUtils.setField(issuer, "keyStore", keyStore(keys, ca).toUri().toString());
+        when(certificateStore.storeChain(any(byte[].class))).thenReturn("chain-1");
+
+        // When
+        issuer.init();
+
+        // Then
+        assertTrue(issuer.isEnabled());
+    }
+
+    @Test
+    void shouldRejectNonCaCertificate() throws Exception {
+        // Given: CA가 서명한 서버 인증서(basicConstraints CA=false)를 발급 키로 지정
+        KeyPair caKeys = ecKeyPair();
+        X509Certificate ca = CertificateSigner.selfSignedIssuer(caKeys, "Test Issuing CA", now(), now().plus(365, ChronoUnit.DAYS));
+        KeyPair serverKeys = ecKeyPair();
+        byte[] der = new CertificateSigner(caKeys.getPrivate(), ca).sign(
+            serverKeys.getPublic().getEncoded(), List.of("localhost"), now(), now().plus(90, ChronoUnit.DAYS)).getDer();
+        X509Certificate server = (X509Certificate) CertificateFactory.getInstance("X.509")
+            .generateCertificate(new ByteArrayInputStream(der));
+        ReflectionTestUtils.setField(issuer, "keyStore", keyStore(serverKeys, server, ca).toUri().toString());
+
+        // When & Then
+        assertThrows(IllegalStateException.class, () -> issuer.init());
+        assertFalse(issuer.isEnabled());
+    }
+
+    private Path keyStore(KeyPair keys, Certificate... chain) throws Exception {
+        KeyStore store = KeyStore.getInstance("PKCS12");
+        store.load(null, null);
+        store.setKeyEntry("issuer", keys.getPrivate(), PASSWORD.toCharArray(), chain);
+        Path path = directory.resolve("issuer.p12");
+        try (OutputStream out = Files.newOutputStream(path)) {
+            store.store(out, PASSWORD.toCharArray());
+        }
+        return path;
+    }
+
+    private static KeyPair ecKeyPair() throws Exception {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("EC");
+        generator.initialize(new ECGenParameterSpec("secp256r1"));
+        return generator.generateKeyPair();
+    }
+
+    private static Instant now() {
+        return Instant.now().truncatedTo(ChronoUnit.SECONDS);
+    }
+}
@@ -2,21 +2,34 @@ package com.pca.acme.service;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.when;
 
+import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.List;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import com.pca.acme.dto.order.OrderRequest;
+import com.pca.acme.dto.order.OrderResponse;
+import com.pca.acme.event.AuthorizationStatusChangedEvent;
+import com.pca.acme.exception.AcmeErrorType;
+import com.pca.acme.exception.AcmeProblem;
+import com.pca.acme.metrics.AcmeMetrics;
 import com.pca.acme.model.Authorization;
 import com.pca.acme.model.Identifier;
 import com.pca.acme.model.Order;
+import com.pca.acme.util.DomainBlocklistFile;
 
 @ExtendWith(MockitoExtension.class)
 class OrderServiceTest {
@@ -28,7 +41,7 @@ class OrderServiceTest {
 
     @BeforeEach
     void setUp() {
-        orderService = new OrderService(authorizationService);
+        orderService = new OrderService(authorizationService, AcmeMetrics.NOOP, RateLimiter.UNLIMITED, DomainBlocklist.NONE);
         // Set fields using reflection to avoid @Value dependency
         try {
             var baseUrlField = OrderService.class.getDeclaredField("baseUrl");
@@ -82,4 +95,146 @@ class OrderServiceTest {
         assertNotNull(result.getAuthorizations());
         assertEquals(1, result.getAuthorizations().size());
     }
-}
\ No newline at end of file
+
+    @Test
+    void shouldBecomeReadyWhenAllAuthorizationsAreValid() {
+        // Given
+        Order order = createOrderWithAuthorizations("auth-a", "auth-b");
+
+        // When
+        orderService.onAuthorizationStatusChanged(validated("auth-a"));
+
+        // Then
+        assertEquals(Order.OrderStatus.PENDING, orderService.getOrder(order.getOrderId()).getStatus());
+
+        // When
+        orderService.onAuthorizationStatusChanged(validated("auth-b"));
+
+        // Then
+        assertEquals(Order.OrderStatus.READY, orderService.getOrder(order.getOrderId()).getStatus());
+    }
+
+    @Test
+    void shouldBecomeInvalidWhenAnyAuthorizationFails() {
+        // Given
+        Order order = createOrderWithAuthorizations("auth-c", "auth-d");
+
+        // When
+        orderService.onAuthorizationStatusChanged(validated("auth-c"));
+        orderService.onAuthorizationStatusChanged(new AuthorizationStatusChangedEvent("auth-d",
+            Authorization.AuthorizationStatus.PENDING, Authorization.AuthorizationStatus.INVALID));
+
+        // Then
+        assertEquals(Order.OrderStatus.INVALID, orderService.getOrder(order.getOrderId()).getStatus());
+
+        // When - 이미 확정된 주문은 이후 이벤트의 영향을 받지 않음
+        orderService.onAuthorizationStatusChanged(validated("auth-d"));
+
+        // Then
+        assertEquals(Order.OrderStatus.INVALID, orderService.getOrder(order.getOrderId()).getStatus());
+    }
+
+    @Test
+    void shouldUpdateEveryOrderSharingAnAuthorization() {
+        // Given
+        Order first = createOrderWithAuthorizations("auth-shared");
+        Order second = createOrderWithAuthorizations("auth-shared", "auth-e");
+
+        // When
+        orderService.onAuthorizationStatusChanged(validated("auth-shared"));
+
+        // Then
+        assertEquals(Order.OrderStatus.READY, orderService.getOrder(first.getOrderId()).getStatus());
+        assertEquals(Order.OrderStatus.PENDING, orderService.getOrder(second.getOrderId()).getStatus());
+    }
+
+    @Test
+    void shouldRecordErrorWhenFinalizationFails() {
+        // Given
+        Order order = createOrderWithAuthorizations("auth-f");
+        orderService.onAuthorizationStatusChanged(validated("auth-f"));
+        orderService.transitionStatus(order.getOrderId(), Order.OrderStatus.READY, Order.OrderStatus.PROCESSING);
+
+        // When
+        orderService.failOrder(order.getOrderId(),
+            new AcmeProblem(AcmeErrorType.CAA, "CAA record for example.com prevents issuance"));
+
+        // Then
+        OrderResponse response = orderService.toOrderResponse(orderService.getOrder(order.getOrderId()));
+        assertEquals("invalid", response.getStatus());
+        assertEquals("urn:ietf:params:acme:error:caa", response.getError().getType());
+        assertEquals("CAA record for example.com prevents issuance", response.getError().getDetail());
+        assertEquals(403, response.getError().getStatus());
+    }
+
+    @Test
+    void shouldOmitErrorForOrdersThatHaveNotFailed() {
+        // Given
+        Order order = createOrderWithAuthorizations("auth-g");
+
+        // When
+        OrderResponse response = orderService.toOrderResponse(order);
+
+        // Then
+        assertNull(response.getError());
+    }
+
+    private Order createOrderWithAuthorizations(String... authorizationIds) {
+        List<OrderRequest.Identifier> identifiers = new ArrayList<>();
+        List<Authorization> authorizations = new ArrayList<>();
+        for (int i = 0; i < authorizationIds.length; i++) {
+            OrderRequest.Identifier identifier = new OrderRequest.Identifier();
+            identifier.setType("dns");
+            identifier.setValue("host" + i + ".example.com");
+            identifiers.add(identifier);
+
+            authorizations.add(Authorization.builder()
+                .authorizationId(authorizationIds[i])
+                .identifier(Identifier.builder().type("dns").value(identifier.getValue()).build())
+                .status(Authorization.AuthorizationStatus.PENDING)
+                .build());
+        }
+
+        OrderRequest request = new OrderRequest();
+        request.setIdentifiers(identifiers);
+
+        when(authorizationService.createAuthorizations(any())).thenReturn(authorizations);
+        when(authorizationService.getAuthorizationUrl(anyString()))
+            .thenAnswer(invocation -> "https://localhost:8443/acme/authz/" + invocation.getArgument(0));
+
+        return orderService.createOrder("test-account", request);
+    }
+
+    @Test
+    void shouldRejectIdentifierOnDomainBlocklist(@TempDir Path directory) throws Exception {
+        // Given
+        Path path = directory.resolve("blocklist.bin");
+        DomainBlocklistFile.write(List.of("*.blocked.example"), path);
+        DomainBlocklist domainBlocklist = new DomainBlocklist();
+        ReflectionTestUtils.setField(domainBlocklist, "file", path.toString());
+        ReflectionTestUtils.setField(domainBlocklist, "reloadCheckSeconds", 0L);
+        domainBlocklist.start();
+        OrderService orderService = new OrderService(authorizationService, AcmeMetrics.NOOP, RateLimiter.UNLIMITED, domainBlocklist);
+        ReflectionTestUtils.setField(orderService, "maxIdentifiers", 100);
+
+        OrderRequest.Identifier allowed = new OrderRequest.Identifier();
+        allowed.setType("dns");
+        allowed.setValue("example.com");
+        OrderRequest.Identifier blocked = new OrderRequest.Identifier();
+        blocked.setType("dns");
+        blocked.setValue("www.blocked.example");
+        OrderRequest request = new OrderRequest();
+        request.setIdentifiers(List.of(allowed, blocked));
+
+        // When
+        AcmeProblem problem = assertThrows(AcmeProblem.class, () -> orderService.createOrder("test-account", request));
+
+        // Then
+        assertEquals(AcmeErrorType.REJECTED_IDENTIFIER, problem.getType());
+    }
+
+    private static AuthorizationStatusChangedEvent validated(String authorizationId) {
+        return new AuthorizationStatusChangedEvent(authorizationId,
+            Authorization.AuthorizationStatus.PENDING, Authorization.AuthorizationStatus.VALID);
+    }
+}
@@ -0,0 +1,142 @@
+package com.pca.acme.service;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.pca.acme.dto.order.OrderRequest;
+import com.pca.acme.exception.AcmeErrorType;
+import com.pca.acme.exception.RateLimitedProblem;
+
+class RateLimiterTest {
+
+    private RateLimiter rateLimiter;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        PublicSuffixList publicSuffixList = new PublicSuffixList();
+        ReflectionTestUtils.setField(publicSuffixList, "file", "");
+        publicSuffixList.start();
+
+        rateLimiter = new RateLimiter(publicSuffixList);
+        ReflectionTestUtils.setField(rateLimiter, "enabled", true);
+        ReflectionTestUtils.setField(rateLimiter, "maxBuckets", 1000);
+        ReflectionTestUtils.setField(rateLimiter, "newNoncePerIpLimit", 3);
+        ReflectionTestUtils.setField(rateLimiter, "newNoncePerIpPeriod", Duration.ofSeconds(30));
+        ReflectionTestUtils.setField(rateLimiter, "newAccountPerIpLimit", 1);
+        ReflectionTestUtils.setField(rateLimiter, "newAccountPerIpPeriod", Duration.ofHours(3));
+        ReflectionTestUtils.setField(rateLimiter, "newOrderPerAccountLimit", 2);
+        ReflectionTestUtils.setField(rateLimiter, "newOrderPerAccountPeriod", Duration.ofHours(3));
+        ReflectionTestUtils.setField(rateLimiter, "newOrderPerDomainLimit", 1);
+        ReflectionTestUtils.setField(rateLimiter, "newOrderPerDomainPeriod", Duration.ofDays(7));
+        rateLimiter.start();
+    }
+
+    @Test
+    void shouldLimitPerAddress() {
+        // When
+        for (int i = 0; i < 3; i++) {
+            assertEquals(0, rateLimiter.check(RateLimiter.Limit.NEW_NONCE_PER_IP, "192.0.2.1"));
+        }
+        long retryAfter = rateLimiter.check(RateLimiter.Limit.NEW_NONCE_PER_IP, "192.0.2.1");
+
+        // Then: 30초에 3개이므로 다음 토큰은 10초 뒤
+        assertTrue(retryAfter > 0 && retryAfter <= 10);
+        assertEquals(0, rateLimiter.check(RateLimiter.Limit.NEW_NONCE_PER_IP, "192.0.2.2"));
+    }
+
+    @Test
+    void shouldLimitOrdersPerRegisteredDomainAndRefundAccountToken() {
+        // Given
+        rateLimiter.checkNewOrder("acct-1", identifiers("www.example.com", "api.example.com"));
+
+        // When
+        RateLimitedProblem problem = assertThrows(RateLimitedProblem.class,
+            () -> rateLimiter.checkNewOrder("acct-1", identifiers("mail.example.com")));
+
+        // Then
+        assertEquals(AcmeErrorType.RATE_LIMITED, problem.getType());
+        assertEquals(HttpStatus.TOO_MANY_REQUESTS, problem.getStatus());
+        assertTrue(problem.getRetryAfterSeconds() > 0);
+        assertTrue(problem.getDetail().contains("example.com"));
+        // 거절된 주문은 계정 한도를 쓰지 않음
+        assertDoesNotThrow(() -> rateLimiter.checkNewOrder("acct-1", identifiers("example.org")));
+    }
+
+    @Test
+    void shouldLimitOrdersPerAccount() {
+        // Given
+        rateLimiter.checkNewOrder("acct-1", identifiers("a.test"));
+        rateLimiter.checkNewOrder("acct-1", identifiers("b.test"));
+
+        // When / Then
+        assertThrows(RateLimitedProblem.class, () -> rateLimiter.checkNewOrder("acct-1", identifiers("c.test")));
+        assertDoesNotThrow(() -> rateLimiter.checkNewOrder("acct-2", identifiers("d.test")));
+    }
+
+    @Test
+    void shouldExemptOnlyWarmupTraffic() {
+        // Given
+        String token = rateLimiter.beginExemption();
+        rateLimiter.exemptAccount("warmup-acct");
+
+        // When / Then: 면제 계정은 한도를 쓰지 않고, 다른 계정과 잘못된 토큰은 평소대로 제한됨
+        assertTrue(rateLimiter.isExempt(token));
+        assertFalse(rateLimiter.isExempt("not-" + token));
+        assertFalse(rateLimiter.isExempt(null));
+        for (int i = 0; i < 5; i++) {
+            rateLimiter.checkNewOrder("warmup-acct", identifiers("warmup-" + i + ".example.com"));
+        }
+        assertEquals(0, rateLimiter.getBucketCount(RateLimiter.Limit.NEW_ORDER_PER_DOMAIN));
+        rateLimiter.checkNewOrder("acct-1", identifiers("example.com"));
+        assertThrows(RateLimitedProblem.class, () -> rateLimiter.checkNewOrder("acct-2", identifiers("www.example.com")));
+
+        // When: 워밍업 종료
+        rateLimiter.endExemption();
+
+        // Then
+        assertFalse(rateLimiter.isExempt(token));
+        assertThrows(RateLimitedProblem.class, () -> rateLimiter.checkNewOrder("warmup-acct", identifiers("example.com")));
+    }
+
+    @Test
+    void shouldCountOrdersByPublicSuffixRegisteredDomain() {
+        // Given: 공개 접미사 아래의 서로 다른 등록 도메인은 각자 한도를 가짐
+        rateLimiter.checkNewOrder("acct-1", identifiers("www.example.co.uk"));
+        rateLimiter.checkNewOrder("acct-2", identifiers("alice.github.io"));
+
+        // When / Then
+        assertThrows(RateLimitedProblem.class, () -> rateLimiter.checkNewOrder("acct-3", identifiers("*.EXAMPLE.co.uk")));
+        assertDoesNotThrow(() -> rateLimiter.checkNewOrder("acct-3", identifiers("bob.github.io")));
+    }
+
+    @Test
+    void shouldNotLimitWhenUnlimited() {
+        for (int i = 0; i < 1000; i++) {
+            RateLimiter.UNLIMITED.checkNewOrder("acct-1", identifiers("example.com"));
+        }
+        assertEquals(0, RateLimiter.UNLIMITED.check(RateLimiter.Limit.NEW_NONCE_PER_IP, "192.0.2.1"));
+    }
+
+    private static List<OrderRequest.Identifier> identifiers(String... values) {
+        List<OrderRequest.Identifier> identifiers = new ArrayList<>();
+        for (String value : values) {
+            OrderRequest.Identifier identifier = new OrderRequest.Identifier();
+            identifier.setType("dns");
+            identifier.setValue(value);
+            identifiers.add(identifier);
+        }
+        return identifiers;
+    }
+}
@@ -0,0 +1,62 @@
+package com.pca.acme.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.pca.acme.util.DomainBlocklistFile;
+
+class ReloadableFileTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void shouldPickUpRenamedFile() throws Exception {
+        // Given
+        Path path = directory.resolve("blocklist.bin");
+        DomainBlocklistFile.write(List.of("evil.com"), path);
+        ReloadableFile<DomainBlocklistFile> blocklist = reloadable(path);
+        assertTrue(blocklist.get().matches("evil.com"));
+
+        // When: 컴파일 도구가 새 목록으로 원자적으로 교체
+        DomainBlocklistFile.write(List.of("*.phish.net", "other.org"), path);
+        blocklist.reloadIfModified();
+
+        // Then
+        assertFalse(blocklist.get().matches("evil.com"));
+        assertTrue(blocklist.get().matches("login.phish.net"));
+        assertEquals(2, blocklist.get().getEntryCount());
+    }
+
+    @Test
+    void shouldKeepCurrentValueWhenReplacementIsCorrupt() throws Exception {
+        // Given
+        Path path = directory.resolve("blocklist.bin");
+        DomainBlocklistFile.write(List.of("evil.com"), path);
+        ReloadableFile<DomainBlocklistFile> blocklist = reloadable(path);
+
+        // When
+        Path corrupt = Files.writeString(directory.resolve("corrupt.bin"), "not a blocklist file at all");
+        Files.move(corrupt, path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        blocklist.reloadIfModified();
+
+        // Then
+        assertTrue(blocklist.get().matches("evil.com"));
+    }
+
+    private static ReloadableFile<DomainBlocklistFile> reloadable(Path path) throws Exception {
+        ReloadableFile<DomainBlocklistFile> file = new ReloadableFile<>("domain blocklist",
+            "acme-test-reload", DomainBlocklistFile::open, loaded -> loaded.getEntryCount() + " entries");
+        file.start(path, 0);
+        return file;
+    }
+}
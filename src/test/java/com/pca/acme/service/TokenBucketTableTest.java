@@ -0,0 +1,146 @@
+package com.pca.acme.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+class TokenBucketTableTest {
+
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    @Test
+    void shouldAllowBurstThenRefillAtConfiguredRate() {
+        // Given: 10초에 5개 (2초마다 1개)
+        TokenBucketTable table = new TokenBucketTable(5, 10 * SECOND, 100);
+        long now = 1_000 * SECOND;
+
+        // When
+        for (int i = 0; i < 5; i++) {
+            assertEquals(0, table.tryAcquire("k", now));
+        }
+        long wait = table.tryAcquire("k", now);
+
+        // Then
+        assertEquals(2 * SECOND, wait);
+        assertEquals(0, table.tryAcquire("k", now + 2 * SECOND));
+        assertTrue(table.tryAcquire("k", now + 2 * SECOND) > 0);
+        // 다른 키는 독립
+        assertEquals(0, table.tryAcquire("other", now));
+    }
+
+    @Test
+    void shouldRefundToken() {
+        // Given
+        TokenBucketTable table = new TokenBucketTable(1, 10 * SECOND, 100);
+        long now = 1_000 * SECOND;
+        assertEquals(0, table.tryAcquire("k", now));
+
+        // When
+        table.refund("k");
+
+        // Then
+        assertEquals(0, table.tryAcquire("k", now));
+    }
+
+    @Test
+    void shouldEvictIdleBucketsWhenFull() {
+        // Given
+        TokenBucketTable table = new TokenBucketTable(1, SECOND, 2);
+        long now = 1_000 * SECOND;
+        table.tryAcquire("a", now);
+        table.tryAcquire("b", now);
+
+        // When: a, b가 다 채워진 뒤 새 키
+        table.tryAcquire("c", now + 2 * SECOND);
+
+        // Then
+        assertEquals(1, table.size());
+    }
+
+    @Test
+    void shouldStayBoundedWhenAllBucketsAreBusy() {
+        // Given
+        TokenBucketTable table = new TokenBucketTable(1, 60 * SECOND, 4);
+        long now = 1_000 * SECOND;
+
+        // When
+        for (int i = 0; i < 100; i++) {
+            table.tryAcquire("key-" + i, now);
+        }
+
+        // Then
+        assertTrue(table.size() <= 4);
+    }
+
+    @Test
+    void shouldStayBoundedWhenNewKeysArriveConcurrently() throws Exception {
+        // Given: 모든 버킷이 쉬지 않는 상태에서 8개 스레드가 서로 다른 새 키를 넣음
+        int maxBuckets = 100;
+        int threads = 8;
+        TokenBucketTable table = new TokenBucketTable(1, 60 * SECOND, maxBuckets);
+        AtomicInteger maxSeen = new AtomicInteger();
+        long now = 1_000 * SECOND;
+
+        // When
+        try (ExecutorService executor = Executors.newFixedThreadPool(threads)) {
+            for (int t = 0; t < threads; t++) {
+                int thread = t;
+                executor.submit(() -> {
+                    for (int i = 0; i < 20_000; i++) {
+                        table.tryAcquire(thread + "-" + i, now);
+                        maxSeen.accumulateAndGet(table.size(), Math::max);
+                    }
+                });
+            }
+        }
+
+        // Then
+        assertTrue(maxSeen.get() <= maxBuckets + threads, "max size " + maxSeen.get());
+        assertTrue(table.size() <= maxBuckets + threads);
+    }
+
+    @Test
+    void shouldEvictIdleBucketsInBackground() {
+        // Given
+        TokenBucketTable table = new TokenBucketTable(1, SECOND, 100);
+        long now = 1_000 * SECOND;
+        table.tryAcquire("idle", now);
+        table.tryAcquire("busy", now + 5 * SECOND);
+
+        // When
+        table.evictIdle(now + 5 * SECOND);
+
+        // Then
+        assertEquals(1, table.size());
+    }
+
+    @Test
+    void shouldNotGrantMoreThanLimitUnderContention() throws Exception {
+        // Given
+        TokenBucketTable table = new TokenBucketTable(1000, 3600 * SECOND, 100);
+        AtomicInteger granted = new AtomicInteger();
+        long now = System.nanoTime();
+
+        // When
+        try (ExecutorService executor = Executors.newFixedThreadPool(8)) {
+            for (int t = 0; t < 8; t++) {
+                executor.submit(() -> {
+                    for (int i = 0; i < 500; i++) {
+                        if (table.tryAcquire("shared", now) == 0) {
+                            granted.incrementAndGet();
+                        }
+                    }
+                });
+            }
+        }
+
+        // Then
+        assertEquals(1000, granted.get());
+    }
+}
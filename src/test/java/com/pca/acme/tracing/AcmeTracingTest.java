@@ -0,0 +1,64 @@
+package com.pca.acme.tracing;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationHandler;
+import io.micrometer.observation.ObservationRegistry;
+
+class AcmeTracingTest {
+
+    private final List<String> started = new ArrayList<>();
+
+    @Test
+    void shouldNotCreateObservationsWhenTracingIsDisabled() {
+        // Given
+        AcmeTracing tracing = new AcmeTracing(recordingRegistry(), false);
+
+        // When
+        Observation observation = tracing.start("acme.jws.verify");
+        observation.stop();
+
+        // Then
+        assertFalse(tracing.isEnabled());
+        assertSame(Observation.NOOP, observation);
+        assertTrue(started.isEmpty());
+    }
+
+    @Test
+    void shouldCreateObservationsWhenTracingIsEnabled() {
+        // Given
+        AcmeTracing tracing = new AcmeTracing(recordingRegistry(), true);
+
+        // When
+        tracing.start("acme.jws.verify").stop();
+
+        // Then
+        assertTrue(tracing.isEnabled());
+        assertEquals(List.of("acme.jws.verify"), started);
+    }
+
+    private ObservationRegistry recordingRegistry() {
+        ObservationRegistry registry = ObservationRegistry.create();
+        registry.observationConfig().observationHandler(new ObservationHandler<>() {
+            @Override
+            public void onStart(Observation.Context context) {
+                started.add(context.getName());
+            }
+
+            @Override
+            public boolean supportsContext(Observation.Context context) {
+                return true;
+            }
+        });
+        return registry;
+    }
+}
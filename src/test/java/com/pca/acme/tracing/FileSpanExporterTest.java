@@ -0,0 +1,79 @@
+package com.pca.acme.tracing;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.context.Scope;
+import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.export.SimpleSpanProcessor;
+
+class FileSpanExporterTest {
+
+    @TempDir
+    Path tempDir;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void shouldWriteOneJsonLinePerSpanWithParentAndAttributes() throws Exception {
+        // Given
+        Path file = tempDir.resolve("traces/spans.jsonl");
+        FileSpanExporter exporter = new FileSpanExporter(file);
+        SdkTracerProvider provider = SdkTracerProvider.builder()
+            .addSpanProcessor(SimpleSpanProcessor.create(exporter))
+            .build();
+        Tracer tracer = provider.get("test");
+
+        // When
+        Span parent = tracer.spanBuilder("acme.finalize").startSpan();
+        try (Scope scope = parent.makeCurrent()) {
+            tracer.spanBuilder("acme.certificate.issue")
+                .setAttribute(AcmeTracing.ORDER_ID, "order-1")
+                .startSpan()
+                .end();
+        } finally {
+            parent.end();
+        }
+        provider.shutdown().join(5, TimeUnit.SECONDS);
+
+        // Then
+        List<String> lines = Files.readAllLines(file);
+        assertEquals(2, lines.size());
+        JsonNode child = objectMapper.readTree(lines.get(0));
+        JsonNode root = objectMapper.readTree(lines.get(1));
+        assertEquals("acme.certificate.issue", child.get("name").asText());
+        assertEquals("order-1", child.get("attributes").get(AcmeTracing.ORDER_ID).asText());
+        assertEquals(root.get("traceId").asText(), child.get("traceId").asText());
+        assertEquals(root.get("spanId").asText(), child.get("parentSpanId").asText());
+        assertFalse(root.has("parentSpanId"));
+        assertTrue(child.get("durationNanos").asLong() >= 0);
+    }
+
+    @Test
+    void shouldRejectExportAfterShutdown() throws Exception {
+        // Given
+        FileSpanExporter exporter = new FileSpanExporter(tempDir.resolve("spans.jsonl"));
+        exporter.shutdown();
+
+        // When
+        CompletableResultCode result = exporter.export(List.of());
+
+        // Then
+        assertFalse(result.isSuccess());
+    }
+}
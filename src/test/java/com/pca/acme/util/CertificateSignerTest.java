@@ -0,0 +1,127 @@
+package com.pca.acme.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.math.BigInteger;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.cert.CertificateFactory;
+import java.security.cert.X509Certificate;
+import java.security.spec.ECGenParameterSpec;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Collection;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class CertificateSignerTest {
+
+    private final Instant notBefore = Instant.now().truncatedTo(ChronoUnit.SECONDS);
+    private final Instant notAfter = notBefore.plus(90, ChronoUnit.DAYS);
+
+    private CertificateSigner signer;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("EC");
+        generator.initialize(new ECGenParameterSpec("secp256r1"));
+        KeyPair issuerKeys = generator.generateKeyPair();
+        X509Certificate issuer = CertificateSigner.selfSignedIssuer(
+            issuerKeys, "Test Issuing CA", notBefore, notAfter.plus(365, ChronoUnit.DAYS));
+        signer = new CertificateSigner(issuerKeys.getPrivate(), issuer);
+    }
+
+    @Test
+    void shouldSignCertificateVerifiableByIssuer() throws Exception {
+        // Given
+        KeyPair subject = rsaKeyPair();
+
+        // When
+        CertificateSigner.SignedCertificate signed = signer.sign(
+            subject.getPublic().getEncoded(), List.of("www.example.com", "example.com"), notBefore, notAfter);
+
+        // Then
+        X509Certificate certificate = parse(signed.getDer());
+        certificate.verify(signer.getIssuerCertificate().getPublicKey());
+        assertEquals(subject.getPublic(), certificate.getPublicKey());
+        assertEquals(signer.getIssuerCertificate().getSubjectX500Principal(), certificate.getIssuerX500Principal());
+        assertEquals(notAfter, certificate.getNotAfter().toInstant());
+        assertEquals(-1, certificate.getBasicConstraints());
+        assertTrue(certificate.getKeyUsage()[0]);
+        assertTrue(certificate.getKeyUsage()[2]);
+        assertTrue(certificate.getExtendedKeyUsage().contains("1.3.6.1.5.5.7.3.1"));
+        assertEquals(List.of("www.example.com", "example.com"), dnsNames(certificate));
+        assertEquals(new BigInteger(signed.getSerialHex(), 16), certificate.getSerialNumber());
+    }
+
+    @Test
+    void shouldEncodeSignedCertificateAsPem() throws Exception {
+        // Given
+        KeyPair subject = rsaKeyPair();
+
+        // When
+        CertificateSigner.SignedCertificate signed = signer.sign(
+            subject.getPublic().getEncoded(), List.of("example.com"), notBefore, notAfter);
+
+        // Then
+        X509Certificate fromPem = parse(signed.getPem());
+        assertEquals(parse(signed.getDer()), fromPem);
+    }
+
+    @Test
+    void shouldSignBatchWithDistinctSerials() throws Exception {
+        // Given
+        byte[] first = rsaKeyPair().getPublic().getEncoded();
+        byte[] second = rsaKeyPair().getPublic().getEncoded();
+
+        // When
+        List<CertificateSigner.SignedCertificate> signed = signer.signBatch(
+            List.of(first, second), List.of(List.of("a.example.com"), List.of("b.example.com")), notBefore, notAfter);
+
+        // Then
+        assertEquals(2, signed.size());
+        assertNotEquals(signed.get(0).getSerialHex(), signed.get(1).getSerialHex());
+        assertEquals(List.of("b.example.com"), dnsNames(parse(signed.get(1).getDer())));
+    }
+
+    @Test
+    void shouldOmitSubjectWhenNameExceedsCommonNameLimit() throws Exception {
+        // Given
+        String longName = "a".repeat(60) + ".example.com";
+
+        // When
+        CertificateSigner.SignedCertificate signed = signer.sign(
+            rsaKeyPair().getPublic().getEncoded(), List.of(longName), notBefore, notAfter);
+
+        // Then
+        X509Certificate certificate = parse(signed.getDer());
+        assertEquals("", certificate.getSubjectX500Principal().getName());
+        assertTrue(certificate.getCriticalExtensionOIDs().contains("2.5.29.17"));
+        assertFalse(certificate.getNonCriticalExtensionOIDs().contains("2.5.29.17"));
+    }
+
+    private static KeyPair rsaKeyPair() throws Exception {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+        generator.initialize(2048);
+        return generator.generateKeyPair();
+    }
+
+    private static X509Certificate parse(byte[] encoded) throws Exception {
+        return (X509Certificate) CertificateFactory.getInstance("X.509")
+            .generateCertificate(new ByteArrayInputStream(encoded));
+    }
+
+    private static List<String> dnsNames(X509Certificate certificate) throws Exception {
+        Collection<List<?>> names = certificate.getSubjectAlternativeNames();
+        return names.stream()
+            .filter(name -> (Integer) name.get(0) == 2)
+            .map(name -> (String) name.get(1))
+            .toList();
+    }
+}
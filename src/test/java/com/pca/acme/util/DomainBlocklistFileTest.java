@@ -0,0 +1,153 @@
+package com.pca.acme.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+class DomainBlocklistFileTest {
+
+    @TempDir
+    static Path directory;
+
+    private static DomainBlocklistFile blocklist;
+
+    @BeforeAll
+    static void write() throws IOException {
+        Path path = directory.resolve("blocklist.bin");
+        DomainBlocklistFile.write(List.of(
+            "# 정책팀 차단 목록",
+            "evil.com",
+            "",
+            "*.phish.net",
+            "Bad.Example.ORG",
+            "*.co",
+            "bücher.de",
+            "a.b.c.d.evil.com",
+            "evil.com"), path);
+        blocklist = DomainBlocklistFile.open(path);
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+        "evil.com, true",
+        "EVIL.com, true",
+        "evil.com., true",
+        "www.evil.com, false",
+        "vil.com, false",
+        "a.b.c.d.evil.com, true",
+        "b.c.d.evil.com, false",
+        "phish.net, false",
+        "a.phish.net, true",
+        "x.y.phish.net, true",
+        "*.phish.net, true",
+        "bad.example.org, true",
+        "example.org, false",
+        "anything.co, true",
+        "co, false",
+        "bücher.de, true",
+        "xn--bcher-kva.de, true",
+        "zzz.com, false",
+        "aaa, false"
+    })
+    void shouldMatchExactNamesAndBlockedSubdomains(String name, boolean blocked) {
+        assertEquals(blocked, blocklist.matches(name));
+    }
+
+    @Test
+    void shouldSkipCommentsAndDuplicates() {
+        assertEquals(6, blocklist.getEntryCount());
+    }
+
+    @Test
+    void shouldMatchLargeListLikeHashSet() throws IOException {
+        // Given: 여러 블록에 걸치도록 충분히 많은 이름
+        Random random = new Random(7);
+        List<String> lines = new ArrayList<>();
+        Set<String> exact = new HashSet<>();
+        Set<String> subdomains = new HashSet<>();
+        for (int i = 0; i < 20_000; i++) {
+            String name = "d" + Integer.toString(random.nextInt(50_000), 36) + ".com";
+            if (random.nextInt(10) == 0) {
+                lines.add("*." + name);
+                subdomains.add(name);
+            } else {
+                lines.add(name);
+                exact.add(name);
+            }
+        }
+        Path path = directory.resolve("large.bin");
+        DomainBlocklistFile.write(lines, path);
+
+        // When
+        DomainBlocklistFile large = DomainBlocklistFile.open(path);
+
+        // Then
+        for (int i = 0; i < 50_000; i++) {
+            String name = "d" + Integer.toString(i, 36) + ".com";
+            assertEquals(exact.contains(name), large.matches(name), name);
+            assertEquals(subdomains.contains(name), large.matches("www." + name), "www." + name);
+        }
+    }
+
+    @Test
+    void shouldReplaceTargetAtomically() throws IOException {
+        // Given
+        Path path = directory.resolve("swap.bin");
+        DomainBlocklistFile.write(List.of("old.example"), path);
+        DomainBlocklistFile before = DomainBlocklistFile.open(path);
+
+        // When
+        DomainBlocklistFile.write(List.of("new.example"), path);
+        DomainBlocklistFile after = DomainBlocklistFile.open(path);
+
+        // Then: 이미 매핑한 목록은 이전 내용을 계속 보고, 임시 파일은 남지 않음
+        assertTrue(before.matches("old.example"));
+        assertFalse(before.matches("new.example"));
+        assertTrue(after.matches("new.example"));
+        assertFalse(after.matches("old.example"));
+        try (var files = Files.list(directory)) {
+            assertTrue(files.noneMatch(file -> file.toString().endsWith(".tmp")));
+        }
+    }
+
+    @Test
+    void shouldRejectInvalidInput() {
+        assertThrows(IllegalArgumentException.class,
+            () -> DomainBlocklistFile.write(List.of("bad..-\uD800.example"), directory.resolve("invalid.bin")));
+        assertThrows(IOException.class, () -> DomainBlocklistFile.of(ByteBuffer.wrap(new byte[64])));
+    }
+
+    @Test
+    void shouldLeaveNoTemporaryFilesAfterAtomicWrite() throws Exception {
+        // Given
+        Path atomic = Files.createDirectories(directory.resolve("atomic"));
+        Path path = atomic.resolve("blocklist.bin");
+
+        // When
+        DomainBlocklistFile.write(List.of("evil.com"), path);
+        DomainBlocklistFile.write(List.of("other.org"), path);
+
+        // Then: 임시 파일은 이름 바꾸기로 사라지고 최종 파일만 남음
+        try (var files = Files.list(atomic)) {
+            assertEquals(List.of(path), files.toList());
+        }
+        assertTrue(DomainBlocklistFile.open(path).matches("other.org"));
+    }
+}
@@ -1,6 +1,7 @@
 package com.pca.acme.util;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pca.acme.metrics.AcmeMetrics;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -12,7 +13,7 @@ class JwsValidatorTest {
 
     @BeforeEach
     void setUp() {
-        jwsValidator = new JwsValidator(new ObjectMapper());
+        jwsValidator = new JwsValidator(new ObjectMapper(), AcmeMetrics.NOOP);
     }
 
     @Test
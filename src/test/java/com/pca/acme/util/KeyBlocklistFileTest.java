@@ -0,0 +1,140 @@
+package com.pca.acme.util;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.security.KeyPairGenerator;
+import java.security.MessageDigest;
+import java.security.PublicKey;
+import java.security.interfaces.ECPublicKey;
+import java.security.interfaces.RSAPublicKey;
+import java.security.spec.ECGenParameterSpec;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class KeyBlocklistFileTest {
+
+    private static final Base64.Encoder B64 = Base64.getUrlEncoder().withoutPadding();
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void shouldMatchHexAndBase64SpkiHashes() throws Exception {
+        // Given
+        PublicKey rsa = KeyPairGenerator.getInstance("RSA").generateKeyPair().getPublic();
+        PublicKey ed25519 = KeyPairGenerator.getInstance("Ed25519").generateKeyPair().getPublic();
+        PublicKey other = KeyPairGenerator.getInstance("Ed25519").generateKeyPair().getPublic();
+        Path path = directory.resolve("keys.bin");
+        KeyBlocklistFile.write(List.of(
+            "# 유출된 키",
+            HexFormat.of().formatHex(sha256(rsa.getEncoded())),
+            "",
+            Base64.getEncoder().encodeToString(sha256(ed25519.getEncoded())),
+            B64.encodeToString(sha256(ed25519.getEncoded()))), path);
+
+        // When
+        KeyBlocklistFile blocklist = KeyBlocklistFile.open(path);
+
+        // Then
+        assertEquals(2, blocklist.getCount());
+        assertTrue(blocklist.contains(rsa.getEncoded()));
+        assertTrue(blocklist.contains(ed25519.getEncoded()));
+        assertFalse(blocklist.contains(other.getEncoded()));
+    }
+
+    @Test
+    void shouldMatchLargeListLikeHashSet() throws IOException {
+        // Given: 버킷 대부분에 지문이 들어가도록 충분히 많은 해시
+        Random random = new Random(11);
+        List<String> lines = new ArrayList<>();
+        Set<Long> fingerprints = new HashSet<>();
+        byte[] hash = new byte[32];
+        for (int i = 0; i < 200_000; i++) {
+            random.nextBytes(hash);
+            lines.add(HexFormat.of().formatHex(hash));
+            fingerprints.add(ByteBuffer.wrap(hash).getLong());
+        }
+        Path path = directory.resolve("large.bin");
+        KeyBlocklistFile.write(lines, path);
+
+        // When
+        KeyBlocklistFile blocklist = KeyBlocklistFile.open(path);
+
+        // Then
+        for (long fingerprint : fingerprints) {
+            assertTrue(blocklist.contains(fingerprint));
+        }
+        for (int i = 0; i < 200_000; i++) {
+            long fingerprint = random.nextLong();
+            assertEquals(fingerprints.contains(fingerprint), blocklist.contains(fingerprint));
+        }
+        assertFalse(blocklist.contains(0L));
+        assertFalse(blocklist.contains(-1L));
+    }
+
+    @Test
+    void shouldRejectInvalidInput() {
+        assertThrows(IllegalArgumentException.class,
+            () -> KeyBlocklistFile.write(List.of("not-a-sha256-hash"), directory.resolve("invalid.bin")));
+        assertThrows(IOException.class, () -> KeyBlocklistFile.of(ByteBuffer.wrap(new byte[64])));
+    }
+
+    @Test
+    void shouldConvertJwkToSameSubjectPublicKeyInfo() throws Exception {
+        // Given
+        RSAPublicKey rsa = (RSAPublicKey) KeyPairGenerator.getInstance("RSA").generateKeyPair().getPublic();
+        KeyPairGenerator ecGenerator = KeyPairGenerator.getInstance("EC");
+        ecGenerator.initialize(new ECGenParameterSpec("secp256r1"));
+        ECPublicKey ec = (ECPublicKey) ecGenerator.generateKeyPair().getPublic();
+        PublicKey ed25519 = KeyPairGenerator.getInstance("Ed25519").generateKeyPair().getPublic();
+        byte[] edEncoded = ed25519.getEncoded();
+
+        // When & Then
+        assertArrayEquals(rsa.getEncoded(), JwkPublicKey.toPublicKey(Map.of("kty", "RSA",
+            "n", B64.encodeToString(unsigned(rsa.getModulus().toByteArray(), -1)),
+            "e", B64.encodeToString(unsigned(rsa.getPublicExponent().toByteArray(), -1)))).getEncoded());
+        assertArrayEquals(ec.getEncoded(), JwkPublicKey.toPublicKey(Map.of("kty", "EC", "crv", "P-256",
+            "x", B64.encodeToString(unsigned(ec.getW().getAffineX().toByteArray(), 32)),
+            "y", B64.encodeToString(unsigned(ec.getW().getAffineY().toByteArray(), 32)))).getEncoded());
+        assertArrayEquals(edEncoded, JwkPublicKey.toPublicKey(Map.of("kty", "OKP", "crv", "Ed25519",
+            "x", B64.encodeToString(Arrays.copyOfRange(edEncoded, edEncoded.length - 32, edEncoded.length)))).getEncoded());
+        assertThrows(IllegalArgumentException.class,
+            () -> JwkPublicKey.toPublicKey(Map.of("kty", "RSA", "n", "test-key", "e", "AQAB")));
+    }
+
+    private static byte[] sha256(byte[] data) throws Exception {
+        return MessageDigest.getInstance("SHA-256").digest(data);
+    }
+
+    /**
+     * 부호 바이트를 떼어 내거나 length 바이트로 앞을 0으로 채웁니다 (length < 0이면 최소 길이).
+     */
+    private static byte[] unsigned(byte[] bytes, int length) {
+        if (bytes.length > 1 && bytes[0] == 0) {
+            bytes = Arrays.copyOfRange(bytes, 1, bytes.length);
+        }
+        if (length < 0 || bytes.length == length) {
+            return bytes;
+        }
+        byte[] padded = new byte[length];
+        System.arraycopy(bytes, 0, padded, length - bytes.length, bytes.length);
+        return padded;
+    }
+}
@@ -0,0 +1,105 @@
+package com.pca.acme.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+/**
+ * 번들된 목록에 대해 publicsuffix.org 테스트 데이터(tests/test_psl.txt)의 일부를 확인합니다.
+ */
+class PublicSuffixTrieTest {
+
+    private static PublicSuffixTrie trie;
+
+    @BeforeAll
+    static void load() throws IOException {
+        try (InputStream in = PublicSuffixTrieTest.class.getResourceAsStream("/publicsuffix/public_suffix_list.dat")) {
+            trie = PublicSuffixTrie.parse(new InputStreamReader(in, StandardCharsets.UTF_8));
+        }
+    }
+
+    @ParameterizedTest
+    @CsvSource(nullValues = "null", value = {
+        "COM, null",
+        "example.COM, example.com",
+        "WwW.example.COM, example.com",
+        "example, null",
+        "b.example.example, example.example",
+        "uk.com, null",
+        "a.b.example.uk.com, example.uk.com",
+        "c.mm, null",
+        "a.b.c.mm, b.c.mm",
+        "ac.jp, null",
+        "www.test.ac.jp, test.ac.jp",
+        "ide.kyoto.jp, null",
+        "a.b.ide.kyoto.jp, b.ide.kyoto.jp",
+        "c.kobe.jp, null",
+        "a.b.c.kobe.jp, b.c.kobe.jp",
+        "city.kobe.jp, city.kobe.jp",
+        "www.city.kobe.jp, city.kobe.jp",
+        "test.ck, null",
+        "www.ck, www.ck",
+        "www.www.ck, www.ck",
+        "k12.ak.us, null",
+        "www.test.k12.ak.us, test.k12.ak.us",
+        "www.食狮.公司.cn, 食狮.公司.cn",
+        "www.xn--85x722f.xn--55qx5d.cn, xn--85x722f.xn--55qx5d.cn",
+        "shishi.xn--fiqs8s, shishi.xn--fiqs8s",
+        "xn--fiqs8s, null",
+        "*.www.example.co.uk, example.co.uk",
+        "example.com., example.com",
+        "a..example.com, null"
+    })
+    void shouldComputeRegisteredDomain(String name, String expected) {
+        assertEquals(expected, trie.registeredDomain(name));
+    }
+
+    @Test
+    void shouldReturnSameInstanceWhenAlreadyRegisteredDomain() {
+        // Given
+        String name = "example.com";
+
+        // When / Then
+        assertSame(name, trie.registeredDomain(name));
+    }
+
+    @Test
+    void shouldApplyCustomListRules() throws IOException {
+        // Given
+        PublicSuffixTrie custom = PublicSuffixTrie.parse(new StringReader("""
+            // comment
+            com
+            *.platform.example
+            !admin.platform.example
+            """));
+
+        // When / Then
+        assertEquals(3, custom.getRuleCount());
+        assertEquals("tenant.app.platform.example", custom.registeredDomain("www.tenant.app.platform.example"));
+        assertEquals("admin.platform.example", custom.registeredDomain("www.admin.platform.example"));
+        assertNull(custom.registeredDomain("app.platform.example"));
+    }
+
+    @Test
+    void shouldRejectEmptyList() {
+        assertThrows(IOException.class, () -> PublicSuffixTrie.parse(new StringReader("// nothing\n")));
+    }
+
+    @Test
+    void shouldLoadWholeBundledList() {
+        assertTrue(trie.getRuleCount() > 9000);
+    }
+}